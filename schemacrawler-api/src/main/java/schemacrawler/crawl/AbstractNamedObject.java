@@ -34,6 +34,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.utility.NamedObjectSort;
 
 /**
@@ -48,6 +49,7 @@ abstract class AbstractNamedObject
   private static final long serialVersionUID = -1486322887991472729L;
 
   private final String name;
+  private transient NamedObjectKey key;
 
   /**
    * Effective Java - Item 17 - Minimize Mutability - Package-private
@@ -132,6 +134,21 @@ abstract class AbstractNamedObject
     return result;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public NamedObjectKey key()
+  {
+    // The key is computed once, since named objects are looked up for
+    // every metadata row that refers to them
+    if (key == null)
+    {
+      key = new NamedObjectKey(toUniqueLookupKey());
+    }
+    return key;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -147,4 +164,13 @@ abstract class AbstractNamedObject
     return new ArrayList<>(Arrays.asList(name));
   }
 
+  /**
+   * Discards the computed lookup key, when a part of the unique lookup
+   * key changes.
+   */
+  final void resetKey()
+  {
+    key = null;
+  }
+
 }
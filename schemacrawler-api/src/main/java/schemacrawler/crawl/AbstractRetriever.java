@@ -35,7 +35,11 @@ import static sf.util.Utility.isBlank;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -44,10 +48,14 @@ import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.JavaSqlType;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.SchemaReference;
+import schemacrawler.schema.View;
 import schemacrawler.schemacrawler.InclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.utility.FetchSize;
+import schemacrawler.utility.SqlNamePatterns;
 import schemacrawler.utility.TypeMap;
 import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
 
 /**
  * Base class for retriever that uses database metadata to get the
@@ -62,6 +70,22 @@ abstract class AbstractRetriever
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(AbstractRetriever.class.getName());
 
+  private static String escapeSearchString(final String name,
+                                           final String searchStringEscape)
+  {
+    final StringBuilder buffer = new StringBuilder(name.length() * 2);
+    for (int i = 0; i < name.length(); i++)
+    {
+      final char ch = name.charAt(i);
+      if (ch == '_' || ch == '%' || name.startsWith(searchStringEscape, i))
+      {
+        buffer.append(searchStringEscape);
+      }
+      buffer.append(ch);
+    }
+    return buffer.toString();
+  }
+
   private final RetrieverConnection retrieverConnection;
   final MutableCatalog catalog;
   private final SchemaCrawlerOptions options;
@@ -127,6 +151,11 @@ abstract class AbstractRetriever
     return retrieverConnection.getConnection();
   }
 
+  final FetchSize getFetchSize()
+  {
+    return retrieverConnection.getFetchSize();
+  }
+
   final DatabaseMetaData getMetaData()
   {
     return retrieverConnection.getMetaData();
@@ -142,6 +171,73 @@ abstract class AbstractRetriever
     return options.getSchemaInclusionRule();
   }
 
+  /**
+   * Gets the schemas to pass to metadata calls that retrieve objects for
+   * the whole database, and that take a schema name pattern. Schema
+   * names are escaped with the search string escape for the database,
+   * so that "_" and "%" in schema names are not treated as wildcards.
+   *
+   * @return Schemas to retrieve metadata for, with schema name patterns
+   * @throws SQLException
+   *         On an exception getting the search string escape
+   * @see #getSchemaNamesForMetadataRetrieval()
+   */
+  final Collection<SchemaReference> getSchemasForMetadataRetrieval()
+    throws SQLException
+  {
+    final Collection<SchemaReference> schemas = getSchemaNamesForMetadataRetrieval();
+    final String searchStringEscape = getMetaData().getSearchStringEscape();
+    if (isBlank(searchStringEscape))
+    {
+      return schemas;
+    }
+
+    final List<SchemaReference> schemaPatterns = new ArrayList<>();
+    for (final SchemaReference schema: schemas)
+    {
+      final String schemaName = schema.getName();
+      if (schemaName == null)
+      {
+        schemaPatterns.add(schema);
+      }
+      else
+      {
+        schemaPatterns
+          .add(new SchemaReference(schema.getCatalogName(),
+                                   escapeSearchString(schemaName,
+                                                      searchStringEscape)));
+      }
+    }
+    return schemaPatterns;
+  }
+
+  /**
+   * Gets the schemas to pass to metadata calls that retrieve objects for
+   * the whole database, and that take a schema name, rather than a
+   * pattern. If the schema inclusion rule lists specific schemas,
+   * metadata is retrieved one included schema at a time, so that
+   * objects in schemas that are not included are not transferred.
+   * Otherwise, metadata is retrieved in a single call for all schemas.
+   *
+   * @return Schemas to retrieve metadata for
+   */
+  final Collection<SchemaReference> getSchemaNamesForMetadataRetrieval()
+  {
+    final SqlNamePatterns schemaPatterns = SqlNamePatterns
+      .fromInclusionRule(getSchemaInclusionRule());
+    if (schemaPatterns.isMatchAll())
+    {
+      return Collections.singletonList(new SchemaReference());
+    }
+    else
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Retrieving metadata for schemas matching %s",
+                                  schemaPatterns));
+      return getAllSchemas().values();
+    }
+  }
+
   final void logPossiblyUnsupportedSQLFeature(final Supplier<String> message,
                                               final SQLException e)
   {
@@ -206,39 +302,44 @@ abstract class AbstractRetriever
                                                            final String databaseSpecificTypeName,
                                                            final String mappedClassName)
   {
-    MutableColumnDataType columnDataType = catalog
-      .lookupColumnDataType(schema, databaseSpecificTypeName).orElse(catalog
-        .lookupSystemColumnDataType(databaseSpecificTypeName).orElse(null));
-    // Create new data type, if needed
-    if (columnDataType == null)
+    // Tables and routines may be crawled concurrently, so look up
+    // and create the data type atomically
+    synchronized (catalog)
     {
-      columnDataType = new MutableColumnDataType(schema,
-                                                 databaseSpecificTypeName);
-      final JavaSqlType javaSqlType = retrieverConnection.getJavaSqlTypes()
-        .valueOf(javaSqlTypeInt);
-      columnDataType.setJavaSqlType(javaSqlType);
-      if (isBlank(mappedClassName))
+      MutableColumnDataType columnDataType = catalog
+        .lookupColumnDataType(schema, databaseSpecificTypeName).orElse(catalog
+          .lookupSystemColumnDataType(databaseSpecificTypeName).orElse(null));
+      // Create new data type, if needed
+      if (columnDataType == null)
       {
-        final TypeMap typeMap = retrieverConnection.getTypeMap();
-        final Class<?> mappedClass;
-        if (typeMap.containsKey(databaseSpecificTypeName))
+        columnDataType = new MutableColumnDataType(schema,
+                                                   databaseSpecificTypeName);
+        final JavaSqlType javaSqlType = retrieverConnection.getJavaSqlTypes()
+          .valueOf(javaSqlTypeInt);
+        columnDataType.setJavaSqlType(javaSqlType);
+        if (isBlank(mappedClassName))
         {
-          mappedClass = typeMap.get(databaseSpecificTypeName);
+          final TypeMap typeMap = retrieverConnection.getTypeMap();
+          final Class<?> mappedClass;
+          if (typeMap.containsKey(databaseSpecificTypeName))
+          {
+            mappedClass = typeMap.get(databaseSpecificTypeName);
+          }
+          else
+          {
+            mappedClass = typeMap.get(javaSqlType.getName());
+          }
+          columnDataType.setTypeMappedClass(mappedClass);
         }
         else
         {
-          mappedClass = typeMap.get(javaSqlType.getName());
+          columnDataType.setTypeMappedClass(mappedClassName);
         }
-        columnDataType.setTypeMappedClass(mappedClass);
-      }
-      else
-      {
-        columnDataType.setTypeMappedClass(mappedClassName);
-      }
 
-      catalog.addColumnDataType(columnDataType);
+        catalog.addColumnDataType(columnDataType);
+      }
+      return columnDataType;
     }
-    return columnDataType;
   }
 
   final Optional<MutableRoutine> lookupRoutine(final String catalogName,
@@ -254,8 +355,28 @@ abstract class AbstractRetriever
                                            final String schemaName,
                                            final String tableName)
   {
-    return catalog
-      .lookupTable(Arrays.asList(catalogName, schemaName, tableName));
+    return catalog.lookupTable(catalogName, schemaName, tableName);
+  }
+
+  /**
+   * Gets tables, leaving out views, which do not have indexes or
+   * foreign keys of their own.
+   *
+   * @param allTables
+   *        All tables
+   * @return Tables that are not views
+   */
+  final List<MutableTable> tablesWithoutViews(final NamedObjectList<MutableTable> allTables)
+  {
+    final List<MutableTable> tables = new ArrayList<>();
+    for (final MutableTable table: allTables)
+    {
+      if (!(table instanceof View))
+      {
+        tables.add(table);
+      }
+    }
+    return tables;
   }
 
   final String normalizeCatalogName(final String name)
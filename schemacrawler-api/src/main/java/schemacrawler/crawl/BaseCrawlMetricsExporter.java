@@ -0,0 +1,103 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Writes crawl metrics to a file once the crawl is complete.
+ *
+ * @author Sualeh Fatehi
+ */
+abstract class BaseCrawlMetricsExporter
+  implements CrawlMetricsListener
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(BaseCrawlMetricsExporter.class.getName());
+
+  private final Path outputFile;
+
+  BaseCrawlMetricsExporter(final Path outputFile)
+  {
+    this.outputFile = requireNonNull(outputFile, "No output file provided")
+      .toAbsolutePath();
+  }
+
+  @Override
+  public final void crawlCompleted(final CrawlInfo crawlInfo)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(crawlInfo, "No crawl information provided");
+    try (final BufferedWriter writer = Files.newBufferedWriter(outputFile,
+                                                               UTF_8);)
+    {
+      write(crawlInfo, writer);
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException("Could not write crawl metrics to "
+                                       + outputFile, e);
+    }
+    LOGGER.log(Level.INFO,
+               new StringFormat("Wrote crawl metrics to <%s>", outputFile));
+  }
+
+  public final Path getOutputFile()
+  {
+    return outputFile;
+  }
+
+  /**
+   * Writes the metrics for all the phases of the crawl.
+   *
+   * @param crawlInfo
+   *        Crawl information, with metrics
+   * @param writer
+   *        Writer to write to
+   * @throws IOException
+   *         On an exception writing metrics
+   */
+  abstract void write(CrawlInfo crawlInfo, Writer writer)
+    throws IOException;
+
+}
@@ -0,0 +1,129 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+/**
+ * Constants shared by the binary catalog snapshot writer and reader. A
+ * snapshot starts with a magic number and a format version, followed
+ * by a string table, and then sections for each type of object in the
+ * catalog, in a fixed order - schemas, column data types, tables,
+ * columns, privileges, indexes, table constraints, triggers, foreign
+ * keys, routines, sequences and synonyms. Strings are referenced by
+ * their position in the string table, and objects by their position in
+ * the section for their type, with zero for no reference. The fields
+ * of objects in a section are written column by column, so that, for
+ * example, all column names are written together, followed by all
+ * column ordinal positions, and so on.
+ *
+ * @author Sualeh Fatehi
+ */
+final class CatalogSnapshotFormat
+{
+
+  static final byte[] MAGIC = { 'S', 'C', 'S', 'N', 'A', 'P' };
+  static final int VERSION = 2;
+
+  static final int MAXIMUM_VALUE_DEPTH = 16;
+
+  // Attribute value types
+  static final byte VALUE_NULL = 0;
+  static final byte VALUE_STRING = 1;
+  static final byte VALUE_BOOLEAN = 2;
+  static final byte VALUE_BYTE = 3;
+  static final byte VALUE_SHORT = 4;
+  static final byte VALUE_INTEGER = 5;
+  static final byte VALUE_LONG = 6;
+  static final byte VALUE_FLOAT = 7;
+  static final byte VALUE_DOUBLE = 8;
+  static final byte VALUE_CHARACTER = 9;
+  static final byte VALUE_BIG_INTEGER = 10;
+  static final byte VALUE_BIG_DECIMAL = 11;
+  static final byte VALUE_SQL_DATE = 12;
+  static final byte VALUE_SQL_TIME = 13;
+  static final byte VALUE_SQL_TIMESTAMP = 14;
+  static final byte VALUE_DATE = 15;
+  static final byte VALUE_LOCAL_DATE = 16;
+  static final byte VALUE_LOCAL_TIME = 17;
+  static final byte VALUE_LOCAL_DATE_TIME = 18;
+  static final byte VALUE_OFFSET_DATE_TIME = 19;
+  static final byte VALUE_INSTANT = 20;
+  static final byte VALUE_BYTES = 21;
+  static final byte VALUE_STRINGS = 22;
+  static final byte VALUE_LIST = 23;
+  static final byte VALUE_SET = 24;
+  static final byte VALUE_MAP = 25;
+
+  // Table flags
+  static final int TABLE_IN_CATALOG = 1;
+  static final int TABLE_VIEW = 1 << 1;
+  static final int TABLE_UPDATABLE = 1 << 2;
+
+  // Column flags
+  static final int COLUMN_HIDDEN = 1;
+  static final int COLUMN_NULLABLE = 1 << 1;
+  static final int COLUMN_AUTO_INCREMENTED = 1 << 2;
+  static final int COLUMN_GENERATED = 1 << 3;
+  static final int COLUMN_PART_OF_INDEX = 1 << 4;
+  static final int COLUMN_PART_OF_PRIMARY_KEY = 1 << 5;
+  static final int COLUMN_PART_OF_UNIQUE_INDEX = 1 << 6;
+  static final int COLUMN_IN_HIDDEN_COLUMNS = 1 << 7;
+
+  // Column data type flags
+  static final int TYPE_IN_CATALOG = 1;
+  static final int TYPE_AUTO_INCREMENTABLE = 1 << 1;
+  static final int TYPE_CASE_SENSITIVE = 1 << 2;
+  static final int TYPE_FIXED_PRECISION_SCALE = 1 << 3;
+  static final int TYPE_NULLABLE = 1 << 4;
+  static final int TYPE_UNSIGNED = 1 << 5;
+  static final int TYPE_USER_DEFINED = 1 << 6;
+
+  // Index flags
+  static final int INDEX_PRIMARY_KEY = 1;
+  static final int INDEX_UNIQUE = 1 << 1;
+
+  // Table constraint flags
+  static final int CONSTRAINT_DEFERRABLE = 1;
+  static final int CONSTRAINT_INITIALLY_DEFERRED = 1 << 1;
+
+  // Routine flags
+  static final int ROUTINE_IN_CATALOG = 1;
+  static final int ROUTINE_FUNCTION = 1 << 1;
+
+  // Synonym referenced object types
+  static final byte SYNONYM_NONE = 0;
+  static final byte SYNONYM_TABLE = 1;
+  static final byte SYNONYM_ROUTINE = 2;
+  static final byte SYNONYM_OTHER = 3;
+
+  private CatalogSnapshotFormat()
+  {
+    // Prevent instantiation
+  }
+
+}
@@ -0,0 +1,1845 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.CatalogSnapshotFormat.COLUMN_AUTO_INCREMENTED;
+import static schemacrawler.crawl.CatalogSnapshotFormat.COLUMN_GENERATED;
+import static schemacrawler.crawl.CatalogSnapshotFormat.COLUMN_HIDDEN;
+import static schemacrawler.crawl.CatalogSnapshotFormat.COLUMN_IN_HIDDEN_COLUMNS;
+import static schemacrawler.crawl.CatalogSnapshotFormat.COLUMN_NULLABLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.COLUMN_PART_OF_INDEX;
+import static schemacrawler.crawl.CatalogSnapshotFormat.COLUMN_PART_OF_PRIMARY_KEY;
+import static schemacrawler.crawl.CatalogSnapshotFormat.COLUMN_PART_OF_UNIQUE_INDEX;
+import static schemacrawler.crawl.CatalogSnapshotFormat.CONSTRAINT_DEFERRABLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.CONSTRAINT_INITIALLY_DEFERRED;
+import static schemacrawler.crawl.CatalogSnapshotFormat.INDEX_PRIMARY_KEY;
+import static schemacrawler.crawl.CatalogSnapshotFormat.INDEX_UNIQUE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.MAGIC;
+import static schemacrawler.crawl.CatalogSnapshotFormat.MAXIMUM_VALUE_DEPTH;
+import static schemacrawler.crawl.CatalogSnapshotFormat.ROUTINE_FUNCTION;
+import static schemacrawler.crawl.CatalogSnapshotFormat.ROUTINE_IN_CATALOG;
+import static schemacrawler.crawl.CatalogSnapshotFormat.SYNONYM_NONE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.SYNONYM_OTHER;
+import static schemacrawler.crawl.CatalogSnapshotFormat.SYNONYM_ROUTINE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.SYNONYM_TABLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TABLE_IN_CATALOG;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TABLE_UPDATABLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TABLE_VIEW;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TYPE_AUTO_INCREMENTABLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TYPE_CASE_SENSITIVE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TYPE_FIXED_PRECISION_SCALE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TYPE_IN_CATALOG;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TYPE_NULLABLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TYPE_UNSIGNED;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TYPE_USER_DEFINED;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_BIG_DECIMAL;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_BIG_INTEGER;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_BOOLEAN;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_BYTE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_BYTES;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_CHARACTER;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_DATE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_DOUBLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_FLOAT;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_INSTANT;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_INTEGER;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_LIST;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_LOCAL_DATE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_LOCAL_DATE_TIME;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_LOCAL_TIME;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_LONG;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_MAP;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_NULL;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_OFFSET_DATE_TIME;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_SET;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_SHORT;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_SQL_DATE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_SQL_TIME;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_SQL_TIMESTAMP;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_STRING;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_STRINGS;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VERSION;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLType;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+
+import schemacrawler.BaseProductVersion;
+import schemacrawler.ProductVersion;
+import schemacrawler.schema.ActionOrientationType;
+import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CheckOptionType;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ConditionTimingType;
+import schemacrawler.schema.CrawlPhaseMetrics;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.EventManipulationType;
+import schemacrawler.schema.ForeignKeyDeferrability;
+import schemacrawler.schema.ForeignKeyUpdateRule;
+import schemacrawler.schema.FunctionColumnType;
+import schemacrawler.schema.FunctionReturnType;
+import schemacrawler.schema.IndexColumnSortSequence;
+import schemacrawler.schema.IndexType;
+import schemacrawler.schema.JavaSqlType;
+import schemacrawler.schema.JavaSqlTypeGroup;
+import schemacrawler.schema.ProcedureColumnType;
+import schemacrawler.schema.ProcedureReturnType;
+import schemacrawler.schema.RoutineBodyType;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.SchemaReference;
+import schemacrawler.schema.SearchableType;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraintType;
+import schemacrawler.schema.TableType;
+import schemacrawler.utility.JavaSqlTypes;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Reads a catalog from a binary snapshot. See
+ * {@link CatalogSnapshotFormat} for the layout of the snapshot. The
+ * catalog is built with the same constructors and methods that are
+ * used when crawling a database. Every count and reference in the
+ * snapshot is checked, so that a corrupt snapshot results in an
+ * exception, rather than an unbounded allocation. The SchemaCrawler,
+ * operating system and JVM information of the catalog are those of the
+ * JVM that reads the snapshot, but the crawl information is restored
+ * from the snapshot.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class CatalogSnapshotReader
+{
+
+  /**
+   * SQL type that is not known to this JVM, such as a vendor specific
+   * type.
+   */
+  private static final class SnapshotSqlType
+    implements SQLType, Serializable
+  {
+
+    private static final long serialVersionUID = -3960421863741474322L;
+
+    private final int vendorTypeNumber;
+    private final String name;
+    private final String vendor;
+
+    SnapshotSqlType(final int vendorTypeNumber,
+                    final String name,
+                    final String vendor)
+    {
+      this.vendorTypeNumber = vendorTypeNumber;
+      this.name = name;
+      this.vendor = vendor;
+    }
+
+    @Override
+    public String getName()
+    {
+      return name;
+    }
+
+    @Override
+    public String getVendor()
+    {
+      return vendor;
+    }
+
+    @Override
+    public Integer getVendorTypeNumber()
+    {
+      return vendorTypeNumber;
+    }
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(CatalogSnapshotReader.class.getName());
+
+  /**
+   * Checks whether a stream starts with the magic number of a binary
+   * catalog snapshot. The stream is not closed.
+   *
+   * @param in
+   *        Input stream to check
+   * @return Whether the stream is a binary catalog snapshot
+   * @throws IOException
+   *         On an exception
+   */
+  public static boolean isCatalogSnapshot(final InputStream in)
+    throws IOException
+  {
+    requireNonNull(in, "No input stream provided");
+    final byte[] magic = new byte[MAGIC.length];
+    int read = 0;
+    while (read < magic.length)
+    {
+      final int count = in.read(magic, read, magic.length - read);
+      if (count == -1)
+      {
+        return false;
+      }
+      read = read + count;
+    }
+    return Arrays.equals(magic, MAGIC);
+  }
+
+  private static byte[] readAllBytes(final InputStream in)
+    throws IOException
+  {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+    final byte[] buffer = new byte[64 * 1024];
+    int count;
+    while ((count = in.read(buffer)) != -1)
+    {
+      out.write(buffer, 0, count);
+    }
+    return out.toByteArray();
+  }
+
+  private final JavaSqlTypes javaSqlTypes = new JavaSqlTypes();
+
+  private byte[] bytes;
+  private int position;
+  private String[] strings;
+  private MutableCatalog catalog;
+  private SchemaReference[] schemas;
+  private MutableColumnDataType[] columnDataTypes;
+  private MutableTable[] tables;
+  private TablePartial[] partialTables;
+  private MutableColumn[] columns;
+  private ColumnPartial[] partialColumns;
+  private Table[] partialColumnParents;
+  private MutableForeignKey[] foreignKeys;
+  private MutableRoutine[] routines;
+
+  /**
+   * Reads a catalog from a binary snapshot. The input stream is read
+   * to the end, but not closed.
+   *
+   * @param in
+   *        Input stream to read from
+   * @return Catalog
+   * @throws IOException
+   *         On an exception, or if the snapshot is not valid
+   */
+  public Catalog read(final InputStream in)
+    throws IOException
+  {
+    requireNonNull(in, "No input stream provided");
+
+    bytes = readAllBytes(in);
+    position = 0;
+    try
+    {
+      readHeader();
+      readStrings();
+
+      readCatalog();
+      readDatabaseInfo();
+      readJdbcDriverInfo();
+      readCrawlInfo();
+      readSchemas();
+      readColumnDataTypes();
+      readTables();
+      readColumns();
+      readPrivileges();
+      readIndexes();
+      readTableConstraints();
+      readTriggers();
+      readForeignKeys();
+      readRoutines();
+      readSequences();
+      readSynonyms();
+
+      if (position != bytes.length)
+      {
+        throw new IOException(String
+          .format("Snapshot has %d unexpected bytes at the end",
+                  bytes.length - position));
+      }
+
+      return catalog;
+    }
+    catch (final RuntimeException e)
+    {
+      throw new IOException(String
+        .format("Snapshot is not valid, at byte %d", position), e);
+    }
+    finally
+    {
+      bytes = null;
+      strings = null;
+      schemas = null;
+      columnDataTypes = null;
+      tables = null;
+      partialTables = null;
+      columns = null;
+      partialColumns = null;
+      partialColumnParents = null;
+      foreignKeys = null;
+      routines = null;
+      catalog = null;
+    }
+  }
+
+  private Column column(final int id)
+  {
+    if (id <= columns.length)
+    {
+      return columns[id - 1];
+    }
+    else
+    {
+      return partialColumns[id - columns.length - 1];
+    }
+  }
+
+  private Class<?> loadClass(final String className)
+  {
+    if (className == null)
+    {
+      return Object.class;
+    }
+    try
+    {
+      // Classes are not initialized, since the names come from the
+      // snapshot
+      return Class.forName(className,
+                           false,
+                           CatalogSnapshotReader.class.getClassLoader());
+    }
+    catch (final ClassNotFoundException e)
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Could not load mapped class <%s>",
+                                  className),
+                 e);
+      return Object.class;
+    }
+  }
+
+  private void readAttributes(final AttributedObject attributedObject)
+    throws IOException
+  {
+    final int count = readCount("attributes");
+    for (int i = 0; i < count; i++)
+    {
+      final String name = readString();
+      final Object value = readValue(0);
+      attributedObject.setAttribute(name, value);
+    }
+  }
+
+  private BigInteger readBigInteger()
+    throws IOException
+  {
+    final Object value = readValue(0);
+    if (value != null && !(value instanceof BigInteger))
+    {
+      throw new IOException(String.format("Expected a big integer, not %s",
+                                          value.getClass().getName()));
+    }
+    return (BigInteger) value;
+  }
+
+  private boolean readBoolean()
+    throws IOException
+  {
+    final int value = readByte();
+    if (value != 0 && value != 1)
+    {
+      throw new IOException(String.format("Unexpected boolean value %d",
+                                          value));
+    }
+    return value == 1;
+  }
+
+  private int readByte()
+    throws IOException
+  {
+    if (position >= bytes.length)
+    {
+      throw new IOException("Snapshot is truncated");
+    }
+    return bytes[position++];
+  }
+
+  private byte[] readBytes()
+    throws IOException
+  {
+    final int length = readLength("bytes");
+    final byte[] value = Arrays.copyOfRange(bytes, position, position + length);
+    position = position + length;
+    return value;
+  }
+
+  private void readCatalog()
+    throws IOException
+  {
+    catalog = new MutableCatalog(readString());
+    readRemarks(catalog);
+    readAttributes(catalog);
+  }
+
+  private void readColumnDataTypes()
+    throws IOException
+  {
+    final int count = readCount("column data types");
+    columnDataTypes = new MutableColumnDataType[count];
+    final Schema[] typeSchemas = new Schema[count];
+    for (int i = 0; i < count; i++)
+    {
+      typeSchemas[i] = readSchema();
+    }
+    for (int i = 0; i < count; i++)
+    {
+      columnDataTypes[i] = new MutableColumnDataType(typeSchemas[i],
+                                                     readString());
+    }
+    final boolean[] inCatalog = new boolean[count];
+    for (int i = 0; i < count; i++)
+    {
+      final MutableColumnDataType columnDataType = columnDataTypes[i];
+      final int flags = readVarInt();
+      inCatalog[i] = isSet(flags, TYPE_IN_CATALOG);
+      columnDataType.setAutoIncrementable(isSet(flags,
+                                                TYPE_AUTO_INCREMENTABLE));
+      columnDataType.setCaseSensitive(isSet(flags, TYPE_CASE_SENSITIVE));
+      columnDataType
+        .setFixedPrecisionScale(isSet(flags, TYPE_FIXED_PRECISION_SCALE));
+      columnDataType.setNullable(isSet(flags, TYPE_NULLABLE));
+      columnDataType.setUnsigned(isSet(flags, TYPE_UNSIGNED));
+      columnDataType.setUserDefined(isSet(flags, TYPE_USER_DEFINED));
+    }
+    for (final MutableColumnDataType columnDataType: columnDataTypes)
+    {
+      columnDataType.setJavaSqlType(readJavaSqlType());
+    }
+    for (final MutableColumnDataType columnDataType: columnDataTypes)
+    {
+      columnDataType.setCreateParameters(readString());
+    }
+    for (final MutableColumnDataType columnDataType: columnDataTypes)
+    {
+      columnDataType.setLiteralPrefix(readString());
+      columnDataType.setLiteralSuffix(readString());
+    }
+    for (final MutableColumnDataType columnDataType: columnDataTypes)
+    {
+      columnDataType.setLocalTypeName(readString());
+    }
+    for (final MutableColumnDataType columnDataType: columnDataTypes)
+    {
+      columnDataType.setMinimumScale(readInt());
+      columnDataType.setMaximumScale(readInt());
+      columnDataType.setNumPrecisionRadix(readInt());
+      columnDataType.setPrecision(readLong());
+    }
+    for (final MutableColumnDataType columnDataType: columnDataTypes)
+    {
+      columnDataType.setSearchable(readEnum(SearchableType.class));
+    }
+    for (final MutableColumnDataType columnDataType: columnDataTypes)
+    {
+      columnDataType.setTypeMappedClass(loadClass(readString()));
+    }
+    for (final MutableColumnDataType columnDataType: columnDataTypes)
+    {
+      final int id = readId(count, "column data type");
+      if (id > 0)
+      {
+        columnDataType.setBaseType(columnDataTypes[id - 1]);
+      }
+    }
+    for (final MutableColumnDataType columnDataType: columnDataTypes)
+    {
+      readRemarks(columnDataType);
+    }
+    for (final MutableColumnDataType columnDataType: columnDataTypes)
+    {
+      readAttributes(columnDataType);
+    }
+
+    for (int i = 0; i < count; i++)
+    {
+      if (inCatalog[i])
+      {
+        catalog.addColumnDataType(columnDataTypes[i]);
+      }
+    }
+  }
+
+  private int readColumnId(final boolean required)
+    throws IOException
+  {
+    final int id = readId(columns.length + partialColumns.length, "column");
+    if (required && id == 0)
+    {
+      throw new IOException("No column provided");
+    }
+    return id;
+  }
+
+  private void readColumns()
+    throws IOException
+  {
+    final int count = readCount("columns");
+    columns = new MutableColumn[count];
+    final MutableTable[] parents = new MutableTable[count];
+    for (int i = 0; i < count; i++)
+    {
+      parents[i] = readMutableTable();
+    }
+    for (int i = 0; i < count; i++)
+    {
+      columns[i] = new MutableColumn(parents[i], readString());
+    }
+    final boolean[] inHiddenColumns = new boolean[count];
+    for (int i = 0; i < count; i++)
+    {
+      final MutableColumn column = columns[i];
+      final int flags = readVarInt();
+      inHiddenColumns[i] = isSet(flags, COLUMN_IN_HIDDEN_COLUMNS);
+      column.setHidden(isSet(flags, COLUMN_HIDDEN));
+      column.setNullable(isSet(flags, COLUMN_NULLABLE));
+      column.setAutoIncremented(isSet(flags, COLUMN_AUTO_INCREMENTED));
+      column.setGenerated(isSet(flags, COLUMN_GENERATED));
+      if (isSet(flags, COLUMN_PART_OF_INDEX))
+      {
+        column.markAsPartOfIndex();
+      }
+      if (isSet(flags, COLUMN_PART_OF_PRIMARY_KEY))
+      {
+        column.markAsPartOfPrimaryKey();
+      }
+      if (isSet(flags, COLUMN_PART_OF_UNIQUE_INDEX))
+      {
+        column.markAsPartOfUniqueIndex();
+      }
+    }
+    for (final MutableColumn column: columns)
+    {
+      column.setOrdinalPosition(readInt());
+    }
+    for (final MutableColumn column: columns)
+    {
+      final MutableColumnDataType columnDataType = readColumnDataType();
+      if (columnDataType != null)
+      {
+        column.setColumnDataType(columnDataType);
+      }
+    }
+    for (final MutableColumn column: columns)
+    {
+      column.setSize(readInt());
+      column.setDecimalDigits(readInt());
+    }
+    for (final MutableColumn column: columns)
+    {
+      column.setDefaultValue(readString());
+    }
+    for (final MutableColumn column: columns)
+    {
+      readRemarks(column);
+    }
+    for (final MutableColumn column: columns)
+    {
+      readAttributes(column);
+    }
+
+    for (int i = 0; i < count; i++)
+    {
+      if (inHiddenColumns[i])
+      {
+        parents[i].addHiddenColumn(columns[i]);
+      }
+      else
+      {
+        parents[i].addColumn(columns[i]);
+      }
+    }
+
+    final int partialCount = readCount("partial columns");
+    partialColumns = new ColumnPartial[partialCount];
+    partialColumnParents = new Table[partialCount];
+    for (int i = 0; i < partialCount; i++)
+    {
+      final Table parent = readTable();
+      final ColumnPartial column = new ColumnPartial(parent, readString());
+      if (parent instanceof TablePartial)
+      {
+        ((TablePartial) parent).addColumn(column);
+      }
+      partialColumns[i] = column;
+      partialColumnParents[i] = parent;
+    }
+
+    for (final MutableColumn column: columns)
+    {
+      final int id = readColumnId(false);
+      if (id > 0)
+      {
+        column.setReferencedColumn(column(id));
+      }
+    }
+    for (final ColumnPartial column: partialColumns)
+    {
+      final int id = readColumnId(false);
+      if (id > 0)
+      {
+        column.setReferencedColumn(column(id));
+      }
+    }
+  }
+
+  private MutableColumnDataType readColumnDataType()
+    throws IOException
+  {
+    final int id = readId(columnDataTypes.length, "column data type");
+    if (id == 0)
+    {
+      return null;
+    }
+    return columnDataTypes[id - 1];
+  }
+
+  /**
+   * Reads a count of items that follow, each of which takes at least
+   * one byte, so that a corrupt count is found before anything is
+   * allocated for it.
+   */
+  private int readCount(final String what)
+    throws IOException
+  {
+    final int count = readVarInt();
+    final int remaining = bytes.length - position;
+    if (count > remaining)
+    {
+      throw new IOException(String
+        .format("Cannot read %d %s, since only %d bytes remain in the snapshot",
+                count,
+                what,
+                remaining));
+    }
+    return count;
+  }
+
+  private int[] readCounts(final int count, final String what)
+    throws IOException
+  {
+    final int[] counts = new int[count];
+    long total = 0;
+    for (int i = 0; i < count; i++)
+    {
+      counts[i] = readCount(what);
+      total = total + counts[i];
+    }
+    final int remaining = bytes.length - position;
+    if (total > remaining)
+    {
+      throw new IOException(String
+        .format("Cannot read %d %s, since only %d bytes remain in the snapshot",
+                total,
+                what,
+                remaining));
+    }
+    return counts;
+  }
+
+  private void readCrawlInfo()
+    throws IOException
+  {
+    if (!readBoolean())
+    {
+      return;
+    }
+
+    final ProductVersion schemaCrawlerInfo = readProductVersion();
+    final ProductVersion jdbcDriverInfo = readProductVersion();
+    final ProductVersion databaseInfo = readProductVersion();
+    final ProductVersion osInfo = readProductVersion();
+    final ProductVersion jvmInfo = readProductVersion();
+    final String title = readString();
+    final long crawlTimestampSeconds = readLong();
+    final int crawlTimestampNanos = readInt();
+    final LocalDateTime crawlTimestamp = LocalDateTime
+      .ofEpochSecond(crawlTimestampSeconds, crawlTimestampNanos, ZoneOffset.UTC);
+
+    final int count = readCount("crawl phase metrics");
+    final List<CrawlPhaseMetrics> crawlPhaseMetrics = new ArrayList<>(count);
+    for (int i = 0; i < count; i++)
+    {
+      final String crawlName = readString();
+      final String phaseName = readString();
+      final long durationSeconds = readLong();
+      final int durationNanos = readInt();
+      final long queryCount = readLong();
+      final long rowCount = readLong();
+      final long bytesFetched = readLong();
+      crawlPhaseMetrics
+        .add(new ImmutableCrawlPhaseMetrics(crawlName,
+                                            phaseName,
+                                            Duration.ofSeconds(durationSeconds,
+                                                               durationNanos),
+                                            queryCount,
+                                            rowCount,
+                                            bytesFetched));
+    }
+
+    catalog.setCrawlInfo(new ImmutableCrawlInfo(schemaCrawlerInfo,
+                                                jdbcDriverInfo,
+                                                databaseInfo,
+                                                osInfo,
+                                                jvmInfo,
+                                                title,
+                                                crawlTimestamp,
+                                                crawlPhaseMetrics));
+  }
+
+  private void readDatabaseInfo()
+    throws IOException
+  {
+    final MutableDatabaseInfo databaseInfo = catalog.getDatabaseInfo();
+    databaseInfo.setProductName(readString());
+    databaseInfo.setProductVersion(readString());
+    databaseInfo.setUserName(readString());
+
+    final int count = readCount("database properties");
+    final List<ImmutableDatabaseProperty> properties = new ArrayList<>(count);
+    for (int i = 0; i < count; i++)
+    {
+      final String name = readString();
+      final Object value = readValue(0);
+      properties.add(new ImmutableDatabaseProperty(name, value));
+    }
+    databaseInfo.addAll(properties);
+  }
+
+  private <E extends Enum<E>> E readEnum(final Class<E> enumType)
+    throws IOException
+  {
+    final String name = readString();
+    if (name == null)
+    {
+      return null;
+    }
+    try
+    {
+      return Enum.valueOf(enumType, name);
+    }
+    catch (final IllegalArgumentException e)
+    {
+      throw new IOException(String.format("Unknown %s <%s>",
+                                          enumType.getSimpleName(),
+                                          name),
+                            e);
+    }
+  }
+
+  private int readFixedInt()
+    throws IOException
+  {
+    int value = 0;
+    for (int i = 0; i < 4; i++)
+    {
+      value = value << 8 | readByte() & 0xFF;
+    }
+    return value;
+  }
+
+  private long readFixedLong()
+    throws IOException
+  {
+    long value = 0;
+    for (int i = 0; i < 8; i++)
+    {
+      value = value << 8 | readByte() & 0xFF;
+    }
+    return value;
+  }
+
+  private void readForeignKeys()
+    throws IOException
+  {
+    final int count = readCount("foreign keys");
+    foreignKeys = new MutableForeignKey[count];
+    for (int i = 0; i < count; i++)
+    {
+      final MutableForeignKey foreignKey = new MutableForeignKey(readString());
+      foreignKey.setSpecificName(readString());
+      foreignKeys[i] = foreignKey;
+    }
+    for (final MutableForeignKey foreignKey: foreignKeys)
+    {
+      foreignKey.setUpdateRule(readEnum(ForeignKeyUpdateRule.class));
+      foreignKey.setDeleteRule(readEnum(ForeignKeyUpdateRule.class));
+      foreignKey.setDeferrability(readEnum(ForeignKeyDeferrability.class));
+    }
+    for (final MutableForeignKey foreignKey: foreignKeys)
+    {
+      foreignKey.appendDefinition(readString());
+    }
+    for (final MutableForeignKey foreignKey: foreignKeys)
+    {
+      readRemarks(foreignKey);
+    }
+    for (final MutableForeignKey foreignKey: foreignKeys)
+    {
+      readAttributes(foreignKey);
+    }
+
+    final int[] columnReferenceCounts = readCounts(count,
+                                                   "foreign key column references");
+    for (int i = 0; i < count; i++)
+    {
+      final MutableForeignKey foreignKey = foreignKeys[i];
+      for (int j = 0; j < columnReferenceCounts[i]; j++)
+      {
+        final int keySequence = readInt();
+        final int pkColumnId = readColumnId(true);
+        final int fkColumnId = readColumnId(true);
+        foreignKey.addColumnReference(keySequence,
+                                      column(pkColumnId),
+                                      column(fkColumnId));
+        // Partial tables keep the foreign key that they were created
+        // for, in the same way as when the foreign keys are retrieved
+        addToPartialTable(pkColumnId, foreignKey);
+        addToPartialTable(fkColumnId, foreignKey);
+      }
+    }
+
+    for (final MutableTable table: tables)
+    {
+      final int tableForeignKeysCount = readCount("table foreign keys");
+      for (int i = 0; i < tableForeignKeysCount; i++)
+      {
+        final int id = readId(count, "foreign key");
+        if (id == 0)
+        {
+          throw new IOException("No foreign key provided");
+        }
+        table.addForeignKey(foreignKeys[id - 1]);
+      }
+    }
+  }
+
+  private void readHeader()
+    throws IOException
+  {
+    if (bytes.length < MAGIC.length
+        || !Arrays.equals(Arrays.copyOf(bytes, MAGIC.length), MAGIC))
+    {
+      throw new IOException("Not a binary catalog snapshot");
+    }
+    position = MAGIC.length;
+
+    final int version = readVarInt();
+    if (version != VERSION)
+    {
+      throw new IOException(String
+        .format("Cannot read snapshot format version %d, since only version %d is supported",
+                version,
+                VERSION));
+    }
+  }
+
+  private int readId(final int count, final String what)
+    throws IOException
+  {
+    final int id = readVarInt();
+    if (id > count)
+    {
+      throw new IOException(String
+        .format("Snapshot refers to %s %d, but has only %d",
+                what,
+                id,
+                count));
+    }
+    return id;
+  }
+
+  private void readIndexes()
+    throws IOException
+  {
+    final int count = readCount("indexes");
+    final MutableTable[] parents = new MutableTable[count];
+    for (int i = 0; i < count; i++)
+    {
+      parents[i] = readMutableTable();
+    }
+    final String[] names = new String[count];
+    for (int i = 0; i < count; i++)
+    {
+      names[i] = readString();
+    }
+    final MutableIndex[] indexes = new MutableIndex[count];
+    for (int i = 0; i < count; i++)
+    {
+      final int flags = readVarInt();
+      if (isSet(flags, INDEX_PRIMARY_KEY))
+      {
+        indexes[i] = new MutablePrimaryKey(parents[i], names[i]);
+      }
+      else
+      {
+        indexes[i] = new MutableIndex(parents[i], names[i]);
+        indexes[i].setUnique(isSet(flags, INDEX_UNIQUE));
+      }
+    }
+    for (final MutableIndex index: indexes)
+    {
+      index.setIndexType(readEnum(IndexType.class));
+    }
+    for (final MutableIndex index: indexes)
+    {
+      index.setCardinality(readInt());
+      index.setPages(readInt());
+    }
+    for (final MutableIndex index: indexes)
+    {
+      index.appendDefinition(readString());
+    }
+    for (final MutableIndex index: indexes)
+    {
+      readRemarks(index);
+    }
+    for (final MutableIndex index: indexes)
+    {
+      readAttributes(index);
+    }
+
+    final int[] columnCounts = readCounts(count, "index columns");
+    final List<MutableIndexColumn> indexColumns = new ArrayList<>();
+    for (int i = 0; i < count; i++)
+    {
+      for (int j = 0; j < columnCounts[i]; j++)
+      {
+        indexColumns
+          .add(new MutableIndexColumn(indexes[i], column(readColumnId(true))));
+      }
+    }
+    for (final MutableIndexColumn indexColumn: indexColumns)
+    {
+      indexColumn.setIndexOrdinalPosition(readInt());
+      indexColumn
+        .setSortSequence(readEnum(IndexColumnSortSequence.class));
+    }
+    for (final MutableIndexColumn indexColumn: indexColumns)
+    {
+      indexColumn.appendDefinition(readString());
+    }
+    for (final MutableIndexColumn indexColumn: indexColumns)
+    {
+      readRemarks(indexColumn);
+    }
+    for (final MutableIndexColumn indexColumn: indexColumns)
+    {
+      readAttributes(indexColumn);
+    }
+
+    int k = 0;
+    for (int i = 0; i < count; i++)
+    {
+      for (int j = 0; j < columnCounts[i]; j++)
+      {
+        indexes[i].addColumn(indexColumns.get(k++));
+      }
+      // Primary keys are written before the indexes of their table, so
+      // they do not replace any index
+      if (indexes[i] instanceof MutablePrimaryKey)
+      {
+        parents[i]
+          .setPrimaryKeyAndReplaceIndex((MutablePrimaryKey) indexes[i]);
+      }
+      else
+      {
+        parents[i].addIndex(indexes[i]);
+      }
+    }
+  }
+
+  private int readInt()
+    throws IOException
+  {
+    final long value = readLong();
+    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
+    {
+      throw new IOException(String.format("Number %d is out of range",
+                                          value));
+    }
+    return (int) value;
+  }
+
+  private JavaSqlType readJavaSqlType()
+    throws IOException
+  {
+    final int vendorTypeNumber = readInt();
+    final String name = readString();
+    final String vendor = readString();
+    final Class<?> defaultMappedClass = loadClass(readString());
+    final JavaSqlTypeGroup javaSqlTypeGroup = readEnum(JavaSqlTypeGroup.class);
+
+    final JavaSqlType javaSqlType = javaSqlTypes.valueOf(vendorTypeNumber);
+    if (javaSqlType.getVendorTypeNumber() == vendorTypeNumber
+        && javaSqlType.getName().equals(name))
+    {
+      return javaSqlType;
+    }
+    else if (name == null || javaSqlTypeGroup == null)
+    {
+      return JavaSqlType.UNKNOWN;
+    }
+    else
+    {
+      return new JavaSqlType(new SnapshotSqlType(vendorTypeNumber,
+                                                 name,
+                                                 vendor),
+                             defaultMappedClass,
+                             javaSqlTypeGroup);
+    }
+  }
+
+  private void readJdbcDriverInfo()
+    throws IOException
+  {
+    final MutableJdbcDriverInfo jdbcDriverInfo = catalog.getJdbcDriverInfo();
+    jdbcDriverInfo.setDriverName(readString());
+    jdbcDriverInfo.setDriverVersion(readString());
+    jdbcDriverInfo.setJdbcDriverClassName(readString());
+    jdbcDriverInfo.setConnectionUrl(readString());
+    jdbcDriverInfo.setJdbcCompliant(readBoolean());
+
+    final int count = readCount("JDBC driver properties");
+    for (int i = 0; i < count; i++)
+    {
+      final DriverPropertyInfo driverPropertyInfo = new DriverPropertyInfo(readString(),
+                                                                           readString());
+      driverPropertyInfo.description = readString();
+      driverPropertyInfo.required = readBoolean();
+      final int choicesCount = readCount("JDBC driver property choices");
+      if (choicesCount > 0)
+      {
+        driverPropertyInfo.choices = new String[choicesCount];
+        for (int j = 0; j < choicesCount; j++)
+        {
+          driverPropertyInfo.choices[j] = readString();
+        }
+      }
+      jdbcDriverInfo
+        .addJdbcDriverProperty(new ImmutableJdbcDriverProperty(driverPropertyInfo));
+    }
+  }
+
+  /**
+   * Reads a length of bytes that follow.
+   */
+  private int readLength(final String what)
+    throws IOException
+  {
+    final int length = readVarInt();
+    final int remaining = bytes.length - position;
+    if (length > remaining)
+    {
+      throw new IOException(String
+        .format("Cannot read %s of %d bytes, since only %d bytes remain in the snapshot",
+                what,
+                length,
+                remaining));
+    }
+    return length;
+  }
+
+  /**
+   * Reads a signed number in zig-zag encoding.
+   */
+  private long readLong()
+    throws IOException
+  {
+    final long value = readVarLong();
+    return value >>> 1 ^ -(value & 1);
+  }
+
+  private MutableTable readMutableTable()
+    throws IOException
+  {
+    final int id = readId(tables.length, "table");
+    if (id == 0)
+    {
+      throw new IOException("No table provided");
+    }
+    return tables[id - 1];
+  }
+
+  private void readPrivilege(final MutablePrivilege<?> privilege)
+    throws IOException
+  {
+    readRemarks(privilege);
+    readAttributes(privilege);
+    final int count = readCount("grants");
+    for (int i = 0; i < count; i++)
+    {
+      final String grantor = readString();
+      final String grantee = readString();
+      final boolean isGrantable = readBoolean();
+      privilege.addGrant(grantor, grantee, isGrantable);
+    }
+  }
+
+  private void readPrivileges()
+    throws IOException
+  {
+    final int tablePrivilegesCount = readCount("table privileges");
+    for (int i = 0; i < tablePrivilegesCount; i++)
+    {
+      final MutableTable table = readMutableTable();
+      final MutablePrivilege<Table> privilege = new MutablePrivilege<>(new TableReference(table),
+                                                                       readString());
+      readPrivilege(privilege);
+      table.addPrivilege(privilege);
+    }
+
+    final int columnPrivilegesCount = readCount("column privileges");
+    for (int i = 0; i < columnPrivilegesCount; i++)
+    {
+      final int id = readId(columns.length, "column");
+      if (id == 0)
+      {
+        throw new IOException("No column provided");
+      }
+      final MutableColumn column = columns[id - 1];
+      final MutablePrivilege<Column> privilege = new MutablePrivilege<>(new ColumnReference(column),
+                                                                        readString());
+      readPrivilege(privilege);
+      column.addPrivilege(privilege);
+    }
+  }
+
+  private ProductVersion readProductVersion()
+    throws IOException
+  {
+    final String productName = readString();
+    final String productVersion = readString();
+    if (productName == null || productVersion == null)
+    {
+      throw new IOException("No product name or version provided");
+    }
+    return new BaseProductVersion(productName, productVersion);
+  }
+
+  private void readRemarks(final AbstractNamedObjectWithAttributes namedObject)
+    throws IOException
+  {
+    final String remarks = readString();
+    if (remarks != null)
+    {
+      namedObject.setRemarks(remarks);
+    }
+  }
+
+  private void readRoutines()
+    throws IOException
+  {
+    final int count = readCount("routines");
+    final Schema[] routineSchemas = new Schema[count];
+    for (int i = 0; i < count; i++)
+    {
+      routineSchemas[i] = readSchema();
+    }
+    final String[] names = new String[count];
+    final String[] specificNames = new String[count];
+    for (int i = 0; i < count; i++)
+    {
+      names[i] = readString();
+      specificNames[i] = readString();
+    }
+    routines = new MutableRoutine[count];
+    final boolean[] inCatalog = new boolean[count];
+    for (int i = 0; i < count; i++)
+    {
+      final int flags = readVarInt();
+      inCatalog[i] = isSet(flags, ROUTINE_IN_CATALOG);
+      if (isSet(flags, ROUTINE_FUNCTION))
+      {
+        routines[i] = new MutableFunction(routineSchemas[i], names[i]);
+      }
+      else
+      {
+        routines[i] = new MutableProcedure(routineSchemas[i], names[i]);
+      }
+      routines[i].setSpecificName(specificNames[i]);
+    }
+    for (final MutableRoutine routine: routines)
+    {
+      if (routine instanceof MutableFunction)
+      {
+        ((MutableFunction) routine)
+          .setReturnType(readEnum(FunctionReturnType.class));
+      }
+      else
+      {
+        ((MutableProcedure) routine)
+          .setReturnType(readEnum(ProcedureReturnType.class));
+      }
+      routine.setRoutineBodyType(readEnum(RoutineBodyType.class));
+    }
+    for (final MutableRoutine routine: routines)
+    {
+      routine.appendDefinition(readString());
+    }
+    for (final MutableRoutine routine: routines)
+    {
+      readRemarks(routine);
+    }
+    for (final MutableRoutine routine: routines)
+    {
+      readAttributes(routine);
+    }
+
+    final int[] columnCounts = readCounts(count, "routine columns");
+    final List<MutableRoutineColumn<?>> routineColumns = new ArrayList<>();
+    for (int i = 0; i < count; i++)
+    {
+      for (int j = 0; j < columnCounts[i]; j++)
+      {
+        if (routines[i] instanceof MutableFunction)
+        {
+          routineColumns
+            .add(new MutableFunctionColumn((MutableFunction) routines[i],
+                                           readString()));
+        }
+        else
+        {
+          routineColumns
+            .add(new MutableProcedureColumn((MutableProcedure) routines[i],
+                                            readString()));
+        }
+      }
+    }
+    for (final MutableRoutineColumn<?> column: routineColumns)
+    {
+      if (column instanceof MutableFunctionColumn)
+      {
+        ((MutableFunctionColumn) column)
+          .setFunctionColumnType(readEnum(FunctionColumnType.class));
+      }
+      else
+      {
+        ((MutableProcedureColumn) column)
+          .setProcedureColumnType(readEnum(ProcedureColumnType.class));
+      }
+    }
+    for (final MutableRoutineColumn<?> column: routineColumns)
+    {
+      column.setOrdinalPosition(readInt());
+    }
+    for (final MutableRoutineColumn<?> column: routineColumns)
+    {
+      final MutableColumnDataType columnDataType = readColumnDataType();
+      if (columnDataType != null)
+      {
+        column.setColumnDataType(columnDataType);
+      }
+    }
+    for (final MutableRoutineColumn<?> column: routineColumns)
+    {
+      column.setSize(readInt());
+      column.setDecimalDigits(readInt());
+      column.setPrecision(readInt());
+      column.setNullable(readBoolean());
+    }
+    for (final MutableRoutineColumn<?> column: routineColumns)
+    {
+      readRemarks(column);
+    }
+    for (final MutableRoutineColumn<?> column: routineColumns)
+    {
+      readAttributes(column);
+    }
+
+    for (final MutableRoutineColumn<?> column: routineColumns)
+    {
+      if (column instanceof MutableFunctionColumn)
+      {
+        final MutableFunctionColumn functionColumn = (MutableFunctionColumn) column;
+        ((MutableFunction) functionColumn.getParent())
+          .addColumn(functionColumn);
+      }
+      else
+      {
+        final MutableProcedureColumn procedureColumn = (MutableProcedureColumn) column;
+        ((MutableProcedure) procedureColumn.getParent())
+          .addColumn(procedureColumn);
+      }
+    }
+    for (int i = 0; i < count; i++)
+    {
+      if (inCatalog[i])
+      {
+        catalog.addRoutine(routines[i]);
+      }
+    }
+  }
+
+  private Schema readSchema()
+    throws IOException
+  {
+    final int id = readId(schemas.length, "schema");
+    if (id == 0)
+    {
+      throw new IOException("No schema provided");
+    }
+    return schemas[id - 1];
+  }
+
+  private void readSchemas()
+    throws IOException
+  {
+    final int count = readCount("schemas");
+    schemas = new SchemaReference[count];
+    final boolean[] inCatalog = new boolean[count];
+    for (int i = 0; i < count; i++)
+    {
+      final String catalogName = readString();
+      final String schemaName = readString();
+      schemas[i] = new SchemaReference(catalogName, schemaName);
+      inCatalog[i] = readBoolean();
+    }
+    for (final SchemaReference schema: schemas)
+    {
+      readAttributes(schema);
+    }
+
+    for (int i = 0; i < count; i++)
+    {
+      if (inCatalog[i])
+      {
+        catalog.addSchema(schemas[i]);
+      }
+    }
+  }
+
+  private void readSequences()
+    throws IOException
+  {
+    final int count = readCount("sequences");
+    final MutableSequence[] sequences = new MutableSequence[count];
+    for (int i = 0; i < count; i++)
+    {
+      final Schema schema = readSchema();
+      sequences[i] = new MutableSequence(schema, readString());
+    }
+    for (final MutableSequence sequence: sequences)
+    {
+      sequence.setIncrement(readLong());
+      sequence.setMinimumValue(readBigInteger());
+      sequence.setMaximumValue(readBigInteger());
+      sequence.setCycle(readBoolean());
+    }
+    for (final MutableSequence sequence: sequences)
+    {
+      readRemarks(sequence);
+    }
+    for (final MutableSequence sequence: sequences)
+    {
+      readAttributes(sequence);
+    }
+
+    for (final MutableSequence sequence: sequences)
+    {
+      catalog.addSequence(sequence);
+    }
+  }
+
+  private String readString()
+    throws IOException
+  {
+    final int id = readId(strings.length, "string");
+    if (id == 0)
+    {
+      return null;
+    }
+    return strings[id - 1];
+  }
+
+  private void readStrings()
+    throws IOException
+  {
+    final int count = readCount("strings");
+    strings = new String[count];
+    for (int i = 0; i < count; i++)
+    {
+      final int length = readLength("a string");
+      strings[i] = new String(bytes, position, length, UTF_8);
+      position = position + length;
+    }
+  }
+
+  private void readSynonyms()
+    throws IOException
+  {
+    final int count = readCount("synonyms");
+    final MutableSynonym[] synonyms = new MutableSynonym[count];
+    for (int i = 0; i < count; i++)
+    {
+      final Schema schema = readSchema();
+      synonyms[i] = new MutableSynonym(schema, readString());
+    }
+    for (final MutableSynonym synonym: synonyms)
+    {
+      final int referencedObjectType = readByte();
+      switch (referencedObjectType)
+      {
+        case SYNONYM_NONE:
+          break;
+        case SYNONYM_TABLE:
+          synonym.setReferencedObject(readTable());
+          break;
+        case SYNONYM_ROUTINE:
+          final int id = readId(routines.length, "routine");
+          if (id == 0)
+          {
+            throw new IOException("No routine provided");
+          }
+          synonym.setReferencedObject(routines[id - 1]);
+          break;
+        case SYNONYM_OTHER:
+          final Schema schema = readSchema();
+          final DatabaseObject referencedObject = new AbstractDatabaseObject(schema,
+                                                                             readString())
+          {
+
+            private static final long serialVersionUID = -2212843304418302122L;
+          };
+          synonym.setReferencedObject(referencedObject);
+          break;
+        default:
+          throw new IOException(String
+            .format("Unknown synonym referenced object type %d",
+                    referencedObjectType));
+      }
+    }
+    for (final MutableSynonym synonym: synonyms)
+    {
+      readRemarks(synonym);
+    }
+    for (final MutableSynonym synonym: synonyms)
+    {
+      readAttributes(synonym);
+    }
+
+    for (final MutableSynonym synonym: synonyms)
+    {
+      catalog.addSynonym(synonym);
+    }
+  }
+
+  private Table readTable()
+    throws IOException
+  {
+    final int id = readId(tables.length + partialTables.length, "table");
+    if (id == 0)
+    {
+      throw new IOException("No table provided");
+    }
+    else if (id <= tables.length)
+    {
+      return tables[id - 1];
+    }
+    else
+    {
+      return partialTables[id - tables.length - 1];
+    }
+  }
+
+  private void readTableConstraints()
+    throws IOException
+  {
+    final int count = readCount("table constraints");
+    final MutableTable[] parents = new MutableTable[count];
+    for (int i = 0; i < count; i++)
+    {
+      parents[i] = readMutableTable();
+    }
+    final MutableTableConstraint[] tableConstraints = new MutableTableConstraint[count];
+    for (int i = 0; i < count; i++)
+    {
+      tableConstraints[i] = new MutableTableConstraint(parents[i],
+                                                       readString());
+    }
+    for (final MutableTableConstraint tableConstraint: tableConstraints)
+    {
+      tableConstraint
+        .setTableConstraintType(readEnum(TableConstraintType.class));
+      final int flags = readVarInt();
+      tableConstraint.setDeferrable(isSet(flags, CONSTRAINT_DEFERRABLE));
+      tableConstraint
+        .setInitiallyDeferred(isSet(flags, CONSTRAINT_INITIALLY_DEFERRED));
+    }
+    for (final MutableTableConstraint tableConstraint: tableConstraints)
+    {
+      tableConstraint.appendDefinition(readString());
+    }
+    for (final MutableTableConstraint tableConstraint: tableConstraints)
+    {
+      readRemarks(tableConstraint);
+    }
+    for (final MutableTableConstraint tableConstraint: tableConstraints)
+    {
+      readAttributes(tableConstraint);
+    }
+
+    final int[] columnCounts = readCounts(count, "table constraint columns");
+    for (int i = 0; i < count; i++)
+    {
+      final MutableTableConstraint tableConstraint = tableConstraints[i];
+      for (int j = 0; j < columnCounts[i]; j++)
+      {
+        final int id = readColumnId(true);
+        if (id > columns.length)
+        {
+          throw new IOException(String
+            .format("Table constraint <%s> refers to a column that is not in a table",
+                    tableConstraint.getName()));
+        }
+        final MutableTableConstraintColumn constraintColumn = new MutableTableConstraintColumn(tableConstraint,
+                                                                                               columns[id
+                                                                                                       - 1]);
+        constraintColumn.setTableConstraintOrdinalPosition(readInt());
+        tableConstraint.addColumn(constraintColumn);
+      }
+      parents[i].addTableConstraint(tableConstraint);
+    }
+  }
+
+  private void readTables()
+    throws IOException
+  {
+    final int count = readCount("tables");
+    final Schema[] tableSchemas = new Schema[count];
+    for (int i = 0; i < count; i++)
+    {
+      tableSchemas[i] = readSchema();
+    }
+    final String[] names = new String[count];
+    for (int i = 0; i < count; i++)
+    {
+      names[i] = readString();
+    }
+    tables = new MutableTable[count];
+    final boolean[] inCatalog = new boolean[count];
+    for (int i = 0; i < count; i++)
+    {
+      final int flags = readVarInt();
+      inCatalog[i] = isSet(flags, TABLE_IN_CATALOG);
+      if (isSet(flags, TABLE_VIEW))
+      {
+        final MutableView view = new MutableView(tableSchemas[i], names[i]);
+        view.setUpdatable(isSet(flags, TABLE_UPDATABLE));
+        tables[i] = view;
+      }
+      else
+      {
+        tables[i] = new MutableTable(tableSchemas[i], names[i]);
+      }
+    }
+    for (final MutableTable table: tables)
+    {
+      final String tableType = readString();
+      if (tableType != null)
+      {
+        table.setTableType(new TableType(tableType));
+      }
+    }
+    for (final MutableTable table: tables)
+    {
+      table.setSortIndex(readInt());
+    }
+    for (final MutableTable table: tables)
+    {
+      final CheckOptionType checkOption = readEnum(CheckOptionType.class);
+      if (table instanceof MutableView)
+      {
+        ((MutableView) table).setCheckOption(checkOption);
+      }
+    }
+    for (final MutableTable table: tables)
+    {
+      table.appendDefinition(readString());
+    }
+    for (final MutableTable table: tables)
+    {
+      readRemarks(table);
+    }
+    for (final MutableTable table: tables)
+    {
+      readAttributes(table);
+    }
+
+    for (int i = 0; i < count; i++)
+    {
+      if (inCatalog[i])
+      {
+        catalog.addTable(tables[i]);
+      }
+    }
+
+    final int partialCount = readCount("partial tables");
+    partialTables = new TablePartial[partialCount];
+    for (int i = 0; i < partialCount; i++)
+    {
+      final Schema schema = readSchema();
+      partialTables[i] = new TablePartial(schema, readString());
+    }
+  }
+
+  private void readTriggers()
+    throws IOException
+  {
+    final int count = readCount("triggers");
+    final MutableTable[] parents = new MutableTable[count];
+    for (int i = 0; i < count; i++)
+    {
+      parents[i] = readMutableTable();
+    }
+    final MutableTrigger[] triggers = new MutableTrigger[count];
+    for (int i = 0; i < count; i++)
+    {
+      triggers[i] = new MutableTrigger(parents[i], readString());
+    }
+    for (final MutableTrigger trigger: triggers)
+    {
+      trigger.appendActionCondition(readString());
+      trigger.appendActionStatement(readString());
+    }
+    for (final MutableTrigger trigger: triggers)
+    {
+      trigger.setActionOrder(readInt());
+      trigger.setActionOrientation(readEnum(ActionOrientationType.class));
+      trigger.setConditionTiming(readEnum(ConditionTimingType.class));
+      trigger
+        .setEventManipulationType(readEnum(EventManipulationType.class));
+    }
+    for (final MutableTrigger trigger: triggers)
+    {
+      readRemarks(trigger);
+    }
+    for (final MutableTrigger trigger: triggers)
+    {
+      readAttributes(trigger);
+    }
+
+    for (int i = 0; i < count; i++)
+    {
+      parents[i].addTrigger(triggers[i]);
+    }
+  }
+
+  private Object readValue(final int depth)
+    throws IOException
+  {
+    if (depth > MAXIMUM_VALUE_DEPTH)
+    {
+      throw new IOException("Attribute values are nested too deeply");
+    }
+
+    final int valueType = readByte();
+    switch (valueType)
+    {
+      case VALUE_NULL:
+        return null;
+      case VALUE_STRING:
+        return readString();
+      case VALUE_BOOLEAN:
+        return readBoolean();
+      case VALUE_BYTE:
+        return (byte) readByte();
+      case VALUE_SHORT:
+        return (short) readInt();
+      case VALUE_INTEGER:
+        return readInt();
+      case VALUE_LONG:
+        return readLong();
+      case VALUE_FLOAT:
+        return Float.intBitsToFloat(readFixedInt());
+      case VALUE_DOUBLE:
+        return Double.longBitsToDouble(readFixedLong());
+      case VALUE_CHARACTER:
+        return (char) readVarInt();
+      case VALUE_BIG_INTEGER:
+        return new BigInteger(readBytes());
+      case VALUE_BIG_DECIMAL:
+        final BigInteger unscaledValue = new BigInteger(readBytes());
+        return new BigDecimal(unscaledValue, readInt());
+      case VALUE_SQL_DATE:
+        return new java.sql.Date(readLong());
+      case VALUE_SQL_TIME:
+        return new Time(readLong());
+      case VALUE_SQL_TIMESTAMP:
+        final Timestamp timestamp = new Timestamp(readLong());
+        timestamp.setNanos(readInt());
+        return timestamp;
+      case VALUE_DATE:
+        return new Date(readLong());
+      case VALUE_LOCAL_DATE:
+        return LocalDate.ofEpochDay(readLong());
+      case VALUE_LOCAL_TIME:
+        return LocalTime.ofNanoOfDay(readLong());
+      case VALUE_LOCAL_DATE_TIME:
+        final long localSeconds = readLong();
+        return LocalDateTime.ofEpochSecond(localSeconds,
+                                           readInt(),
+                                           ZoneOffset.UTC);
+      case VALUE_OFFSET_DATE_TIME:
+        final long offsetSeconds = readLong();
+        final int offsetNanos = readInt();
+        return OffsetDateTime
+          .ofInstant(Instant.ofEpochSecond(offsetSeconds, offsetNanos),
+                     ZoneOffset.ofTotalSeconds(readInt()));
+      case VALUE_INSTANT:
+        final long instantSeconds = readLong();
+        return Instant.ofEpochSecond(instantSeconds, readInt());
+      case VALUE_BYTES:
+        return readBytes();
+      case VALUE_STRINGS:
+        final String[] stringsValue = new String[readCount("strings")];
+        for (int i = 0; i < stringsValue.length; i++)
+        {
+          stringsValue[i] = readString();
+        }
+        return stringsValue;
+      case VALUE_LIST:
+        final int listSize = readCount("list elements");
+        final List<Object> list = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++)
+        {
+          list.add(readValue(depth + 1));
+        }
+        return list;
+      case VALUE_SET:
+        final int setSize = readCount("set elements");
+        final Set<Object> set = new LinkedHashSet<>();
+        for (int i = 0; i < setSize; i++)
+        {
+          set.add(readValue(depth + 1));
+        }
+        return set;
+      case VALUE_MAP:
+        final int mapSize = readCount("map entries");
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < mapSize; i++)
+        {
+          final Object key = readValue(depth + 1);
+          map.put(key, readValue(depth + 1));
+        }
+        return map;
+      default:
+        throw new IOException(String.format("Unknown attribute value type %d",
+                                            valueType));
+    }
+  }
+
+  /**
+   * Reads a non-negative number, written seven bits at a time.
+   */
+  private int readVarInt()
+    throws IOException
+  {
+    final long value = readVarLong();
+    if (value > Integer.MAX_VALUE)
+    {
+      throw new IOException(String.format("Number %d is out of range",
+                                          value));
+    }
+    return (int) value;
+  }
+
+  private long readVarLong()
+    throws IOException
+  {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift = shift + 7)
+    {
+      final int b = readByte();
+      value = value | (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0)
+      {
+        return value;
+      }
+    }
+    throw new IOException("Number is too long");
+  }
+
+  private void addToPartialTable(final int columnId,
+                                 final MutableForeignKey foreignKey)
+  {
+    if (columnId > columns.length)
+    {
+      final Table parent = partialColumnParents[columnId - columns.length
+                                                - 1];
+      if (parent instanceof TablePartial)
+      {
+        ((TablePartial) parent).addForeignKey(foreignKey);
+      }
+    }
+  }
+
+  private static boolean isSet(final int flags, final int flag)
+  {
+    return (flags & flag) != 0;
+  }
+
+}
@@ -0,0 +1,1752 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.CatalogSnapshotFormat.COLUMN_AUTO_INCREMENTED;
+import static schemacrawler.crawl.CatalogSnapshotFormat.COLUMN_GENERATED;
+import static schemacrawler.crawl.CatalogSnapshotFormat.COLUMN_HIDDEN;
+import static schemacrawler.crawl.CatalogSnapshotFormat.COLUMN_IN_HIDDEN_COLUMNS;
+import static schemacrawler.crawl.CatalogSnapshotFormat.COLUMN_NULLABLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.COLUMN_PART_OF_INDEX;
+import static schemacrawler.crawl.CatalogSnapshotFormat.COLUMN_PART_OF_PRIMARY_KEY;
+import static schemacrawler.crawl.CatalogSnapshotFormat.COLUMN_PART_OF_UNIQUE_INDEX;
+import static schemacrawler.crawl.CatalogSnapshotFormat.CONSTRAINT_DEFERRABLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.CONSTRAINT_INITIALLY_DEFERRED;
+import static schemacrawler.crawl.CatalogSnapshotFormat.INDEX_PRIMARY_KEY;
+import static schemacrawler.crawl.CatalogSnapshotFormat.INDEX_UNIQUE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.MAGIC;
+import static schemacrawler.crawl.CatalogSnapshotFormat.MAXIMUM_VALUE_DEPTH;
+import static schemacrawler.crawl.CatalogSnapshotFormat.ROUTINE_FUNCTION;
+import static schemacrawler.crawl.CatalogSnapshotFormat.ROUTINE_IN_CATALOG;
+import static schemacrawler.crawl.CatalogSnapshotFormat.SYNONYM_NONE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.SYNONYM_OTHER;
+import static schemacrawler.crawl.CatalogSnapshotFormat.SYNONYM_ROUTINE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.SYNONYM_TABLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TABLE_IN_CATALOG;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TABLE_UPDATABLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TABLE_VIEW;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TYPE_AUTO_INCREMENTABLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TYPE_CASE_SENSITIVE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TYPE_FIXED_PRECISION_SCALE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TYPE_IN_CATALOG;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TYPE_NULLABLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TYPE_UNSIGNED;
+import static schemacrawler.crawl.CatalogSnapshotFormat.TYPE_USER_DEFINED;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_BIG_DECIMAL;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_BIG_INTEGER;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_BOOLEAN;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_BYTE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_BYTES;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_CHARACTER;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_DATE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_DOUBLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_FLOAT;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_INSTANT;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_INTEGER;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_LIST;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_LOCAL_DATE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_LOCAL_DATE_TIME;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_LOCAL_TIME;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_LONG;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_MAP;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_NULL;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_OFFSET_DATE_TIME;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_SET;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_SHORT;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_SQL_DATE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_SQL_TIME;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_SQL_TIMESTAMP;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_STRING;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_STRINGS;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VERSION;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.logging.Level;
+
+import schemacrawler.ProductVersion;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.CrawlPhaseMetrics;
+import schemacrawler.schema.DatabaseInfo;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.DatabaseProperty;
+import schemacrawler.schema.DefinedObject;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Function;
+import schemacrawler.schema.Grant;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.JavaSqlType;
+import schemacrawler.schema.JdbcDriverInfo;
+import schemacrawler.schema.JdbcDriverProperty;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Privilege;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineColumn;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.TableConstraintColumn;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schema.View;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Writes a catalog as a binary snapshot. See
+ * {@link CatalogSnapshotFormat} for the layout of the snapshot. Every
+ * object that can be reached from the catalog is saved, including
+ * tables and routines that were filtered out of the catalog, but are
+ * still referenced by foreign keys or synonyms.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class CatalogSnapshotWriter
+{
+
+  /**
+   * Numbers objects, starting from one, in the order in which they are
+   * added, so that zero can be used for no object.
+   */
+  private static final class ObjectIds<T>
+  {
+
+    private final Map<T, Integer> ids = new IdentityHashMap<>();
+    private final List<T> objects = new ArrayList<>();
+
+    boolean add(final T object)
+    {
+      if (object == null || ids.containsKey(object))
+      {
+        return false;
+      }
+      objects.add(object);
+      ids.put(object, objects.size());
+      return true;
+    }
+
+    boolean contains(final T object)
+    {
+      return ids.containsKey(object);
+    }
+
+    int id(final T object)
+    {
+      if (object == null)
+      {
+        return 0;
+      }
+      final Integer id = ids.get(object);
+      if (id == null)
+      {
+        throw new IllegalStateException(String
+          .format("No id for <%s>", object));
+      }
+      return id;
+    }
+
+    List<T> objects()
+    {
+      return objects;
+    }
+
+    int size()
+    {
+      return objects.size();
+    }
+
+  }
+
+  /**
+   * Growable byte buffer, with variable length encoding for numbers.
+   */
+  private static final class SnapshotBuffer
+  {
+
+    private byte[] bytes = new byte[8192];
+    private int size;
+
+    void write(final byte[] values)
+    {
+      ensureCapacity(values.length);
+      System.arraycopy(values, 0, bytes, size, values.length);
+      size = size + values.length;
+    }
+
+    void write(final int value)
+    {
+      ensureCapacity(1);
+      bytes[size++] = (byte) value;
+    }
+
+    void writeFixedInt(final int value)
+    {
+      ensureCapacity(4);
+      for (int shift = 24; shift >= 0; shift = shift - 8)
+      {
+        bytes[size++] = (byte) (value >>> shift);
+      }
+    }
+
+    void writeFixedLong(final long value)
+    {
+      ensureCapacity(8);
+      for (int shift = 56; shift >= 0; shift = shift - 8)
+      {
+        bytes[size++] = (byte) (value >>> shift);
+      }
+    }
+
+    /**
+     * Writes a signed number in zig-zag encoding, so that small
+     * negative numbers also take few bytes.
+     */
+    void writeLong(final long value)
+    {
+      writeVarLong(value << 1 ^ value >> 63);
+    }
+
+    void writeTo(final OutputStream out)
+      throws IOException
+    {
+      out.write(bytes, 0, size);
+    }
+
+    /**
+     * Writes a non-negative number, seven bits at a time.
+     */
+    void writeVarInt(final int value)
+    {
+      writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    private void ensureCapacity(final int length)
+    {
+      if (size + length > bytes.length)
+      {
+        final byte[] newBytes = new byte[Math.max(bytes.length * 2,
+                                                  size + length)];
+        System.arraycopy(bytes, 0, newBytes, 0, size);
+        bytes = newBytes;
+      }
+    }
+
+    private void writeVarLong(final long value)
+    {
+      ensureCapacity(10);
+      long remaining = value;
+      while ((remaining & ~0x7FL) != 0)
+      {
+        bytes[size++] = (byte) (remaining & 0x7F | 0x80);
+        remaining = remaining >>> 7;
+      }
+      bytes[size++] = (byte) remaining;
+    }
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(CatalogSnapshotWriter.class.getName());
+
+  private static Column columnOf(final Column column)
+  {
+    if (column instanceof MutableIndexColumn)
+    {
+      return ((MutableIndexColumn) column).getColumn();
+    }
+    else if (column instanceof MutableTableConstraintColumn)
+    {
+      return ((MutableTableConstraintColumn) column).getColumn();
+    }
+    else
+    {
+      return column;
+    }
+  }
+
+  private static boolean isSnapshotValue(final Object value, final int depth)
+  {
+    if (depth > MAXIMUM_VALUE_DEPTH)
+    {
+      return false;
+    }
+    if (value == null || value instanceof String || value instanceof Boolean
+        || value instanceof Byte || value instanceof Short
+        || value instanceof Integer || value instanceof Long
+        || value instanceof Float || value instanceof Double
+        || value instanceof Character || value instanceof byte[]
+        || value instanceof String[])
+    {
+      return true;
+    }
+
+    final Class<?> valueClass = value.getClass();
+    if (valueClass == BigInteger.class || valueClass == BigDecimal.class
+        || valueClass == java.sql.Date.class || valueClass == Time.class
+        || valueClass == Timestamp.class || valueClass == Date.class
+        || valueClass == LocalDate.class || valueClass == LocalTime.class
+        || valueClass == LocalDateTime.class
+        || valueClass == OffsetDateTime.class || valueClass == Instant.class)
+    {
+      return true;
+    }
+
+    if (value instanceof Collection)
+    {
+      for (final Object element: (Collection<?>) value)
+      {
+        if (!isSnapshotValue(element, depth + 1))
+        {
+          return false;
+        }
+      }
+      return value instanceof List || value instanceof Set;
+    }
+    if (value instanceof Map)
+    {
+      for (final Entry<?, ?> entry: ((Map<?, ?>) value).entrySet())
+      {
+        if (!isSnapshotValue(entry.getKey(), depth + 1)
+            || !isSnapshotValue(entry.getValue(), depth + 1))
+        {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    return false;
+  }
+
+  private static <T> Set<T> newIdentitySet()
+  {
+    return Collections.newSetFromMap(new IdentityHashMap<>());
+  }
+
+  private final Catalog catalog;
+  private final ObjectIds<Schema> schemas = new ObjectIds<>();
+  private final Set<Schema> catalogSchemas = newIdentitySet();
+  private final ObjectIds<ColumnDataType> columnDataTypes = new ObjectIds<>();
+  private final Set<ColumnDataType> catalogColumnDataTypes = newIdentitySet();
+  private final ObjectIds<Table> tables = new ObjectIds<>();
+  private final Set<Table> catalogTables = newIdentitySet();
+  private final ObjectIds<Table> partialTables = new ObjectIds<>();
+  private final ObjectIds<Column> columns = new ObjectIds<>();
+  private final Set<Column> hiddenColumns = newIdentitySet();
+  private final ObjectIds<Column> partialColumns = new ObjectIds<>();
+  private final ObjectIds<ForeignKey> foreignKeys = new ObjectIds<>();
+  private final ObjectIds<Routine> routines = new ObjectIds<>();
+  private final Set<Routine> catalogRoutines = newIdentitySet();
+
+  private final Map<String, Integer> stringIds = new HashMap<>();
+  private final List<String> strings = new ArrayList<>();
+  private SnapshotBuffer buffer;
+
+  public CatalogSnapshotWriter(final Catalog catalog)
+  {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    collect();
+  }
+
+  /**
+   * Writes the catalog to the output stream, as a binary snapshot. The
+   * output stream is not closed.
+   *
+   * @param out
+   *        Output stream to write to
+   * @throws IOException
+   *         On an exception
+   */
+  public void write(final OutputStream out)
+    throws IOException
+  {
+    requireNonNull(out, "No output stream provided");
+
+    stringIds.clear();
+    strings.clear();
+    buffer = new SnapshotBuffer();
+
+    writeCatalog();
+    writeDatabaseInfo();
+    writeJdbcDriverInfo();
+    writeCrawlInfo();
+    writeSchemas();
+    writeColumnDataTypes();
+    writeTables();
+    writeColumns();
+    writePrivileges();
+    writeIndexes();
+    writeTableConstraints();
+    writeTriggers();
+    writeForeignKeys();
+    writeRoutines();
+    writeSequences();
+    writeSynonyms();
+
+    final SnapshotBuffer header = new SnapshotBuffer();
+    header.write(MAGIC);
+    header.writeVarInt(VERSION);
+    header.writeVarInt(strings.size());
+    for (final String string: strings)
+    {
+      final byte[] bytes = string.getBytes(UTF_8);
+      header.writeVarInt(bytes.length);
+      header.write(bytes);
+    }
+
+    header.writeTo(out);
+    buffer.writeTo(out);
+    out.flush();
+    buffer = null;
+  }
+
+  private void addColumnDataType(final ColumnDataType columnDataType)
+  {
+    if (columnDataTypes.add(columnDataType))
+    {
+      schemas.add(columnDataType.getSchema());
+      addColumnDataType(columnDataType.getBaseType());
+    }
+  }
+
+  /**
+   * Adds a column that is referenced from an index, a table constraint,
+   * a foreign key, or another column.
+   */
+  private void addReferencedColumn(final Column column)
+  {
+    if (column == null || columns.contains(column)
+        || partialColumns.contains(column))
+    {
+      return;
+    }
+
+    final Table parent = column.getParent();
+    addTable(parent);
+    if (columns.contains(column))
+    {
+      return;
+    }
+
+    partialColumns.add(column);
+    addReferencedColumn(column.getReferencedColumn());
+  }
+
+  private void addRoutine(final Routine routine)
+  {
+    if (routines.add(routine))
+    {
+      schemas.add(routine.getSchema());
+      for (final RoutineColumn<?> column: routine.getColumns())
+      {
+        addColumnDataType(column.getColumnDataType());
+      }
+    }
+  }
+
+  private void addTable(final Table table)
+  {
+    if (table == null || tables.contains(table)
+        || partialTables.contains(table))
+    {
+      return;
+    }
+
+    schemas.add(table.getSchema());
+    if (table instanceof TablePartial)
+    {
+      partialTables.add(table);
+      return;
+    }
+
+    tables.add(table);
+    for (final Column column: table.getColumns())
+    {
+      columns.add(column);
+      addColumnDataType(column.getColumnDataType());
+    }
+    for (final Column column: table.getHiddenColumns())
+    {
+      if (columns.add(column))
+      {
+        hiddenColumns.add(column);
+        addColumnDataType(column.getColumnDataType());
+      }
+    }
+  }
+
+  private void addTableDetails(final Table table)
+  {
+    for (final Column column: table.getColumns())
+    {
+      addReferencedColumn(column.getReferencedColumn());
+    }
+    for (final Column column: table.getHiddenColumns())
+    {
+      addReferencedColumn(column.getReferencedColumn());
+    }
+    for (final Index index: indexes(table))
+    {
+      for (final IndexColumn indexColumn: index.getColumns())
+      {
+        addReferencedColumn(columnOf(indexColumn));
+      }
+    }
+    for (final TableConstraint tableConstraint: table.getTableConstraints())
+    {
+      for (final TableConstraintColumn constraintColumn: tableConstraint
+        .getColumns())
+      {
+        addReferencedColumn(columnOf(constraintColumn));
+      }
+    }
+    for (final ForeignKey foreignKey: table.getForeignKeys())
+    {
+      if (foreignKeys.add(foreignKey))
+      {
+        for (final ForeignKeyColumnReference columnReference: foreignKey
+          .getColumnReferences())
+        {
+          addReferencedColumn(columnReference.getPrimaryKeyColumn());
+          addReferencedColumn(columnReference.getForeignKeyColumn());
+        }
+      }
+    }
+  }
+
+  /**
+   * Numbers all the objects that will be written, starting from the
+   * objects in the catalog.
+   */
+  private void collect()
+  {
+    for (final Schema schema: catalog.getSchemas())
+    {
+      schemas.add(schema);
+      catalogSchemas.add(schema);
+    }
+    for (final ColumnDataType columnDataType: catalog.getColumnDataTypes())
+    {
+      addColumnDataType(columnDataType);
+      catalogColumnDataTypes.add(columnDataType);
+    }
+    for (final Table table: catalog.getTables())
+    {
+      addTable(table);
+      catalogTables.add(table);
+    }
+    for (final Routine routine: catalog.getRoutines())
+    {
+      addRoutine(routine);
+      catalogRoutines.add(routine);
+    }
+    for (final Sequence sequence: catalog.getSequences())
+    {
+      schemas.add(sequence.getSchema());
+    }
+    for (final Synonym synonym: catalog.getSynonyms())
+    {
+      schemas.add(synonym.getSchema());
+      final DatabaseObject referencedObject = synonym.getReferencedObject();
+      if (referencedObject instanceof Table)
+      {
+        addTable((Table) referencedObject);
+      }
+      else if (referencedObject instanceof Routine)
+      {
+        addRoutine((Routine) referencedObject);
+      }
+      else if (referencedObject != null)
+      {
+        schemas.add(referencedObject.getSchema());
+      }
+    }
+
+    // Tables are added as they are referenced, so the list can grow
+    // while the details are collected
+    for (int i = 0; i < tables.size(); i++)
+    {
+      addTableDetails(tables.objects().get(i));
+    }
+  }
+
+  private int columnId(final Column column)
+  {
+    if (column == null)
+    {
+      return 0;
+    }
+    else if (columns.contains(column))
+    {
+      return columns.id(column);
+    }
+    else
+    {
+      return columns.size() + partialColumns.id(column);
+    }
+  }
+
+  private List<Index> indexes(final Table table)
+  {
+    final List<Index> indexes = new ArrayList<>();
+    final PrimaryKey primaryKey = table.getPrimaryKey();
+    if (primaryKey != null)
+    {
+      indexes.add(primaryKey);
+    }
+    indexes.addAll(table.getIndexes());
+    return indexes;
+  }
+
+  private int tableId(final Table table)
+  {
+    if (table == null)
+    {
+      return 0;
+    }
+    else if (tables.contains(table))
+    {
+      return tables.id(table);
+    }
+    else
+    {
+      return tables.size() + partialTables.id(table);
+    }
+  }
+
+  private void writeAttributes(final NamedObject namedObject,
+                               final Map<String, Object> attributes)
+  {
+    final List<Entry<String, Object>> entries = new ArrayList<>();
+    for (final Entry<String, Object> entry: attributes.entrySet())
+    {
+      if (isSnapshotValue(entry.getValue(), 0))
+      {
+        entries.add(entry);
+      }
+      else
+      {
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Not saving attribute <%s> of <%s>, since values of %s cannot be saved in a snapshot",
+                                    entry.getKey(),
+                                    namedObject,
+                                    entry.getValue().getClass().getName()));
+      }
+    }
+
+    buffer.writeVarInt(entries.size());
+    for (final Entry<String, Object> entry: entries)
+    {
+      writeString(entry.getKey());
+      writeValue(entry.getValue());
+    }
+  }
+
+  private void writeBytes(final byte[] bytes)
+  {
+    buffer.writeVarInt(bytes.length);
+    buffer.write(bytes);
+  }
+
+  private void writeCatalog()
+  {
+    writeString(catalog.getName());
+    writeString(catalog.getRemarks());
+    writeAttributes(catalog, catalog.getAttributes());
+  }
+
+  private void writeColumnDataTypes()
+  {
+    final List<ColumnDataType> objects = columnDataTypes.objects();
+    buffer.writeVarInt(objects.size());
+    for (final ColumnDataType columnDataType: objects)
+    {
+      buffer.writeVarInt(schemas.id(columnDataType.getSchema()));
+    }
+    for (final ColumnDataType columnDataType: objects)
+    {
+      writeString(columnDataType.getName());
+    }
+    for (final ColumnDataType columnDataType: objects)
+    {
+      int flags = 0;
+      if (catalogColumnDataTypes.contains(columnDataType))
+      {
+        flags = flags | TYPE_IN_CATALOG;
+      }
+      if (columnDataType.isAutoIncrementable())
+      {
+        flags = flags | TYPE_AUTO_INCREMENTABLE;
+      }
+      if (columnDataType.isCaseSensitive())
+      {
+        flags = flags | TYPE_CASE_SENSITIVE;
+      }
+      if (columnDataType.isFixedPrecisionScale())
+      {
+        flags = flags | TYPE_FIXED_PRECISION_SCALE;
+      }
+      if (columnDataType.isNullable())
+      {
+        flags = flags | TYPE_NULLABLE;
+      }
+      if (columnDataType.isUnsigned())
+      {
+        flags = flags | TYPE_UNSIGNED;
+      }
+      if (columnDataType.isUserDefined())
+      {
+        flags = flags | TYPE_USER_DEFINED;
+      }
+      buffer.writeVarInt(flags);
+    }
+    for (final ColumnDataType columnDataType: objects)
+    {
+      final JavaSqlType javaSqlType = columnDataType.getJavaSqlType();
+      buffer.writeLong(javaSqlType.getVendorTypeNumber());
+      writeString(javaSqlType.getName());
+      writeString(javaSqlType.getVendor());
+      writeString(javaSqlType.getDefaultMappedClass().getName());
+      writeEnum(javaSqlType.getJavaSqlTypeGroup());
+    }
+    for (final ColumnDataType columnDataType: objects)
+    {
+      writeString(columnDataType.getCreateParameters());
+    }
+    for (final ColumnDataType columnDataType: objects)
+    {
+      writeString(columnDataType.getLiteralPrefix());
+      writeString(columnDataType.getLiteralSuffix());
+    }
+    for (final ColumnDataType columnDataType: objects)
+    {
+      writeString(columnDataType.getLocalTypeName());
+    }
+    for (final ColumnDataType columnDataType: objects)
+    {
+      buffer.writeLong(columnDataType.getMinimumScale());
+      buffer.writeLong(columnDataType.getMaximumScale());
+      buffer.writeLong(columnDataType.getNumPrecisionRadix());
+      buffer.writeLong(columnDataType.getPrecision());
+    }
+    for (final ColumnDataType columnDataType: objects)
+    {
+      writeEnum(columnDataType.getSearchable());
+    }
+    for (final ColumnDataType columnDataType: objects)
+    {
+      writeString(columnDataType.getTypeMappedClass().getName());
+    }
+    for (final ColumnDataType columnDataType: objects)
+    {
+      buffer.writeVarInt(columnDataTypes.id(columnDataType.getBaseType()));
+    }
+    for (final ColumnDataType columnDataType: objects)
+    {
+      writeString(columnDataType.getRemarks());
+    }
+    for (final ColumnDataType columnDataType: objects)
+    {
+      writeAttributes(columnDataType, columnDataType.getAttributes());
+    }
+  }
+
+  private void writeColumns()
+  {
+    final List<Column> objects = columns.objects();
+    buffer.writeVarInt(objects.size());
+    for (final Column column: objects)
+    {
+      buffer.writeVarInt(tables.id(column.getParent()));
+    }
+    for (final Column column: objects)
+    {
+      writeString(column.getName());
+    }
+    for (final Column column: objects)
+    {
+      int flags = 0;
+      if (column.isHidden())
+      {
+        flags = flags | COLUMN_HIDDEN;
+      }
+      if (hiddenColumns.contains(column))
+      {
+        flags = flags | COLUMN_IN_HIDDEN_COLUMNS;
+      }
+      if (column.isNullable())
+      {
+        flags = flags | COLUMN_NULLABLE;
+      }
+      if (column.isAutoIncremented())
+      {
+        flags = flags | COLUMN_AUTO_INCREMENTED;
+      }
+      if (column.isGenerated())
+      {
+        flags = flags | COLUMN_GENERATED;
+      }
+      if (column.isPartOfIndex())
+      {
+        flags = flags | COLUMN_PART_OF_INDEX;
+      }
+      if (column.isPartOfPrimaryKey())
+      {
+        flags = flags | COLUMN_PART_OF_PRIMARY_KEY;
+      }
+      if (column.isPartOfUniqueIndex())
+      {
+        flags = flags | COLUMN_PART_OF_UNIQUE_INDEX;
+      }
+      buffer.writeVarInt(flags);
+    }
+    for (final Column column: objects)
+    {
+      buffer.writeLong(column.getOrdinalPosition());
+    }
+    for (final Column column: objects)
+    {
+      buffer.writeVarInt(columnDataTypes.id(column.getColumnDataType()));
+    }
+    for (final Column column: objects)
+    {
+      buffer.writeLong(column.getSize());
+      buffer.writeLong(column.getDecimalDigits());
+    }
+    for (final Column column: objects)
+    {
+      writeString(column.getDefaultValue());
+    }
+    for (final Column column: objects)
+    {
+      writeString(column.getRemarks());
+    }
+    for (final Column column: objects)
+    {
+      writeAttributes(column, column.getAttributes());
+    }
+
+    // Columns that are referenced, but not loaded, such as columns of
+    // tables in other schemas, and pseudo-columns in indexes
+    final List<Column> partialObjects = partialColumns.objects();
+    buffer.writeVarInt(partialObjects.size());
+    for (final Column column: partialObjects)
+    {
+      buffer.writeVarInt(tableId(column.getParent()));
+      writeString(column.getName());
+    }
+
+    // Referenced columns are written once all columns are numbered
+    for (final Column column: objects)
+    {
+      buffer.writeVarInt(columnId(column.getReferencedColumn()));
+    }
+    for (final Column column: partialObjects)
+    {
+      buffer.writeVarInt(columnId(column.getReferencedColumn()));
+    }
+  }
+
+  private void writeCrawlInfo()
+  {
+    final CrawlInfo crawlInfo = catalog.getCrawlInfo();
+    if (!(crawlInfo instanceof ImmutableCrawlInfo))
+    {
+      buffer.write(0);
+      return;
+    }
+    buffer.write(1);
+
+    final ImmutableCrawlInfo immutableCrawlInfo = (ImmutableCrawlInfo) crawlInfo;
+    writeProductVersion(immutableCrawlInfo.getSchemaCrawlerProductVersion());
+    writeProductVersion(immutableCrawlInfo.getJdbcDriverProductVersion());
+    writeProductVersion(immutableCrawlInfo.getDatabaseProductVersion());
+    writeProductVersion(immutableCrawlInfo.getOperatingSystemProductVersion());
+    writeProductVersion(immutableCrawlInfo.getJvmProductVersion());
+    writeString(crawlInfo.getTitle());
+    final LocalDateTime crawlTimestamp = crawlInfo.getCrawlTimestamp();
+    buffer.writeLong(crawlTimestamp.toEpochSecond(ZoneOffset.UTC));
+    buffer.writeLong(crawlTimestamp.getNano());
+
+    final List<CrawlPhaseMetrics> crawlPhaseMetrics = crawlInfo
+      .getCrawlPhaseMetrics();
+    buffer.writeVarInt(crawlPhaseMetrics.size());
+    for (final CrawlPhaseMetrics metrics: crawlPhaseMetrics)
+    {
+      writeString(metrics.getCrawlName());
+      writeString(metrics.getPhaseName());
+      buffer.writeLong(metrics.getDuration().getSeconds());
+      buffer.writeLong(metrics.getDuration().getNano());
+      buffer.writeLong(metrics.getQueryCount());
+      buffer.writeLong(metrics.getRowCount());
+      buffer.writeLong(metrics.getBytesFetched());
+    }
+  }
+
+  private void writeDatabaseInfo()
+  {
+    final DatabaseInfo databaseInfo = catalog.getDatabaseInfo();
+    writeString(databaseInfo.getProductName());
+    writeString(databaseInfo.getProductVersion());
+    writeString(databaseInfo.getUserName());
+
+    final Collection<DatabaseProperty> properties = databaseInfo
+      .getProperties();
+    buffer.writeVarInt(properties.size());
+    for (final DatabaseProperty property: properties)
+    {
+      writeString(property.getName());
+      final Object value = property.getValue();
+      if (isSnapshotValue(value, 0))
+      {
+        writeValue(value);
+      }
+      else
+      {
+        writeValue(String.valueOf(value));
+      }
+    }
+  }
+
+  private void writeDefinition(final DefinedObject definedObject)
+  {
+    if (definedObject.hasDefinition())
+    {
+      writeString(definedObject.getDefinition());
+    }
+    else
+    {
+      writeString(null);
+    }
+  }
+
+  private void writeEnum(final Object value)
+  {
+    if (value instanceof Enum)
+    {
+      writeString(((Enum<?>) value).name());
+    }
+    else
+    {
+      writeString(null);
+    }
+  }
+
+  private void writeForeignKeys()
+  {
+    final List<ForeignKey> objects = foreignKeys.objects();
+    buffer.writeVarInt(objects.size());
+    for (final ForeignKey foreignKey: objects)
+    {
+      writeString(foreignKey.getName());
+      writeString(foreignKey.getSpecificName());
+    }
+    for (final ForeignKey foreignKey: objects)
+    {
+      writeEnum(foreignKey.getUpdateRule());
+      writeEnum(foreignKey.getDeleteRule());
+      writeEnum(foreignKey.getDeferrability());
+    }
+    for (final ForeignKey foreignKey: objects)
+    {
+      writeDefinition(foreignKey);
+    }
+    for (final ForeignKey foreignKey: objects)
+    {
+      writeString(foreignKey.getRemarks());
+    }
+    for (final ForeignKey foreignKey: objects)
+    {
+      writeAttributes(foreignKey, foreignKey.getAttributes());
+    }
+    for (final ForeignKey foreignKey: objects)
+    {
+      buffer.writeVarInt(foreignKey.getColumnReferences().size());
+    }
+    for (final ForeignKey foreignKey: objects)
+    {
+      for (final ForeignKeyColumnReference columnReference: foreignKey
+        .getColumnReferences())
+      {
+        buffer.writeLong(columnReference.getKeySequence());
+        buffer.writeVarInt(columnId(columnReference.getPrimaryKeyColumn()));
+        buffer.writeVarInt(columnId(columnReference.getForeignKeyColumn()));
+      }
+    }
+
+    // Foreign keys of each table
+    for (final Table table: tables.objects())
+    {
+      final Collection<ForeignKey> tableForeignKeys = table.getForeignKeys();
+      buffer.writeVarInt(tableForeignKeys.size());
+      for (final ForeignKey foreignKey: tableForeignKeys)
+      {
+        buffer.writeVarInt(foreignKeys.id(foreignKey));
+      }
+    }
+  }
+
+  private void writeIndexes()
+  {
+    final List<Index> objects = new ArrayList<>();
+    final List<Table> parents = new ArrayList<>();
+    for (final Table table: tables.objects())
+    {
+      for (final Index index: indexes(table))
+      {
+        objects.add(index);
+        parents.add(table);
+      }
+    }
+
+    buffer.writeVarInt(objects.size());
+    for (final Table table: parents)
+    {
+      buffer.writeVarInt(tables.id(table));
+    }
+    for (final Index index: objects)
+    {
+      writeString(index.getName());
+    }
+    for (final Index index: objects)
+    {
+      int flags = 0;
+      if (index instanceof PrimaryKey)
+      {
+        flags = flags | INDEX_PRIMARY_KEY;
+      }
+      if (index.isUnique())
+      {
+        flags = flags | INDEX_UNIQUE;
+      }
+      buffer.writeVarInt(flags);
+    }
+    for (final Index index: objects)
+    {
+      writeEnum(index.getIndexType());
+    }
+    for (final Index index: objects)
+    {
+      buffer.writeLong(index.getCardinality());
+      buffer.writeLong(index.getPages());
+    }
+    for (final Index index: objects)
+    {
+      writeDefinition(index);
+    }
+    for (final Index index: objects)
+    {
+      writeString(index.getRemarks());
+    }
+    for (final Index index: objects)
+    {
+      writeAttributes(index, index.getAttributes());
+    }
+    for (final Index index: objects)
+    {
+      buffer.writeVarInt(index.getColumns().size());
+    }
+
+    final List<IndexColumn> indexColumns = new ArrayList<>();
+    for (final Index index: objects)
+    {
+      indexColumns.addAll(index.getColumns());
+    }
+    for (final IndexColumn indexColumn: indexColumns)
+    {
+      buffer.writeVarInt(columnId(columnOf(indexColumn)));
+    }
+    for (final IndexColumn indexColumn: indexColumns)
+    {
+      buffer.writeLong(indexColumn.getIndexOrdinalPosition());
+      writeEnum(indexColumn.getSortSequence());
+    }
+    for (final IndexColumn indexColumn: indexColumns)
+    {
+      writeDefinition(indexColumn);
+    }
+    for (final IndexColumn indexColumn: indexColumns)
+    {
+      writeString(indexColumn.getRemarks());
+    }
+    for (final IndexColumn indexColumn: indexColumns)
+    {
+      writeAttributes(indexColumn, indexColumn.getAttributes());
+    }
+  }
+
+  private void writeJdbcDriverInfo()
+  {
+    final JdbcDriverInfo jdbcDriverInfo = catalog.getJdbcDriverInfo();
+    writeString(jdbcDriverInfo.getProductName());
+    writeString(jdbcDriverInfo.getProductVersion());
+    writeString(jdbcDriverInfo.getDriverClassName());
+    writeString(jdbcDriverInfo.getConnectionUrl());
+    buffer.write(jdbcDriverInfo.isJdbcCompliant()? 1: 0);
+
+    final Collection<JdbcDriverProperty> properties = jdbcDriverInfo
+      .getDriverProperties();
+    buffer.writeVarInt(properties.size());
+    for (final JdbcDriverProperty property: properties)
+    {
+      writeString(property.getName());
+      writeString(property.getValue());
+      writeString(property.getDescription());
+      buffer.write(property.isRequired()? 1: 0);
+      final Collection<String> choices = property.getChoices();
+      buffer.writeVarInt(choices.size());
+      for (final String choice: choices)
+      {
+        writeString(choice);
+      }
+    }
+  }
+
+  private void writePrivileges()
+  {
+    int count = 0;
+    for (final Table table: tables.objects())
+    {
+      count = count + table.getPrivileges().size();
+    }
+    buffer.writeVarInt(count);
+    for (final Table table: tables.objects())
+    {
+      for (final Privilege<Table> privilege: table.getPrivileges())
+      {
+        buffer.writeVarInt(tables.id(table));
+        writePrivilege(privilege);
+      }
+    }
+
+    count = 0;
+    for (final Column column: columns.objects())
+    {
+      count = count + column.getPrivileges().size();
+    }
+    buffer.writeVarInt(count);
+    for (final Column column: columns.objects())
+    {
+      for (final Privilege<Column> privilege: column.getPrivileges())
+      {
+        buffer.writeVarInt(columns.id(column));
+        writePrivilege(privilege);
+      }
+    }
+  }
+
+  private void writePrivilege(final Privilege<?> privilege)
+  {
+    writeString(privilege.getName());
+    writeString(privilege.getRemarks());
+    writeAttributes(privilege, privilege.getAttributes());
+    final Collection<? extends Grant<?>> grants = privilege.getGrants();
+    buffer.writeVarInt(grants.size());
+    for (final Grant<?> grant: grants)
+    {
+      writeString(grant.getGrantor());
+      writeString(grant.getGrantee());
+      buffer.write(grant.isGrantable()? 1: 0);
+    }
+  }
+
+  private void writeProductVersion(final ProductVersion productVersion)
+  {
+    writeString(productVersion.getProductName());
+    writeString(productVersion.getProductVersion());
+  }
+
+  private void writeRoutines()
+  {
+    final List<Routine> objects = routines.objects();
+    buffer.writeVarInt(objects.size());
+    for (final Routine routine: objects)
+    {
+      buffer.writeVarInt(schemas.id(routine.getSchema()));
+    }
+    for (final Routine routine: objects)
+    {
+      writeString(routine.getName());
+      writeString(routine.getSpecificName());
+    }
+    for (final Routine routine: objects)
+    {
+      int flags = 0;
+      if (catalogRoutines.contains(routine))
+      {
+        flags = flags | ROUTINE_IN_CATALOG;
+      }
+      if (routine instanceof Function)
+      {
+        flags = flags | ROUTINE_FUNCTION;
+      }
+      buffer.writeVarInt(flags);
+    }
+    for (final Routine routine: objects)
+    {
+      writeEnum(routine.getReturnType());
+      writeEnum(routine.getRoutineBodyType());
+    }
+    for (final Routine routine: objects)
+    {
+      writeDefinition(routine);
+    }
+    for (final Routine routine: objects)
+    {
+      writeString(routine.getRemarks());
+    }
+    for (final Routine routine: objects)
+    {
+      writeAttributes(routine, routine.getAttributes());
+    }
+    for (final Routine routine: objects)
+    {
+      buffer.writeVarInt(routine.getColumns().size());
+    }
+
+    final List<RoutineColumn<?>> routineColumns = new ArrayList<>();
+    for (final Routine routine: objects)
+    {
+      routineColumns.addAll(routine.getColumns());
+    }
+    for (final RoutineColumn<?> column: routineColumns)
+    {
+      writeString(column.getName());
+    }
+    for (final RoutineColumn<?> column: routineColumns)
+    {
+      writeEnum(column.getColumnType());
+    }
+    for (final RoutineColumn<?> column: routineColumns)
+    {
+      buffer.writeLong(column.getOrdinalPosition());
+    }
+    for (final RoutineColumn<?> column: routineColumns)
+    {
+      buffer.writeVarInt(columnDataTypes.id(column.getColumnDataType()));
+    }
+    for (final RoutineColumn<?> column: routineColumns)
+    {
+      buffer.writeLong(column.getSize());
+      buffer.writeLong(column.getDecimalDigits());
+      buffer.writeLong(column.getPrecision());
+      buffer.write(column.isNullable()? 1: 0);
+    }
+    for (final RoutineColumn<?> column: routineColumns)
+    {
+      writeString(column.getRemarks());
+    }
+    for (final RoutineColumn<?> column: routineColumns)
+    {
+      writeAttributes(column, column.getAttributes());
+    }
+  }
+
+  private void writeSchemas()
+  {
+    final List<Schema> objects = schemas.objects();
+    buffer.writeVarInt(objects.size());
+    for (final Schema schema: objects)
+    {
+      writeString(schema.getCatalogName());
+      writeString(schema.getName());
+      buffer.write(catalogSchemas.contains(schema)? 1: 0);
+    }
+    for (final Schema schema: objects)
+    {
+      writeAttributes(schema, schema.getAttributes());
+    }
+  }
+
+  private void writeSequences()
+  {
+    final Collection<Sequence> objects = catalog.getSequences();
+    buffer.writeVarInt(objects.size());
+    for (final Sequence sequence: objects)
+    {
+      buffer.writeVarInt(schemas.id(sequence.getSchema()));
+      writeString(sequence.getName());
+    }
+    for (final Sequence sequence: objects)
+    {
+      buffer.writeLong(sequence.getIncrement());
+      writeValue(sequence.getMinimumValue());
+      writeValue(sequence.getMaximumValue());
+      buffer.write(sequence.isCycle()? 1: 0);
+    }
+    for (final Sequence sequence: objects)
+    {
+      writeString(sequence.getRemarks());
+    }
+    for (final Sequence sequence: objects)
+    {
+      writeAttributes(sequence, sequence.getAttributes());
+    }
+  }
+
+  private void writeString(final String value)
+  {
+    if (value == null)
+    {
+      buffer.writeVarInt(0);
+      return;
+    }
+
+    Integer id = stringIds.get(value);
+    if (id == null)
+    {
+      strings.add(value);
+      id = strings.size();
+      stringIds.put(value, id);
+    }
+    buffer.writeVarInt(id);
+  }
+
+  private void writeSynonyms()
+  {
+    final Collection<Synonym> objects = catalog.getSynonyms();
+    buffer.writeVarInt(objects.size());
+    for (final Synonym synonym: objects)
+    {
+      buffer.writeVarInt(schemas.id(synonym.getSchema()));
+      writeString(synonym.getName());
+    }
+    for (final Synonym synonym: objects)
+    {
+      final DatabaseObject referencedObject = synonym.getReferencedObject();
+      if (referencedObject instanceof Table)
+      {
+        buffer.write(SYNONYM_TABLE);
+        buffer.writeVarInt(tableId((Table) referencedObject));
+      }
+      else if (referencedObject instanceof Routine)
+      {
+        buffer.write(SYNONYM_ROUTINE);
+        buffer.writeVarInt(routines.id((Routine) referencedObject));
+      }
+      else if (referencedObject != null)
+      {
+        buffer.write(SYNONYM_OTHER);
+        buffer.writeVarInt(schemas.id(referencedObject.getSchema()));
+        writeString(referencedObject.getName());
+      }
+      else
+      {
+        buffer.write(SYNONYM_NONE);
+      }
+    }
+    for (final Synonym synonym: objects)
+    {
+      writeString(synonym.getRemarks());
+    }
+    for (final Synonym synonym: objects)
+    {
+      writeAttributes(synonym, synonym.getAttributes());
+    }
+  }
+
+  private void writeTableConstraints()
+  {
+    final List<TableConstraint> objects = new ArrayList<>();
+    final List<Table> parents = new ArrayList<>();
+    for (final Table table: tables.objects())
+    {
+      for (final TableConstraint tableConstraint: table.getTableConstraints())
+      {
+        objects.add(tableConstraint);
+        parents.add(table);
+      }
+    }
+
+    buffer.writeVarInt(objects.size());
+    for (final Table table: parents)
+    {
+      buffer.writeVarInt(tables.id(table));
+    }
+    for (final TableConstraint tableConstraint: objects)
+    {
+      writeString(tableConstraint.getName());
+    }
+    for (final TableConstraint tableConstraint: objects)
+    {
+      writeEnum(tableConstraint.getConstraintType());
+      int flags = 0;
+      if (tableConstraint.isDeferrable())
+      {
+        flags = flags | CONSTRAINT_DEFERRABLE;
+      }
+      if (tableConstraint.isInitiallyDeferred())
+      {
+        flags = flags | CONSTRAINT_INITIALLY_DEFERRED;
+      }
+      buffer.writeVarInt(flags);
+    }
+    for (final TableConstraint tableConstraint: objects)
+    {
+      writeDefinition(tableConstraint);
+    }
+    for (final TableConstraint tableConstraint: objects)
+    {
+      writeString(tableConstraint.getRemarks());
+    }
+    for (final TableConstraint tableConstraint: objects)
+    {
+      writeAttributes(tableConstraint, tableConstraint.getAttributes());
+    }
+    for (final TableConstraint tableConstraint: objects)
+    {
+      buffer.writeVarInt(tableConstraint.getColumns().size());
+    }
+    for (final TableConstraint tableConstraint: objects)
+    {
+      for (final TableConstraintColumn constraintColumn: tableConstraint
+        .getColumns())
+      {
+        buffer.writeVarInt(columnId(columnOf(constraintColumn)));
+        buffer
+          .writeLong(constraintColumn.getTableConstraintOrdinalPosition());
+      }
+    }
+  }
+
+  private void writeTables()
+  {
+    final List<Table> objects = tables.objects();
+    buffer.writeVarInt(objects.size());
+    for (final Table table: objects)
+    {
+      buffer.writeVarInt(schemas.id(table.getSchema()));
+    }
+    for (final Table table: objects)
+    {
+      writeString(table.getName());
+    }
+    for (final Table table: objects)
+    {
+      int flags = 0;
+      if (catalogTables.contains(table))
+      {
+        flags = flags | TABLE_IN_CATALOG;
+      }
+      if (table instanceof View)
+      {
+        flags = flags | TABLE_VIEW;
+        if (((View) table).isUpdatable())
+        {
+          flags = flags | TABLE_UPDATABLE;
+        }
+      }
+      buffer.writeVarInt(flags);
+    }
+    for (final Table table: objects)
+    {
+      writeString(table.getTableType().getTableType());
+    }
+    for (final Table table: objects)
+    {
+      if (table instanceof MutableTable)
+      {
+        buffer.writeLong(((MutableTable) table).getSortIndex());
+      }
+      else
+      {
+        buffer.writeLong(0);
+      }
+    }
+    for (final Table table: objects)
+    {
+      if (table instanceof View)
+      {
+        writeEnum(((View) table).getCheckOption());
+      }
+      else
+      {
+        writeString(null);
+      }
+    }
+    for (final Table table: objects)
+    {
+      writeDefinition(table);
+    }
+    for (final Table table: objects)
+    {
+      writeString(table.getRemarks());
+    }
+    for (final Table table: objects)
+    {
+      writeAttributes(table, table.getAttributes());
+    }
+
+    // Tables that are referenced, but not loaded, such as tables in
+    // other schemas
+    final List<Table> partialObjects = partialTables.objects();
+    buffer.writeVarInt(partialObjects.size());
+    for (final Table table: partialObjects)
+    {
+      buffer.writeVarInt(schemas.id(table.getSchema()));
+      writeString(table.getName());
+    }
+  }
+
+  private void writeTriggers()
+  {
+    final List<Trigger> objects = new ArrayList<>();
+    final List<Table> parents = new ArrayList<>();
+    for (final Table table: tables.objects())
+    {
+      for (final Trigger trigger: table.getTriggers())
+      {
+        objects.add(trigger);
+        parents.add(table);
+      }
+    }
+
+    buffer.writeVarInt(objects.size());
+    for (final Table table: parents)
+    {
+      buffer.writeVarInt(tables.id(table));
+    }
+    for (final Trigger trigger: objects)
+    {
+      writeString(trigger.getName());
+    }
+    for (final Trigger trigger: objects)
+    {
+      writeString(trigger.getActionCondition());
+      writeString(trigger.getActionStatement());
+    }
+    for (final Trigger trigger: objects)
+    {
+      buffer.writeLong(trigger.getActionOrder());
+      writeEnum(trigger.getActionOrientation());
+      writeEnum(trigger.getConditionTiming());
+      writeEnum(trigger.getEventManipulationType());
+    }
+    for (final Trigger trigger: objects)
+    {
+      writeString(trigger.getRemarks());
+    }
+    for (final Trigger trigger: objects)
+    {
+      writeAttributes(trigger, trigger.getAttributes());
+    }
+  }
+
+  private void writeValue(final Object value)
+  {
+    if (value == null)
+    {
+      buffer.write(VALUE_NULL);
+    }
+    else if (value instanceof String)
+    {
+      buffer.write(VALUE_STRING);
+      writeString((String) value);
+    }
+    else if (value instanceof Boolean)
+    {
+      buffer.write(VALUE_BOOLEAN);
+      buffer.write((Boolean) value? 1: 0);
+    }
+    else if (value instanceof Byte)
+    {
+      buffer.write(VALUE_BYTE);
+      buffer.write((Byte) value);
+    }
+    else if (value instanceof Short)
+    {
+      buffer.write(VALUE_SHORT);
+      buffer.writeLong((Short) value);
+    }
+    else if (value instanceof Integer)
+    {
+      buffer.write(VALUE_INTEGER);
+      buffer.writeLong((Integer) value);
+    }
+    else if (value instanceof Long)
+    {
+      buffer.write(VALUE_LONG);
+      buffer.writeLong((Long) value);
+    }
+    else if (value instanceof Float)
+    {
+      buffer.write(VALUE_FLOAT);
+      buffer.writeFixedInt(Float.floatToIntBits((Float) value));
+    }
+    else if (value instanceof Double)
+    {
+      buffer.write(VALUE_DOUBLE);
+      buffer.writeFixedLong(Double.doubleToLongBits((Double) value));
+    }
+    else if (value instanceof Character)
+    {
+      buffer.write(VALUE_CHARACTER);
+      buffer.writeVarInt((Character) value);
+    }
+    else if (value instanceof BigInteger)
+    {
+      buffer.write(VALUE_BIG_INTEGER);
+      writeBytes(((BigInteger) value).toByteArray());
+    }
+    else if (value instanceof BigDecimal)
+    {
+      final BigDecimal bigDecimal = (BigDecimal) value;
+      buffer.write(VALUE_BIG_DECIMAL);
+      writeBytes(bigDecimal.unscaledValue().toByteArray());
+      buffer.writeLong(bigDecimal.scale());
+    }
+    else if (value instanceof java.sql.Date)
+    {
+      buffer.write(VALUE_SQL_DATE);
+      buffer.writeLong(((java.sql.Date) value).getTime());
+    }
+    else if (value instanceof Time)
+    {
+      buffer.write(VALUE_SQL_TIME);
+      buffer.writeLong(((Time) value).getTime());
+    }
+    else if (value instanceof Timestamp)
+    {
+      final Timestamp timestamp = (Timestamp) value;
+      buffer.write(VALUE_SQL_TIMESTAMP);
+      buffer.writeLong(timestamp.getTime());
+      buffer.writeLong(timestamp.getNanos());
+    }
+    else if (value instanceof Date)
+    {
+      buffer.write(VALUE_DATE);
+      buffer.writeLong(((Date) value).getTime());
+    }
+    else if (value instanceof LocalDate)
+    {
+      buffer.write(VALUE_LOCAL_DATE);
+      buffer.writeLong(((LocalDate) value).toEpochDay());
+    }
+    else if (value instanceof LocalTime)
+    {
+      buffer.write(VALUE_LOCAL_TIME);
+      buffer.writeLong(((LocalTime) value).toNanoOfDay());
+    }
+    else if (value instanceof LocalDateTime)
+    {
+      final LocalDateTime localDateTime = (LocalDateTime) value;
+      buffer.write(VALUE_LOCAL_DATE_TIME);
+      buffer.writeLong(localDateTime.toEpochSecond(ZoneOffset.UTC));
+      buffer.writeLong(localDateTime.getNano());
+    }
+    else if (value instanceof OffsetDateTime)
+    {
+      final OffsetDateTime offsetDateTime = (OffsetDateTime) value;
+      buffer.write(VALUE_OFFSET_DATE_TIME);
+      buffer.writeLong(offsetDateTime.toEpochSecond());
+      buffer.writeLong(offsetDateTime.getNano());
+      buffer.writeLong(offsetDateTime.getOffset().getTotalSeconds());
+    }
+    else if (value instanceof Instant)
+    {
+      final Instant instant = (Instant) value;
+      buffer.write(VALUE_INSTANT);
+      buffer.writeLong(instant.getEpochSecond());
+      buffer.writeLong(instant.getNano());
+    }
+    else if (value instanceof byte[])
+    {
+      buffer.write(VALUE_BYTES);
+      writeBytes((byte[]) value);
+    }
+    else if (value instanceof String[])
+    {
+      final String[] values = (String[]) value;
+      buffer.write(VALUE_STRINGS);
+      buffer.writeVarInt(values.length);
+      for (final String element: values)
+      {
+        writeString(element);
+      }
+    }
+    else if (value instanceof List || value instanceof Set)
+    {
+      final Collection<?> values = (Collection<?>) value;
+      buffer.write(value instanceof List? VALUE_LIST: VALUE_SET);
+      buffer.writeVarInt(values.size());
+      for (final Object element: values)
+      {
+        writeValue(element);
+      }
+    }
+    else if (value instanceof Map)
+    {
+      final Map<?, ?> values = (Map<?, ?>) value;
+      buffer.write(VALUE_MAP);
+      buffer.writeVarInt(values.size());
+      for (final Entry<?, ?> entry: values.entrySet())
+      {
+        writeValue(entry.getKey());
+        writeValue(entry.getValue());
+      }
+    }
+    else
+    {
+      // Values are checked before they are written
+      throw new IllegalArgumentException(String
+        .format("Cannot save values of %s in a snapshot",
+                value.getClass().getName()));
+    }
+  }
+
+}
@@ -0,0 +1,177 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+/**
+ * Connections for the concurrent parts of a crawl, obtained from a data
+ * source. A crawl holds no more than the maximum number of connections
+ * from the data source at once, including the connection for the main
+ * crawl thread. Work is only handed to another thread when a connection
+ * is free for it, otherwise the caller runs the work on its own
+ * connection. This way, no thread waits for a connection while holding
+ * another one, and crawls do not deadlock on small connection pools.
+ *
+ * @author Sualeh Fatehi
+ */
+final class CrawlConnections
+  implements AutoCloseable
+{
+
+  /**
+   * Work to run on a connection of its own.
+   */
+  @FunctionalInterface
+  interface ConnectionTask<T>
+  {
+
+    T run(Connection connection)
+      throws Exception;
+
+  }
+
+  private final DataSource dataSource;
+  private final int maximumConnections;
+  private final Semaphore permits;
+  private final ExecutorService executorService;
+  private volatile boolean closed;
+
+  /**
+   * Sets up connections for a crawl.
+   *
+   * @param dataSource
+   *        Source of database connections
+   * @param maximumConnections
+   *        Maximum number of connections held at once, including the
+   *        connection for the main crawl thread
+   */
+  CrawlConnections(final DataSource dataSource, final int maximumConnections)
+  {
+    this.dataSource = requireNonNull(dataSource, "No data source provided");
+    this.maximumConnections = Math.max(1, maximumConnections);
+    permits = new Semaphore(this.maximumConnections - 1);
+    // Tasks are only submitted once a connection permit is acquired, so
+    // the number of threads is bounded by the number of permits
+    executorService = Executors
+      .newCachedThreadPool(new CrawlThreadFactory("schemacrawler-crawl"));
+  }
+
+  /**
+   * Stops handing out connections for concurrent work. The data source
+   * remains available, for details that are loaded after the crawl.
+   */
+  @Override
+  public void close()
+  {
+    closed = true;
+    executorService.shutdownNow();
+  }
+
+  DataSource getDataSource()
+  {
+    return dataSource;
+  }
+
+  int getMaximumConnections()
+  {
+    return maximumConnections;
+  }
+
+  /**
+   * Runs a task on another thread, with a connection of its own from
+   * the data source, if a connection is free. The connection is closed
+   * (or returned to the pool) once the task completes.
+   *
+   * @param task
+   *        Task to run
+   * @return Future for the task, or empty if no connection is free, in
+   *         which case the caller needs to run the task itself
+   */
+  <T> Optional<Future<T>> trySubmit(final ConnectionTask<T> task)
+  {
+    requireNonNull(task, "No task provided");
+    if (closed || !permits.tryAcquire())
+    {
+      return Optional.empty();
+    }
+
+    // The permit is released by the task once it runs, or by the future
+    // if the task is cancelled before it starts
+    final AtomicBoolean started = new AtomicBoolean();
+    final FutureTask<T> future = new FutureTask<T>(() -> {
+      if (!started.compareAndSet(false, true))
+      {
+        return null;
+      }
+      try (final Connection connection = dataSource.getConnection();)
+      {
+        return task.run(connection);
+      }
+      finally
+      {
+        permits.release();
+      }
+    })
+    {
+      @Override
+      protected void done()
+      {
+        if (started.compareAndSet(false, true))
+        {
+          permits.release();
+        }
+      }
+    };
+    try
+    {
+      executorService.execute(future);
+      return Optional.of(future);
+    }
+    catch (final RejectedExecutionException e)
+    {
+      permits.release();
+      return Optional.empty();
+    }
+  }
+
+}
@@ -0,0 +1,69 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.CrawlPhaseMetrics;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+
+/**
+ * Listens for metrics from a crawl. Listeners are registered with
+ * {@link SchemaCrawler#addCrawlMetricsListener(CrawlMetricsListener)}.
+ *
+ * @author Sualeh Fatehi
+ */
+public interface CrawlMetricsListener
+{
+
+  /**
+   * Called once the crawl is complete. The metrics for all the phases
+   * are available from the crawl information.
+   *
+   * @param crawlInfo
+   *        Crawl information, with metrics for every phase
+   * @throws SchemaCrawlerException
+   *         On an exception handling the metrics
+   */
+  void crawlCompleted(CrawlInfo crawlInfo)
+    throws SchemaCrawlerException;
+
+  /**
+   * Called as soon as each phase of the crawl completes. Phases of a
+   * concurrent crawl complete on different threads, so implementations
+   * need to be thread-safe.
+   *
+   * @param phaseMetrics
+   *        Metrics for the completed phase
+   */
+  default void phaseCompleted(final CrawlPhaseMetrics phaseMetrics)
+  {
+    // Most listeners only need the metrics for the completed crawl
+  }
+
+}
@@ -0,0 +1,189 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.CrawlPhaseMetrics;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StopWatch.TaskListener;
+import sf.util.StringFormat;
+
+/**
+ * Records metrics for each phase of a crawl, as timed by a stop watch.
+ * Metadata result sets report the rows that they read to the phase that
+ * is running on the current thread. Crawl phases can run concurrently,
+ * but each phase reads all of its results on the thread that it runs
+ * on. When phases are nested, results are counted only against the
+ * innermost phase.
+ *
+ * @author Sualeh Fatehi
+ */
+final class CrawlMetricsRecorder
+  implements TaskListener
+{
+
+  private static final class PhaseCounters
+  {
+
+    private long queryCount;
+    private long rowCount;
+    private long bytesFetched;
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(CrawlMetricsRecorder.class.getName());
+
+  private static final ThreadLocal<Deque<PhaseCounters>> runningPhases = ThreadLocal
+    .withInitial(ArrayDeque::new);
+
+  /**
+   * Records the results of a metadata call or query against the phase
+   * that is running on the current thread, if any.
+   *
+   * @param rowCount
+   *        Number of rows read
+   * @param bytesFetched
+   *        Approximate number of bytes read
+   */
+  static void recordResults(final long rowCount, final long bytesFetched)
+  {
+    final PhaseCounters phaseCounters = runningPhases.get().peek();
+    if (phaseCounters != null)
+    {
+      phaseCounters.queryCount = phaseCounters.queryCount + 1;
+      phaseCounters.rowCount = phaseCounters.rowCount + rowCount;
+      phaseCounters.bytesFetched = phaseCounters.bytesFetched + bytesFetched;
+    }
+  }
+
+  private final List<CrawlMetricsListener> listeners = new CopyOnWriteArrayList<>();
+  private final List<CrawlPhaseMetrics> phaseMetrics = new ArrayList<>();
+
+  @Override
+  public void taskStarted(final String id, final String taskName)
+  {
+    runningPhases.get().push(new PhaseCounters());
+  }
+
+  @Override
+  public void taskStopped(final String id,
+                          final String taskName,
+                          final Duration duration)
+  {
+    final Deque<PhaseCounters> phases = runningPhases.get();
+    final PhaseCounters phaseCounters;
+    if (phases.isEmpty())
+    {
+      phaseCounters = new PhaseCounters();
+    }
+    else
+    {
+      phaseCounters = phases.pop();
+    }
+    if (phases.isEmpty())
+    {
+      runningPhases.remove();
+    }
+
+    final CrawlPhaseMetrics metrics = new ImmutableCrawlPhaseMetrics(id,
+                                                                     taskName,
+                                                                     duration,
+                                                                     phaseCounters.queryCount,
+                                                                     phaseCounters.rowCount,
+                                                                     phaseCounters.bytesFetched);
+    synchronized (phaseMetrics)
+    {
+      phaseMetrics.add(metrics);
+    }
+    LOGGER.log(Level.FINE, new StringFormat("Completed %s", metrics));
+
+    for (final CrawlMetricsListener listener: listeners)
+    {
+      try
+      {
+        listener.phaseCompleted(metrics);
+      }
+      catch (final RuntimeException e)
+      {
+        LOGGER.log(Level.WARNING,
+                   new StringFormat("Could not notify crawl metrics listener <%s>",
+                                    listener),
+                   e);
+      }
+    }
+  }
+
+  void addListener(final CrawlMetricsListener listener)
+  {
+    listeners.add(requireNonNull(listener, "No listener provided"));
+  }
+
+  /**
+   * Notifies listeners that the crawl is complete.
+   *
+   * @param crawlInfo
+   *        Crawl information, with the metrics for every phase
+   * @throws SchemaCrawlerException
+   *         On an exception from a listener
+   */
+  void crawlCompleted(final CrawlInfo crawlInfo)
+    throws SchemaCrawlerException
+  {
+    for (final CrawlMetricsListener listener: listeners)
+    {
+      listener.crawlCompleted(crawlInfo);
+    }
+  }
+
+  /**
+   * Gets metrics for every phase that has completed so far.
+   *
+   * @return Crawl phase metrics
+   */
+  List<CrawlPhaseMetrics> getPhaseMetrics()
+  {
+    synchronized (phaseMetrics)
+    {
+      return new ArrayList<>(phaseMetrics);
+    }
+  }
+
+}
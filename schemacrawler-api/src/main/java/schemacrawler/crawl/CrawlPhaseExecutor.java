@@ -0,0 +1,207 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Runs crawl phases, either one after another on a single connection,
+ * or concurrently, with each phase on its own connection from the
+ * crawl connections. When no connection is free, a phase runs right
+ * away on the connection of the caller, so the number of connections
+ * held at once never goes over the maximum for the crawl.
+ *
+ * @author Sualeh Fatehi
+ */
+final class CrawlPhaseExecutor
+{
+
+  @FunctionalInterface
+  interface CrawlPhase
+  {
+
+    void crawl(RetrieverConnection retrieverConnection)
+      throws Exception;
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(CrawlPhaseExecutor.class.getName());
+
+  /**
+   * Waits for all the phases to complete, and reports the first
+   * failure.
+   *
+   * @param phases
+   *        Phases to wait for
+   * @throws SchemaCrawlerException
+   *         On an exception in any of the phases
+   */
+  @SafeVarargs
+  static void await(final Future<Void>... phases)
+    throws SchemaCrawlerException
+  {
+    final List<Throwable> failures = new ArrayList<>();
+    for (final Future<Void> phase: phases)
+    {
+      try
+      {
+        phase.get();
+      }
+      catch (final ExecutionException e)
+      {
+        failures.add(e.getCause());
+      }
+      catch (final InterruptedException e)
+      {
+        Thread.currentThread().interrupt();
+        failures.add(e);
+      }
+    }
+
+    if (failures.isEmpty())
+    {
+      return;
+    }
+    final Throwable failure = failures.get(0);
+    if (failure instanceof SchemaCrawlerException)
+    {
+      throw (SchemaCrawlerException) failure;
+    }
+    else
+    {
+      throw new SchemaCrawlerException("Exception crawling database",
+                                       failure);
+    }
+  }
+
+  private final RetrieverConnection retrieverConnection;
+  private final Optional<CrawlConnections> crawlConnections;
+
+  /**
+   * Runs phases concurrently if the retriever connection has crawl
+   * connections, and otherwise one after another on the provided
+   * connection.
+   */
+  CrawlPhaseExecutor(final RetrieverConnection retrieverConnection)
+  {
+    this.retrieverConnection = requireNonNull(retrieverConnection,
+                                              "No retriever connection provided");
+    crawlConnections = retrieverConnection.getCrawlConnections();
+  }
+
+  RetrieverConnection getRetrieverConnection()
+  {
+    return retrieverConnection;
+  }
+
+  boolean isParallel()
+  {
+    return crawlConnections.isPresent();
+  }
+
+  /**
+   * Runs a crawl phase. The phase is scheduled on a connection of its
+   * own if one is free. Otherwise, the phase runs immediately on the
+   * current thread, with the connection of the caller, and any
+   * exception is thrown right away.
+   *
+   * @param name
+   *        Name of the phase, for logging
+   * @param callerConnection
+   *        Connection of the caller, to use if no other connection is
+   *        free
+   * @param phase
+   *        Phase to run
+   * @return Future for the phase
+   * @throws SchemaCrawlerException
+   *         On an exception in a phase run by the caller
+   */
+  Future<Void> submit(final String name,
+                      final RetrieverConnection callerConnection,
+                      final CrawlPhase phase)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(callerConnection, "No caller connection provided");
+    requireNonNull(phase, "No crawl phase provided");
+
+    final Optional<Future<Void>> submitted = crawlConnections
+      .flatMap(connections -> connections.trySubmit(connection -> {
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Starting crawl phase <%s>", name));
+        try
+        {
+          phase.crawl(retrieverConnection.withConnection(connection));
+        }
+        catch (final SchemaCrawlerException e)
+        {
+          throw e;
+        }
+        catch (final Exception e)
+        {
+          throw new SchemaCrawlerException("Exception crawling " + name, e);
+        }
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Completed crawl phase <%s>", name));
+        return null;
+      }));
+    if (submitted.isPresent())
+    {
+      return submitted.get();
+    }
+
+    try
+    {
+      phase.crawl(callerConnection);
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      throw e;
+    }
+    catch (final Exception e)
+    {
+      throw new SchemaCrawlerException("Exception crawling " + name, e);
+    }
+    return CompletableFuture.completedFuture(null);
+  }
+
+}
@@ -0,0 +1,65 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates named daemon threads for crawling, so that an abandoned crawl
+ * does not prevent the JVM from exiting.
+ *
+ * @author Sualeh Fatehi
+ */
+final class CrawlThreadFactory
+  implements ThreadFactory
+{
+
+  private final String namePrefix;
+  private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+  CrawlThreadFactory(final String namePrefix)
+  {
+    this.namePrefix = requireNonNull(namePrefix, "No thread name provided");
+  }
+
+  @Override
+  public Thread newThread(final Runnable runnable)
+  {
+    final Thread thread = new Thread(runnable,
+                                     namePrefix + "-"
+                                               + threadNumber.getAndIncrement());
+    thread.setDaemon(true);
+    return thread;
+  }
+
+}
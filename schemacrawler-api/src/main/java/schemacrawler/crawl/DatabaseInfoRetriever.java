@@ -411,12 +411,14 @@ final class DatabaseInfoRetriever
       statement = connection.createStatement();
       results = new MetadataResultSet(typeInfoSql,
                                       statement,
-                                      getSchemaInclusionRule());
+                                      getSchemaInclusionRule(),
+                                      getFetchSize());
     }
     else
     {
       statement = null;
-      results = new MetadataResultSet(getMetaData().getTypeInfo());
+      results = new MetadataResultSet(getMetaData().getTypeInfo(),
+                                      getFetchSize());
     }
 
     try
@@ -510,7 +512,7 @@ final class DatabaseInfoRetriever
     final String schemaName = schema.getName();
 
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getUDTs(catalogName, schemaName, "%", null));)
+      .getUDTs(catalogName, schemaName, "%", null), getFetchSize());)
     {
       while (results.next())
       {
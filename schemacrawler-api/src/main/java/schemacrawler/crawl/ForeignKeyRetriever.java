@@ -108,7 +108,8 @@ final class ForeignKeyRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(extForeignKeysSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
     {
       while (results.next())
       {
@@ -293,7 +294,7 @@ final class ForeignKeyRetriever
     Column column = null;
 
     final Optional<MutableTable> tableOptional = catalog
-      .lookupTable(Arrays.asList(catalogName, schemaName, tableName));
+      .lookupTable(catalogName, schemaName, tableName);
     if (tableOptional.isPresent())
     {
       final Table table = tableOptional.get();
@@ -340,7 +341,8 @@ final class ForeignKeyRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(fkSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
     {
       results.setDescription("retrieveForeignKeysUsingSql");
       createForeignKeys(results, foreignKeys);
@@ -354,50 +356,25 @@ final class ForeignKeyRetriever
   }
 
   private void retrieveForeignKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
-    throws SchemaCrawlerSQLException
+    throws SQLException
   {
     final NamedObjectList<MutableForeignKey> foreignKeys = new NamedObjectList<>();
-    for (final MutableTable table: allTables)
-    {
-      if (table instanceof View)
-      {
-        continue;
-      }
-
-      final DatabaseMetaData metaData = getMetaData();
-
-      // Get imported foreign keys
-      try (final MetadataResultSet results = new MetadataResultSet(metaData
-        .getImportedKeys(table.getSchema().getCatalogName(),
-                         table.getSchema().getName(),
-                         table.getName()));)
-      {
-        createForeignKeys(results, foreignKeys);
-      }
-      catch (final SQLException e)
-      {
-        throw new SchemaCrawlerSQLException("Could not retrieve foreign keys for table "
-                                            + table,
-                                            e);
-      }
-
-      // We need to get exported keys as well, since if only a single
-      // table is selected, we have not retrieved it's keys that are
-      // imported by other tables.
-      try (final MetadataResultSet results = new MetadataResultSet(metaData
-        .getExportedKeys(table.getSchema().getCatalogName(),
-                         table.getSchema().getName(),
-                         table.getName()));)
-      {
-        createForeignKeys(results, foreignKeys);
-      }
-      catch (final SQLException e)
-      {
-        throw new SchemaCrawlerSQLException("Could not retrieve foreign keys for table "
-                                            + table,
-                                            e);
-      }
-    }
+    final TableMetadataFanOut fanOut = new TableMetadataFanOut(getRetrieverConnection(),
+                                                               "foreign keys");
+    // We need to get exported keys as well, since if only a single
+    // table is selected, we have not retrieved it's keys that are
+    // imported by other tables.
+    fanOut.retrieve(tablesWithoutViews(allTables),
+                    (table, results) -> createForeignKeys(results,
+                                                          foreignKeys),
+                    (metaData, table) -> metaData
+                      .getImportedKeys(table.getSchema().getCatalogName(),
+                                       table.getSchema().getName(),
+                                       table.getName()),
+                    (metaData, table) -> metaData
+                      .getExportedKeys(table.getSchema().getCatalogName(),
+                                       table.getSchema().getName(),
+                                       table.getName()));
   }
 
   private void retrieveForeignKeysFromMetadataForAllTables()
@@ -407,19 +384,31 @@ final class ForeignKeyRetriever
     final DatabaseMetaData metaData = getMetaData();
 
     // Get imported foreign keys
-    try (final MetadataResultSet results = new MetadataResultSet(metaData
-      .getImportedKeys(null, null, "%"));)
+    for (final SchemaReference schema: getSchemaNamesForMetadataRetrieval())
     {
-      createForeignKeys(results, foreignKeys);
+      try (final MetadataResultSet results = new MetadataResultSet(metaData
+        .getImportedKeys(schema.getCatalogName(),
+                         schema.getName(),
+                         "%"),
+                                                                   getFetchSize());)
+      {
+        createForeignKeys(results, foreignKeys);
+      }
     }
 
     // We need to get exported keys as well, since if only a single
     // table is selected, we have not retrieved it's keys that are
     // imported by other tables.
-    try (final MetadataResultSet results = new MetadataResultSet(metaData
-      .getExportedKeys(null, null, "%"));)
+    for (final SchemaReference schema: getSchemaNamesForMetadataRetrieval())
     {
-      createForeignKeys(results, foreignKeys);
+      try (final MetadataResultSet results = new MetadataResultSet(metaData
+        .getExportedKeys(schema.getCatalogName(),
+                         schema.getName(),
+                         "%"),
+                                                                   getFetchSize());)
+      {
+        createForeignKeys(results, foreignKeys);
+      }
     }
   }
 
@@ -33,6 +33,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import schemacrawler.BaseProductVersion;
 import schemacrawler.JvmSystemInfo;
@@ -40,6 +43,7 @@ import schemacrawler.OperatingSystemInfo;
 import schemacrawler.ProductVersion;
 import schemacrawler.SchemaCrawlerInfo;
 import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.CrawlPhaseMetrics;
 import schemacrawler.schema.DatabaseInfo;
 import schemacrawler.schema.JdbcDriverInfo;
 
@@ -61,6 +65,7 @@ final class ImmutableCrawlInfo
   private final ProductVersion jvmInfo;
   private final String title;
   private final LocalDateTime crawlTimestamp;
+  private final List<CrawlPhaseMetrics> crawlPhaseMetrics;
 
   ImmutableCrawlInfo(final JdbcDriverInfo jdbcDriverInfo,
                      final DatabaseInfo databaseInfo,
@@ -78,6 +83,68 @@ final class ImmutableCrawlInfo
 
     this.title = title;
     crawlTimestamp = LocalDateTime.now();
+    crawlPhaseMetrics = Collections.emptyList();
+  }
+
+  /**
+   * Copies crawl information, with the metrics for the completed
+   * crawl.
+   */
+  ImmutableCrawlInfo(final ImmutableCrawlInfo crawlInfo,
+                     final List<CrawlPhaseMetrics> crawlPhaseMetrics)
+  {
+    requireNonNull(crawlInfo, "No crawl information provided");
+    requireNonNull(crawlPhaseMetrics, "No crawl phase metrics provided");
+
+    schemaCrawlerInfo = crawlInfo.schemaCrawlerInfo;
+    osInfo = crawlInfo.osInfo;
+    jvmInfo = crawlInfo.jvmInfo;
+    jdbcDriverInfo = crawlInfo.jdbcDriverInfo;
+    databaseInfo = crawlInfo.databaseInfo;
+    title = crawlInfo.title;
+    crawlTimestamp = crawlInfo.crawlTimestamp;
+    this.crawlPhaseMetrics = Collections
+      .unmodifiableList(new ArrayList<>(crawlPhaseMetrics));
+  }
+
+  /**
+   * Restores crawl information, such as from a catalog snapshot.
+   */
+  ImmutableCrawlInfo(final ProductVersion schemaCrawlerInfo,
+                     final ProductVersion jdbcDriverInfo,
+                     final ProductVersion databaseInfo,
+                     final ProductVersion osInfo,
+                     final ProductVersion jvmInfo,
+                     final String title,
+                     final LocalDateTime crawlTimestamp,
+                     final List<CrawlPhaseMetrics> crawlPhaseMetrics)
+  {
+    this.schemaCrawlerInfo = requireNonNull(schemaCrawlerInfo,
+                                            "No SchemaCrawler information provided");
+    this.jdbcDriverInfo = requireNonNull(jdbcDriverInfo,
+                                         "No JDBC driver information provided");
+    this.databaseInfo = requireNonNull(databaseInfo,
+                                       "No database information provided");
+    this.osInfo = requireNonNull(osInfo,
+                                 "No operating system information provided");
+    this.jvmInfo = requireNonNull(jvmInfo, "No JVM information provided");
+    this.title = title;
+    this.crawlTimestamp = requireNonNull(crawlTimestamp,
+                                         "No crawl timestamp provided");
+    requireNonNull(crawlPhaseMetrics, "No crawl phase metrics provided");
+    this.crawlPhaseMetrics = Collections
+      .unmodifiableList(new ArrayList<>(crawlPhaseMetrics));
+  }
+
+  @Override
+  public List<CrawlPhaseMetrics> getCrawlPhaseMetrics()
+  {
+    // Snapshots serialized by older versions do not have metrics
+    if (crawlPhaseMetrics == null)
+    {
+      return Collections.emptyList();
+    }
+    return crawlPhaseMetrics;
   }
 
   @Override
@@ -147,4 +214,29 @@ final class ImmutableCrawlInfo
     return info.toString();
   }
 
+  ProductVersion getDatabaseProductVersion()
+  {
+    return databaseInfo;
+  }
+
+  ProductVersion getJdbcDriverProductVersion()
+  {
+    return jdbcDriverInfo;
+  }
+
+  ProductVersion getJvmProductVersion()
+  {
+    return jvmInfo;
+  }
+
+  ProductVersion getOperatingSystemProductVersion()
+  {
+    return osInfo;
+  }
+
+  ProductVersion getSchemaCrawlerProductVersion()
+  {
+    return schemaCrawlerInfo;
+  }
+
 }
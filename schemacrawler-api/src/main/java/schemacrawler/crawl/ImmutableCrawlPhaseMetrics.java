@@ -0,0 +1,117 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+
+import schemacrawler.schema.CrawlPhaseMetrics;
+
+final class ImmutableCrawlPhaseMetrics
+  implements CrawlPhaseMetrics
+{
+
+  private static final long serialVersionUID = -1809421742138478218L;
+
+  private final String crawlName;
+  private final String phaseName;
+  private final Duration duration;
+  private final long queryCount;
+  private final long rowCount;
+  private final long bytesFetched;
+
+  ImmutableCrawlPhaseMetrics(final String crawlName,
+                             final String phaseName,
+                             final Duration duration,
+                             final long queryCount,
+                             final long rowCount,
+                             final long bytesFetched)
+  {
+    this.crawlName = requireNonNull(crawlName, "No crawl name provided");
+    this.phaseName = requireNonNull(phaseName, "No phase name provided");
+    this.duration = requireNonNull(duration, "No duration provided");
+    this.queryCount = queryCount;
+    this.rowCount = rowCount;
+    this.bytesFetched = bytesFetched;
+  }
+
+  @Override
+  public long getBytesFetched()
+  {
+    return bytesFetched;
+  }
+
+  @Override
+  public String getCrawlName()
+  {
+    return crawlName;
+  }
+
+  @Override
+  public Duration getDuration()
+  {
+    return duration;
+  }
+
+  @Override
+  public String getPhaseName()
+  {
+    return phaseName;
+  }
+
+  @Override
+  public long getQueryCount()
+  {
+    return queryCount;
+  }
+
+  @Override
+  public long getRowCount()
+  {
+    return rowCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString()
+  {
+    return String
+      .format("%s.%s - %d ms, %d queries, %d rows, %d bytes",
+              crawlName,
+              phaseName,
+              duration.toMillis(),
+              queryCount,
+              rowCount,
+              bytesFetched);
+  }
+
+}
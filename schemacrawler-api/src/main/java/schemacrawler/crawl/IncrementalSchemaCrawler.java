@@ -0,0 +1,499 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.SchemaReference;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerSQLException;
+import schemacrawler.schemacrawler.SchemaInfoLevel;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StopWatch;
+import sf.util.StringFormat;
+
+/**
+ * Refreshes a previously crawled catalog, by re-crawling only the tables
+ * that have changed since. Changes are detected using per-table change
+ * markers, such as DDL timestamps, which are obtained from the
+ * database-specific table change markers query. Tables, columns,
+ * primary keys, indexes and foreign keys are retrieved again only for
+ * new and changed tables, dropped tables are removed, and everything
+ * else is carried over from the previous catalog. A full crawl is done
+ * if change markers are not available, if there is no previous catalog
+ * to compare with, or if the requested schema info level or filters
+ * need information that cannot be refreshed table by table.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class IncrementalSchemaCrawler
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(IncrementalSchemaCrawler.class.getName());
+
+  private static final String TABLE_CHANGE_MARKERS = "schemacrawler.catalog.table_change_markers";
+
+  private static MutableCatalog copyCatalog(final MutableCatalog catalog)
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (final ObjectOutputStream out = new ObjectOutputStream(bytes);)
+      {
+        out.writeObject(catalog);
+      }
+      try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes
+        .toByteArray()));)
+      {
+        return (MutableCatalog) in.readObject();
+      }
+    }
+    catch (final IOException | ClassNotFoundException e)
+    {
+      throw new SchemaCrawlerException("Could not copy previous catalog", e);
+    }
+  }
+
+  private static boolean isReferencingTables(final ForeignKey foreignKey,
+                                             final Set<List<String>> tableKeys)
+  {
+    for (final ForeignKeyColumnReference columnReference: foreignKey)
+    {
+      if (tableKeys.contains(columnReference.getPrimaryKeyColumn().getParent()
+        .toUniqueLookupKey())
+          || tableKeys.contains(columnReference.getForeignKeyColumn()
+            .getParent().toUniqueLookupKey()))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Removes tables that will be retrieved again, or were dropped, and
+   * any references to them from the remaining tables.
+   */
+  private static void removeTables(final MutableCatalog catalog,
+                                   final Set<List<String>> tableKeys)
+  {
+    for (final List<String> tableKey: tableKeys)
+    {
+      final Optional<MutableTable> tableOptional = catalog
+        .lookupTable(tableKey);
+      if (tableOptional.isPresent())
+      {
+        catalog.removeTable(tableOptional.get());
+      }
+    }
+
+    for (final MutableTable table: catalog.getAllTables())
+    {
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        if (isReferencingTables(foreignKey, tableKeys))
+        {
+          table.removeForeignKey((MutableForeignKey) foreignKey);
+        }
+      }
+      for (final Column column: table.getColumns())
+      {
+        final Column referencedColumn = column.getReferencedColumn();
+        if (referencedColumn != null && tableKeys
+          .contains(referencedColumn.getParent().toUniqueLookupKey()))
+        {
+          ((MutableColumn) column).setReferencedColumn(null);
+        }
+      }
+    }
+  }
+
+  /**
+   * Points synonyms for tables that were retrieved again to the new
+   * table objects.
+   */
+  private static void updateSynonyms(final MutableCatalog catalog,
+                                     final Set<List<String>> tableKeys)
+  {
+    for (final MutableSynonym synonym: catalog.getAllSynonyms())
+    {
+      final DatabaseObject referencedObject = synonym.getReferencedObject();
+      if (!(referencedObject instanceof Table))
+      {
+        continue;
+      }
+      final List<String> tableKey = referencedObject.toUniqueLookupKey();
+      if (tableKeys.contains(tableKey))
+      {
+        final Optional<MutableTable> tableOptional = catalog
+          .lookupTable(tableKey);
+        if (tableOptional.isPresent())
+        {
+          synonym.setReferencedObject(tableOptional.get());
+        }
+      }
+    }
+  }
+
+  private final Connection connection;
+  private final SchemaRetrievalOptions schemaRetrievalOptions;
+  private final SchemaCrawlerOptions schemaCrawlerOptions;
+
+  /**
+   * Constructs an incremental SchemaCrawler object, from a connection.
+   *
+   * @param connection
+   *        An database connection.
+   * @param schemaRetrievalOptions
+   *        Database-specific schema retrieval overrides
+   * @param schemaCrawlerOptions
+   *        SchemaCrawler options
+   */
+  public IncrementalSchemaCrawler(final Connection connection,
+                                  final SchemaRetrievalOptions schemaRetrievalOptions,
+                                  final SchemaCrawlerOptions schemaCrawlerOptions)
+  {
+    this.connection = requireNonNull(connection, "No connection specified");
+    this.schemaRetrievalOptions = requireNonNull(schemaRetrievalOptions,
+                                                 "No database-specific schema retrieval overrides provided");
+    this.schemaCrawlerOptions = requireNonNull(schemaCrawlerOptions,
+                                               "No SchemaCrawler options provided");
+  }
+
+  /**
+   * Crawls the database, re-using metadata from a previous crawl for
+   * tables that have not changed. The previous catalog is not modified.
+   *
+   * @param previousCatalog
+   *        Catalog from a previous crawl with the same options, or null
+   *        to do a full crawl
+   * @return Database metadata
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public Catalog crawl(final Catalog previousCatalog)
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      final RetrieverConnection retrieverConnection = new RetrieverConnection(connection,
+                                                                              schemaRetrievalOptions);
+      final TableChangeMarkerRetriever markerRetriever = new TableChangeMarkerRetriever(retrieverConnection,
+                                                                                        new MutableCatalog("catalog"),
+                                                                                        schemaCrawlerOptions);
+      if (!markerRetriever.hasTableChangeMarkers())
+      {
+        LOGGER
+          .log(Level.INFO,
+               "Doing a full crawl, since table change markers are not available");
+        return crawlFully();
+      }
+
+      final Map<List<String>, String> tableChangeMarkers;
+      try
+      {
+        tableChangeMarkers = markerRetriever.retrieveTableChangeMarkers();
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.WARNING,
+                   "Doing a full crawl, since table change markers could not be retrieved",
+                   e);
+        return crawlFully();
+      }
+
+      final Map<List<String>, String> previousTableChangeMarkers = previousTableChangeMarkers(previousCatalog);
+      final MutableCatalog catalog;
+      if (previousTableChangeMarkers == null)
+      {
+        LOGGER
+          .log(Level.INFO,
+               "Doing a full crawl, since there are no change markers from a previous crawl");
+        catalog = (MutableCatalog) crawlFully();
+      }
+      else if (!isIncrementalCrawlSupported())
+      {
+        catalog = (MutableCatalog) crawlFully();
+      }
+      else
+      {
+        catalog = copyCatalog((MutableCatalog) previousCatalog);
+        crawlChangedTables(catalog,
+                           retrieverConnection,
+                           previousTableChangeMarkers,
+                           tableChangeMarkers);
+        catalog.setCrawlPhaseMetrics(retrieverConnection.getCrawlMetrics()
+          .getPhaseMetrics());
+      }
+
+      catalog.setAttribute(TABLE_CHANGE_MARKERS,
+                           new HashMap<>(tableChangeMarkers));
+      return catalog;
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException("Database access exception", e);
+    }
+  }
+
+  private void crawlChangedTables(final MutableCatalog catalog,
+                                  final RetrieverConnection retrieverConnection,
+                                  final Map<List<String>, String> previousTableChangeMarkers,
+                                  final Map<List<String>, String> tableChangeMarkers)
+    throws SchemaCrawlerException
+  {
+    final StopWatch stopWatch = retrieverConnection
+      .newStopWatch("crawlChangedTables");
+
+    final Set<List<String>> changedTableKeys = new HashSet<>();
+    for (final Entry<List<String>, String> tableChangeMarker: tableChangeMarkers
+      .entrySet())
+    {
+      final List<String> tableKey = tableChangeMarker.getKey();
+      if (!tableChangeMarker.getValue()
+        .equals(previousTableChangeMarkers.get(tableKey)))
+      {
+        changedTableKeys.add(tableKey);
+      }
+    }
+    final Set<List<String>> droppedTableKeys = new HashSet<>();
+    for (final MutableTable table: catalog.getAllTables())
+    {
+      final List<String> tableKey = table.toUniqueLookupKey();
+      if (!tableChangeMarkers.containsKey(tableKey))
+      {
+        droppedTableKeys.add(tableKey);
+      }
+    }
+    LOGGER.log(Level.INFO,
+               new StringFormat("Re-crawling %d changed tables, and removing %d dropped tables",
+                                changedTableKeys.size(),
+                                droppedTableKeys.size()));
+
+    try
+    {
+      final SchemaInfoLevel infoLevel = schemaCrawlerOptions
+        .getSchemaInfoLevel();
+      final NamedObjectList<MutableTable> changedTables = new NamedObjectList<>();
+
+      stopWatch.time("removeChangedTables", () -> {
+        final Set<List<String>> removedTableKeys = new HashSet<>(changedTableKeys);
+        removedTableKeys.addAll(droppedTableKeys);
+        removeTables(catalog, removedTableKeys);
+        return null;
+      });
+
+      if (!changedTableKeys.isEmpty())
+      {
+        stopWatch.time("retrieveTables", () -> {
+          // Tables are listed into a scratch catalog, so that only
+          // changed tables replace those carried over
+          final MutableCatalog scratchCatalog = new MutableCatalog("catalog");
+          for (final SchemaReference schema: catalog.getAllSchemas())
+          {
+            scratchCatalog.addSchema(schema);
+          }
+          final TableRetriever retriever = new TableRetriever(retrieverConnection,
+                                                              scratchCatalog,
+                                                              schemaCrawlerOptions);
+          retriever.retrieveTables(scratchCatalog.getAllSchemas(),
+                                   schemaCrawlerOptions.getTableNamePattern(),
+                                   schemaCrawlerOptions.getTableTypes(),
+                                   schemaCrawlerOptions
+                                     .getTableInclusionRule());
+          for (final List<String> tableKey: changedTableKeys)
+          {
+            final Optional<MutableTable> tableOptional = scratchCatalog
+              .lookupTable(tableKey);
+            if (tableOptional.isPresent())
+            {
+              final MutableTable table = tableOptional.get();
+              catalog.addTable(table);
+              changedTables.add(table);
+            }
+          }
+          return null;
+        });
+      }
+
+      if (!changedTables.isEmpty() && infoLevel.isRetrieveTableColumns())
+      {
+        stopWatch.time("retrieveColumns", () -> {
+          final TableColumnRetriever columnRetriever = new TableColumnRetriever(retrieverConnection,
+                                                                                catalog,
+                                                                                schemaCrawlerOptions);
+          columnRetriever.retrieveColumns(changedTables,
+                                          schemaCrawlerOptions
+                                            .getColumnInclusionRule());
+          return null;
+        });
+
+        stopWatch.time("retrieveIndexes", () -> {
+          final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection,
+                                                                   catalog,
+                                                                   schemaCrawlerOptions);
+          if (infoLevel.isRetrieveIndexes())
+          {
+            indexRetriever.retrieveIndexes(changedTables);
+          }
+          indexRetriever.retrievePrimaryKeys(changedTables);
+          return null;
+        });
+
+        stopWatch.time("retrieveForeignKeys", () -> {
+          if (infoLevel.isRetrieveForeignKeys())
+          {
+            // Exported keys are retrieved as well, so foreign keys from
+            // unchanged tables to changed tables are restored
+            final ForeignKeyRetriever fkRetriever = new ForeignKeyRetriever(retrieverConnection,
+                                                                            catalog,
+                                                                            schemaCrawlerOptions);
+            fkRetriever.retrieveForeignKeys(changedTables);
+          }
+          return null;
+        });
+      }
+
+      stopWatch.time("sortTables", () -> {
+        updateSynonyms(catalog, changedTableKeys);
+
+        final TablesGraph tablesGraph = new TablesGraph(catalog
+          .getAllTables());
+        tablesGraph.setTablesSortIndexes();
+
+        catalog.setCrawlInfo(schemaCrawlerOptions.getTitle());
+        return null;
+      });
+
+      LOGGER.log(Level.INFO, stopWatch.stringify());
+    }
+    catch (final SchemaCrawlerSQLException e)
+    {
+      throw new SchemaCrawlerException(e.getMessage(), e.getCause());
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      throw e;
+    }
+    catch (final Exception e)
+    {
+      throw new SchemaCrawlerException("Exception retrieving changed table information",
+                                       e);
+    }
+  }
+
+  private Catalog crawlFully()
+    throws SchemaCrawlerException
+  {
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(connection,
+                                                          schemaRetrievalOptions,
+                                                          schemaCrawlerOptions);
+    return schemaCrawler.crawl();
+  }
+
+  /**
+   * Tables can only be refreshed one at a time if the schema info level
+   * does not need extended table information, which is retrieved for
+   * all tables at once, and if tables are not filtered by grep or by
+   * their relationships.
+   */
+  private boolean isIncrementalCrawlSupported()
+  {
+    final SchemaInfoLevel infoLevel = schemaCrawlerOptions.getSchemaInfoLevel();
+    if (infoLevel.isRetrieveTableConstraintInformation()
+        || infoLevel.isRetrieveTableConstraintDefinitions()
+        || infoLevel.isRetrieveTriggerInformation()
+        || infoLevel.isRetrieveViewInformation()
+        || infoLevel.isRetrieveTableDefinitionsInformation()
+        || infoLevel.isRetrieveIndexInformation()
+        || infoLevel.isRetrievePrimaryKeyDefinitions()
+        || infoLevel.isRetrieveForeignKeyDefinitions()
+        || infoLevel.isRetrieveAdditionalTableAttributes()
+        || infoLevel.isRetrieveAdditionalColumnAttributes()
+        || infoLevel.isRetrieveTablePrivileges()
+        || infoLevel.isRetrieveTableColumnPrivileges())
+    {
+      LOGGER
+        .log(Level.INFO,
+             "Doing a full crawl, since extended table information was requested");
+      return false;
+    }
+
+    if (schemaCrawlerOptions.isGrepColumns()
+        || schemaCrawlerOptions.isGrepDefinitions()
+        || schemaCrawlerOptions.getParentTableFilterDepth() > 0
+        || schemaCrawlerOptions.getChildTableFilterDepth() > 0
+        || schemaCrawlerOptions.isHideEmptyTables())
+    {
+      LOGGER
+        .log(Level.INFO,
+             "Doing a full crawl, since tables are filtered by grep or by relationships");
+      return false;
+    }
+
+    return true;
+  }
+
+  private Map<List<String>, String> previousTableChangeMarkers(final Catalog previousCatalog)
+  {
+    if (!(previousCatalog instanceof MutableCatalog))
+    {
+      return null;
+    }
+    return previousCatalog.getAttribute(TABLE_CHANGE_MARKERS, null);
+  }
+
+}
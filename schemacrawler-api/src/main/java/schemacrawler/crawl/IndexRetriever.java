@@ -35,13 +35,13 @@ import static sf.util.Utility.isBlank;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Arrays;
 import java.util.Optional;
 import java.util.logging.Level;
 
 import schemacrawler.schema.Column;
 import schemacrawler.schema.IndexColumnSortSequence;
 import schemacrawler.schema.IndexType;
+import schemacrawler.schema.SchemaReference;
 import schemacrawler.schema.View;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -282,7 +282,7 @@ final class IndexRetriever
     final String tableName = results.getString("TABLE_NAME");
 
     final Optional<MutableTable> optionalTable = allTables
-      .lookup(Arrays.asList(catalogName, schemaName, tableName));
+      .lookup(catalogName, schemaName, tableName);
     return optionalTable;
   }
 
@@ -303,7 +303,8 @@ final class IndexRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(indexesSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
     {
       results.setDescription("retrieveIndexesFromDataDictionary");
       while (results.next())
@@ -326,40 +327,25 @@ final class IndexRetriever
     }
   }
 
-  private void retrieveIndexesFromMetadata(final MutableTable table,
-                                           final boolean unique)
-    throws SQLException
-  {
-
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getIndexInfo(table.getSchema().getCatalogName(),
-                    table.getSchema().getName(),
-                    table.getName(),
-                    unique,
-                    true/* approximate */));)
-    {
-      createIndexes(table, results);
-    }
-    catch (final SQLException e)
-    {
-      throw new SchemaCrawlerSQLException("Could not retrieve indexes for table "
-                                          + table,
-                                          e);
-    }
-  }
-
   private void retrieveIndexesFromMetadata(final NamedObjectList<MutableTable> allTables)
     throws SQLException
   {
-    for (final MutableTable table: allTables)
-    {
-      if (table instanceof View)
-      {
-        continue;
-      }
-      retrieveIndexesFromMetadata(table, false);
-      retrieveIndexesFromMetadata(table, true);
-    }
+    final TableMetadataFanOut fanOut = new TableMetadataFanOut(getRetrieverConnection(),
+                                                               "indexes");
+    fanOut.retrieve(tablesWithoutViews(allTables),
+                    (table, results) -> createIndexes(table, results),
+                    (metaData, table) -> metaData
+                      .getIndexInfo(table.getSchema().getCatalogName(),
+                                    table.getSchema().getName(),
+                                    table.getName(),
+                                    false,
+                                    true/* approximate */),
+                    (metaData, table) -> metaData
+                      .getIndexInfo(table.getSchema().getCatalogName(),
+                                    table.getSchema().getName(),
+                                    table.getName(),
+                                    true,
+                                    true/* approximate */));
   }
 
   private void retrieveIndexesFromMetadataForAllTables(final NamedObjectList<MutableTable> allTables)
@@ -373,25 +359,33 @@ final class IndexRetriever
                                                        final boolean unique)
     throws SQLException
   {
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getIndexInfo(null, null, "%", unique, true/* approximate */));)
+    for (final SchemaReference schema: getSchemaNamesForMetadataRetrieval())
     {
-      while (results.next())
+      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+        .getIndexInfo(schema.getCatalogName(),
+                      schema.getName(),
+                      "%",
+                      unique,
+                      true/* approximate */),
+                                                                   getFetchSize());)
       {
-        final Optional<MutableTable> optionalTable = lookupTable(allTables,
-                                                                 results);
-        if (!optionalTable.isPresent())
+        while (results.next())
         {
-          continue;
+          final Optional<MutableTable> optionalTable = lookupTable(allTables,
+                                                                   results);
+          if (!optionalTable.isPresent())
+          {
+            continue;
+          }
+          final MutableTable table = optionalTable.get();
+          createIndexForTable(table, results);
         }
-        final MutableTable table = optionalTable.get();
-        createIndexForTable(table, results);
       }
-    }
-    catch (final SQLException e)
-    {
-      throw new SchemaCrawlerSQLException("Could not retrieve indexes for tables",
-                                          e);
+      catch (final SQLException e)
+      {
+        throw new SchemaCrawlerSQLException("Could not retrieve indexes for tables",
+                                            e);
+      }
     }
 
   }
@@ -414,7 +408,8 @@ final class IndexRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(pkSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
     {
       results.setDescription("retrievePrimaryKeysFromDataDictionary");
       while (results.next())
@@ -440,54 +435,46 @@ final class IndexRetriever
   private void retrievePrimaryKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
     throws SQLException
   {
-    for (final MutableTable table: allTables)
-    {
-      if (table instanceof View)
+    final TableMetadataFanOut fanOut = new TableMetadataFanOut(getRetrieverConnection(),
+                                                               "primary keys");
+    fanOut.retrieve(tablesWithoutViews(allTables), (table, results) -> {
+      while (results.next())
       {
-        continue;
+        createPrimaryKeyForTable(table, results);
       }
+    }, (metaData, table) -> metaData.getPrimaryKeys(table.getSchema()
+      .getCatalogName(), table.getSchema().getName(), table.getName()));
+  }
+
+  private void retrievePrimaryKeysFromMetadataForAllTables(final NamedObjectList<MutableTable> allTables)
+    throws SQLException
+  {
+    for (final SchemaReference schema: getSchemaNamesForMetadataRetrieval())
+    {
       try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-        .getPrimaryKeys(table.getSchema().getCatalogName(),
-                        table.getSchema().getName(),
-                        table.getName()));)
+        .getPrimaryKeys(schema.getCatalogName(),
+                        schema.getName(),
+                        "%"),
+                                                                   getFetchSize());)
       {
         while (results.next())
         {
+          final Optional<MutableTable> optionalTable = lookupTable(allTables,
+                                                                   results);
+          if (!optionalTable.isPresent())
+          {
+            continue;
+          }
+          final MutableTable table = optionalTable.get();
           createPrimaryKeyForTable(table, results);
         }
       }
       catch (final SQLException e)
       {
-        throw new SchemaCrawlerSQLException("Could not retrieve primary keys for table "
-                                            + table,
+        throw new SchemaCrawlerSQLException("Could not retrieve primary keys for tables",
                                             e);
       }
     }
   }
 
-  private void retrievePrimaryKeysFromMetadataForAllTables(final NamedObjectList<MutableTable> allTables)
-    throws SQLException
-  {
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getPrimaryKeys(null, null, "%"));)
-    {
-      while (results.next())
-      {
-        final Optional<MutableTable> optionalTable = lookupTable(allTables,
-                                                                 results);
-        if (!optionalTable.isPresent())
-        {
-          continue;
-        }
-        final MutableTable table = optionalTable.get();
-        createPrimaryKeyForTable(table, results);
-      }
-    }
-    catch (final SQLException e)
-    {
-      throw new SchemaCrawlerSQLException("Could not retrieve primary keys for tables",
-                                          e);
-    }
-  }
-
 }
@@ -0,0 +1,147 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.List;
+
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.CrawlPhaseMetrics;
+
+/**
+ * Writes crawl metrics to a JSON file, with an entry for every phase
+ * of the crawl, in the order in which the phases completed.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class JsonCrawlMetricsExporter
+  extends BaseCrawlMetricsExporter
+{
+
+  private static String quote(final String text)
+  {
+    if (text == null)
+    {
+      return "null";
+    }
+
+    final StringBuilder buffer = new StringBuilder(text.length() + 2);
+    buffer.append('"');
+    for (final char ch: text.toCharArray())
+    {
+      switch (ch)
+      {
+        case '"':
+          buffer.append("\\\"");
+          break;
+        case '\\':
+          buffer.append("\\\\");
+          break;
+        case '\n':
+          buffer.append("\\n");
+          break;
+        case '\r':
+          buffer.append("\\r");
+          break;
+        case '\t':
+          buffer.append("\\t");
+          break;
+        default:
+          if (ch < ' ')
+          {
+            buffer.append(String.format("\\u%04x", (int) ch));
+          }
+          else
+          {
+            buffer.append(ch);
+          }
+      }
+    }
+    buffer.append('"');
+    return buffer.toString();
+  }
+
+  public JsonCrawlMetricsExporter(final Path outputFile)
+  {
+    super(outputFile);
+  }
+
+  @Override
+  void write(final CrawlInfo crawlInfo, final Writer writer)
+    throws IOException
+  {
+    final String newline = System.lineSeparator();
+    final List<CrawlPhaseMetrics> phases = crawlInfo.getCrawlPhaseMetrics();
+
+    long totalMillis = 0;
+    long totalQueries = 0;
+    long totalRows = 0;
+    long totalBytes = 0;
+
+    writer.write("{" + newline);
+    writer.write(String.format("  \"database\": %s,%n",
+                               quote(crawlInfo.getDatabaseInfo())));
+    writer.write(String.format("  \"crawlTimestamp\": %s,%n",
+                               quote(String
+                                 .valueOf(crawlInfo.getCrawlTimestamp()))));
+    writer.write("  \"phases\": [" + newline);
+    for (int i = 0; i < phases.size(); i++)
+    {
+      final CrawlPhaseMetrics phase = phases.get(i);
+      final long durationMillis = phase.getDuration().toMillis();
+      writer
+        .write(String
+          .format("    { \"crawl\": %s, \"phase\": %s, \"durationMillis\": %d, \"queries\": %d, \"rows\": %d, \"bytes\": %d }%s%n",
+                  quote(phase.getCrawlName()),
+                  quote(phase.getPhaseName()),
+                  durationMillis,
+                  phase.getQueryCount(),
+                  phase.getRowCount(),
+                  phase.getBytesFetched(),
+                  i < phases.size() - 1? ",": ""));
+
+      totalMillis = totalMillis + durationMillis;
+      totalQueries = totalQueries + phase.getQueryCount();
+      totalRows = totalRows + phase.getRowCount();
+      totalBytes = totalBytes + phase.getBytesFetched();
+    }
+    writer.write("  ]," + newline);
+    writer
+      .write(String
+        .format("  \"totals\": { \"durationMillis\": %d, \"queries\": %d, \"rows\": %d, \"bytes\": %d }%n",
+                totalMillis,
+                totalQueries,
+                totalRows,
+                totalBytes));
+    writer.write("}" + newline);
+  }
+
+}
@@ -0,0 +1,370 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.logging.Level;
+
+import javax.sql.DataSource;
+
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevel;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Loads table details such as columns, indexes, foreign keys, triggers
+ * and privileges on demand, the first time that they are accessed for a
+ * table. Details are loaded for all the tables of a schema at once when
+ * the database metadata is retrieved table by table, and for all tables
+ * in the catalog when they are retrieved in a single query. Details are
+ * loaded on the connection that the catalog was crawled with, or on a
+ * new connection from the data source, if there is one.
+ *
+ * @author Sualeh Fatehi
+ */
+final class LazyTableDetailsLoader
+{
+
+  enum TableDetail
+  {
+
+   columns,
+   foreignKeys,
+   indexes,
+   privileges,
+   tableConstraints,
+   triggers;
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(LazyTableDetailsLoader.class.getName());
+
+  private final MutableCatalog catalog;
+  private final RetrieverConnection retrieverConnection;
+  private final SchemaCrawlerOptions options;
+  private boolean loading;
+
+  LazyTableDetailsLoader(final MutableCatalog catalog,
+                         final RetrieverConnection retrieverConnection,
+                         final SchemaCrawlerOptions options)
+  {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    this.retrieverConnection = requireNonNull(retrieverConnection,
+                                              "No connection provided");
+    this.options = requireNonNull(options, "No options provided");
+  }
+
+  /**
+   * Loads a table detail for the table, and other tables that are
+   * retrieved along with it. Calls made by the retrievers while details
+   * are being loaded do not trigger any further loading.
+   *
+   * @param table
+   *        Table to load details for
+   * @param tableDetail
+   *        Table detail to load
+   * @throws NotLoadedException
+   *         If the table detail could not be loaded
+   */
+  synchronized void load(final MutableTable table,
+                         final TableDetail tableDetail)
+  {
+    if (loading || !table.isDetailPending(tableDetail))
+    {
+      return;
+    }
+
+    final NamedObjectList<MutableTable> tables = lookupTablesToLoad(table,
+                                                                    tableDetail);
+    loadDependencies(tables, tableDetail);
+    LOGGER.log(Level.INFO,
+               new StringFormat("Loading %s for %d tables",
+                                tableDetail,
+                                tables.size()));
+
+    // Mark details as loaded up-front, so that lookups made by the
+    // retrievers see the details as they are retrieved
+    for (final MutableTable loadTable: tables)
+    {
+      loadTable.setDetailPending(tableDetail, false);
+    }
+    loading = true;
+    try
+    {
+      final Optional<DataSource> dataSource = retrieverConnection
+        .getDataSource();
+      if (dataSource.isPresent())
+      {
+        try (final Connection connection = dataSource.get().getConnection();)
+        {
+          retrieve(retrieverConnection.withConnection(connection),
+                   tables,
+                   tableDetail);
+        }
+      }
+      else
+      {
+        if (retrieverConnection.getConnection().isClosed())
+        {
+          throw new SQLException("Connection has been closed");
+        }
+        retrieve(retrieverConnection, tables, tableDetail);
+      }
+    }
+    catch (final Exception e)
+    {
+      for (final MutableTable loadTable: tables)
+      {
+        loadTable.setDetailPending(tableDetail, true);
+      }
+      throw new NotLoadedException(table, tableDetail.name(), e);
+    }
+    finally
+    {
+      loading = false;
+    }
+  }
+
+  /**
+   * Sets up tables to load the details requested by the schema info
+   * level on demand.
+   *
+   * @param tables
+   *        Tables to load details for
+   */
+  void register(final NamedObjectList<MutableTable> tables)
+  {
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+    final EnumSet<TableDetail> pendingDetails = EnumSet
+      .noneOf(TableDetail.class);
+    if (infoLevel.isRetrieveTableColumns())
+    {
+      pendingDetails.add(TableDetail.columns);
+      pendingDetails.add(TableDetail.indexes);
+      if (infoLevel.isRetrieveForeignKeys())
+      {
+        pendingDetails.add(TableDetail.foreignKeys);
+      }
+    }
+    if (infoLevel.isRetrieveTableConstraintInformation()
+        || infoLevel.isRetrieveTableConstraintDefinitions())
+    {
+      pendingDetails.add(TableDetail.tableConstraints);
+    }
+    if (infoLevel.isRetrieveTriggerInformation())
+    {
+      pendingDetails.add(TableDetail.triggers);
+    }
+    if (infoLevel.isRetrieveTablePrivileges()
+        || infoLevel.isRetrieveTableColumnPrivileges())
+    {
+      pendingDetails.add(TableDetail.privileges);
+    }
+
+    for (final MutableTable table: tables)
+    {
+      table.setDetailsLoader(this, pendingDetails);
+    }
+  }
+
+  private boolean isRetrievedByTable(final TableDetail tableDetail)
+  {
+    switch (tableDetail)
+    {
+      case columns:
+        return retrieverConnection
+          .getTableColumnRetrievalStrategy() == MetadataRetrievalStrategy.metadata;
+      case foreignKeys:
+        return retrieverConnection
+          .getForeignKeyRetrievalStrategy() == MetadataRetrievalStrategy.metadata;
+      case indexes:
+        return retrieverConnection
+          .getIndexRetrievalStrategy() == MetadataRetrievalStrategy.metadata
+               && retrieverConnection
+                 .getPrimaryKeyRetrievalStrategy() == MetadataRetrievalStrategy.metadata;
+      default:
+        return false;
+    }
+  }
+
+  private void loadDependencies(final NamedObjectList<MutableTable> tables,
+                                final TableDetail tableDetail)
+  {
+    switch (tableDetail)
+    {
+      case indexes:
+        // Indexes refer to columns of the same tables
+        for (final MutableTable table: tables)
+        {
+          load(table, TableDetail.columns);
+        }
+        break;
+      case foreignKeys:
+      case privileges:
+        // Foreign keys and column privileges can refer to columns in
+        // any table
+        loadForAllTables(TableDetail.columns);
+        break;
+      case tableConstraints:
+        loadForAllTables(TableDetail.columns);
+        loadForAllTables(TableDetail.indexes);
+        loadForAllTables(TableDetail.foreignKeys);
+        break;
+      default:
+        break;
+    }
+  }
+
+  private void loadForAllTables(final TableDetail tableDetail)
+  {
+    for (final MutableTable table: catalog.getAllTables())
+    {
+      load(table, tableDetail);
+    }
+  }
+
+  private NamedObjectList<MutableTable> lookupTablesToLoad(final MutableTable table,
+                                                           final TableDetail tableDetail)
+  {
+    final boolean isRetrievedByTable = isRetrievedByTable(tableDetail);
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    for (final MutableTable loadTable: catalog.getAllTables())
+    {
+      if (loadTable.isDetailPending(tableDetail) && (!isRetrievedByTable
+                                                     || loadTable.getSchema()
+                                                       .equals(table
+                                                         .getSchema())))
+      {
+        tables.add(loadTable);
+      }
+    }
+    return tables;
+  }
+
+  private void retrieve(final RetrieverConnection retrieverConnection,
+                        final NamedObjectList<MutableTable> tables,
+                        final TableDetail tableDetail)
+    throws SQLException
+  {
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+    final TableExtRetriever retrieverExtra = new TableExtRetriever(retrieverConnection,
+                                                                   catalog,
+                                                                   options);
+    switch (tableDetail)
+    {
+      case columns:
+        final TableColumnRetriever columnRetriever = new TableColumnRetriever(retrieverConnection,
+                                                                              catalog,
+                                                                              options);
+        columnRetriever.retrieveColumns(tables,
+                                        options.getColumnInclusionRule());
+        if (infoLevel.isRetrieveAdditionalColumnAttributes())
+        {
+          retrieverExtra.retrieveAdditionalColumnAttributes(tables);
+        }
+        break;
+
+      case foreignKeys:
+        final ForeignKeyRetriever fkRetriever = new ForeignKeyRetriever(retrieverConnection,
+                                                                        catalog,
+                                                                        options);
+        fkRetriever.retrieveForeignKeys(tables);
+        if (infoLevel.isRetrieveForeignKeyDefinitions())
+        {
+          fkRetriever.retrieveForeignKeyDefinitions(tables);
+        }
+        break;
+
+      case indexes:
+        final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection,
+                                                                 catalog,
+                                                                 options);
+        if (infoLevel.isRetrieveIndexes())
+        {
+          indexRetriever.retrieveIndexes(tables);
+        }
+        // Setting primary keys will use indexes with a similar name,
+        // if available
+        indexRetriever.retrievePrimaryKeys(tables);
+        if (infoLevel.isRetrievePrimaryKeyDefinitions())
+        {
+          retrieverExtra.retrievePrimaryKeyDefinitions(tables);
+        }
+        if (infoLevel.isRetrieveIndexInformation())
+        {
+          retrieverExtra.retrieveIndexInformation(tables);
+          if (infoLevel.isRetrieveIndexColumnInformation())
+          {
+            retrieverExtra.retrieveIndexColumnInformation(tables);
+          }
+        }
+        break;
+
+      case privileges:
+        if (infoLevel.isRetrieveTablePrivileges())
+        {
+          retrieverExtra.retrieveTablePrivileges();
+        }
+        if (infoLevel.isRetrieveTableColumnPrivileges())
+        {
+          retrieverExtra.retrieveTableColumnPrivileges();
+        }
+        break;
+
+      case tableConstraints:
+        final TableConstraintRetriever constraintRetriever = new TableConstraintRetriever(retrieverConnection,
+                                                                                          catalog,
+                                                                                          options);
+        if (infoLevel.isRetrieveTableConstraintInformation())
+        {
+          constraintRetriever.retrieveTableConstraintInformation();
+        }
+        if (infoLevel.isRetrieveTableConstraintDefinitions())
+        {
+          constraintRetriever.retrieveTableConstraintDefinitions();
+        }
+        break;
+
+      case triggers:
+        retrieverExtra.retrieveTriggerInformation();
+        break;
+
+      default:
+        break;
+    }
+  }
+
+}
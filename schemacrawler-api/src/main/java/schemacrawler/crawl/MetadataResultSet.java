@@ -43,16 +43,16 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
 import java.util.logging.Level;
 
 import schemacrawler.schemacrawler.InclusionRule;
+import schemacrawler.utility.FetchSize;
 import schemacrawler.utility.Query;
 import sf.util.IdentifiedEnum;
 import sf.util.SchemaCrawlerLogger;
@@ -73,38 +73,110 @@ final class MetadataResultSet
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(MetadataResultSet.class.getName());
 
-  private static final int FETCHSIZE = 20;
+  /**
+   * Applies a query specific fetch size override, if there is one.
+   */
+  private static FetchSize queryFetchSize(final Query query,
+                                          final FetchSize fetchSize)
+  {
+    requireNonNull(fetchSize, "No fetch size provided");
+    if (query != null && query.hasFetchSize())
+    {
+      return fetchSize.withFetchSize(query.getFetchSize());
+    }
+    return fetchSize;
+  }
+
+  /**
+   * Sets the fetch size on the statement before the query is executed,
+   * so that the very first batch of rows is also fetched with the
+   * requested fetch size.
+   */
+  private static Statement withFetchSize(final Statement statement,
+                                         final FetchSize fetchSize)
+  {
+    if (statement != null && fetchSize.getFetchSize() > 0)
+    {
+      try
+      {
+        statement.setFetchSize(fetchSize.getFetchSize());
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+      }
+    }
+    return statement;
+  }
 
   private String description;
   private final ResultSet results;
+  private final MetadataRows rows;
+  private final FetchSize fetchSize;
   private final List<String> resultSetColumns;
-  private Set<String> readColumns;
+  private final Map<String, Integer> resultSetColumnIndexes;
+  private final BitSet duplicateColumns;
+  private final BitSet readColumns;
 
   private int rowCount;
+  private long bytesFetched;
+  private int currentFetchSize;
+  private int batchRowCount;
 
   MetadataResultSet(final Query query,
                     final Statement statement,
-                    final InclusionRule schemaInclusionRule)
+                    final InclusionRule schemaInclusionRule,
+                    final FetchSize fetchSize)
     throws SQLException
   {
-    this(executeAgainstSchema(query, statement, schemaInclusionRule));
+    this(executeAgainstSchema(query,
+                              withFetchSize(statement,
+                                            queryFetchSize(query, fetchSize)),
+                              schemaInclusionRule),
+         queryFetchSize(query, fetchSize));
     if (query.hasName())
     {
       description = query.getName();
     }
   }
 
-  MetadataResultSet(final ResultSet resultSet)
-    throws SQLException
+  /**
+   * Reads metadata rows that were copied into memory, after the
+   * connection that they were fetched on has been closed.
+   *
+   * @param rows
+   *        Metadata rows
+   */
+  MetadataResultSet(final MetadataRows rows)
   {
-    results = requireNonNull(resultSet, "Cannot use null results");
-    try
+    results = null;
+    this.rows = requireNonNull(rows, "Cannot use null rows");
+    fetchSize = new FetchSize(0, 0, false);
+    currentFetchSize = 0;
+
+    final List<String> resultSetColumns = new ArrayList<>();
+    for (final String columnName: rows.getColumnLabels())
     {
-      results.setFetchSize(FETCHSIZE);
+      resultSetColumns.add(columnName.toUpperCase());
     }
-    catch (final NullPointerException | SQLException e)
+    this.resultSetColumns = Collections.unmodifiableList(resultSetColumns);
+
+    resultSetColumnIndexes = new HashMap<>();
+    duplicateColumns = new BitSet(resultSetColumns.size());
+    readColumns = new BitSet(resultSetColumns.size());
+    indexColumns();
+  }
+
+  MetadataResultSet(final ResultSet resultSet, final FetchSize fetchSize)
+    throws SQLException
+  {
+    results = requireNonNull(resultSet, "Cannot use null results");
+    rows = null;
+    this.fetchSize = requireNonNull(fetchSize, "No fetch size provided");
+    currentFetchSize = fetchSize.getFetchSize();
+    if (currentFetchSize > 0)
     {
-      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+      setFetchSize(currentFetchSize);
     }
 
     final List<String> resultSetColumns = new ArrayList<>();
@@ -128,7 +200,10 @@ final class MetadataResultSet
     }
     this.resultSetColumns = Collections.unmodifiableList(resultSetColumns);
 
-    readColumns = new HashSet<>();
+    resultSetColumnIndexes = new HashMap<>();
+    duplicateColumns = new BitSet(resultSetColumns.size());
+    readColumns = new BitSet(resultSetColumns.size());
+    indexColumns();
   }
 
   /**
@@ -143,7 +218,11 @@ final class MetadataResultSet
   public void close()
     throws SQLException
   {
-    results.close();
+    if (results != null)
+    {
+      results.close();
+    }
+    CrawlMetricsRecorder.recordResults(rowCount, bytesFetched);
 
     if (LOGGER.isLoggable(Level.INFO) && !isBlank(description))
     {
@@ -163,30 +242,32 @@ final class MetadataResultSet
    */
   Map<String, Object> getAttributes()
   {
-    final Map<String, Object> attributes = new HashMap<>();
-    for (final String columnName: resultSetColumns)
+    final int columnCount = resultSetColumns.size();
+    final Map<String, Object> attributes = new HashMap<>(Math
+      .max(16, (columnCount - readColumns.cardinality()) * 2));
+    for (int i = readColumns.nextClearBit(0); i < columnCount; i = readColumns
+      .nextClearBit(i + 1))
     {
-      if (!readColumns.contains(columnName))
+      final String columnName = resultSetColumns.get(i);
+      try
       {
-        try
-        {
-          final Object value = results.getObject(columnName);
-          attributes.put(columnName, value);
-        }
-        catch (final SQLException | ArrayIndexOutOfBoundsException e)
-        {
-          /*
-           * MySQL connector is broken and can cause
-           * ArrayIndexOutOfBoundsExceptions for no good reason (tested
-           * with connector 5.1.26 and server version 5.0.95). Ignoring
-           * the exception, we can still get some useful data out of the
-           * database.
-           */
-          LOGGER.log(Level.WARNING,
-                     new StringFormat("Could not read value for column <%s>",
-                                      columnName),
-                     e);
-        }
+        final Object value = readObject(i + 1);
+        countBytesFetched(value);
+        attributes.put(columnName, value);
+      }
+      catch (final SQLException | ArrayIndexOutOfBoundsException e)
+      {
+        /*
+         * MySQL connector is broken and can cause
+         * ArrayIndexOutOfBoundsExceptions for no good reason (tested
+         * with connector 5.1.26 and server version 5.0.95). Ignoring
+         * the exception, we can still get some useful data out of the
+         * database.
+         */
+        LOGGER.log(Level.WARNING,
+                   new StringFormat("Could not read value for column <%s>",
+                                    columnName),
+                   e);
       }
     }
     return attributes;
@@ -223,13 +304,14 @@ final class MetadataResultSet
    */
   boolean getBoolean(final String columnName)
   {
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        final Object booleanValue = results.getObject(columnName);
+        final Object booleanValue = readObject(columnIndex);
         final String stringBooleanValue;
-        if (results.wasNull() || booleanValue == null)
+        if (wasNull() || booleanValue == null)
         {
           LOGGER
             .log(Level.FINER,
@@ -240,6 +322,7 @@ final class MetadataResultSet
         else
         {
           stringBooleanValue = String.valueOf(booleanValue).trim();
+          countBytesFetched(stringBooleanValue);
         }
 
         if (isIntegral(stringBooleanValue))
@@ -333,12 +416,14 @@ final class MetadataResultSet
   int getInt(final String columnName, final int defaultValue)
   {
     int value = defaultValue;
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        value = results.getInt(columnName);
-        if (results.wasNull())
+        value = readInt(columnIndex);
+        bytesFetched = bytesFetched + Integer.BYTES;
+        if (wasNull())
         {
           LOGGER
             .log(Level.FINER,
@@ -373,12 +458,14 @@ final class MetadataResultSet
   long getLong(final String columnName, final long defaultValue)
   {
     long value = defaultValue;
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        value = results.getLong(columnName);
-        if (results.wasNull())
+        value = readLong(columnIndex);
+        bytesFetched = bytesFetched + Long.BYTES;
+        if (wasNull())
         {
           LOGGER
             .log(Level.FINER,
@@ -412,12 +499,14 @@ final class MetadataResultSet
   short getShort(final String columnName, final short defaultValue)
   {
     short value = defaultValue;
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        value = results.getShort(columnName);
-        if (results.wasNull())
+        value = readShort(columnIndex);
+        bytesFetched = bytesFetched + Short.BYTES;
+        if (wasNull())
         {
           LOGGER
             .log(Level.FINER,
@@ -449,18 +538,20 @@ final class MetadataResultSet
   String getString(final String columnName)
   {
     String value = null;
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        value = results.getString(columnName);
-        if (results.wasNull())
+        value = readString(columnIndex);
+        if (wasNull())
         {
           value = null;
         }
 
         if (value != null)
         {
+          countBytesFetched(value);
           value = value.trim();
         }
       }
@@ -491,13 +582,37 @@ final class MetadataResultSet
   boolean next()
     throws SQLException
   {
-    readColumns = new HashSet<>();
+    readColumns.clear();
+    readColumns.or(duplicateColumns);
+
+    if (rows != null)
+    {
+      final boolean next = rows.next();
+      if (next)
+      {
+        rowCount = rowCount + 1;
+      }
+      return next;
+    }
 
     final boolean next = results.next();
     logSQLWarnings(results);
     if (next)
     {
       rowCount = rowCount + 1;
+      batchRowCount = batchRowCount + 1;
+      if (batchRowCount >= currentFetchSize && fetchSize.isAdaptive())
+      {
+        // A full batch of rows has been read, so more rows are likely
+        // to follow - ask for a larger batch next time
+        final int nextFetchSize = fetchSize.nextFetchSize(currentFetchSize);
+        if (nextFetchSize != currentFetchSize)
+        {
+          currentFetchSize = nextFetchSize;
+          setFetchSize(currentFetchSize);
+        }
+        batchRowCount = 0;
+      }
     }
     return next;
   }
@@ -507,15 +622,117 @@ final class MetadataResultSet
     this.description = description;
   }
 
-  private boolean useColumn(final String columnName)
+  /**
+   * Adds to the approximate number of bytes read, counting one byte per
+   * character of text, and a fixed width for other values.
+   */
+  private void countBytesFetched(final Object value)
   {
-    final boolean useColumn = columnName != null
-                              && resultSetColumns.contains(columnName);
-    if (useColumn)
+    if (value instanceof String)
+    {
+      bytesFetched = bytesFetched + ((String) value).length();
+    }
+    else if (value != null)
+    {
+      bytesFetched = bytesFetched + Long.BYTES;
+    }
+  }
+
+  /**
+   * Resolves column labels to ordinals once, so that values can be read
+   * by index for every row. Like JDBC, a repeated label refers to the
+   * first column with that label, and the other columns are never
+   * reported as attributes.
+   */
+  private void indexColumns()
+  {
+    for (int i = 0; i < resultSetColumns.size(); i++)
+    {
+      if (resultSetColumnIndexes.putIfAbsent(resultSetColumns.get(i),
+                                             i + 1) != null)
+      {
+        duplicateColumns.set(i);
+      }
+    }
+
+    readColumns.or(duplicateColumns);
+  }
+
+  private int readInt(final int columnIndex)
+    throws SQLException
+  {
+    return rows != null? rows.getInt(columnIndex)
+                       : results.getInt(columnIndex);
+  }
+
+  private long readLong(final int columnIndex)
+    throws SQLException
+  {
+    return rows != null? rows.getLong(columnIndex)
+                       : results.getLong(columnIndex);
+  }
+
+  private Object readObject(final int columnIndex)
+    throws SQLException
+  {
+    return rows != null? rows.getObject(columnIndex)
+                       : results.getObject(columnIndex);
+  }
+
+  private short readShort(final int columnIndex)
+    throws SQLException
+  {
+    return rows != null? rows.getShort(columnIndex)
+                       : results.getShort(columnIndex);
+  }
+
+  private String readString(final int columnIndex)
+    throws SQLException
+  {
+    return rows != null? rows.getString(columnIndex)
+                       : results.getString(columnIndex);
+  }
+
+  private void setFetchSize(final int fetchSize)
+  {
+    try
+    {
+      results.setFetchSize(fetchSize);
+    }
+    catch (final NullPointerException | SQLException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+    }
+  }
+
+  private boolean wasNull()
+    throws SQLException
+  {
+    return rows != null? rows.wasNull(): results.wasNull();
+  }
+
+  /**
+   * Looks up the index of a column in the result set, and marks it as
+   * read, so that it is not returned as an additional attribute.
+   *
+   * @param columnName
+   *        Column name
+   * @return Column index, starting at 1, or 0 if the column is not in
+   *         the result set
+   */
+  private int useColumn(final String columnName)
+  {
+    if (columnName == null)
+    {
+      return 0;
+    }
+    final Integer columnIndex = resultSetColumnIndexes.get(columnName);
+    if (columnIndex == null)
     {
-      readColumns.add(columnName);
+      return 0;
     }
-    return useColumn;
+    readColumns.set(columnIndex - 1);
+    return columnIndex;
   }
 
 }
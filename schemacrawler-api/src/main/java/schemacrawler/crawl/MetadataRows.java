@@ -0,0 +1,212 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+import static sf.util.Utility.isBlank;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A detached, forward-only, in-memory copy of the rows of a metadata
+ * result set, so that metadata can be fetched on one connection, and
+ * processed after that connection is closed. Values are copied as
+ * objects, and converted when read by {@link MetadataResultSet}.
+ *
+ * @author Sualeh Fatehi
+ */
+final class MetadataRows
+{
+
+  /**
+   * Copies all rows of a result set into memory. The provided result
+   * set is not closed.
+   *
+   * @param results
+   *        Result set to copy
+   * @return Detached rows
+   * @throws SQLException
+   *         On an exception reading the result set
+   */
+  static MetadataRows copyOf(final ResultSet results)
+    throws SQLException
+  {
+    requireNonNull(results, "No result set provided");
+
+    final ResultSetMetaData rsMetaData = results.getMetaData();
+    final int columnCount = rsMetaData.getColumnCount();
+    final List<String> columnLabels = new ArrayList<>(columnCount);
+    for (int i = 1; i <= columnCount; i++)
+    {
+      String columnLabel = rsMetaData.getColumnLabel(i);
+      if (isBlank(columnLabel))
+      {
+        columnLabel = rsMetaData.getColumnName(i);
+      }
+      columnLabels.add(columnLabel);
+    }
+
+    final List<Object[]> rows = new ArrayList<>();
+    while (results.next())
+    {
+      final Object[] row = new Object[columnCount];
+      for (int i = 0; i < columnCount; i++)
+      {
+        row[i] = results.getObject(i + 1);
+      }
+      rows.add(row);
+    }
+
+    return new MetadataRows(columnLabels, rows);
+  }
+
+  private final List<String> columnLabels;
+  private final List<Object[]> rows;
+  private int currentRow;
+  private boolean wasNull;
+
+  private MetadataRows(final List<String> columnLabels,
+                       final List<Object[]> rows)
+  {
+    this.columnLabels = Collections.unmodifiableList(columnLabels);
+    this.rows = rows;
+    currentRow = -1;
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format("MetadataRows%s", columnLabels);
+  }
+
+  List<String> getColumnLabels()
+  {
+    return columnLabels;
+  }
+
+  int getInt(final int columnIndex)
+    throws SQLException
+  {
+    final Number value = getNumber(columnIndex);
+    return value == null? 0: value.intValue();
+  }
+
+  long getLong(final int columnIndex)
+    throws SQLException
+  {
+    final Number value = getNumber(columnIndex);
+    return value == null? 0L: value.longValue();
+  }
+
+  /**
+   * Gets the value of a column in the current row.
+   *
+   * @param columnIndex
+   *        Column index, starting at 1
+   * @return Value, which may be null
+   * @throws SQLException
+   *         If not on a row, or if the column index is not valid
+   */
+  Object getObject(final int columnIndex)
+    throws SQLException
+  {
+    if (currentRow < 0 || currentRow >= rows.size())
+    {
+      throw new SQLException("Not on a valid row");
+    }
+    if (columnIndex < 1 || columnIndex > columnLabels.size())
+    {
+      throw new SQLException("Invalid column index, " + columnIndex);
+    }
+    final Object value = rows.get(currentRow)[columnIndex - 1];
+    wasNull = value == null;
+    return value;
+  }
+
+  short getShort(final int columnIndex)
+    throws SQLException
+  {
+    final Number value = getNumber(columnIndex);
+    return value == null? (short) 0: value.shortValue();
+  }
+
+  String getString(final int columnIndex)
+    throws SQLException
+  {
+    final Object value = getObject(columnIndex);
+    return value == null? null: String.valueOf(value);
+  }
+
+  boolean next()
+  {
+    if (currentRow < rows.size())
+    {
+      currentRow = currentRow + 1;
+    }
+    return currentRow < rows.size();
+  }
+
+  boolean wasNull()
+  {
+    return wasNull;
+  }
+
+  private Number getNumber(final int columnIndex)
+    throws SQLException
+  {
+    final Object value = getObject(columnIndex);
+    if (value == null)
+    {
+      return null;
+    }
+    else if (value instanceof Number)
+    {
+      return (Number) value;
+    }
+    else if (value instanceof Boolean)
+    {
+      return (Boolean) value? 1: 0;
+    }
+    try
+    {
+      return Long.valueOf(String.valueOf(value).trim());
+    }
+    catch (final NumberFormatException e)
+    {
+      throw new SQLException("Not a number, " + value, e);
+    }
+  }
+
+}
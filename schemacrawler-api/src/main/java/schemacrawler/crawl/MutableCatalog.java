@@ -29,13 +29,10 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
-import static java.util.Objects.requireNonNull;
-
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import schemacrawler.JvmSystemInfo;
 import schemacrawler.OperatingSystemInfo;
@@ -43,7 +40,7 @@ import schemacrawler.SchemaCrawlerInfo;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.ColumnDataType;
 import schemacrawler.schema.CrawlInfo;
-import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.CrawlPhaseMetrics;
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.Reducer;
 import schemacrawler.schema.Reducible;
@@ -65,26 +62,6 @@ final class MutableCatalog
   implements Catalog, Reducible
 {
 
-  private final class FilterBySchema
-    implements Predicate<DatabaseObject>
-  {
-
-    private final Schema schema;
-
-    public FilterBySchema(final Schema schema)
-    {
-      this.schema = requireNonNull(schema, "No schema provided");
-    }
-
-    @Override
-    public boolean test(final DatabaseObject databaseObject)
-    {
-      return databaseObject != null
-             && databaseObject.getSchema().equals(schema);
-    }
-
-  }
-
   private static final long serialVersionUID = 4051323422934251828L;
   private final MutableDatabaseInfo databaseInfo;
   private final MutableJdbcDriverInfo jdbcDriverInfo;
@@ -116,7 +93,7 @@ final class MutableCatalog
   @Override
   public Collection<ColumnDataType> getColumnDataTypes()
   {
-    return new ArrayList<>(columnDataTypes.values());
+    return Collections.unmodifiableList(columnDataTypes.values());
   }
 
   /**
@@ -125,16 +102,7 @@ final class MutableCatalog
   @Override
   public Collection<ColumnDataType> getColumnDataTypes(final Schema schema)
   {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<ColumnDataType> columnDataTypes = new ArrayList<>();
-    for (final ColumnDataType columnDataType: this.columnDataTypes)
-    {
-      if (filter.test(columnDataType))
-      {
-        columnDataTypes.add(columnDataType);
-      }
-    }
-    return columnDataTypes;
+    return Collections.unmodifiableList(columnDataTypes.values(schema));
   }
 
   @Override
@@ -176,7 +144,7 @@ final class MutableCatalog
   @Override
   public Collection<Routine> getRoutines()
   {
-    return new ArrayList<>(routines.values());
+    return Collections.unmodifiableList(routines.values());
   }
 
   /**
@@ -185,16 +153,7 @@ final class MutableCatalog
   @Override
   public Collection<Routine> getRoutines(final Schema schema)
   {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Routine> routines = new ArrayList<>();
-    for (final Routine routine: this.routines)
-    {
-      if (filter.test(routine))
-      {
-        routines.add(routine);
-      }
-    }
-    return routines;
+    return Collections.unmodifiableList(routines.values(schema));
   }
 
   /**
@@ -212,7 +171,7 @@ final class MutableCatalog
   @Override
   public Collection<Schema> getSchemas()
   {
-    return new ArrayList<>(schemas.values());
+    return Collections.unmodifiableList(schemas.values());
   }
 
   /**
@@ -221,7 +180,7 @@ final class MutableCatalog
   @Override
   public Collection<Sequence> getSequences()
   {
-    return new ArrayList<>(sequences.values());
+    return Collections.unmodifiableList(sequences.values());
   }
 
   /**
@@ -230,16 +189,7 @@ final class MutableCatalog
   @Override
   public Collection<Sequence> getSequences(final Schema schema)
   {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Sequence> sequences = new ArrayList<>();
-    for (final Sequence sequence: this.sequences)
-    {
-      if (filter.test(sequence))
-      {
-        sequences.add(sequence);
-      }
-    }
-    return sequences;
+    return Collections.unmodifiableList(sequences.values(schema));
   }
 
   /**
@@ -248,7 +198,7 @@ final class MutableCatalog
   @Override
   public Collection<Synonym> getSynonyms()
   {
-    return new ArrayList<>(synonyms.values());
+    return Collections.unmodifiableList(synonyms.values());
   }
 
   /**
@@ -257,16 +207,7 @@ final class MutableCatalog
   @Override
   public Collection<Synonym> getSynonyms(final Schema schema)
   {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Synonym> synonyms = new ArrayList<>();
-    for (final Synonym synonym: this.synonyms)
-    {
-      if (filter.test(synonym))
-      {
-        synonyms.add(synonym);
-      }
-    }
-    return synonyms;
+    return Collections.unmodifiableList(synonyms.values(schema));
   }
 
   /**
@@ -284,7 +225,7 @@ final class MutableCatalog
   @Override
   public Collection<Table> getTables()
   {
-    return new ArrayList<>(tables.values());
+    return Collections.unmodifiableList(tables.values());
   }
 
   /**
@@ -293,16 +234,7 @@ final class MutableCatalog
   @Override
   public Collection<Table> getTables(final Schema schema)
   {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Table> tables = new ArrayList<>();
-    for (final Table table: this.tables)
-    {
-      if (filter.test(table))
-      {
-        tables.add(table);
-      }
-    }
-    return tables;
+    return Collections.unmodifiableList(tables.values(schema));
   }
 
   /**
@@ -391,6 +323,25 @@ final class MutableCatalog
     return tables.lookup(schemaRef, name);
   }
 
+  /**
+   * Looks up a table by catalog name, schema name and table name,
+   * without creating a lookup key.
+   *
+   * @param catalogName
+   *        Catalog name
+   * @param schemaName
+   *        Schema name
+   * @param tableName
+   *        Table name
+   * @return Table, if found
+   */
+  Optional<MutableTable> lookupTable(final String catalogName,
+                                     final String schemaName,
+                                     final String tableName)
+  {
+    return tables.lookup(catalogName, schemaName, tableName);
+  }
+
   @Override
   public <N extends NamedObject> void reduce(final Class<N> clazz,
                                              final Reducer<N> reducer)
@@ -473,6 +424,11 @@ final class MutableCatalog
     return schemas;
   }
 
+  NamedObjectList<MutableSynonym> getAllSynonyms()
+  {
+    return synonyms;
+  }
+
   NamedObjectList<MutableTable> getAllTables()
   {
     return tables;
@@ -501,9 +457,27 @@ final class MutableCatalog
     return routines.lookup(routineLookupKey);
   }
 
+  void removeTable(final MutableTable table)
+  {
+    tables.remove(table);
+  }
+
+  void setCrawlInfo(final ImmutableCrawlInfo crawlInfo)
+  {
+    this.crawlInfo = crawlInfo;
+  }
+
   void setCrawlInfo(final String title)
   {
     crawlInfo = new ImmutableCrawlInfo(jdbcDriverInfo, databaseInfo, title);
   }
 
+  void setCrawlPhaseMetrics(final List<CrawlPhaseMetrics> crawlPhaseMetrics)
+  {
+    if (crawlInfo != null)
+    {
+      crawlInfo = new ImmutableCrawlInfo(crawlInfo, crawlPhaseMetrics);
+    }
+  }
+
 }
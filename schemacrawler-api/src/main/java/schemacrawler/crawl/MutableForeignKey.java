@@ -229,6 +229,7 @@ final class MutableForeignKey
   void setSpecificName(final String specificName)
   {
     this.specificName = specificName;
+    resetKey();
   }
 
   final void setUpdateRule(final ForeignKeyUpdateRule updateRule)
@@ -300,6 +300,11 @@ final class MutableIndexColumn
     }
   }
 
+  Column getColumn()
+  {
+    return column;
+  }
+
   void setGenerated(final boolean isGenerated)
   {
     if (column instanceof MutableColumn)
@@ -134,6 +134,7 @@ abstract class MutableRoutine
   final void setSpecificName(final String specificName)
   {
     this.specificName = specificName;
+    resetKey();
   }
 
 }
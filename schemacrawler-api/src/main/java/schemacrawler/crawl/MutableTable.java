@@ -32,12 +32,14 @@ package schemacrawler.crawl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import schemacrawler.crawl.LazyTableDetailsLoader.TableDetail;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.ForeignKeyColumnReference;
@@ -83,6 +85,8 @@ class MutableTable
   private final NamedObjectList<MutablePrivilege<Table>> privileges = new NamedObjectList<>();
   private int sortIndex;
   private final StringBuilder definition;
+  private transient LazyTableDetailsLoader detailsLoader;
+  private volatile EnumSet<TableDetail> pendingDetails;
 
   MutableTable(final Schema schema, final String name)
   {
@@ -121,6 +125,7 @@ class MutableTable
   @Override
   public List<Column> getColumns()
   {
+    loadDetail(TableDetail.columns);
     return new ArrayList<>(columns.values());
   }
 
@@ -157,6 +162,7 @@ class MutableTable
   @Override
   public Collection<Column> getHiddenColumns()
   {
+    loadDetail(TableDetail.columns);
     return new HashSet<>(hiddenColumns.values());
   }
 
@@ -172,6 +178,7 @@ class MutableTable
   @Override
   public Collection<Index> getIndexes()
   {
+    loadDetail(TableDetail.indexes);
     return new ArrayList<>(indexes.values());
   }
 
@@ -181,6 +188,7 @@ class MutableTable
   @Override
   public MutablePrimaryKey getPrimaryKey()
   {
+    loadDetail(TableDetail.indexes);
     return primaryKey;
   }
 
@@ -190,6 +198,7 @@ class MutableTable
   @Override
   public Collection<Privilege<Table>> getPrivileges()
   {
+    loadDetail(TableDetail.privileges);
     return new ArrayList<>(privileges.values());
   }
 
@@ -199,6 +208,7 @@ class MutableTable
   @Override
   public Collection<Table> getRelatedTables(final TableRelationshipType tableRelationshipType)
   {
+    loadDetail(TableDetail.foreignKeys);
     final Set<Table> relatedTables = new HashSet<>();
     if (tableRelationshipType != null
         && tableRelationshipType != TableRelationshipType.none)
@@ -245,6 +255,7 @@ class MutableTable
   @Override
   public Collection<TableConstraint> getTableConstraints()
   {
+    loadDetail(TableDetail.tableConstraints);
     return new ArrayList<>(constraints.values());
   }
 
@@ -263,6 +274,7 @@ class MutableTable
   @Override
   public Collection<Trigger> getTriggers()
   {
+    loadDetail(TableDetail.triggers);
     return new ArrayList<>(triggers.values());
   }
 
@@ -296,6 +308,7 @@ class MutableTable
   @Override
   public Optional<MutableColumn> lookupColumn(final String name)
   {
+    loadDetail(TableDetail.columns);
     Optional<MutableColumn> optionalColumn = columns.lookup(this, name);
     if (!optionalColumn.isPresent())
     {
@@ -310,6 +323,7 @@ class MutableTable
   @Override
   public Optional<MutableForeignKey> lookupForeignKey(final String name)
   {
+    loadDetail(TableDetail.foreignKeys);
     return foreignKeys.lookup(this, name);
   }
 
@@ -319,6 +333,7 @@ class MutableTable
   @Override
   public Optional<MutableIndex> lookupIndex(final String name)
   {
+    loadDetail(TableDetail.indexes);
     if (primaryKey != null && primaryKey.getName().equals(name))
     {
       return Optional.of(primaryKey);
@@ -335,6 +350,7 @@ class MutableTable
   @Override
   public Optional<MutablePrivilege<Table>> lookupPrivilege(final String name)
   {
+    loadDetail(TableDetail.privileges);
     return privileges.lookup(this, name);
   }
 
@@ -348,6 +364,7 @@ class MutableTable
   @Override
   public Optional<MutableTrigger> lookupTrigger(final String triggerName)
   {
+    loadDetail(TableDetail.triggers);
     return triggers.lookup(this, triggerName);
   }
 
@@ -394,6 +411,56 @@ class MutableTable
     }
   }
 
+  final int getSortIndex()
+  {
+    return sortIndex;
+  }
+
+  final boolean isDetailPending(final TableDetail tableDetail)
+  {
+    final EnumSet<TableDetail> pendingDetails = this.pendingDetails;
+    return pendingDetails != null && pendingDetails.contains(tableDetail);
+  }
+
+  final void removeForeignKey(final MutableForeignKey foreignKey)
+  {
+    foreignKeys.remove(foreignKey);
+  }
+
+  final void setDetailPending(final TableDetail tableDetail,
+                              final boolean pending)
+  {
+    final EnumSet<TableDetail> pendingDetails = EnumSet
+      .noneOf(TableDetail.class);
+    if (this.pendingDetails != null)
+    {
+      pendingDetails.addAll(this.pendingDetails);
+    }
+    if (pending)
+    {
+      pendingDetails.add(tableDetail);
+    }
+    else
+    {
+      pendingDetails.remove(tableDetail);
+    }
+    this.pendingDetails = pendingDetails.isEmpty()? null: pendingDetails;
+  }
+
+  final void setDetailsLoader(final LazyTableDetailsLoader detailsLoader,
+                              final Set<TableDetail> pendingDetails)
+  {
+    this.detailsLoader = detailsLoader;
+    if (pendingDetails == null || pendingDetails.isEmpty())
+    {
+      this.pendingDetails = null;
+    }
+    else
+    {
+      this.pendingDetails = EnumSet.copyOf(pendingDetails);
+    }
+  }
+
   final void setPrimaryKeyAndReplaceIndex(final MutablePrimaryKey primaryKey)
   {
     if (primaryKey == null)
@@ -435,6 +502,7 @@ class MutableTable
 
   private Collection<ForeignKey> getForeignKeys(final TableAssociationType tableAssociationType)
   {
+    loadDetail(TableDetail.foreignKeys);
     final List<ForeignKey> foreignKeysList = new ArrayList<>(foreignKeys
       .values());
     if (tableAssociationType != null
@@ -479,4 +547,18 @@ class MutableTable
     return foreignKeysList;
   }
 
+  private void loadDetail(final TableDetail tableDetail)
+  {
+    if (!isDetailPending(tableDetail))
+    {
+      return;
+    }
+    if (detailsLoader == null)
+    {
+      // Details were not loaded before the catalog was serialized
+      throw new NotLoadedException(this, tableDetail.name(), null);
+    }
+    detailsLoader.load(this, tableDetail);
+  }
+
 }
@@ -266,6 +266,11 @@ final class MutableTableConstraintColumn
     return column.lookupPrivilege(name);
   }
 
+  Column getColumn()
+  {
+    return column;
+  }
+
   void setTableConstraintOrdinalPosition(final int indexOrdinalPosition)
   {
     tableConstraintOrdinalPosition = indexOrdinalPosition;
@@ -39,12 +39,16 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
+import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.ReducibleCollection;
+import schemacrawler.schema.Schema;
 import sf.util.ObjectToString;
 
 /**
@@ -52,57 +56,145 @@ import sf.util.ObjectToString;
  * NamedObjectList has the ability to look up by dependent object which
  * is not created yet. That is, by NamedObject + String. Returns values
  * sorted in natural sort order, and is iterable. The iterator does not
- * allow modifications to the underlying data structure.
+ * allow modifications to the underlying data structure. All operations
+ * are synchronized, so that the list can be populated by concurrent
+ * crawl phases, and iteration is over a snapshot of the values.
  */
 final class NamedObjectList<N extends NamedObject>
   implements Serializable, ReducibleCollection<N>
 {
 
-  private static final long serialVersionUID = 3257847666804142128L;
-
-  private static List<String> makeLookupKey(final NamedObject namedObject)
+  /**
+   * A reusable stand-in for a lookup key, so that objects can be looked
+   * up by name for every metadata row without creating a new key each
+   * time. It is only ever passed to {@link Map#get(Object)}, which
+   * compares it to the stored keys by calling its equals method. The
+   * parts of the key are either the parts of a parent key followed by a
+   * name, or a catalog name, schema name and name.
+   */
+  private static final class LookupKey
   {
-    final List<String> key;
-    if (namedObject == null)
+
+    private NamedObjectKey parentKey;
+    private String catalogName;
+    private String schemaName;
+    private String name;
+    private int hashCode;
+
+    @Override
+    public boolean equals(final Object obj)
     {
-      key = null;
+      if (!(obj instanceof NamedObjectKey))
+      {
+        return false;
+      }
+      final NamedObjectKey other = (NamedObjectKey) obj;
+      if (hashCode != other.hashCode())
+      {
+        return false;
+      }
+      if (parentKey == null)
+      {
+        return other.size() == 3 && Objects.equals(catalogName, other.get(0))
+               && Objects.equals(schemaName, other.get(1))
+               && Objects.equals(name, other.get(2));
+      }
+
+      final int parentSize = parentKey.size();
+      if (other.size() != parentSize + 1
+          || !Objects.equals(name, other.get(parentSize)))
+      {
+        return false;
+      }
+      for (int i = 0; i < parentSize; i++)
+      {
+        if (!Objects.equals(parentKey.get(i), other.get(i)))
+        {
+          return false;
+        }
+      }
+      return true;
     }
-    else
+
+    @Override
+    public int hashCode()
     {
-      key = namedObject.toUniqueLookupKey();
+      return hashCode;
     }
-    return key;
+
+    void clear()
+    {
+      parentKey = null;
+      catalogName = null;
+      schemaName = null;
+      name = null;
+    }
+
+    LookupKey set(final NamedObjectKey parentKey, final String name)
+    {
+      this.parentKey = parentKey;
+      this.name = name;
+      hashCode = NamedObjectKey.hash(parentKey.hashCode(), name);
+      return this;
+    }
+
+    LookupKey set(final String catalogName,
+                  final String schemaName,
+                  final String name)
+    {
+      parentKey = null;
+      this.catalogName = catalogName;
+      this.schemaName = schemaName;
+      this.name = name;
+      hashCode = NamedObjectKey
+        .hash(NamedObjectKey.hash(NamedObjectKey.hash(1, catalogName),
+                                  schemaName),
+              name);
+      return this;
+    }
+
   }
 
-  private static List<String> makeLookupKey(final NamedObject namedObject,
-                                            final String name)
+  private static final long serialVersionUID = 3257847666804142128L;
+
+  private static NamedObjectKey makeLookupKey(final NamedObject namedObject)
   {
-    final List<String> key = makeLookupKey(namedObject);
-    if (key != null)
+    final NamedObjectKey key;
+    if (namedObject == null)
     {
-      key.add(name);
+      key = null;
+    }
+    else
+    {
+      key = namedObject.key();
     }
     return key;
   }
 
-  private final Map<List<String>, N> objects = new HashMap<>();
+  private final Map<NamedObjectKey, N> objects = new HashMap<>();
+  private transient LookupKey lookupKey;
+  // Sorted snapshot of the values, and an index of the snapshot by
+  // schema, which are discarded whenever the list changes
+  private transient List<N> sortedValues;
+  private transient Map<Schema, List<N>> sortedValuesBySchema;
 
   @Override
-  public void filter(final Predicate<? super N> predicate)
+  public synchronized void filter(final Predicate<? super N> predicate)
   {
     if (predicate == null)
     {
       return;
     }
 
-    final Set<Entry<List<String>, N>> entrySet = objects.entrySet();
-    for (final Iterator<Entry<List<String>, N>> iterator = entrySet
+    final Set<Entry<NamedObjectKey, N>> entrySet = objects.entrySet();
+    for (final Iterator<Entry<NamedObjectKey, N>> iterator = entrySet
       .iterator(); iterator.hasNext();)
     {
-      final Entry<List<String>, N> entry = iterator.next();
+      final Entry<NamedObjectKey, N> entry = iterator.next();
       if (!predicate.test(entry.getValue()))
       {
         iterator.remove();
+        clearSortedValues();
       }
     }
   }
@@ -167,20 +259,21 @@ final class NamedObjectList<N extends NamedObject>
    * @param namedObject
    *        Named object
    */
-  boolean add(final N namedObject)
+  synchronized boolean add(final N namedObject)
   {
     requireNonNull(namedObject, "Cannot add a null object to the list");
-    final List<String> key = makeLookupKey(namedObject);
+    final NamedObjectKey key = makeLookupKey(namedObject);
     objects.put(key, namedObject);
+    clearSortedValues();
     return true;
   }
 
-  boolean contains(final NamedObject namedObject)
+  synchronized boolean contains(final NamedObject namedObject)
   {
     return objects.containsKey(makeLookupKey(namedObject));
   }
 
-  boolean isEmpty()
+  synchronized boolean isEmpty()
   {
     return objects.isEmpty();
   }
@@ -192,20 +285,52 @@ final class NamedObjectList<N extends NamedObject>
    *        Fully qualified name
    * @return Named object
    */
-  Optional<N> lookup(final List<String> lookupKey)
+  synchronized Optional<N> lookup(final List<String> lookupKey)
   {
-    return internalGet(lookupKey);
+    if (lookupKey == null)
+    {
+      return Optional.empty();
+    }
+    return internalGet(new NamedObjectKey(lookupKey));
+  }
+
+  synchronized Optional<N> lookup(final NamedObject namedObject,
+                                  final String name)
+  {
+    if (namedObject == null)
+    {
+      return Optional.empty();
+    }
+    return internalGet(getLookupKey().set(namedObject.key(), name));
   }
 
-  Optional<N> lookup(final NamedObject namedObject, final String name)
+  /**
+   * Looks up a named object that belongs to a schema, such as a table,
+   * without creating a lookup key.
+   *
+   * @param catalogName
+   *        Catalog name
+   * @param schemaName
+   *        Schema name
+   * @param name
+   *        Name of the object
+   * @return Named object
+   */
+  synchronized Optional<N> lookup(final String catalogName,
+                                  final String schemaName,
+                                  final String name)
   {
-    final List<String> key = makeLookupKey(namedObject, name);
-    return internalGet(key);
+    return internalGet(getLookupKey().set(catalogName, schemaName, name));
   }
 
-  N remove(final N namedObject)
+  synchronized N remove(final N namedObject)
   {
-    return objects.remove(makeLookupKey(namedObject));
+    final N removed = objects.remove(makeLookupKey(namedObject));
+    if (removed != null)
+    {
+      clearSortedValues();
+    }
+    return removed;
   }
 
   /**
@@ -213,26 +338,93 @@ final class NamedObjectList<N extends NamedObject>
    *
    * @return Number of elements in this list.
    */
-  int size()
+  synchronized int size()
   {
     return objects.size();
   }
 
   /**
-   * Gets all named objects in the list, in sorted order.
+   * Gets all named objects in the list, in sorted order. The returned
+   * list is an unmodifiable snapshot that is shared between callers.
    *
    * @return All named objects
    */
-  List<N> values()
+  synchronized List<N> values()
   {
-    final List<N> all = new ArrayList<>(objects.values());
-    Collections.sort(all);
-    return all;
+    if (sortedValues == null)
+    {
+      final List<N> all = new ArrayList<>(objects.values());
+      Collections.sort(all);
+      sortedValues = Collections.unmodifiableList(all);
+      sortedValuesBySchema = null;
+    }
+    return sortedValues;
   }
 
-  private Optional<N> internalGet(final List<String> key)
+  /**
+   * Gets all named objects in the list that belong to a schema, in
+   * sorted order. The returned list is an unmodifiable snapshot.
+   *
+   * @param schema
+   *        Schema to get objects for
+   * @return Named objects in the schema
+   */
+  synchronized List<N> values(final Schema schema)
   {
-    return Optional.ofNullable(objects.get(key));
+    requireNonNull(schema, "No schema provided");
+    final List<N> all = values();
+    if (sortedValuesBySchema == null)
+    {
+      final Map<Schema, List<N>> bySchema = new HashMap<>();
+      for (final N namedObject: all)
+      {
+        if (namedObject instanceof DatabaseObject)
+        {
+          final Schema objectSchema = ((DatabaseObject) namedObject)
+            .getSchema();
+          bySchema.computeIfAbsent(objectSchema, key -> new ArrayList<>())
+            .add(namedObject);
+        }
+      }
+      for (final Entry<Schema, List<N>> entry: bySchema.entrySet())
+      {
+        entry.setValue(Collections.unmodifiableList(entry.getValue()));
+      }
+      sortedValuesBySchema = bySchema;
+    }
+    return sortedValuesBySchema.getOrDefault(schema,
+                                             Collections.emptyList());
+  }
+
+  /**
+   * Discards the sorted snapshot of the values. This needs to be called
+   * when the sort order of objects already in the list changes, for
+   * example when tables are sorted by dependencies.
+   */
+  synchronized void clearSortedValues()
+  {
+    sortedValues = null;
+    sortedValuesBySchema = null;
+  }
+
+  private LookupKey getLookupKey()
+  {
+    // Not serialized, so create it again after deserialization
+    if (lookupKey == null)
+    {
+      lookupKey = new LookupKey();
+    }
+    return lookupKey;
+  }
+
+  private Optional<N> internalGet(final Object key)
+  {
+    final Optional<N> value = Optional.ofNullable(objects.get(key));
+    if (key instanceof LookupKey)
+    {
+      ((LookupKey) key).clear();
+    }
+    return value;
   }
 
 }
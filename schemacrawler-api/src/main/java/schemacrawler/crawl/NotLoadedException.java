@@ -31,6 +31,7 @@ package schemacrawler.crawl;
 
 import schemacrawler.schema.Constraint;
 import schemacrawler.schema.PartialDatabaseObject;
+import schemacrawler.schema.Table;
 
 public class NotLoadedException
   extends UnsupportedOperationException
@@ -51,4 +52,12 @@ public class NotLoadedException
                         databaseObject));
   }
 
+  public NotLoadedException(final Table table,
+                            final String tableDetail,
+                            final Throwable cause)
+  {
+    super(String.format("Could not load %s for table <%s>", tableDetail, table),
+          cause);
+  }
+
 }
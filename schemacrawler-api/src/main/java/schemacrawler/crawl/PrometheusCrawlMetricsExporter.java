@@ -0,0 +1,158 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.CrawlPhaseMetrics;
+
+/**
+ * Writes crawl metrics to a file in the Prometheus text exposition
+ * format, for example, for the node exporter text file collector. Each
+ * phase is labeled with the database, the crawl and the phase name.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class PrometheusCrawlMetricsExporter
+  extends BaseCrawlMetricsExporter
+{
+
+  private static final class PhaseTotals
+  {
+
+    private final String crawlName;
+    private final String phaseName;
+    private double durationSeconds;
+    private double queryCount;
+    private double rowCount;
+    private double bytesFetched;
+
+    PhaseTotals(final String crawlName, final String phaseName)
+    {
+      this.crawlName = crawlName;
+      this.phaseName = phaseName;
+    }
+
+  }
+
+  private static final String METRIC_PREFIX = "schemacrawler_crawl_phase_";
+
+  private static String escapeLabelValue(final String text)
+  {
+    if (text == null)
+    {
+      return "";
+    }
+    return text.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n",
+                                                                    "\\n");
+  }
+
+  public PrometheusCrawlMetricsExporter(final Path outputFile)
+  {
+    super(outputFile);
+  }
+
+  @Override
+  void write(final CrawlInfo crawlInfo, final Writer writer)
+    throws IOException
+  {
+    // Phases with the same name are added together, since every series
+    // needs a unique set of labels
+    final Map<String, PhaseTotals> phases = new LinkedHashMap<>();
+    for (final CrawlPhaseMetrics phase: crawlInfo.getCrawlPhaseMetrics())
+    {
+      final PhaseTotals totals = phases
+        .computeIfAbsent(phase.getCrawlName() + "." + phase.getPhaseName(),
+                         key -> new PhaseTotals(phase.getCrawlName(),
+                                                phase.getPhaseName()));
+      totals.durationSeconds = totals.durationSeconds
+                               + phase.getDuration().toNanos() / 1E9;
+      totals.queryCount = totals.queryCount + phase.getQueryCount();
+      totals.rowCount = totals.rowCount + phase.getRowCount();
+      totals.bytesFetched = totals.bytesFetched + phase.getBytesFetched();
+    }
+
+    final String database = escapeLabelValue(crawlInfo.getDatabaseInfo());
+    writeMetric(writer,
+                database,
+                phases,
+                "duration_seconds",
+                "Time taken for a crawl phase, in seconds.",
+                totals -> totals.durationSeconds);
+    writeMetric(writer,
+                database,
+                phases,
+                "queries",
+                "Number of metadata calls and queries run in a crawl phase.",
+                totals -> totals.queryCount);
+    writeMetric(writer,
+                database,
+                phases,
+                "rows",
+                "Number of metadata rows read in a crawl phase.",
+                totals -> totals.rowCount);
+    writeMetric(writer,
+                database,
+                phases,
+                "bytes",
+                "Approximate number of bytes of metadata read in a crawl phase.",
+                totals -> totals.bytesFetched);
+  }
+
+  private void writeMetric(final Writer writer,
+                           final String database,
+                           final Map<String, PhaseTotals> phases,
+                           final String name,
+                           final String help,
+                           final ToDoubleFunction<PhaseTotals> value)
+    throws IOException
+  {
+    // The exposition format requires '\n' line endings
+    final String metricName = METRIC_PREFIX + name;
+    writer.write(String.format("# HELP %s %s\n", metricName, help));
+    writer.write(String.format("# TYPE %s gauge\n", metricName));
+    for (final PhaseTotals totals: phases.values())
+    {
+      writer.write(String
+        .format("%s{database=\"%s\",crawl=\"%s\",phase=\"%s\"} %s\n",
+                metricName,
+                database,
+                escapeLabelValue(totals.crawlName),
+                escapeLabelValue(totals.phaseName),
+                Double.toString(value.applyAsDouble(totals))));
+    }
+  }
+
+}
@@ -35,14 +35,19 @@ import static sf.util.DatabaseUtility.checkConnection;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.Optional;
 import java.util.logging.Level;
 
+import javax.sql.DataSource;
+
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.utility.FetchSize;
 import schemacrawler.utility.JavaSqlTypes;
 import schemacrawler.utility.TableTypes;
 import schemacrawler.utility.TypeMap;
 import sf.util.SchemaCrawlerLogger;
+import sf.util.StopWatch;
 import sf.util.StringFormat;
 
 /**
@@ -57,17 +62,40 @@ final class RetrieverConnection
     .getLogger(RetrieverConnection.class.getName());
 
   private final Connection connection;
+  private final Optional<CrawlConnections> crawlConnections;
   private final DatabaseMetaData metaData;
   private final SchemaRetrievalOptions schemaRetrievalOptions;
   private final TableTypes tableTypes;
   private final JavaSqlTypes javaSqlTypes;
+  private final CrawlMetricsRecorder crawlMetrics;
+
+  RetrieverConnection(final Connection connection,
+                      final CrawlConnections crawlConnections,
+                      final SchemaRetrievalOptions schemaRetrievalOptions)
+    throws SQLException
+  {
+    this(connection,
+         crawlConnections,
+         schemaRetrievalOptions,
+         new CrawlMetricsRecorder());
+  }
 
   RetrieverConnection(final Connection connection,
                       final SchemaRetrievalOptions schemaRetrievalOptions)
     throws SQLException
   {
+    this(connection, null, schemaRetrievalOptions);
+  }
+
+  private RetrieverConnection(final Connection connection,
+                              final CrawlConnections crawlConnections,
+                              final SchemaRetrievalOptions schemaRetrievalOptions,
+                              final CrawlMetricsRecorder crawlMetrics)
+    throws SQLException
+  {
 
     this.connection = checkConnection(connection);
+    this.crawlConnections = Optional.ofNullable(crawlConnections);
     metaData = connection.getMetaData();
     this.schemaRetrievalOptions = requireNonNull(schemaRetrievalOptions,
                                                  "No database specific overrides provided");
@@ -79,6 +107,8 @@ final class RetrieverConnection
                new StringFormat("Supported table types are <%s>", tableTypes));
 
     javaSqlTypes = new JavaSqlTypes();
+    this.crawlMetrics = requireNonNull(crawlMetrics,
+                                       "No crawl metrics recorder provided");
   }
 
   public MetadataRetrievalStrategy getForeignKeyRetrievalStrategy()
@@ -116,6 +146,54 @@ final class RetrieverConnection
     return connection;
   }
 
+  /**
+   * Gets the recorder for metrics of the crawl that this connection is
+   * used for.
+   *
+   * @return Crawl metrics recorder
+   */
+  CrawlMetricsRecorder getCrawlMetrics()
+  {
+    return crawlMetrics;
+  }
+
+  /**
+   * Gets the connections for concurrent crawl work, which are only
+   * available for crawls that were set up with a data source.
+   *
+   * @return Connections for concurrent crawl work, if available
+   */
+  Optional<CrawlConnections> getCrawlConnections()
+  {
+    return crawlConnections;
+  }
+
+  /**
+   * Gets the source of additional connections, which is only available
+   * for crawls that were set up with a data source.
+   *
+   * @return Source of additional connections, if available
+   */
+  Optional<DataSource> getDataSource()
+  {
+    return crawlConnections.map(CrawlConnections::getDataSource);
+  }
+
+  /**
+   * Gets the fetch size hints for metadata queries.
+   *
+   * @return Fetch size hints
+   */
+  FetchSize getFetchSize()
+  {
+    return schemaRetrievalOptions.getFetchSize();
+  }
+
+  MetadataRetrievalStrategy getFunctionColumnRetrievalStrategy()
+  {
+    return schemaRetrievalOptions.getFunctionColumnRetrievalStrategy();
+  }
+
   /**
    * Gets the INFORMATION_SCHEMA views select SQL statements.
    *
@@ -136,11 +214,31 @@ final class RetrieverConnection
     return metaData;
   }
 
+  int getMetadataRetrievalPoolSize()
+  {
+    return schemaRetrievalOptions.getMetadataRetrievalPoolSize();
+  }
+
+  MetadataRetrievalStrategy getProcedureColumnRetrievalStrategy()
+  {
+    return schemaRetrievalOptions.getProcedureColumnRetrievalStrategy();
+  }
+
+  MetadataRetrievalStrategy getTableColumnPrivilegeRetrievalStrategy()
+  {
+    return schemaRetrievalOptions.getTableColumnPrivilegeRetrievalStrategy();
+  }
+
   MetadataRetrievalStrategy getTableColumnRetrievalStrategy()
   {
     return schemaRetrievalOptions.getTableColumnRetrievalStrategy();
   }
 
+  MetadataRetrievalStrategy getTablePrivilegeRetrievalStrategy()
+  {
+    return schemaRetrievalOptions.getTablePrivilegeRetrievalStrategy();
+  }
+
   TableTypes getTableTypes()
   {
     return tableTypes;
@@ -161,4 +259,36 @@ final class RetrieverConnection
     return schemaRetrievalOptions.isSupportsSchemas();
   }
 
+  /**
+   * Creates a connection for a concurrent crawl phase, which shares the
+   * crawl connections, options and crawl metrics of this connection.
+   *
+   * @param connection
+   *        Connection for the crawl phase
+   * @return Retriever connection for the crawl phase
+   * @throws SQLException
+   *         On an exception
+   */
+  RetrieverConnection withConnection(final Connection connection)
+    throws SQLException
+  {
+    return new RetrieverConnection(connection,
+                                   crawlConnections.orElse(null),
+                                   schemaRetrievalOptions,
+                                   crawlMetrics);
+  }
+
+  /**
+   * Creates a stop watch that records the metrics for each timed task
+   * as a phase of the crawl.
+   *
+   * @param id
+   *        Name of the crawl
+   * @return New stop watch
+   */
+  StopWatch newStopWatch(final String id)
+  {
+    return new StopWatch(id, crawlMetrics);
+  }
+
 }
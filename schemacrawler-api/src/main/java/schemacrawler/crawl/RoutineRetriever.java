@@ -32,10 +32,14 @@ package schemacrawler.crawl;
 import static java.util.Objects.requireNonNull;
 import static sf.util.Utility.isBlank;
 
+import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 
@@ -51,8 +55,10 @@ import schemacrawler.schema.ProcedureReturnType;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.SchemaReference;
 import schemacrawler.schemacrawler.InclusionRule;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerSQLException;
+import schemacrawler.utility.Query;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
 
@@ -77,10 +83,12 @@ final class RoutineRetriever
     super(retrieverConnection, catalog, options);
   }
 
-  void retrieveFunctionColumns(final MutableFunction function,
+  void retrieveFunctionColumns(final NamedObjectList<MutableRoutine> allRoutines,
                                final InclusionRule columnInclusionRule)
     throws SQLException
   {
+    requireNonNull(allRoutines, "No functions provided");
+
     final InclusionRuleFilter<FunctionColumn> columnFilter = new InclusionRuleFilter<>(columnInclusionRule,
                                                                                        true);
     if (columnFilter.isExcludeAll())
@@ -91,75 +99,39 @@ final class RoutineRetriever
       return;
     }
 
-    int ordinalNumber = 0;
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getFunctionColumns(function.getSchema().getCatalogName(),
-                          function.getSchema().getName(),
-                          function.getName(),
-                          null));)
+    final MetadataRetrievalStrategy functionColumnRetrievalStrategy = getRetrieverConnection()
+      .getFunctionColumnRetrievalStrategy();
+    switch (functionColumnRetrievalStrategy)
     {
-      while (results.next())
-      {
-        final String columnCatalogName = normalizeCatalogName(results
-          .getString("FUNCTION_CAT"));
-        final String schemaName = normalizeSchemaName(results
-          .getString("FUNCTION_SCHEM"));
-        final String functionName = results.getString("FUNCTION_NAME");
-        final String columnName = results.getString("COLUMN_NAME");
-        final String specificName = results.getString("SPECIFIC_NAME");
-
-        final MutableFunctionColumn column = new MutableFunctionColumn(function,
-                                                                       columnName);
-        if (columnFilter.test(column) && function.getName().equals(functionName)
-            && belongsToSchema(function, columnCatalogName, schemaName))
+      case data_dictionary_all:
+        LOGGER
+          .log(Level.INFO,
+               "Retrieving function columns, using fast data dictionary retrieval");
+        retrieveFunctionColumnsFromDataDictionary(allRoutines, columnFilter);
+        break;
+
+      case metadata_all:
+        LOGGER
+          .log(Level.INFO,
+               "Retrieving function columns, using fast meta-data retrieval");
+        retrieveFunctionColumnsFromMetadataForAllFunctions(allRoutines,
+                                                           columnFilter);
+        break;
+
+      case metadata:
+        LOGGER.log(Level.INFO, "Retrieving function columns");
+        for (final MutableRoutine routine: allRoutines)
         {
-          if (!isBlank(specificName)
-              && !specificName.equals(function.getSpecificName()))
+          if (routine instanceof MutableFunction)
           {
-            continue;
+            retrieveFunctionColumnsFromMetadata((MutableFunction) routine,
+                                                columnFilter);
           }
-
-          LOGGER.log(Level.FINE,
-                     new StringFormat("Retrieving function column: %s.%s",
-                                      function.getFullName(),
-                                      columnName));
-
-          final FunctionColumnType columnType = results
-            .getEnumFromShortId("COLUMN_TYPE", FunctionColumnType.unknown);
-          final int dataType = results.getInt("DATA_TYPE", 0);
-          final String typeName = results.getString("TYPE_NAME");
-          final int length = results.getInt("LENGTH", 0);
-          final int precision = results.getInt("PRECISION", 0);
-          final boolean isNullable = results
-            .getShort("NULLABLE",
-                      (short) DatabaseMetaData.functionNullableUnknown) == (short) DatabaseMetaData.functionNullable;
-          final String remarks = results.getString("REMARKS");
-          column.setOrdinalPosition(ordinalNumber++);
-          column.setFunctionColumnType(columnType);
-          column.setColumnDataType(lookupOrCreateColumnDataType(function
-            .getSchema(), dataType, typeName));
-          column.setSize(length);
-          column.setPrecision(precision);
-          column.setNullable(isNullable);
-          column.setRemarks(remarks);
-
-          column.addAttributes(results.getAttributes());
-
-          function.addColumn(column);
         }
-      }
-    }
-    catch (final AbstractMethodError | SQLFeatureNotSupportedException e)
-    {
-      logSQLFeatureNotSupported(new StringFormat("Could not retrieve columns for function %s",
-                                                 function),
-                                e);
-    }
-    catch (final SQLException e)
-    {
-      logPossiblyUnsupportedSQLFeature(new StringFormat("Could not retrieve columns for function %s",
-                                                        function),
-                                       e);
+        break;
+
+      default:
+        break;
     }
 
   }
@@ -207,10 +179,12 @@ final class RoutineRetriever
 
   }
 
-  void retrieveProcedureColumns(final MutableProcedure procedure,
+  void retrieveProcedureColumns(final NamedObjectList<MutableRoutine> allRoutines,
                                 final InclusionRule columnInclusionRule)
     throws SQLException
   {
+    requireNonNull(allRoutines, "No procedures provided");
+
     final InclusionRuleFilter<ProcedureColumn> columnFilter = new InclusionRuleFilter<>(columnInclusionRule,
                                                                                         true);
     if (columnFilter.isExcludeAll())
@@ -221,70 +195,39 @@ final class RoutineRetriever
       return;
     }
 
-    int ordinalNumber = 0;
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getProcedureColumns(procedure.getSchema().getCatalogName(),
-                           procedure.getSchema().getName(),
-                           procedure.getName(),
-                           null));)
+    final MetadataRetrievalStrategy procedureColumnRetrievalStrategy = getRetrieverConnection()
+      .getProcedureColumnRetrievalStrategy();
+    switch (procedureColumnRetrievalStrategy)
     {
-      while (results.next())
-      {
-        final String columnCatalogName = normalizeCatalogName(results
-          .getString("PROCEDURE_CAT"));
-        final String schemaName = normalizeSchemaName(results
-          .getString("PROCEDURE_SCHEM"));
-        final String procedureName = results.getString("PROCEDURE_NAME");
-        final String columnName = results.getString("COLUMN_NAME");
-        final String specificName = results.getString("SPECIFIC_NAME");
-
-        final MutableProcedureColumn column = new MutableProcedureColumn(procedure,
-                                                                         columnName);
-        if (columnFilter.test(column)
-            && procedure.getName().equals(procedureName)
-            && belongsToSchema(procedure, columnCatalogName, schemaName))
+      case data_dictionary_all:
+        LOGGER
+          .log(Level.INFO,
+               "Retrieving procedure columns, using fast data dictionary retrieval");
+        retrieveProcedureColumnsFromDataDictionary(allRoutines, columnFilter);
+        break;
+
+      case metadata_all:
+        LOGGER
+          .log(Level.INFO,
+               "Retrieving procedure columns, using fast meta-data retrieval");
+        retrieveProcedureColumnsFromMetadataForAllProcedures(allRoutines,
+                                                             columnFilter);
+        break;
+
+      case metadata:
+        LOGGER.log(Level.INFO, "Retrieving procedure columns");
+        for (final MutableRoutine routine: allRoutines)
         {
-          if (!isBlank(specificName)
-              && !specificName.equals(procedure.getSpecificName()))
+          if (routine instanceof MutableProcedure)
           {
-            continue;
+            retrieveProcedureColumnsFromMetadata((MutableProcedure) routine,
+                                                 columnFilter);
           }
-
-          LOGGER.log(Level.FINE,
-                     new StringFormat("Retrieving procedure column: %s.%s",
-                                      procedure.getFullName(),
-                                      columnName));
-
-          final ProcedureColumnType columnType = results
-            .getEnumFromShortId("COLUMN_TYPE", ProcedureColumnType.unknown);
-          final int dataType = results.getInt("DATA_TYPE", 0);
-          final String typeName = results.getString("TYPE_NAME");
-          final int length = results.getInt("LENGTH", 0);
-          final int precision = results.getInt("PRECISION", 0);
-          final boolean isNullable = results
-            .getShort("NULLABLE",
-                      (short) DatabaseMetaData.procedureNullableUnknown) == (short) DatabaseMetaData.procedureNullable;
-          final String remarks = results.getString("REMARKS");
-          column.setOrdinalPosition(ordinalNumber++);
-          column.setProcedureColumnType(columnType);
-          column.setColumnDataType(lookupOrCreateColumnDataType(procedure
-            .getSchema(), dataType, typeName));
-          column.setSize(length);
-          column.setPrecision(precision);
-          column.setNullable(isNullable);
-          column.setRemarks(remarks);
-
-          column.addAttributes(results.getAttributes());
-
-          procedure.addColumn(column);
         }
-      }
-    }
-    catch (final SQLException e)
-    {
-      throw new SchemaCrawlerSQLException("Could not retrieve columns for procedure "
-                                          + procedure,
-                                          e);
+        break;
+
+      default:
+        break;
     }
 
   }
@@ -378,6 +321,87 @@ final class RoutineRetriever
     }
   }
 
+  private void createFunctionColumn(final MetadataResultSet results,
+                                    final MutableFunction function,
+                                    final InclusionRuleFilter<FunctionColumn> columnFilter)
+  {
+    final String columnCatalogName = normalizeCatalogName(results
+      .getString("FUNCTION_CAT"));
+    final String schemaName = normalizeSchemaName(results
+      .getString("FUNCTION_SCHEM"));
+    final String functionName = results.getString("FUNCTION_NAME");
+    final String columnName = results.getString("COLUMN_NAME");
+    final String specificName = results.getString("SPECIFIC_NAME");
+
+    final MutableFunctionColumn column = new MutableFunctionColumn(function,
+                                                                   columnName);
+    if (columnFilter.test(column) && function.getName().equals(functionName)
+        && belongsToSchema(function, columnCatalogName, schemaName))
+    {
+      if (!isBlank(specificName)
+          && !specificName.equals(function.getSpecificName()))
+      {
+        return;
+      }
+
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Retrieving function column: %s.%s",
+                                  function.getFullName(),
+                                  columnName));
+
+      final FunctionColumnType columnType = results
+        .getEnumFromShortId("COLUMN_TYPE", FunctionColumnType.unknown);
+      final int dataType = results.getInt("DATA_TYPE", 0);
+      final String typeName = results.getString("TYPE_NAME");
+      final int length = results.getInt("LENGTH", 0);
+      final int precision = results.getInt("PRECISION", 0);
+      final boolean isNullable = results
+        .getShort("NULLABLE",
+                  (short) DatabaseMetaData.functionNullableUnknown) == (short) DatabaseMetaData.functionNullable;
+      final String remarks = results.getString("REMARKS");
+      column.setOrdinalPosition(function.getColumns().size());
+      column.setFunctionColumnType(columnType);
+      column.setColumnDataType(lookupOrCreateColumnDataType(function
+        .getSchema(), dataType, typeName));
+      column.setSize(length);
+      column.setPrecision(precision);
+      column.setNullable(isNullable);
+      column.setRemarks(remarks);
+
+      column.addAttributes(results.getAttributes());
+
+      function.addColumn(column);
+    }
+  }
+
+  private void createFunctionColumns(final MetadataResultSet results,
+                                     final NamedObjectList<MutableRoutine> allRoutines,
+                                     final InclusionRuleFilter<FunctionColumn> columnFilter)
+    throws SQLException
+  {
+    while (results.next())
+    {
+      final String catalogName = normalizeCatalogName(results
+        .getString("FUNCTION_CAT"));
+      final String schemaName = normalizeSchemaName(results
+        .getString("FUNCTION_SCHEM"));
+      final String functionName = results.getString("FUNCTION_NAME");
+      final String specificName = results.getString("SPECIFIC_NAME");
+
+      for (final MutableRoutine routine: lookupRoutines(allRoutines,
+                                                        catalogName,
+                                                        schemaName,
+                                                        functionName,
+                                                        specificName))
+      {
+        if (routine instanceof MutableFunction)
+        {
+          createFunctionColumn(results, (MutableFunction) routine, columnFilter);
+        }
+      }
+    }
+  }
+
   private void createProcedure(final MetadataResultSet results,
                                final NamedObjectList<SchemaReference> schemas,
                                final InclusionRuleFilter<Procedure> procedureFilter)
@@ -422,12 +446,252 @@ final class RoutineRetriever
     }
   }
 
+  private void createProcedureColumn(final MetadataResultSet results,
+                                     final MutableProcedure procedure,
+                                     final InclusionRuleFilter<ProcedureColumn> columnFilter)
+  {
+    final String columnCatalogName = normalizeCatalogName(results
+      .getString("PROCEDURE_CAT"));
+    final String schemaName = normalizeSchemaName(results
+      .getString("PROCEDURE_SCHEM"));
+    final String procedureName = results.getString("PROCEDURE_NAME");
+    final String columnName = results.getString("COLUMN_NAME");
+    final String specificName = results.getString("SPECIFIC_NAME");
+
+    final MutableProcedureColumn column = new MutableProcedureColumn(procedure,
+                                                                     columnName);
+    if (columnFilter.test(column)
+        && procedure.getName().equals(procedureName)
+        && belongsToSchema(procedure, columnCatalogName, schemaName))
+    {
+      if (!isBlank(specificName)
+          && !specificName.equals(procedure.getSpecificName()))
+      {
+        return;
+      }
+
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Retrieving procedure column: %s.%s",
+                                  procedure.getFullName(),
+                                  columnName));
+
+      final ProcedureColumnType columnType = results
+        .getEnumFromShortId("COLUMN_TYPE", ProcedureColumnType.unknown);
+      final int dataType = results.getInt("DATA_TYPE", 0);
+      final String typeName = results.getString("TYPE_NAME");
+      final int length = results.getInt("LENGTH", 0);
+      final int precision = results.getInt("PRECISION", 0);
+      final boolean isNullable = results
+        .getShort("NULLABLE",
+                  (short) DatabaseMetaData.procedureNullableUnknown) == (short) DatabaseMetaData.procedureNullable;
+      final String remarks = results.getString("REMARKS");
+      column.setOrdinalPosition(procedure.getColumns().size());
+      column.setProcedureColumnType(columnType);
+      column.setColumnDataType(lookupOrCreateColumnDataType(procedure
+        .getSchema(), dataType, typeName));
+      column.setSize(length);
+      column.setPrecision(precision);
+      column.setNullable(isNullable);
+      column.setRemarks(remarks);
+
+      column.addAttributes(results.getAttributes());
+
+      procedure.addColumn(column);
+    }
+  }
+
+  private void createProcedureColumns(final MetadataResultSet results,
+                                      final NamedObjectList<MutableRoutine> allRoutines,
+                                      final InclusionRuleFilter<ProcedureColumn> columnFilter)
+    throws SQLException
+  {
+    while (results.next())
+    {
+      final String catalogName = normalizeCatalogName(results
+        .getString("PROCEDURE_CAT"));
+      final String schemaName = normalizeSchemaName(results
+        .getString("PROCEDURE_SCHEM"));
+      final String procedureName = results.getString("PROCEDURE_NAME");
+      final String specificName = results.getString("SPECIFIC_NAME");
+
+      for (final MutableRoutine routine: lookupRoutines(allRoutines,
+                                                        catalogName,
+                                                        schemaName,
+                                                        procedureName,
+                                                        specificName))
+      {
+        if (routine instanceof MutableProcedure)
+        {
+          createProcedureColumn(results, (MutableProcedure) routine, columnFilter);
+        }
+      }
+    }
+  }
+
+  /**
+   * Looks up the routines that a routine column row belongs to. Rows
+   * without a specific name apply to every overload of the routine, in
+   * the same way as when routine columns are retrieved one routine at a
+   * time.
+   */
+  private List<MutableRoutine> lookupRoutines(final NamedObjectList<MutableRoutine> allRoutines,
+                                              final String catalogName,
+                                              final String schemaName,
+                                              final String routineName,
+                                              final String specificName)
+  {
+    final List<MutableRoutine> routines = new ArrayList<>();
+    if (!isBlank(specificName))
+    {
+      final Optional<MutableRoutine> routineOptional = lookupRoutine(catalogName,
+                                                                     schemaName,
+                                                                     routineName,
+                                                                     specificName);
+      if (routineOptional.isPresent())
+      {
+        routines.add(routineOptional.get());
+      }
+    }
+    else
+    {
+      for (final MutableRoutine routine: allRoutines)
+      {
+        if (routine.getName().equals(routineName)
+            && belongsToSchema(routine, catalogName, schemaName))
+        {
+          routines.add(routine);
+        }
+      }
+    }
+    return routines;
+  }
+
+  private void retrieveFunctionColumnsFromDataDictionary(final NamedObjectList<MutableRoutine> allRoutines,
+                                                         final InclusionRuleFilter<FunctionColumn> columnFilter)
+    throws SchemaCrawlerSQLException
+  {
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+    if (!informationSchemaViews.hasFunctionColumnsSql())
+    {
+      LOGGER.log(Level.FINE, "Function columns SQL statement was not provided");
+      return;
+    }
+
+    final Query functionColumnsSql = informationSchemaViews
+      .getFunctionColumnsSql();
+    final Connection connection = getDatabaseConnection();
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results = new MetadataResultSet(functionColumnsSql,
+                                                                statement,
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
+    {
+      results.setDescription("retrieveFunctionColumnsFromDataDictionary");
+      createFunctionColumns(results, allRoutines, columnFilter);
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerSQLException("Could not retrieve function columns from SQL:\n"
+                                          + functionColumnsSql,
+                                          e);
+    }
+  }
+
+  private void retrieveFunctionColumnsFromMetadata(final MutableFunction function,
+                                                   final InclusionRuleFilter<FunctionColumn> columnFilter)
+  {
+    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      .getFunctionColumns(function.getSchema().getCatalogName(),
+                          function.getSchema().getName(),
+                          function.getName(),
+                          null), getFetchSize());)
+    {
+      while (results.next())
+      {
+        createFunctionColumn(results, function, columnFilter);
+      }
+    }
+    catch (final AbstractMethodError | SQLFeatureNotSupportedException e)
+    {
+      logSQLFeatureNotSupported(new StringFormat("Could not retrieve columns for function %s",
+                                                 function),
+                                e);
+    }
+    catch (final SQLException e)
+    {
+      logPossiblyUnsupportedSQLFeature(new StringFormat("Could not retrieve columns for function %s",
+                                                        function),
+                                       e);
+    }
+  }
+
+  private void retrieveFunctionColumnsFromMetadataForAllFunctions(final NamedObjectList<MutableRoutine> allRoutines,
+                                                                  final InclusionRuleFilter<FunctionColumn> columnFilter)
+    throws SQLException
+  {
+    for (final SchemaReference schema: getSchemasForMetadataRetrieval())
+    {
+      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+        .getFunctionColumns(schema.getCatalogName(),
+                            schema.getName(),
+                            "%",
+                            null),
+                                                                   getFetchSize());)
+      {
+        results
+          .setDescription("retrieveFunctionColumnsFromMetadataForAllFunctions");
+        createFunctionColumns(results, allRoutines, columnFilter);
+      }
+      catch (final AbstractMethodError | SQLFeatureNotSupportedException e)
+      {
+        logSQLFeatureNotSupported(new StringFormat("Could not retrieve function columns"),
+                                  e);
+      }
+      catch (final SQLException e)
+      {
+        logPossiblyUnsupportedSQLFeature(new StringFormat("Could not retrieve function columns"),
+                                         e);
+      }
+    }
+  }
+
   private void retrieveFunctionsFromDataDictionary(final NamedObjectList<SchemaReference> schemas,
                                                    final InclusionRuleFilter<Function> functionFilter)
+    throws SchemaCrawlerSQLException
   {
-    LOGGER
-      .log(Level.CONFIG,
-           "Not retrieving functions, since retrieval from data dictionary is not supported");
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+    if (!informationSchemaViews.hasFunctionsSql())
+    {
+      LOGGER.log(Level.FINE, "Functions SQL statement was not provided");
+      return;
+    }
+
+    final Query functionsSql = informationSchemaViews.getFunctionsSql();
+    final Connection connection = getDatabaseConnection();
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results = new MetadataResultSet(functionsSql,
+                                                                statement,
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
+    {
+      results.setDescription("retrieveFunctionsFromDataDictionary");
+      int numFunctions = 0;
+      while (results.next())
+      {
+        numFunctions = numFunctions + 1;
+        createFunction(results, schemas, functionFilter);
+      }
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Processed %d functions", numFunctions));
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerSQLException("Could not retrieve functions from SQL:\n"
+                                          + functionsSql,
+                                          e);
+    }
   }
 
   private void retrieveFunctionsFromMetadata(final NamedObjectList<SchemaReference> schemas,
@@ -443,7 +707,7 @@ final class RoutineRetriever
       final String schemaName = schema.getName();
 
       try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-        .getFunctions(catalogName, schemaName, "%"));)
+        .getFunctions(catalogName, schemaName, "%"), getFetchSize());)
       {
         results.setDescription("retrieveFunctionsFromMetadata");
         int numFunctions = 0;
@@ -471,39 +735,159 @@ final class RoutineRetriever
   private void retrieveFunctionsFromMetadataForAllFunctions(final NamedObjectList<SchemaReference> schemas,
                                                             final InclusionRuleFilter<Function> functionFilter)
     throws SQLException
+  {
+    for (final SchemaReference schema: getSchemasForMetadataRetrieval())
+    {
+      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+        .getFunctions(schema.getCatalogName(),
+                      schema.getName(),
+                      "%"),
+                                                                   getFetchSize());)
+      {
+        results.setDescription("retrieveFunctionsFromMetadataForAllFunctions");
+        int numFunctions = 0;
+        while (results.next())
+        {
+          numFunctions = numFunctions + 1;
+          createFunction(results, schemas, functionFilter);
+        }
+        LOGGER.log(Level.INFO,
+                   new StringFormat("Processed %d functions", numFunctions));
+      }
+      catch (final AbstractMethodError | SQLFeatureNotSupportedException e)
+      {
+        logSQLFeatureNotSupported(new StringFormat("Could not retrieve functions"),
+                                  e);
+      }
+      catch (final SQLException e)
+      {
+        logPossiblyUnsupportedSQLFeature(new StringFormat("Could not retrieve functions"),
+                                         e);
+      }
+    }
+  }
+
+  private void retrieveProcedureColumnsFromDataDictionary(final NamedObjectList<MutableRoutine> allRoutines,
+                                                          final InclusionRuleFilter<ProcedureColumn> columnFilter)
+    throws SchemaCrawlerSQLException
+  {
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+    if (!informationSchemaViews.hasProcedureColumnsSql())
+    {
+      LOGGER.log(Level.FINE, "Procedure columns SQL statement was not provided");
+      return;
+    }
+
+    final Query procedureColumnsSql = informationSchemaViews
+      .getProcedureColumnsSql();
+    final Connection connection = getDatabaseConnection();
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results = new MetadataResultSet(procedureColumnsSql,
+                                                                statement,
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
+    {
+      results.setDescription("retrieveProcedureColumnsFromDataDictionary");
+      createProcedureColumns(results, allRoutines, columnFilter);
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerSQLException("Could not retrieve procedure columns from SQL:\n"
+                                          + procedureColumnsSql,
+                                          e);
+    }
+  }
+
+  private void retrieveProcedureColumnsFromMetadata(final MutableProcedure procedure,
+                                                    final InclusionRuleFilter<ProcedureColumn> columnFilter)
+    throws SchemaCrawlerSQLException
   {
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getFunctions(null, null, "%"));)
+      .getProcedureColumns(procedure.getSchema().getCatalogName(),
+                           procedure.getSchema().getName(),
+                           procedure.getName(),
+                           null), getFetchSize());)
     {
-      results.setDescription("retrieveFunctionsFromMetadataForAllFunctions");
-      int numFunctions = 0;
       while (results.next())
       {
-        numFunctions = numFunctions + 1;
-        createFunction(results, schemas, functionFilter);
+        createProcedureColumn(results, procedure, columnFilter);
       }
-      LOGGER.log(Level.INFO,
-                 new StringFormat("Processed %d functions", numFunctions));
     }
-    catch (final AbstractMethodError | SQLFeatureNotSupportedException e)
+    catch (final SQLException e)
     {
-      logSQLFeatureNotSupported(new StringFormat("Could not retrieve functions"),
-                                e);
+      throw new SchemaCrawlerSQLException("Could not retrieve columns for procedure "
+                                          + procedure,
+                                          e);
     }
-    catch (final SQLException e)
+  }
+
+  private void retrieveProcedureColumnsFromMetadataForAllProcedures(final NamedObjectList<MutableRoutine> allRoutines,
+                                                                    final InclusionRuleFilter<ProcedureColumn> columnFilter)
+    throws SQLException
+  {
+    for (final SchemaReference schema: getSchemasForMetadataRetrieval())
     {
-      logPossiblyUnsupportedSQLFeature(new StringFormat("Could not retrieve functions"),
-                                       e);
+      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+        .getProcedureColumns(schema.getCatalogName(),
+                             schema.getName(),
+                             "%",
+                             null),
+                                                                   getFetchSize());)
+      {
+        results
+          .setDescription("retrieveProcedureColumnsFromMetadataForAllProcedures");
+        createProcedureColumns(results, allRoutines, columnFilter);
+      }
+      catch (final AbstractMethodError | SQLFeatureNotSupportedException e)
+      {
+        logSQLFeatureNotSupported(new StringFormat("Could not retrieve procedure columns"),
+                                  e);
+      }
+      catch (final SQLException e)
+      {
+        logPossiblyUnsupportedSQLFeature(new StringFormat("Could not retrieve procedure columns"),
+                                         e);
+      }
     }
   }
 
   private void retrieveProceduresFromDataDictionary(final NamedObjectList<SchemaReference> schemas,
                                                     final InclusionRuleFilter<Procedure> procedureFilter)
+    throws SchemaCrawlerSQLException
   {
-    LOGGER
-      .log(Level.CONFIG,
-           "Not retrieving procedures, since retrieval from the data dictionary is not supported");
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+    if (!informationSchemaViews.hasProceduresSql())
+    {
+      LOGGER.log(Level.FINE, "Procedures SQL statement was not provided");
+      return;
+    }
 
+    final Query proceduresSql = informationSchemaViews.getProceduresSql();
+    final Connection connection = getDatabaseConnection();
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results = new MetadataResultSet(proceduresSql,
+                                                                statement,
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
+    {
+      results.setDescription("retrieveProceduresFromDataDictionary");
+      int numProcedures = 0;
+      while (results.next())
+      {
+        numProcedures = numProcedures + 1;
+        createProcedure(results, schemas, procedureFilter);
+      }
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Processed %d procedures", numProcedures));
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerSQLException("Could not retrieve procedures from SQL:\n"
+                                          + proceduresSql,
+                                          e);
+    }
   }
 
   private void retrieveProceduresFromMetadata(final NamedObjectList<SchemaReference> schemas,
@@ -520,7 +904,7 @@ final class RoutineRetriever
       final String schemaName = schema.getName();
 
       try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-        .getProcedures(catalogName, schemaName, "%"));)
+        .getProcedures(catalogName, schemaName, "%"), getFetchSize());)
       {
         results.setDescription("retrieveProceduresFromMetadata");
         int numProcedures = 0;
@@ -539,18 +923,24 @@ final class RoutineRetriever
                                                               final InclusionRuleFilter<Procedure> procedureFilter)
     throws SQLException
   {
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getProcedures(null, null, "%"));)
+    for (final SchemaReference schema: getSchemasForMetadataRetrieval())
     {
-      results.setDescription("retrieveProceduresFromMetadataForAllProcedures");
-      int numProcedures = 0;
-      while (results.next())
+      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+        .getProcedures(schema.getCatalogName(),
+                       schema.getName(),
+                       "%"),
+                                                                   getFetchSize());)
       {
-        numProcedures = numProcedures + 1;
-        createProcedure(results, schemas, procedureFilter);
+        results.setDescription("retrieveProceduresFromMetadataForAllProcedures");
+        int numProcedures = 0;
+        while (results.next())
+        {
+          numProcedures = numProcedures + 1;
+          createProcedure(results, schemas, procedureFilter);
+        }
+        LOGGER.log(Level.INFO,
+                   new StringFormat("Processed %d procedures", numProcedures));
       }
-      LOGGER.log(Level.INFO,
-                 new StringFormat("Processed %d procedures", numProcedures));
     }
   }
 
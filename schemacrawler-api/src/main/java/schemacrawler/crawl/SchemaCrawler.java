@@ -30,6 +30,7 @@ package schemacrawler.crawl;
 
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.filter.FilterFactory.tableFilter;
 import static schemacrawler.filter.ReducerFactory.getRoutineReducer;
 import static schemacrawler.filter.ReducerFactory.getSchemaReducer;
 import static schemacrawler.filter.ReducerFactory.getSequenceReducer;
@@ -38,9 +39,15 @@ import static schemacrawler.filter.ReducerFactory.getTableReducer;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 
+import javax.sql.DataSource;
+
+import schemacrawler.crawl.CrawlPhaseExecutor.CrawlPhase;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Routine;
 import schemacrawler.schema.RoutineType;
@@ -79,7 +86,8 @@ public final class SchemaCrawler
     {
       LOGGER.log(Level.INFO, "Crawling column data types");
 
-      final StopWatch stopWatch = new StopWatch("crawlColumnDataTypes");
+      final StopWatch stopWatch = retrieverConnection
+        .newStopWatch("crawlColumnDataTypes");
 
       final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
       final DatabaseInfoRetriever retriever = new DatabaseInfoRetriever(retrieverConnection,
@@ -153,7 +161,8 @@ public final class SchemaCrawler
         return;
       }
 
-      final StopWatch stopWatch = new StopWatch("crawlDatabaseInfo");
+      final StopWatch stopWatch = retrieverConnection
+        .newStopWatch("crawlDatabaseInfo");
 
       final DatabaseInfoRetriever retriever = new DatabaseInfoRetriever(retrieverConnection,
                                                                         catalog,
@@ -223,6 +232,65 @@ public final class SchemaCrawler
     }
   }
 
+  private static void crawlForeignKeys(final MutableCatalog catalog,
+                                       final RetrieverConnection retrieverConnection,
+                                       final SchemaCrawlerOptions options)
+    throws SQLException
+  {
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+    if (infoLevel.isRetrieveForeignKeys())
+    {
+      if (infoLevel.isRetrieveTableColumns())
+      {
+        final ForeignKeyRetriever fkRetriever = new ForeignKeyRetriever(retrieverConnection,
+                                                                        catalog,
+                                                                        options);
+        final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+        fkRetriever.retrieveForeignKeys(allTables);
+        if (infoLevel.isRetrieveForeignKeyDefinitions())
+        {
+          fkRetriever.retrieveForeignKeyDefinitions(allTables);
+        }
+      }
+    }
+    else
+    {
+      LOGGER
+        .log(Level.WARNING,
+             "Foreign-keys are not being retrieved, so tables cannot be sorted using the natural sort order");
+    }
+  }
+
+  private static void crawlIndexes(final MutableCatalog catalog,
+                                   final RetrieverConnection retrieverConnection,
+                                   final SchemaCrawlerOptions options)
+    throws SQLException
+  {
+    LOGGER.log(Level.INFO, "Retrieving primary keys and indexes");
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+    if (infoLevel.isRetrieveTableColumns())
+    {
+      final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection,
+                                                               catalog,
+                                                               options);
+      final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+      if (infoLevel.isRetrieveIndexes())
+      {
+        indexRetriever.retrieveIndexes(allTables);
+      }
+      // Setting primary keys will use indexes with a similar name,
+      // if available
+      indexRetriever.retrievePrimaryKeys(allTables);
+      if (infoLevel.isRetrievePrimaryKeyDefinitions())
+      {
+        final TableExtRetriever retrieverExtra = new TableExtRetriever(retrieverConnection,
+                                                                       catalog,
+                                                                       options);
+        retrieverExtra.retrievePrimaryKeyDefinitions(allTables);
+      }
+    }
+  }
+
   private static void crawlRoutines(final MutableCatalog catalog,
                                     final RetrieverConnection retrieverConnection,
                                     final SchemaCrawlerOptions options)
@@ -238,7 +306,8 @@ public final class SchemaCrawler
       return;
     }
 
-    final StopWatch stopWatch = new StopWatch("crawlRoutines");
+    final StopWatch stopWatch = retrieverConnection
+      .newStopWatch("crawlRoutines");
 
     LOGGER.log(Level.INFO, "Crawling routines");
 
@@ -278,28 +347,21 @@ public final class SchemaCrawler
       }
 
       stopWatch.time("retrieveRoutineColumns", () -> {
-        LOGGER.log(Level.INFO, "Retrieving routine columns");
-        for (final MutableRoutine routine: allRoutines)
+        if (infoLevel.isRetrieveRoutineColumns())
         {
-          if (infoLevel.isRetrieveRoutineColumns())
+          LOGGER.log(Level.INFO, "Retrieving routine columns");
+          if (routineTypes.contains(RoutineType.procedure))
+          {
+            retriever.retrieveProcedureColumns(allRoutines,
+                                               options
+                                                 .getRoutineColumnInclusionRule());
+          }
+
+          if (routineTypes.contains(RoutineType.function))
           {
-            if (routine instanceof MutableProcedure
-                && routineTypes.contains(RoutineType.procedure))
-            {
-              retriever
-                .retrieveProcedureColumns((MutableProcedure) routine,
-                                          options
-                                            .getRoutineColumnInclusionRule());
-            }
-
-            if (routine instanceof MutableFunction
-                && routineTypes.contains(RoutineType.function))
-            {
-              retriever
-                .retrieveFunctionColumns((MutableFunction) routine,
-                                         options
-                                           .getRoutineColumnInclusionRule());
-            }
+            retriever.retrieveFunctionColumns(allRoutines,
+                                              options
+                                                .getRoutineColumnInclusionRule());
           }
         }
         return null;
@@ -341,7 +403,8 @@ public final class SchemaCrawler
                                    final SchemaCrawlerOptions options)
     throws SchemaCrawlerException
   {
-    final StopWatch stopWatch = new StopWatch("crawlSchemas");
+    final StopWatch stopWatch = retrieverConnection
+      .newStopWatch("crawlSchemas");
 
     LOGGER.log(Level.INFO, "Crawling schemas");
 
@@ -402,7 +465,8 @@ public final class SchemaCrawler
       return;
     }
 
-    final StopWatch stopWatch = new StopWatch("crawlSequences");
+    final StopWatch stopWatch = retrieverConnection
+      .newStopWatch("crawlSequences");
 
     LOGGER.log(Level.INFO, "Crawling sequences");
 
@@ -456,7 +520,8 @@ public final class SchemaCrawler
       return;
     }
 
-    final StopWatch stopWatch = new StopWatch("crawlSynonyms");
+    final StopWatch stopWatch = retrieverConnection
+      .newStopWatch("crawlSynonyms");
 
     LOGGER.log(Level.INFO, "Crawling synonyms");
 
@@ -494,7 +559,38 @@ public final class SchemaCrawler
     }
   }
 
+  private static void crawlTableColumnPrivileges(final MutableCatalog catalog,
+                                                 final RetrieverConnection retrieverConnection,
+                                                 final SchemaCrawlerOptions options)
+    throws SQLException
+  {
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+    if (infoLevel.isRetrieveTableColumnPrivileges())
+    {
+      final TableExtRetriever retrieverExtra = new TableExtRetriever(retrieverConnection,
+                                                                     catalog,
+                                                                     options);
+      retrieverExtra.retrieveTableColumnPrivileges();
+    }
+  }
+
+  private static void crawlTablePrivileges(final MutableCatalog catalog,
+                                           final RetrieverConnection retrieverConnection,
+                                           final SchemaCrawlerOptions options)
+    throws SQLException
+  {
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+    if (infoLevel.isRetrieveTablePrivileges())
+    {
+      final TableExtRetriever retrieverExtra = new TableExtRetriever(retrieverConnection,
+                                                                     catalog,
+                                                                     options);
+      retrieverExtra.retrieveTablePrivileges();
+    }
+  }
+
   private static void crawlTables(final MutableCatalog catalog,
+                                  final CrawlPhaseExecutor phaseExecutor,
                                   final RetrieverConnection retrieverConnection,
                                   final SchemaCrawlerOptions options)
     throws SchemaCrawlerException
@@ -509,7 +605,7 @@ public final class SchemaCrawler
       return;
     }
 
-    final StopWatch stopWatch = new StopWatch("crawlTables");
+    final StopWatch stopWatch = retrieverConnection.newStopWatch("crawlTables");
 
     LOGGER.log(Level.INFO, "Crawling tables");
 
@@ -521,12 +617,6 @@ public final class SchemaCrawler
       final TableColumnRetriever columnRetriever = new TableColumnRetriever(retrieverConnection,
                                                                             catalog,
                                                                             options);
-      final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection,
-                                                               catalog,
-                                                               options);
-      final ForeignKeyRetriever fkRetriever = new ForeignKeyRetriever(retrieverConnection,
-                                                                      catalog,
-                                                                      options);
       final TableConstraintRetriever constraintRetriever = new TableConstraintRetriever(retrieverConnection,
                                                                                         catalog,
                                                                                         options);
@@ -562,23 +652,7 @@ public final class SchemaCrawler
       });
 
       stopWatch.time("retrieveForeignKeys", () -> {
-        if (infoLevel.isRetrieveForeignKeys())
-        {
-          if (infoLevel.isRetrieveTableColumns())
-          {
-            fkRetriever.retrieveForeignKeys(allTables);
-            if (infoLevel.isRetrieveForeignKeyDefinitions())
-            {
-              fkRetriever.retrieveForeignKeyDefinitions(allTables);
-            }
-          }
-        }
-        else
-        {
-          LOGGER
-            .log(Level.WARNING,
-                 "Foreign-keys are not being retrieved, so tables cannot be sorted using the natural sort order");
-        }
+        crawlForeignKeys(catalog, retrieverConnection, options);
         return null;
       });
 
@@ -594,24 +668,42 @@ public final class SchemaCrawler
         return null;
       });
 
-      stopWatch.time("retrieveIndexes", () -> {
-        LOGGER.log(Level.INFO, "Retrieving primary keys and indexes");
-        if (infoLevel.isRetrieveTableColumns())
-        {
-          if (infoLevel.isRetrieveIndexes())
-          {
-            indexRetriever.retrieveIndexes(allTables);
-          }
-          // Setting primary keys will use indexes with a similar name,
-          // if available
-          indexRetriever.retrievePrimaryKeys(allTables);
-          if (infoLevel.isRetrievePrimaryKeyDefinitions())
-          {
-            retrieverExtra.retrievePrimaryKeyDefinitions(allTables);
-          }
-        }
-        return null;
-      });
+      if (phaseExecutor.isParallel())
+      {
+        // Once the tables are filtered, indexes and privileges do not
+        // depend on each other, and are retrieved concurrently, each
+        // timed as a phase of its own, since the metrics for a phase
+        // are only recorded on the thread that it runs on
+        stopWatch.time("retrieveTableDetails", () -> {
+          CrawlPhaseExecutor
+            .await(phaseExecutor.submit("indexes",
+                                        retrieverConnection,
+                                        timedTablesPhase("retrieveIndexes",
+                                                         connection -> crawlIndexes(catalog,
+                                                                                    connection,
+                                                                                    options))),
+                   phaseExecutor.submit("table privileges",
+                                        retrieverConnection,
+                                        timedTablesPhase("retrieveTablePrivileges",
+                                                         connection -> crawlTablePrivileges(catalog,
+                                                                                            connection,
+                                                                                            options))),
+                   phaseExecutor.submit("table column privileges",
+                                        retrieverConnection,
+                                        timedTablesPhase("retrieveTableColumnPrivileges",
+                                                         connection -> crawlTableColumnPrivileges(catalog,
+                                                                                                  connection,
+                                                                                                  options))));
+          return null;
+        });
+      }
+      else
+      {
+        stopWatch.time("retrieveIndexes", () -> {
+          crawlIndexes(catalog, retrieverConnection, options);
+          return null;
+        });
+      }
 
       stopWatch.time("retrieveTableConstraintInformation", () -> {
         if (infoLevel.isRetrieveTableConstraintInformation())
@@ -651,10 +743,10 @@ public final class SchemaCrawler
       stopWatch.time("retrieveIndexInformation", () -> {
         if (infoLevel.isRetrieveIndexInformation())
         {
-          retrieverExtra.retrieveIndexInformation();
+          retrieverExtra.retrieveIndexInformation(allTables);
           if (infoLevel.isRetrieveIndexColumnInformation())
           {
-            retrieverExtra.retrieveIndexColumnInformation();
+            retrieverExtra.retrieveIndexColumnInformation(allTables);
           }
         }
         return null;
@@ -667,25 +759,134 @@ public final class SchemaCrawler
         }
         return null;
       });
-      stopWatch.time("retrieveTablePrivileges", () -> {
-        if (infoLevel.isRetrieveTablePrivileges())
+      if (!phaseExecutor.isParallel())
+      {
+        stopWatch.time("retrieveTablePrivileges", () -> {
+          crawlTablePrivileges(catalog, retrieverConnection, options);
+          return null;
+        });
+      }
+
+      stopWatch.time("retrieveAdditionalColumnAttributes", () -> {
+        if (infoLevel.isRetrieveAdditionalColumnAttributes())
         {
-          retrieverExtra.retrieveTablePrivileges();
+          retrieverExtra.retrieveAdditionalColumnAttributes(allTables);
         }
         return null;
       });
+      if (!phaseExecutor.isParallel())
+      {
+        stopWatch.time("retrieveTableColumnPrivileges", () -> {
+          crawlTableColumnPrivileges(catalog, retrieverConnection, options);
+          return null;
+        });
+      }
 
-      stopWatch.time("retrieveAdditionalColumnAttributes", () -> {
-        if (infoLevel.isRetrieveAdditionalColumnAttributes())
+      LOGGER.log(Level.INFO, stopWatch.stringify());
+    }
+    catch (final SchemaCrawlerSQLException e)
+    {
+      throw new SchemaCrawlerException(e.getMessage(), e.getCause());
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      throw e;
+    }
+    catch (final Exception e)
+    {
+      throw new SchemaCrawlerException("Exception retrieving table information",
+                                       e);
+    }
+  }
+
+  private static void crawlTablesLazily(final MutableCatalog catalog,
+                                        final RetrieverConnection retrieverConnection,
+                                        final SchemaCrawlerOptions options)
+    throws SchemaCrawlerException
+  {
+
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+    final boolean retrieveTables = infoLevel.isRetrieveTables();
+    if (!retrieveTables)
+    {
+      LOGGER.log(Level.INFO,
+                 "Not retrieving tables, since this was not requested");
+      return;
+    }
+
+    final StopWatch stopWatch = retrieverConnection
+      .newStopWatch("crawlTablesLazily");
+
+    LOGGER.log(Level.INFO, "Crawling tables, without table details");
+
+    try
+    {
+      final TableRetriever retriever = new TableRetriever(retrieverConnection,
+                                                          catalog,
+                                                          options);
+      final TableExtRetriever retrieverExtra = new TableExtRetriever(retrieverConnection,
+                                                                     catalog,
+                                                                     options);
+
+      stopWatch.time("retrieveTables", () -> {
+        final NamedObjectList<SchemaReference> schemas = retriever
+          .getAllSchemas();
+        retriever.retrieveTables(schemas,
+                                 options.getTableNamePattern(),
+                                 options.getTableTypes(),
+                                 options.getTableInclusionRule());
+        return null;
+      });
+
+      final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Retrieved %d tables", allTables.size()));
+      if (allTables.isEmpty())
+      {
+        return;
+      }
+
+      // Columns, indexes, foreign keys, table constraints, triggers and
+      // privileges are loaded when they are first accessed
+      final LazyTableDetailsLoader detailsLoader = new LazyTableDetailsLoader(catalog,
+                                                                              retrieverConnection,
+                                                                              options);
+      detailsLoader.register(allTables);
+
+      stopWatch.time("retrieveViewInformation", () -> {
+        if (infoLevel.isRetrieveViewInformation())
         {
-          retrieverExtra.retrieveAdditionalColumnAttributes();
+          retrieverExtra.retrieveViewInformation();
         }
         return null;
       });
-      stopWatch.time("retrieveTableColumnPrivileges", () -> {
-        if (infoLevel.isRetrieveTableColumnPrivileges())
+      stopWatch.time("retrieveTableDefinitions", () -> {
+        if (infoLevel.isRetrieveTableDefinitionsInformation())
         {
-          retrieverExtra.retrieveTableColumnPrivileges();
+          retrieverExtra.retrieveTableDefinitions();
+        }
+        return null;
+      });
+      stopWatch.time("retrieveAdditionalTableAttributes", () -> {
+        if (infoLevel.isRetrieveAdditionalTableAttributes())
+        {
+          retrieverExtra.retrieveAdditionalTableAttributes();
+        }
+        return null;
+      });
+
+      stopWatch.time("filterTables", () -> {
+        // Filter the list of tables based on grep criteria, and
+        // parent-child relationships - this loads columns and foreign
+        // keys only if the filters need them
+        if (options.getChildTableFilterDepth() > 0
+            || options.getParentTableFilterDepth() > 0)
+        {
+          catalog.reduce(Table.class, getTableReducer(options));
+        }
+        else
+        {
+          catalog.reduce(Table.class, getTableReducer(tableFilter(options)));
         }
         return null;
       });
@@ -707,9 +908,26 @@ public final class SchemaCrawler
     }
   }
 
+  /**
+   * Times a phase of the table crawl with a stop watch of its own, on
+   * the thread that the phase runs on, so that its queries and rows are
+   * recorded against the phase.
+   */
+  private static CrawlPhase timedTablesPhase(final String taskName,
+                                             final CrawlPhase phase)
+  {
+    return retrieverConnection -> retrieverConnection
+      .newStopWatch("crawlTables").time(taskName, () -> {
+        phase.crawl(retrieverConnection);
+        return null;
+      });
+  }
+
   private final Connection connection;
+  private final DataSource dataSource;
   private final SchemaRetrievalOptions schemaRetrievalOptions;
   private final SchemaCrawlerOptions schemaCrawlerOptions;
+  private final List<CrawlMetricsListener> crawlMetricsListeners;
 
   /**
    * Constructs a SchemaCrawler object, from a connection.
@@ -728,10 +946,57 @@ public final class SchemaCrawler
                        final SchemaCrawlerOptions schemaCrawlerOptions)
   {
     this.connection = requireNonNull(connection, "No connection specified");
+    dataSource = null;
     this.schemaRetrievalOptions = requireNonNull(schemaRetrievalOptions,
                                                  "No database-specific schema retrieval overrides provided");
     this.schemaCrawlerOptions = requireNonNull(schemaCrawlerOptions,
                                                "No SchemaCrawler options provided");
+    crawlMetricsListeners = new ArrayList<>();
+  }
+
+  /**
+   * Constructs a SchemaCrawler object that crawls independent parts of
+   * the schema concurrently. Each concurrent crawl phase obtains a
+   * connection of its own from the data source, and closes it when
+   * done, so the data source should be backed by a connection pool.
+   * The crawl holds no more than
+   * {@link SchemaRetrievalOptions#getMaximumConnections()} connections
+   * at once, including its main connection, so the pool should allow
+   * at least that many connections.
+   *
+   * @param dataSource
+   *        Source of database connections, preferably a connection
+   *        pool.
+   * @param schemaRetrievalOptions
+   *        Database-specific schema retrieval overrides
+   * @param schemaCrawlerOptions
+   *        SchemaCrawler options
+   */
+  public SchemaCrawler(final DataSource dataSource,
+                       final SchemaRetrievalOptions schemaRetrievalOptions,
+                       final SchemaCrawlerOptions schemaCrawlerOptions)
+  {
+    connection = null;
+    this.dataSource = requireNonNull(dataSource, "No data source specified");
+    this.schemaRetrievalOptions = requireNonNull(schemaRetrievalOptions,
+                                                 "No database-specific schema retrieval overrides provided");
+    this.schemaCrawlerOptions = requireNonNull(schemaCrawlerOptions,
+                                               "No SchemaCrawler options provided");
+    crawlMetricsListeners = new ArrayList<>();
+  }
+
+  /**
+   * Adds a listener for metrics of each phase of the crawl, such as
+   * time taken and number of metadata rows read. Metrics are also
+   * available from the crawl information of the returned catalog.
+   *
+   * @param listener
+   *        Crawl metrics listener
+   */
+  public void addCrawlMetricsListener(final CrawlMetricsListener listener)
+  {
+    crawlMetricsListeners
+      .add(requireNonNull(listener, "No crawl metrics listener provided"));
   }
 
   /**
@@ -745,22 +1010,55 @@ public final class SchemaCrawler
    */
   public Catalog crawl()
     throws SchemaCrawlerException
+  {
+    return crawl(false);
+  }
+
+  /**
+   * Crawls the database, to obtain database metadata, but only retrieves
+   * tables up-front. Table columns, indexes, foreign keys, table
+   * constraints, triggers and privileges are retrieved the first time
+   * that they are accessed for a table, along with the same details for
+   * the other tables in its schema, and are then cached. The connection
+   * needs to remain open for as long as table details are accessed, or
+   * else a {@link NotLoadedException} is thrown. Tables are not sorted
+   * in dependency order in a lazy crawl.
+   *
+   * @return Database metadata
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public Catalog crawlLazily()
+    throws SchemaCrawlerException
+  {
+    return crawl(true);
+  }
+
+  private Catalog crawl(final boolean lazy)
+    throws SchemaCrawlerException
   {
     final MutableCatalog catalog = new MutableCatalog("catalog");
     try
     {
-      final RetrieverConnection retrieverConnection = new RetrieverConnection(connection,
-                                                                              schemaRetrievalOptions);
-
-      crawlDatabaseInfo(catalog, retrieverConnection, schemaCrawlerOptions);
-      LOGGER.log(Level.INFO, String.format("%n%s", catalog.getCrawlInfo()));
-
-      crawlSchemas(catalog, retrieverConnection, schemaCrawlerOptions);
-      crawlColumnDataTypes(catalog, retrieverConnection, schemaCrawlerOptions);
-      crawlTables(catalog, retrieverConnection, schemaCrawlerOptions);
-      crawlRoutines(catalog, retrieverConnection, schemaCrawlerOptions);
-      crawlSynonyms(catalog, retrieverConnection, schemaCrawlerOptions);
-      crawlSequences(catalog, retrieverConnection, schemaCrawlerOptions);
+      if (dataSource == null)
+      {
+        final RetrieverConnection retrieverConnection = new RetrieverConnection(connection,
+                                                                                schemaRetrievalOptions);
+        crawl(catalog, new CrawlPhaseExecutor(retrieverConnection), lazy);
+      }
+      else
+      {
+        try (final CrawlConnections crawlConnections = new CrawlConnections(dataSource,
+                                                                            schemaRetrievalOptions
+                                                                              .getMaximumConnections());
+            final Connection connection = dataSource.getConnection();)
+        {
+          final RetrieverConnection retrieverConnection = new RetrieverConnection(connection,
+                                                                                  crawlConnections,
+                                                                                  schemaRetrievalOptions);
+          crawl(catalog, new CrawlPhaseExecutor(retrieverConnection), lazy);
+        }
+      }
 
       return catalog;
     }
@@ -770,4 +1068,71 @@ public final class SchemaCrawler
     }
   }
 
+  private void crawl(final MutableCatalog catalog,
+                     final CrawlPhaseExecutor phaseExecutor,
+                     final boolean lazy)
+    throws SchemaCrawlerException
+  {
+    final RetrieverConnection retrieverConnection = phaseExecutor
+      .getRetrieverConnection();
+    final CrawlMetricsRecorder crawlMetrics = retrieverConnection
+      .getCrawlMetrics();
+    for (final CrawlMetricsListener listener: crawlMetricsListeners)
+    {
+      crawlMetrics.addListener(listener);
+    }
+
+    crawlDatabaseInfo(catalog, retrieverConnection, schemaCrawlerOptions);
+    LOGGER.log(Level.INFO, String.format("%n%s", catalog.getCrawlInfo()));
+
+    crawlSchemas(catalog, retrieverConnection, schemaCrawlerOptions);
+    crawlColumnDataTypes(catalog, retrieverConnection, schemaCrawlerOptions);
+
+    final Future<Void> tables;
+    if (lazy)
+    {
+      tables = phaseExecutor
+        .submit("tables",
+                retrieverConnection,
+                connection -> crawlTablesLazily(catalog,
+                                                connection,
+                                                schemaCrawlerOptions));
+    }
+    else
+    {
+      tables = phaseExecutor
+        .submit("tables",
+                retrieverConnection,
+                connection -> crawlTables(catalog,
+                                          phaseExecutor,
+                                          connection,
+                                          schemaCrawlerOptions));
+    }
+    final Future<Void> routines = phaseExecutor
+      .submit("routines",
+              retrieverConnection,
+              connection -> crawlRoutines(catalog,
+                                          connection,
+                                          schemaCrawlerOptions));
+    final Future<Void> sequences = phaseExecutor
+      .submit("sequences",
+              retrieverConnection,
+              connection -> crawlSequences(catalog,
+                                           connection,
+                                           schemaCrawlerOptions));
+    // Synonyms refer to tables and routines, so they need to be
+    // retrieved first
+    CrawlPhaseExecutor.await(tables, routines);
+    final Future<Void> synonyms = phaseExecutor
+      .submit("synonyms",
+              retrieverConnection,
+              connection -> crawlSynonyms(catalog,
+                                          connection,
+                                          schemaCrawlerOptions));
+    CrawlPhaseExecutor.await(sequences, synonyms);
+
+    catalog.setCrawlPhaseMetrics(crawlMetrics.getPhaseMetrics());
+    crawlMetrics.crawlCompleted(catalog.getCrawlInfo());
+  }
+
 }
@@ -177,7 +177,7 @@ final class SchemaRetriever
     {
       int numSchemas = 0;
       try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-        .getSchemas());)
+        .getSchemas(), getFetchSize());)
       {
         results.setDescription("retrieveAllSchemas");
         while (results.next())
@@ -248,7 +248,8 @@ final class SchemaRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(schemataSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
     {
       results.setDescription("retrieveAllSchemasFromInformationSchemaViews");
       int numSchemas = 0;
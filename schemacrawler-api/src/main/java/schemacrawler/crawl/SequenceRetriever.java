@@ -108,7 +108,8 @@ final class SequenceRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(sequencesDefinitionSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
     {
       while (results.next())
       {
@@ -108,7 +108,8 @@ final class SynonymRetriever
     try (final Statement statement = connection.createStatement();
         MetadataResultSet results = new MetadataResultSet(synonymsDefinitionSql,
                                                           statement,
-                                                          getSchemaInclusionRule());)
+                                                          getSchemaInclusionRule(),
+                                                          getFetchSize());)
     {
       while (results.next())
       {
@@ -0,0 +1,145 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerSQLException;
+import schemacrawler.utility.Query;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * A retriever that obtains a change marker for every table, such as the
+ * time of the last DDL change, so that tables that have not changed
+ * since a previous crawl can be identified.
+ *
+ * @author Sualeh Fatehi
+ */
+final class TableChangeMarkerRetriever
+  extends AbstractRetriever
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(TableChangeMarkerRetriever.class.getName());
+
+  TableChangeMarkerRetriever(final RetrieverConnection retrieverConnection,
+                             final MutableCatalog catalog,
+                             final SchemaCrawlerOptions options)
+    throws SQLException
+  {
+    super(retrieverConnection, catalog, options);
+  }
+
+  /**
+   * Checks whether the database provides table change markers.
+   *
+   * @return Whether table change markers can be retrieved
+   */
+  boolean hasTableChangeMarkers()
+  {
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+    return informationSchemaViews.hasTableChangeMarkersSql();
+  }
+
+  /**
+   * Retrieves change markers for all tables in the included schemas,
+   * keyed by the table lookup key.
+   *
+   * @return Change markers for each table
+   * @throws SQLException
+   *         If the change markers could not be retrieved
+   */
+  Map<List<String>, String> retrieveTableChangeMarkers()
+    throws SQLException
+  {
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+    if (!informationSchemaViews.hasTableChangeMarkersSql())
+    {
+      throw new SchemaCrawlerSQLException("No table change markers SQL provided",
+                                          null);
+    }
+
+    LOGGER.log(Level.INFO, "Retrieving table change markers");
+
+    final Map<List<String>, String> tableChangeMarkers = new HashMap<>();
+    final Query tableChangeMarkersSql = informationSchemaViews
+      .getTableChangeMarkersSql();
+    final Connection connection = getDatabaseConnection();
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results = new MetadataResultSet(tableChangeMarkersSql,
+                                                                statement,
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
+    {
+      results.setDescription("retrieveTableChangeMarkers");
+      while (results.next())
+      {
+        final String catalogName = normalizeCatalogName(results
+          .getString("TABLE_CAT"));
+        final String schemaName = normalizeSchemaName(results
+          .getString("TABLE_SCHEM"));
+        final String tableName = results.getString("TABLE_NAME");
+        final String changeMarker = results.getString("CHANGE_MARKER");
+
+        LOGGER.log(Level.FINER,
+                   new StringFormat("Retrieved change marker <%s> for table <%s.%s.%s>",
+                                    changeMarker,
+                                    catalogName,
+                                    schemaName,
+                                    tableName));
+        tableChangeMarkers.put(Arrays.asList(catalogName,
+                                             schemaName,
+                                             tableName),
+                               String.valueOf(changeMarker));
+      }
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerSQLException("Could not retrieve table change markers from SQL:\n"
+                                          + tableChangeMarkersSql,
+                                          e);
+    }
+
+    return tableChangeMarkers;
+  }
+
+}
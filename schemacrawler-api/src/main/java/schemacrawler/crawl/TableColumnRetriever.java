@@ -45,6 +45,7 @@ import java.util.logging.Level;
 
 import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.schema.Column;
+import schemacrawler.schema.SchemaReference;
 import schemacrawler.schemacrawler.InclusionRule;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -149,7 +150,7 @@ final class TableColumnRetriever
                                 columnName));
 
     final Optional<MutableTable> optionalTable = allTables
-      .lookup(Arrays.asList(columnCatalogName, schemaName, tableName));
+      .lookup(columnCatalogName, schemaName, tableName);
     if (!optionalTable.isPresent())
     {
       return null;
@@ -264,7 +265,8 @@ final class TableColumnRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(tableColumnsSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
     {
       results.setDescription("retrieveColumnsFromDataDictionary");
       while (results.next())
@@ -277,30 +279,17 @@ final class TableColumnRetriever
   private void retrieveColumnsFromMetadata(final NamedObjectList<MutableTable> allTables,
                                            final InclusionRuleFilter<Column> columnFilter,
                                            final Set<List<String>> hiddenColumns)
-    throws SchemaCrawlerSQLException
+    throws SQLException
   {
-    for (final MutableTable table: allTables)
-    {
-      LOGGER.log(Level.FINE, "Retrieving columns for " + table);
-      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-        .getColumns(table.getSchema().getCatalogName(),
-                    table.getSchema().getName(),
-                    table.getName(),
-                    null));)
-      {
-        while (results.next())
-        {
-          createTableColumn(results, allTables, columnFilter, hiddenColumns);
-        }
-      }
-      catch (final SQLException e)
+    final TableMetadataFanOut fanOut = new TableMetadataFanOut(getRetrieverConnection(),
+                                                               "columns");
+    fanOut.retrieve(allTables.values(), (table, results) -> {
+      while (results.next())
       {
-        throw new SchemaCrawlerSQLException(String
-          .format("Could not retrieve columns for %s <%s>",
-                  table.getTableType(),
-                  table), e);
+        createTableColumn(results, allTables, columnFilter, hiddenColumns);
       }
-    }
+    }, (metaData, table) -> metaData.getColumns(table.getSchema()
+      .getCatalogName(), table.getSchema().getName(), table.getName(), null));
   }
 
   private void retrieveColumnsFromMetadataForAllTables(final NamedObjectList<MutableTable> allTables,
@@ -308,12 +297,19 @@ final class TableColumnRetriever
                                                        final Set<List<String>> hiddenColumns)
     throws SQLException
   {
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getColumns(null, null, "%", "%"));)
+    for (final SchemaReference schema: getSchemasForMetadataRetrieval())
     {
-      while (results.next())
+      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+        .getColumns(schema.getCatalogName(),
+                    schema.getName(),
+                    "%",
+                    "%"),
+                                                                   getFetchSize());)
       {
-        createTableColumn(results, allTables, columnFilter, hiddenColumns);
+        while (results.next())
+        {
+          createTableColumn(results, allTables, columnFilter, hiddenColumns);
+        }
       }
     }
   }
@@ -337,7 +333,8 @@ final class TableColumnRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(hiddenColumnsSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
     {
       results.setDescription("retrieveHiddenColumns");
       while (results.next())
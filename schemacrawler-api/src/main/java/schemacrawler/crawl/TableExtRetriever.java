@@ -76,12 +76,16 @@ final class TableExtRetriever
   /**
    * Retrieves additional column attributes from the database.
    *
+   * @param tables
+   *        Tables to retrieve column attributes for
    * @throws SQLException
    *         On a SQL exception
    */
-  void retrieveAdditionalColumnAttributes()
+  void retrieveAdditionalColumnAttributes(final NamedObjectList<MutableTable> tables)
     throws SQLException
   {
+    requireNonNull(tables, "No tables provided");
+
     final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
       .getInformationSchemaViews();
     if (!informationSchemaViews.hasAdditionalColumnAttributesSql())
@@ -100,7 +104,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(columnAttributesSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
     {
 
       while (results.next())
@@ -128,6 +133,10 @@ final class TableExtRetriever
         }
 
         final MutableTable table = tableOptional.get();
+        if (!tables.contains(table))
+        {
+          continue;
+        }
         final Optional<MutableColumn> columnOptional = table
           .lookupColumn(columnName);
         if (!columnOptional.isPresent())
@@ -183,7 +192,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(tableAttributesSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
     {
 
       while (results.next())
@@ -226,12 +236,16 @@ final class TableExtRetriever
    * Retrieves index column information from the database, in the
    * INFORMATION_SCHEMA format.
    *
+   * @param tables
+   *        Tables to retrieve index column information for
    * @throws SQLException
    *         On a SQL exception
    */
-  void retrieveIndexColumnInformation()
+  void retrieveIndexColumnInformation(final NamedObjectList<MutableTable> tables)
     throws SQLException
   {
+    requireNonNull(tables, "No tables provided");
+
     final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
       .getInformationSchemaViews();
 
@@ -253,7 +267,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(extIndexColumnsInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
     {
 
       while (results.next())
@@ -282,6 +297,10 @@ final class TableExtRetriever
                    new StringFormat("Retrieving index information <%s>",
                                     indexName));
         final MutableTable table = tableOptional.get();
+        if (!tables.contains(table))
+        {
+          continue;
+        }
         final Optional<MutableIndex> indexOptional = table
           .lookupIndex(indexName);
         if (!indexOptional.isPresent())
@@ -337,12 +356,16 @@ final class TableExtRetriever
    * Retrieves index information from the database, in the
    * INFORMATION_SCHEMA format.
    *
+   * @param tables
+   *        Tables to retrieve index information for
    * @throws SQLException
    *         On a SQL exception
    */
-  void retrieveIndexInformation()
+  void retrieveIndexInformation(final NamedObjectList<MutableTable> tables)
     throws SQLException
   {
+    requireNonNull(tables, "No tables provided");
+
     final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
       .getInformationSchemaViews();
 
@@ -364,7 +387,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(extIndexesInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
     {
 
       while (results.next())
@@ -393,6 +417,10 @@ final class TableExtRetriever
                    new StringFormat("Retrieving index information <%s>",
                                     indexName));
         final MutableTable table = tableOptional.get();
+        if (!tables.contains(table))
+        {
+          continue;
+        }
         final Optional<MutableIndex> indexOptional = table
           .lookupIndex(indexName);
         if (!indexOptional.isPresent())
@@ -456,7 +484,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(extPrimaryKeysSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
     {
       while (results.next())
       {
@@ -501,16 +530,25 @@ final class TableExtRetriever
   void retrieveTableColumnPrivileges()
     throws SQLException
   {
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getColumnPrivileges(null, null, "%", "%"));)
-    {
-      createPrivileges(results, true);
-    }
-    catch (final Exception e)
+    final MetadataRetrievalStrategy privilegeRetrievalStrategy = getRetrieverConnection()
+      .getTableColumnPrivilegeRetrievalStrategy();
+    switch (privilegeRetrievalStrategy)
     {
-      LOGGER
-        .log(Level.WARNING,
-             "Could not retrieve table column privileges:" + e.getMessage());
+      case data_dictionary_all:
+        LOGGER
+          .log(Level.INFO,
+               "Retrieving table column privileges, using fast data dictionary retrieval");
+        retrieveTableColumnPrivilegesFromDataDictionary();
+        break;
+
+      case metadata_all:
+      case metadata:
+        LOGGER.log(Level.INFO, "Retrieving table column privileges");
+        retrieveTableColumnPrivilegesFromMetadata();
+        break;
+
+      default:
+        break;
     }
   }
 
@@ -545,7 +583,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(tableDefinitionsInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
     {
 
       while (results.next())
@@ -591,14 +630,25 @@ final class TableExtRetriever
   void retrieveTablePrivileges()
     throws SQLException
   {
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getTablePrivileges(null, null, "%"));)
+    final MetadataRetrievalStrategy privilegeRetrievalStrategy = getRetrieverConnection()
+      .getTablePrivilegeRetrievalStrategy();
+    switch (privilegeRetrievalStrategy)
     {
-      createPrivileges(results, false);
-    }
-    catch (final Exception e)
-    {
-      LOGGER.log(Level.WARNING, "Could not retrieve table privileges", e);
+      case data_dictionary_all:
+        LOGGER
+          .log(Level.INFO,
+               "Retrieving table privileges, using fast data dictionary retrieval");
+        retrieveTablePrivilegesFromDataDictionary();
+        break;
+
+      case metadata_all:
+      case metadata:
+        LOGGER.log(Level.INFO, "Retrieving table privileges");
+        retrieveTablePrivilegesFromMetadata();
+        break;
+
+      default:
+        break;
     }
   }
 
@@ -631,7 +681,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(triggerInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
     {
 
       while (results.next())
@@ -728,7 +779,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(viewInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
     {
 
       while (results.next())
@@ -857,4 +909,95 @@ final class TableExtRetriever
     }
   }
 
+  private void retrieveTableColumnPrivilegesFromDataDictionary()
+  {
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+    if (!informationSchemaViews.hasTableColumnPrivilegesSql())
+    {
+      LOGGER.log(Level.FINE,
+                 "Table column privileges SQL statement was not provided");
+      return;
+    }
+
+    final Query tableColumnPrivilegesSql = informationSchemaViews
+      .getTableColumnPrivilegesSql();
+    final Connection connection = getDatabaseConnection();
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results = new MetadataResultSet(tableColumnPrivilegesSql,
+                                                                statement,
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
+    {
+      results.setDescription("retrieveTableColumnPrivilegesFromDataDictionary");
+      createPrivileges(results, true);
+    }
+    catch (final Exception e)
+    {
+      LOGGER.log(Level.WARNING,
+                 "Could not retrieve table column privileges from SQL:\n"
+                                + tableColumnPrivilegesSql,
+                 e);
+    }
+  }
+
+  private void retrieveTableColumnPrivilegesFromMetadata()
+  {
+    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      .getColumnPrivileges(null, null, "%", "%"), getFetchSize());)
+    {
+      createPrivileges(results, true);
+    }
+    catch (final Exception e)
+    {
+      LOGGER
+        .log(Level.WARNING,
+             "Could not retrieve table column privileges:" + e.getMessage());
+    }
+  }
+
+  private void retrieveTablePrivilegesFromDataDictionary()
+  {
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+    if (!informationSchemaViews.hasTablePrivilegesSql())
+    {
+      LOGGER.log(Level.FINE, "Table privileges SQL statement was not provided");
+      return;
+    }
+
+    final Query tablePrivilegesSql = informationSchemaViews
+      .getTablePrivilegesSql();
+    final Connection connection = getDatabaseConnection();
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results = new MetadataResultSet(tablePrivilegesSql,
+                                                                statement,
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
+    {
+      results.setDescription("retrieveTablePrivilegesFromDataDictionary");
+      createPrivileges(results, false);
+    }
+    catch (final Exception e)
+    {
+      LOGGER.log(Level.WARNING,
+                 "Could not retrieve table privileges from SQL:\n"
+                                + tablePrivilegesSql,
+                 e);
+    }
+  }
+
+  private void retrieveTablePrivilegesFromMetadata()
+  {
+    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      .getTablePrivileges(null, null, "%"), getFetchSize());)
+    {
+      createPrivileges(results, false);
+    }
+    catch (final Exception e)
+    {
+      LOGGER.log(Level.WARNING, "Could not retrieve table privileges", e);
+    }
+  }
+
 }
@@ -0,0 +1,372 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+
+import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.SchemaCrawlerSQLException;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Runs per-table database metadata calls, such as for columns, indexes
+ * and foreign keys. When the crawl has additional connections, tables
+ * are partitioned by schema, and into fixed-size chunks, and the
+ * metadata calls for up to the pool size of partitions ahead of the
+ * current one run on connections shared with the rest of the crawl.
+ * Workers only fetch the metadata rows. The rows are handed to the
+ * retriever in the original table order, on the calling thread, so that
+ * the catalog is built exactly as it would be by a serial crawl. A
+ * partition that could not be handed to a worker, since no connection
+ * was free, is read directly on the connection of the caller.
+ *
+ * @author Sualeh Fatehi
+ */
+final class TableMetadataFanOut
+{
+
+  /**
+   * Handles metadata results for a table.
+   */
+  @FunctionalInterface
+  interface TableMetadataHandler
+  {
+
+    void handle(MutableTable table, MetadataResultSet results)
+      throws SQLException;
+
+  }
+
+  /**
+   * Obtains metadata results for a table.
+   */
+  @FunctionalInterface
+  interface TableMetadataQuery
+  {
+
+    ResultSet query(DatabaseMetaData metaData, MutableTable table)
+      throws SQLException;
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(TableMetadataFanOut.class.getName());
+
+  private static final int CHUNK_SIZE = 50;
+
+  /**
+   * Partitions tables by schema, and then into chunks of no more than
+   * the given size, retaining the original order of the tables.
+   *
+   * @param tables
+   *        Tables to partition
+   * @param chunkSize
+   *        Maximum number of tables in a partition
+   * @return Partitions of tables
+   */
+  static List<List<MutableTable>> partition(final Collection<MutableTable> tables,
+                                            final int chunkSize)
+  {
+    final Map<Schema, List<MutableTable>> tablesBySchema = new LinkedHashMap<>();
+    for (final MutableTable table: tables)
+    {
+      tablesBySchema.computeIfAbsent(table.getSchema(), k -> new ArrayList<>())
+        .add(table);
+    }
+
+    final List<List<MutableTable>> partitions = new ArrayList<>();
+    for (final List<MutableTable> schemaTables: tablesBySchema.values())
+    {
+      for (int i = 0; i < schemaTables.size(); i = i + chunkSize)
+      {
+        partitions.add(schemaTables
+          .subList(i, Math.min(i + chunkSize, schemaTables.size())));
+      }
+    }
+    return partitions;
+  }
+
+  private final RetrieverConnection retrieverConnection;
+  private final String description;
+
+  /**
+   * Sets up per-table metadata retrieval.
+   *
+   * @param retrieverConnection
+   *        Retriever connection
+   * @param description
+   *        Description of the metadata, used in error messages
+   */
+  TableMetadataFanOut(final RetrieverConnection retrieverConnection,
+                      final String description)
+  {
+    this.retrieverConnection = requireNonNull(retrieverConnection,
+                                              "No retriever connection provided");
+    this.description = requireNonNull(description, "No description provided");
+  }
+
+  /**
+   * Runs the metadata queries for each table, in order, and hands the
+   * results to the handler, in table order.
+   *
+   * @param tables
+   *        Tables to retrieve metadata for
+   * @param handler
+   *        Handler for metadata results
+   * @param queries
+   *        Metadata queries to run for each table
+   * @throws SQLException
+   *         On an exception retrieving metadata
+   */
+  void retrieve(final Collection<MutableTable> tables,
+                final TableMetadataHandler handler,
+                final TableMetadataQuery... queries)
+    throws SQLException
+  {
+    requireNonNull(tables, "No tables provided");
+    requireNonNull(handler, "No metadata handler provided");
+
+    final int poolSize = retrieverConnection.getMetadataRetrievalPoolSize();
+    final Optional<CrawlConnections> crawlConnections = retrieverConnection
+      .getCrawlConnections();
+    if (poolSize > 1 && crawlConnections.isPresent() && tables.size() > 1)
+    {
+      retrieveInParallel(crawlConnections.get(),
+                         poolSize,
+                         tables,
+                         handler,
+                         queries);
+    }
+    else
+    {
+      retrieveSerially(tables, handler, queries);
+    }
+  }
+
+  private List<MetadataRows> fetch(final Connection connection,
+                                   final List<MutableTable> partition,
+                                   final TableMetadataQuery... queries)
+    throws SQLException
+  {
+    final List<MetadataRows> partitionRows = new ArrayList<>();
+    final DatabaseMetaData metaData = connection.getMetaData();
+    for (final MutableTable table: partition)
+    {
+      for (final TableMetadataQuery query: queries)
+      {
+        try (final ResultSet results = query.query(metaData, table);)
+        {
+          partitionRows.add(MetadataRows.copyOf(results));
+        }
+        catch (final SQLException e)
+        {
+          throw newRetrievalException(table, e);
+        }
+      }
+    }
+    return partitionRows;
+  }
+
+  private SchemaCrawlerSQLException newRetrievalException(final MutableTable table,
+                                                          final SQLException e)
+  {
+    return new SchemaCrawlerSQLException(String
+      .format("Could not retrieve %s for %s <%s>",
+              description,
+              table.getTableType(),
+              table), e);
+  }
+
+  private void retrieveInParallel(final CrawlConnections crawlConnections,
+                                  final int poolSize,
+                                  final Collection<MutableTable> tables,
+                                  final TableMetadataHandler handler,
+                                  final TableMetadataQuery... queries)
+    throws SQLException
+  {
+    final List<List<MutableTable>> partitions = partition(tables, CHUNK_SIZE);
+    LOGGER.log(Level.INFO,
+               new StringFormat("Retrieving %s for %d tables in %d partitions, with up to %d partitions in flight",
+                                description,
+                                tables.size(),
+                                partitions.size(),
+                                poolSize));
+
+    // Only partitions that are fetched ahead of the current one are
+    // held in memory, so at most the pool size of partitions are
+    // buffered at any time
+    final List<Future<List<MetadataRows>>> futures = new ArrayList<>();
+    for (int i = 0; i < partitions.size(); i++)
+    {
+      futures.add(null);
+    }
+    try
+    {
+      int nextPartition = 1;
+      for (int i = 0; i < partitions.size(); i++)
+      {
+        nextPartition = Math.max(nextPartition, i + 1);
+        while (nextPartition < partitions.size()
+               && nextPartition <= i + poolSize)
+        {
+          final List<MutableTable> partition = partitions.get(nextPartition);
+          final Optional<Future<List<MetadataRows>>> future = crawlConnections
+            .trySubmit(connection -> fetch(connection, partition, queries));
+          if (!future.isPresent())
+          {
+            break;
+          }
+          futures.set(nextPartition, future.get());
+          nextPartition = nextPartition + 1;
+        }
+
+        final Future<List<MetadataRows>> future = futures.get(i);
+        if (future == null)
+        {
+          retrieveSerially(partitions.get(i), handler, queries);
+          continue;
+        }
+        futures.set(i, null);
+
+        final List<MetadataRows> partitionRows = waitFor(future);
+        int rowsIndex = 0;
+        for (final MutableTable table: partitions.get(i))
+        {
+          for (int j = 0; j < queries.length; j++)
+          {
+            try (final MetadataResultSet results = new MetadataResultSet(partitionRows
+              .get(rowsIndex));)
+            {
+              handler.handle(table, results);
+            }
+            catch (final SQLException e)
+            {
+              throw newRetrievalException(table, e);
+            }
+            rowsIndex = rowsIndex + 1;
+          }
+        }
+      }
+    }
+    catch (final SQLException | RuntimeException e)
+    {
+      // Do not leave partitions that were fetched ahead running on the
+      // shared connections, once the retrieval has failed
+      cancel(futures);
+      throw e;
+    }
+  }
+
+  private void cancel(final List<Future<List<MetadataRows>>> futures)
+  {
+    for (final Future<List<MetadataRows>> future: futures)
+    {
+      if (future != null)
+      {
+        future.cancel(true);
+      }
+    }
+  }
+
+  private void retrieveSerially(final Collection<MutableTable> tables,
+                                final TableMetadataHandler handler,
+                                final TableMetadataQuery... queries)
+    throws SQLException
+  {
+    final DatabaseMetaData metaData = retrieverConnection.getMetaData();
+    for (final MutableTable table: tables)
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Retrieving %s for %s", description, table));
+      for (final TableMetadataQuery query: queries)
+      {
+        try (final MetadataResultSet results = new MetadataResultSet(query
+          .query(metaData, table), retrieverConnection.getFetchSize());)
+        {
+          handler.handle(table, results);
+        }
+        catch (final SQLException e)
+        {
+          throw newRetrievalException(table, e);
+        }
+      }
+    }
+  }
+
+  private List<MetadataRows> waitFor(final Future<List<MetadataRows>> future)
+    throws SQLException
+  {
+    try
+    {
+      return future.get();
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SQLException)
+      {
+        throw (SQLException) cause;
+      }
+      else if (cause instanceof RuntimeException)
+      {
+        throw (RuntimeException) cause;
+      }
+      else
+      {
+        throw new SchemaCrawlerSQLException("Could not retrieve "
+                                            + description,
+                                            e);
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerSQLException("Interrupted retrieving "
+                                          + description,
+                                          e);
+    }
+  }
+
+}
@@ -36,7 +36,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Level;
 
 import schemacrawler.filter.InclusionRuleFilter;
@@ -198,15 +200,39 @@ final class TableRetriever
     final Connection connection = getDatabaseConnection();
     final TableTypes supportedTableTypes = getRetrieverConnection()
       .getTableTypes();
+    // The data dictionary query returns all table types, so filter
+    // them here, the same way that the JDBC driver would
+    final String[] filteredTableTypes = supportedTableTypes
+      .filterUnknown(tableTypes);
+    final Set<String> includedTableTypes;
+    if (filteredTableTypes == null)
+    {
+      includedTableTypes = null;
+    }
+    else
+    {
+      includedTableTypes = new HashSet<>();
+      for (final String tableType: filteredTableTypes)
+      {
+        includedTableTypes.add(tableType.toUpperCase());
+      }
+    }
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(tablesSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getFetchSize());)
     {
       results.setDescription("retrieveTablesFromDataDictionary");
       int numTables = 0;
       while (results.next())
       {
+        final String tableType = results.getString("TABLE_TYPE");
+        if (includedTableTypes != null && !includedTableTypes
+          .contains(String.valueOf(tableType).toUpperCase()))
+        {
+          continue;
+        }
         numTables = numTables + 1;
         createTable(results, schemas, tableFilter, supportedTableTypes);
       }
@@ -242,7 +268,7 @@ final class TableRetriever
         .getTables(catalogName,
                    schemaName,
                    tableNamePattern,
-                   filteredTableTypes));)
+                   filteredTableTypes), getFetchSize());)
       {
         results.setDescription("retrieveTablesFromMetadata");
         int numTables = 0;
@@ -272,18 +298,24 @@ final class TableRetriever
                                 filteredTableTypes == null? "<<all>>": Arrays
                                   .asList(filteredTableTypes)));
 
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getTables(null, null, tableNamePattern, filteredTableTypes));)
+    for (final SchemaReference schema: getSchemasForMetadataRetrieval())
     {
-      results.setDescription("retrieveTablesFromMetadataForAllTables");
-      int numTables = 0;
-      while (results.next())
+      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+        .getTables(schema.getCatalogName(),
+                   schema.getName(),
+                   tableNamePattern,
+                   filteredTableTypes), getFetchSize());)
       {
-        numTables = numTables + 1;
-        createTable(results, schemas, tableFilter, supportedTableTypes);
+        results.setDescription("retrieveTablesFromMetadataForAllTables");
+        int numTables = 0;
+        while (results.next())
+        {
+          numTables = numTables + 1;
+          createTable(results, schemas, tableFilter, supportedTableTypes);
+        }
+        LOGGER.log(Level.INFO,
+                   new StringFormat("Processed %d tables", numTables));
       }
-      LOGGER.log(Level.INFO,
-                 new StringFormat("Processed %d tables", numTables));
     }
   }
 
@@ -32,10 +32,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
 
-import schemacrawler.schema.ForeignKey;
-import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.Table;
+import schemacrawler.schema.TableRelationshipType;
 import schemacrawler.schema.View;
+import schemacrawler.utility.TableRelationships;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.graph.DirectedGraph;
 import sf.util.graph.GraphException;
@@ -48,25 +48,29 @@ final class TablesGraph
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(TablesGraph.class.getName());
 
+  private final NamedObjectList<MutableTable> tables;
+
   TablesGraph(final NamedObjectList<MutableTable> tables)
   {
     super("catalog");
 
+    this.tables = tables;
     if (tables == null)
     {
       return;
     }
 
-    for (final Table table: tables)
+    // Use the index of table relationships, so that each foreign key
+    // column reference is not added as a separate edge
+    final TableRelationships tableRelationships = TableRelationships
+      .forTables(tables);
+    for (final Table table: tableRelationships.getTables())
     {
       addVertex(table);
-      for (final ForeignKey foreignKey: table.getForeignKeys())
+      for (final Table childTable: tableRelationships
+        .getRelatedTables(table, TableRelationshipType.child))
       {
-        for (final ForeignKeyColumnReference columnRef: foreignKey)
-        {
-          addEdge(columnRef.getPrimaryKeyColumn().getParent(),
-                  columnRef.getForeignKeyColumn().getParent());
-        }
+        addEdge(table, childTable);
       }
     }
 
@@ -102,6 +106,10 @@ final class TablesGraph
           sortIndex++;
         }
       }
+      if (tables != null)
+      {
+        tables.clearSortedValues();
+      }
     }
     catch (final GraphException e)
     {
@@ -35,6 +35,7 @@ import schemacrawler.schema.Routine;
 import schemacrawler.schema.RoutineColumn;
 import schemacrawler.schemacrawler.InclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.utility.Identifiers;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
 
@@ -79,13 +80,42 @@ class RoutineGrepFilter
       return true;
     }
 
+    boolean include = grep(routine);
+
+    if (invertMatch)
+    {
+      include = !include;
+    }
+
+    if (!include)
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Excluding routine <%s>", routine));
+    }
+
+    return include;
+  }
+
+  /**
+   * Checks whether any column name, or any definition matches the grep
+   * inclusion rules. Column full names are checked without building
+   * them.
+   */
+  private boolean grep(final Routine routine)
+  {
+    final boolean checkIncludeForColumns = grepColumnInclusionRule != null;
+    final boolean checkIncludeForDefinitions = grepDefinitionInclusionRule != null;
+
     boolean includeForColumns = false;
     boolean includeForDefinitions = false;
+    final String fullName = checkIncludeForColumns? routine.getFullName(): null;
     for (final RoutineColumn<?> column: routine.getColumns())
     {
       if (checkIncludeForColumns)
       {
-        if (grepColumnInclusionRule.test(column.getFullName()))
+        final String columnName = Identifiers.STANDARD
+          .quoteName(column.getName());
+        if (grepColumnInclusionRule.testFullName(fullName, columnName))
         {
           includeForColumns = true;
           break;
@@ -112,21 +142,8 @@ class RoutineGrepFilter
         includeForDefinitions = true;
       }
     }
-
-    boolean include = checkIncludeForColumns && includeForColumns
-                      || checkIncludeForDefinitions && includeForDefinitions;
-    if (invertMatch)
-    {
-      include = !include;
-    }
-
-    if (!include)
-    {
-      LOGGER.log(Level.FINE,
-                 new StringFormat("Excluding routine <%s>", routine));
-    }
-
-    return include;
+    return checkIncludeForColumns && includeForColumns
+           || checkIncludeForDefinitions && includeForDefinitions;
   }
 
 }
@@ -36,6 +36,7 @@ import schemacrawler.schema.Table;
 import schemacrawler.schema.Trigger;
 import schemacrawler.schemacrawler.InclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.utility.Identifiers;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
 
@@ -79,13 +80,41 @@ class TableGrepFilter
       return true;
     }
 
+    boolean include = grep(table);
+
+    if (invertMatch)
+    {
+      include = !include;
+    }
+
+    if (!include)
+    {
+      LOGGER.log(Level.FINE, new StringFormat("Excluding table <%s>", table));
+    }
+
+    return include;
+  }
+
+  /**
+   * Checks whether any column name, or any definition matches the grep
+   * inclusion rules. Column full names are checked without building
+   * them.
+   */
+  private boolean grep(final Table table)
+  {
+    final boolean checkIncludeForColumns = grepColumnInclusionRule != null;
+    final boolean checkIncludeForDefinitions = grepDefinitionInclusionRule != null;
+
     boolean includeForColumns = false;
     boolean includeForDefinitions = false;
+    final String fullName = checkIncludeForColumns? table.getFullName(): null;
     for (final Column column: table.getColumns())
     {
       if (checkIncludeForColumns)
       {
-        if (grepColumnInclusionRule.test(column.getFullName()))
+        final String columnName = Identifiers.STANDARD
+          .quoteName(column.getName());
+        if (grepColumnInclusionRule.testFullName(fullName, columnName))
         {
           includeForColumns = true;
           break;
@@ -120,20 +149,8 @@ class TableGrepFilter
         }
       }
     }
-
-    boolean include = checkIncludeForColumns && includeForColumns
-                      || checkIncludeForDefinitions && includeForDefinitions;
-    if (invertMatch)
-    {
-      include = !include;
-    }
-
-    if (!include)
-    {
-      LOGGER.log(Level.FINE, new StringFormat("Excluding table <%s>", table));
-    }
-
-    return include;
+    return checkIncludeForColumns && includeForColumns
+           || checkIncludeForDefinitions && includeForDefinitions;
   }
 
 }
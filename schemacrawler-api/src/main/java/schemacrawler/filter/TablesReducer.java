@@ -30,7 +30,6 @@ package schemacrawler.filter;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -43,6 +42,7 @@ import schemacrawler.schema.ReducibleCollection;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.TableRelationshipType;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.utility.TableRelationships;
 
 final class TablesReducer
   implements Reducer<Table>
@@ -82,20 +82,26 @@ final class TablesReducer
       }
     }
 
-    // Add in referenced tables
-    final int childTableFilterDepth = options.getChildTableFilterDepth();
-    final Collection<Table> childTables = includeRelatedTables(TableRelationshipType.child,
-                                                               childTableFilterDepth,
-                                                               reducedTables);
-    final int parentTableFilterDepth = options.getParentTableFilterDepth();
-    final Collection<Table> parentTables = includeRelatedTables(TableRelationshipType.parent,
-                                                                parentTableFilterDepth,
-                                                                reducedTables);
-
     final Set<Table> keepTables = new HashSet<>();
     keepTables.addAll(reducedTables);
-    keepTables.addAll(childTables);
-    keepTables.addAll(parentTables);
+
+    // Add in referenced tables, from an index of table relationships
+    // that is built once, and only if it is needed
+    final int childTableFilterDepth = options.getChildTableFilterDepth();
+    final int parentTableFilterDepth = options.getParentTableFilterDepth();
+    if (childTableFilterDepth > 0 || parentTableFilterDepth > 0)
+    {
+      final TableRelationships tableRelationships = TableRelationships
+        .forRelatedTables(allTables);
+      keepTables.addAll(tableRelationships
+        .includeRelatedTables(reducedTables,
+                              TableRelationshipType.child,
+                              childTableFilterDepth));
+      keepTables.addAll(tableRelationships
+        .includeRelatedTables(reducedTables,
+                              TableRelationshipType.parent,
+                              parentTableFilterDepth));
+    }
 
     // Mark tables as being filtered out
     for (final Table table: allTables)
@@ -109,31 +115,6 @@ final class TablesReducer
     allTables.filter(table -> keepTables.contains(table));
   }
 
-  private Collection<Table> includeRelatedTables(final TableRelationshipType tableRelationshipType,
-                                                 final int depth,
-                                                 final Set<Table> greppedTables)
-  {
-    final Set<Table> includedTables = new HashSet<>();
-    includedTables.addAll(greppedTables);
-
-    for (int i = 0; i < depth; i++)
-    {
-      for (final Table table: new HashSet<>(includedTables))
-      {
-        for (final Table relatedTable: table
-          .getRelatedTables(tableRelationshipType))
-        {
-          if (!isTablePartial(relatedTable))
-          {
-            includedTables.add(relatedTable);
-          }
-        }
-      }
-    }
-
-    return includedTables;
-  }
-
   private boolean isTablePartial(final Table table)
   {
     return table instanceof PartialDatabaseObject;
@@ -30,11 +30,25 @@ package schemacrawler.schema;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 
 public interface CrawlInfo
   extends Serializable
 {
 
+  /**
+   * Gets metrics for each timed phase of the crawl, in the order in
+   * which the phases completed. Phases of a concurrent crawl may be
+   * interleaved.
+   *
+   * @return Crawl phase metrics
+   */
+  default List<CrawlPhaseMetrics> getCrawlPhaseMetrics()
+  {
+    return Collections.emptyList();
+  }
+
   /**
    * Gets the timestamp of when the database was crawled.
    *
@@ -0,0 +1,88 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.schema;
+
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * Metrics for a single timed phase of a crawl, such as retrieving
+ * columns for tables.
+ *
+ * @author Sualeh Fatehi
+ */
+public interface CrawlPhaseMetrics
+  extends Serializable
+{
+
+  /**
+   * Gets the approximate number of bytes of metadata read in this
+   * phase, counting one byte per character of text values.
+   *
+   * @return Approximate number of bytes read
+   */
+  long getBytesFetched();
+
+  /**
+   * Gets the name of the crawl that this phase is a part of, for
+   * example, "crawlTables".
+   *
+   * @return Name of the crawl
+   */
+  String getCrawlName();
+
+  /**
+   * Gets the time taken for the phase.
+   *
+   * @return Time taken
+   */
+  Duration getDuration();
+
+  /**
+   * Gets the name of the phase, for example, "retrieveColumns".
+   *
+   * @return Name of the phase
+   */
+  String getPhaseName();
+
+  /**
+   * Gets the number of metadata calls and queries run in this phase.
+   *
+   * @return Number of metadata calls and queries
+   */
+  long getQueryCount();
+
+  /**
+   * Gets the number of metadata rows read in this phase.
+   *
+   * @return Number of metadata rows read
+   */
+  long getRowCount();
+
+}
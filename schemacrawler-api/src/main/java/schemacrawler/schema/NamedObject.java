@@ -55,6 +55,18 @@ public interface NamedObject
    */
   String getName();
 
+  /**
+   * A compact lookup key, guaranteed to be unique in the database for
+   * this object. The key has the same parts as
+   * {@link #toUniqueLookupKey()}.
+   *
+   * @return Lookup key
+   */
+  default NamedObjectKey key()
+  {
+    return new NamedObjectKey(toUniqueLookupKey());
+  }
+
   /**
    * A value guaranteed to be unique in the database for this object.
    */
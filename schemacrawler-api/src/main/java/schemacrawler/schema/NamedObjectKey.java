@@ -0,0 +1,175 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.schema;
+
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A compact, immutable lookup key for a named object. The parts of the
+ * key are interned, since the same catalog, schema and table names
+ * repeat across many keys, and the hash code is computed only once.
+ * The hash code is the same as that of a list with the same parts.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class NamedObjectKey
+  implements Serializable
+{
+
+  private static final long serialVersionUID = -6193186802375302307L;
+
+  /**
+   * Computes the hash code of a key with the given parts, without
+   * creating the key.
+   *
+   * @param parentHashCode
+   *        Hash code of the parts that come first, or 1 if there are
+   *        none
+   * @param part
+   *        Next part of the key
+   * @return Hash code of the key
+   */
+  public static int hash(final int parentHashCode, final String part)
+  {
+    return 31 * parentHashCode + (part == null? 0: part.hashCode());
+  }
+
+  private static String intern(final String part)
+  {
+    if (part == null)
+    {
+      return null;
+    }
+    return part.intern();
+  }
+
+  private final String[] key;
+  private final int hashCode;
+
+  public NamedObjectKey(final List<String> key)
+  {
+    this(key == null? new String[0]: key.toArray(new String[key.size()]));
+  }
+
+  public NamedObjectKey(final String... key)
+  {
+    if (key == null)
+    {
+      this.key = new String[0];
+    }
+    else
+    {
+      this.key = new String[key.length];
+    }
+    int hashCode = 1;
+    for (int i = 0; i < this.key.length; i++)
+    {
+      this.key[i] = intern(key[i]);
+      hashCode = hash(hashCode, this.key[i]);
+    }
+    this.hashCode = hashCode;
+  }
+
+  private NamedObjectKey(final NamedObjectKey parentKey, final String part)
+  {
+    key = Arrays.copyOf(parentKey.key, parentKey.key.length + 1);
+    key[key.length - 1] = intern(part);
+    hashCode = hash(parentKey.hashCode, key[key.length - 1]);
+  }
+
+  @Override
+  public boolean equals(final Object obj)
+  {
+    if (this == obj)
+    {
+      return true;
+    }
+    if (obj == null)
+    {
+      return false;
+    }
+    if (getClass() != obj.getClass())
+    {
+      return false;
+    }
+    final NamedObjectKey other = (NamedObjectKey) obj;
+    return hashCode == other.hashCode && Arrays.equals(key, other.key);
+  }
+
+  /**
+   * Gets a part of the key.
+   *
+   * @param index
+   *        Index of the part
+   * @return Part of the key, which may be null
+   */
+  public String get(final int index)
+  {
+    return key[index];
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return hashCode;
+  }
+
+  /**
+   * Number of parts in the key.
+   *
+   * @return Number of parts
+   */
+  public int size()
+  {
+    return key.length;
+  }
+
+  @Override
+  public String toString()
+  {
+    return Arrays.toString(key);
+  }
+
+  /**
+   * Creates a key for a dependent object, with an additional part.
+   *
+   * @param part
+   *        Additional part of the key, usually the name of the dependent
+   *        object
+   * @return New key
+   */
+  public NamedObjectKey with(final String part)
+  {
+    return new NamedObjectKey(this, part);
+  }
+
+}
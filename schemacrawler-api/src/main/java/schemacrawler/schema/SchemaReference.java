@@ -50,6 +50,7 @@ public final class SchemaReference
   private final String catalogName;
   private final String schemaName;
   private transient String fullName;
+  private transient NamedObjectKey key;
   private final Map<String, Object> attributeMap = new HashMap<>();
 
   public SchemaReference()
@@ -226,6 +227,19 @@ public final class SchemaReference
     return false;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public NamedObjectKey key()
+  {
+    if (key == null)
+    {
+      key = new NamedObjectKey(catalogName, schemaName);
+    }
+    return key;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -44,6 +44,7 @@ import schemacrawler.schema.CrawlInfo;
 import schemacrawler.schema.DatabaseInfo;
 import schemacrawler.schema.JdbcDriverInfo;
 import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Reducer;
 import schemacrawler.schema.Reducible;
 import schemacrawler.schema.Routine;
@@ -230,6 +231,12 @@ public abstract class BaseCatalogDecorator
     return catalog.hasRemarks();
   }
 
+  @Override
+  public NamedObjectKey key()
+  {
+    return catalog.key();
+  }
+
   @Override
   public Optional<? extends ColumnDataType> lookupColumnDataType(final Schema schema,
                                                                  final String name)
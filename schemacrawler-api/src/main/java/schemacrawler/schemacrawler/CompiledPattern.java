@@ -0,0 +1,427 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.schemacrawler;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A regular expression compiled for matching names. Regular expressions
+ * that are alternations of literal names, or of literal names with
+ * leading or trailing ".*" wildcards, are matched with keyword tries,
+ * without running the regular expression engine. All other regular
+ * expressions are matched with a matcher that is reused by each thread.
+ * In either case, the result is exactly the same as
+ * {@link Matcher#matches()}.
+ *
+ * @author Sualeh Fatehi
+ */
+final class CompiledPattern
+{
+
+  /**
+   * One alternative of a regular expression, which is a literal, with
+   * an optional leading or trailing ".*" wildcard.
+   */
+  private static final class Alternative
+  {
+
+    private final boolean leadingWildcard;
+    private final String literal;
+    private final boolean trailingWildcard;
+
+    Alternative(final boolean leadingWildcard,
+                final String literal,
+                final boolean trailingWildcard)
+    {
+      this.leadingWildcard = leadingWildcard;
+      this.literal = literal;
+      this.trailingWildcard = trailingWildcard;
+    }
+
+  }
+
+  /**
+   * Recursive descent parser for the subset of regular expressions that
+   * can be matched with keyword tries. Returns null for any other
+   * regular expression.
+   */
+  private static final class Parser
+  {
+
+    private final String regex;
+    private int position;
+
+    Parser(final String regex)
+    {
+      this.regex = regex;
+    }
+
+    List<Alternative> parse()
+    {
+      if (regex.startsWith("^"))
+      {
+        position = 1;
+      }
+      final List<Alternative> alternatives = parseAlternation();
+      if (alternatives == null)
+      {
+        return null;
+      }
+      if (position == regex.length() - 1 && regex.charAt(position) == '$')
+      {
+        // A trailing anchor makes no difference when the whole text
+        // has to match
+        position = position + 1;
+      }
+      if (position != regex.length())
+      {
+        return null;
+      }
+      return alternatives;
+    }
+
+    private boolean consume(final String token)
+    {
+      if (regex.startsWith(token, position))
+      {
+        position = position + token.length();
+        return true;
+      }
+      return false;
+    }
+
+    private boolean consumeWildcards()
+    {
+      boolean consumed = false;
+      while (consume(".*"))
+      {
+        consumed = true;
+      }
+      return consumed;
+    }
+
+    private List<Alternative> parseAlternation()
+    {
+      final List<Alternative> alternatives = new ArrayList<>();
+      do
+      {
+        final List<Alternative> concatenation = parseConcatenation();
+        if (concatenation == null)
+        {
+          return null;
+        }
+        alternatives.addAll(concatenation);
+      }
+      while (consume("|"));
+      return alternatives;
+    }
+
+    /**
+     * Parses an optional ".*" wildcard, followed by either a literal or
+     * a group, followed by an optional ".*" wildcard. Wildcards around a
+     * group are distributed to each alternative in the group.
+     */
+    private List<Alternative> parseConcatenation()
+    {
+      final boolean leadingWildcard = consumeWildcards();
+
+      final List<Alternative> inner;
+      if (consume("(?:") || consume("(") && !regex.startsWith("?", position))
+      {
+        inner = parseAlternation();
+        if (inner == null || !consume(")"))
+        {
+          return null;
+        }
+      }
+      else
+      {
+        final String literal = parseLiteral();
+        if (literal == null)
+        {
+          return null;
+        }
+        inner = new ArrayList<>();
+        inner.add(new Alternative(false, literal, false));
+      }
+
+      final boolean trailingWildcard = consumeWildcards();
+      if (position < regex.length() && regex.charAt(position) != '|'
+          && regex.charAt(position) != ')'
+          && !(position == regex.length() - 1
+               && regex.charAt(position) == '$'))
+      {
+        return null;
+      }
+
+      final List<Alternative> alternatives = new ArrayList<>();
+      for (final Alternative alternative: inner)
+      {
+        final boolean leading = leadingWildcard
+                                || alternative.leadingWildcard;
+        final boolean trailing = trailingWildcard
+                                 || alternative.trailingWildcard;
+        alternatives
+          .add(new Alternative(leading, alternative.literal, trailing));
+      }
+      return alternatives;
+    }
+
+    /**
+     * Parses literal characters, including escaped punctuation and
+     * quoted sections, up to the next wildcard, group, or alternation.
+     */
+    private String parseLiteral()
+    {
+      final StringBuilder literal = new StringBuilder();
+      while (position < regex.length())
+      {
+        final char ch = regex.charAt(position);
+        if (ch == '\\')
+        {
+          if (consume("\\Q"))
+          {
+            final int quoteEnd = regex.indexOf("\\E", position);
+            final int end = quoteEnd == -1? regex.length(): quoteEnd;
+            literal.append(regex, position, end);
+            position = quoteEnd == -1? end: end + 2;
+            continue;
+          }
+          if (position + 1 >= regex.length())
+          {
+            return null;
+          }
+          final char escaped = regex.charAt(position + 1);
+          if (Character.isLetterOrDigit(escaped))
+          {
+            // Character classes, back references and control
+            // characters
+            return null;
+          }
+          literal.append(escaped);
+          position = position + 2;
+        }
+        else if (regex.startsWith(".*", position) || ch == '|' || ch == ')'
+                 || ch == '$' && position == regex.length() - 1)
+        {
+          break;
+        }
+        else if ("[]{}()*+?.^$".indexOf(ch) != -1)
+        {
+          return null;
+        }
+        else
+        {
+          literal.append(ch);
+          position = position + 1;
+        }
+      }
+
+      for (int i = 0; i < literal.length(); i++)
+      {
+        if (isLineTerminator(literal.charAt(i)))
+        {
+          return null;
+        }
+      }
+      return literal.toString();
+    }
+
+  }
+
+  /**
+   * Compiles a regular expression for matching names.
+   *
+   * @param pattern
+   *        Regular expression
+   * @return Compiled pattern
+   */
+  static CompiledPattern compile(final Pattern pattern)
+  {
+    requireNonNull(pattern, "No pattern provided");
+
+    final int flags = pattern.flags();
+    if (flags != 0 && flags != Pattern.DOTALL)
+    {
+      return new CompiledPattern(pattern, null);
+    }
+    return new CompiledPattern(pattern,
+                               new Parser(pattern.pattern()).parse());
+  }
+
+  /**
+   * Line terminators, which the "." wildcard does not match, unless the
+   * regular expression uses {@link Pattern#DOTALL}.
+   */
+  private static boolean isLineTerminator(final char ch)
+  {
+    return ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028'
+           || ch == '\u2029';
+  }
+
+  private final Pattern pattern;
+  private final ThreadLocal<Matcher> matcher;
+  private final boolean dotAll;
+  private final boolean hasWildcards;
+  private final boolean matchesAny;
+  private final KeywordTrie names;
+  private final KeywordTrie prefixes;
+  private final KeywordTrie suffixes;
+  private final KeywordTrie keywords;
+
+  private CompiledPattern(final Pattern pattern,
+                          final List<Alternative> alternatives)
+  {
+    this.pattern = pattern;
+    dotAll = pattern.flags() == Pattern.DOTALL;
+
+    if (alternatives == null)
+    {
+      matcher = ThreadLocal.withInitial(() -> pattern.matcher(""));
+      hasWildcards = false;
+      matchesAny = false;
+      names = null;
+      prefixes = null;
+      suffixes = null;
+      keywords = null;
+      return;
+    }
+
+    matcher = null;
+    final Set<String> nameLiterals = new LinkedHashSet<>();
+    final Set<String> prefixLiterals = new LinkedHashSet<>();
+    final Set<String> suffixLiterals = new LinkedHashSet<>();
+    final Set<String> keywordLiterals = new LinkedHashSet<>();
+    boolean matchesAny = false;
+    for (final Alternative alternative: alternatives)
+    {
+      if (!alternative.leadingWildcard && !alternative.trailingWildcard)
+      {
+        nameLiterals.add(alternative.literal);
+      }
+      else if (alternative.literal.isEmpty())
+      {
+        matchesAny = true;
+      }
+      else if (!alternative.leadingWildcard)
+      {
+        prefixLiterals.add(alternative.literal);
+      }
+      else if (!alternative.trailingWildcard)
+      {
+        suffixLiterals.add(alternative.literal);
+      }
+      else
+      {
+        keywordLiterals.add(alternative.literal);
+      }
+    }
+
+    this.matchesAny = matchesAny;
+    hasWildcards = matchesAny || !prefixLiterals.isEmpty()
+                   || !suffixLiterals.isEmpty()
+                   || !keywordLiterals.isEmpty();
+    names = nameLiterals.isEmpty()? null: new KeywordTrie(nameLiterals);
+    prefixes = prefixLiterals.isEmpty()? null
+                                       : new KeywordTrie(prefixLiterals);
+    suffixes = suffixLiterals.isEmpty()? null
+                                       : KeywordTrie.reversed(suffixLiterals);
+    keywords = keywordLiterals.isEmpty()? null
+                                        : new KeywordTrie(keywordLiterals);
+  }
+
+  /**
+   * Whether the regular expression is matched with keyword tries,
+   * rather than with the regular expression engine.
+   *
+   * @return Whether the regular expression is compiled
+   */
+  boolean isCompiled()
+  {
+    return matcher == null;
+  }
+
+  /**
+   * Checks whether the whole text matches the regular expression.
+   *
+   * @param text
+   *        Text to match
+   * @return Whether the text matches
+   */
+  boolean matches(final CharSequence text)
+  {
+    if (matcher != null)
+    {
+      return matcher.get().reset(text).matches();
+    }
+
+    if (names != null && names.matches(text))
+    {
+      return true;
+    }
+    if (!hasWildcards)
+    {
+      return false;
+    }
+    if (!dotAll)
+    {
+      // Literals never contain line terminators, so a wildcard has to
+      // match any line terminator in the text
+      for (int i = 0; i < text.length(); i++)
+      {
+        if (isLineTerminator(text.charAt(i)))
+        {
+          return false;
+        }
+      }
+    }
+    return matchesAny || prefixes != null && prefixes.matchesStart(text)
+           || suffixes != null && suffixes.matchesStart(text)
+           || keywords != null && keywords.containsAny(text);
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format("%s@%h {/%s/ compiled=%b}",
+                         getClass().getSimpleName(),
+                         System.identityHashCode(this),
+                         pattern.pattern(),
+                         isCompiled());
+  }
+
+}
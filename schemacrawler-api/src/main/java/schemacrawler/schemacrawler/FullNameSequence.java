@@ -0,0 +1,125 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.schemacrawler;
+
+
+import static sf.util.Utility.isBlank;
+
+/**
+ * The full name of a child object, such as a column, presented as a
+ * character sequence over the full name of the parent object and the
+ * name of the child object, without copying either. An instance is
+ * reused by each thread, and is only valid until the next call to
+ * {@link #of(String, String)} on the same thread.
+ *
+ * @author Sualeh Fatehi
+ */
+final class FullNameSequence
+  implements CharSequence
+{
+
+  private static final ThreadLocal<FullNameSequence> fullNameSequence = ThreadLocal
+    .withInitial(FullNameSequence::new);
+
+  /**
+   * Joins the full name of the parent object and the name of the child
+   * object with a ".", in the same way as full names are built. There
+   * is no separator if either one is empty, and a blank name is left
+   * out.
+   *
+   * @param parentFullName
+   *        Full name of the parent object
+   * @param name
+   *        Quoted name of the child object
+   * @return Full name of the child object
+   */
+  static CharSequence of(final String parentFullName, final String name)
+  {
+    final FullNameSequence sequence = fullNameSequence.get();
+    sequence.parentFullName = parentFullName == null? "": parentFullName;
+    sequence.name = isBlank(name)? "": name;
+    sequence.separatorLength = sequence.parentFullName.isEmpty()
+                               || sequence.name.isEmpty()? 0: 1;
+    return sequence;
+  }
+
+  private String parentFullName;
+  private String name;
+  private int separatorLength;
+
+  private FullNameSequence()
+  {
+    parentFullName = "";
+    name = "";
+  }
+
+  @Override
+  public char charAt(final int index)
+  {
+    final int parentLength = parentFullName.length();
+    if (index < parentLength)
+    {
+      return parentFullName.charAt(index);
+    }
+    else if (index < parentLength + separatorLength)
+    {
+      return '.';
+    }
+    else
+    {
+      return name.charAt(index - parentLength - separatorLength);
+    }
+  }
+
+  @Override
+  public int length()
+  {
+    return parentFullName.length() + separatorLength + name.length();
+  }
+
+  @Override
+  public CharSequence subSequence(final int start, final int end)
+  {
+    return toString().subSequence(start, end);
+  }
+
+  @Override
+  public String toString()
+  {
+    if (separatorLength == 0)
+    {
+      return parentFullName + name;
+    }
+    else
+    {
+      return parentFullName + "." + name;
+    }
+  }
+
+}
@@ -47,4 +47,22 @@ public interface InclusionRule
   extends Serializable, Predicate<String>
 {
 
+  /**
+   * Checks the full name of a child object, such as a column, given the
+   * full name of its parent object, and its own quoted name. The full
+   * name is joined with a ".", in the same way as full names are built.
+   * Implementations can check the full name without building it.
+   *
+   * @param parentFullName
+   *        Full name of the parent object
+   * @param quotedName
+   *        Quoted name of the child object
+   * @return Whether the full name of the child object is included
+   */
+  default boolean testFullName(final String parentFullName,
+                               final String quotedName)
+  {
+    return test(FullNameSequence.of(parentFullName, quotedName).toString());
+  }
+
 }
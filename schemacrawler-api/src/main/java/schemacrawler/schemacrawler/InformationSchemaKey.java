@@ -48,15 +48,23 @@ public enum InformationSchemaKey
  EXT_TABLES(METADATA_EXTENSION),
  EXT_TABLE_CONSTRAINTS(METADATA_EXTENSION),
  FOREIGN_KEYS(DATABASE_METADATA),
+ FUNCTIONS(DATABASE_METADATA),
+ FUNCTION_COLUMNS(DATABASE_METADATA),
  INDEXES(DATABASE_METADATA),
  OVERRIDE_TYPE_INFO(DATABASE_METADATA),
  PRIMARY_KEYS(DATABASE_METADATA),
+ PROCEDURES(DATABASE_METADATA),
+ PROCEDURE_COLUMNS(DATABASE_METADATA),
  ROUTINES(INFORMATION_SCHEMA),
  SCHEMATA(INFORMATION_SCHEMA),
  SEQUENCES(INFORMATION_SCHEMA),
  TABLES(DATABASE_METADATA),
+ TABLE_CHANGE_MARKERS(ADDITIONAL_INFO),
  TABLE_COLUMNS(DATABASE_METADATA),
+ TABLE_COLUMN_PRIVILEGES(DATABASE_METADATA),
  TABLE_CONSTRAINTS(INFORMATION_SCHEMA),
+ TABLE_PRIVILEGES(DATABASE_METADATA),
+ TABLE_ROW_COUNTS(ADDITIONAL_INFO),
  TRIGGERS(INFORMATION_SCHEMA),
  VIEWS(INFORMATION_SCHEMA),;
 
@@ -41,15 +41,23 @@ import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_SYNONYMS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_CONSTRAINTS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.FOREIGN_KEYS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.FUNCTIONS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.FUNCTION_COLUMNS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.INDEXES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.OVERRIDE_TYPE_INFO;
 import static schemacrawler.schemacrawler.InformationSchemaKey.PRIMARY_KEYS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.PROCEDURES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.PROCEDURE_COLUMNS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.ROUTINES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.SCHEMATA;
 import static schemacrawler.schemacrawler.InformationSchemaKey.SEQUENCES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.TABLES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_CHANGE_MARKERS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_COLUMNS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_COLUMN_PRIVILEGES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_CONSTRAINTS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_PRIVILEGES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_ROW_COUNTS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.TRIGGERS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.VIEWS;
 
@@ -71,13 +79,14 @@ public final class InformationSchemaViews
 {
 
   private final Map<InformationSchemaKey, String> informationSchemaQueries;
+  private final Map<InformationSchemaKey, Integer> informationSchemaFetchSizes;
 
   /**
    * Creates empty information schema views.
    */
   public InformationSchemaViews()
   {
-    this(null);
+    this(null, null);
   }
 
   /**
@@ -85,14 +94,23 @@ public final class InformationSchemaViews
    *
    * @param informationSchemaViewsQueries
    *        Map of information schema view definitions.
+   * @param informationSchemaViewsFetchSizes
+   *        Map of fetch sizes for information schema views that override
+   *        the default fetch size.
    */
-  InformationSchemaViews(final Map<InformationSchemaKey, String> informationSchemaViewsQueries)
+  InformationSchemaViews(final Map<InformationSchemaKey, String> informationSchemaViewsQueries,
+                         final Map<InformationSchemaKey, Integer> informationSchemaViewsFetchSizes)
   {
     informationSchemaQueries = new EnumMap<>(InformationSchemaKey.class);
     if (informationSchemaViewsQueries != null)
     {
       informationSchemaQueries.putAll(informationSchemaViewsQueries);
     }
+    informationSchemaFetchSizes = new EnumMap<>(InformationSchemaKey.class);
+    if (informationSchemaViewsFetchSizes != null)
+    {
+      informationSchemaFetchSizes.putAll(informationSchemaViewsFetchSizes);
+    }
   }
 
   /**
@@ -103,8 +121,7 @@ public final class InformationSchemaViews
    */
   public Query getAdditionalColumnAttributesSql()
   {
-    return new Query(ADDITIONAL_COLUMN_ATTRIBUTES
-      .name(), informationSchemaQueries.get(ADDITIONAL_COLUMN_ATTRIBUTES));
+    return query(ADDITIONAL_COLUMN_ATTRIBUTES);
   }
 
   /**
@@ -115,8 +132,7 @@ public final class InformationSchemaViews
    */
   public Query getAdditionalTableAttributesSql()
   {
-    return new Query(ADDITIONAL_TABLE_ATTRIBUTES.name(),
-                     informationSchemaQueries.get(ADDITIONAL_TABLE_ATTRIBUTES));
+    return query(ADDITIONAL_TABLE_ATTRIBUTES);
   }
 
   /**
@@ -127,8 +143,7 @@ public final class InformationSchemaViews
    */
   public Query getExtForeignKeysSql()
   {
-    return new Query(EXT_FOREIGN_KEYS.name(),
-                     informationSchemaQueries.get(EXT_FOREIGN_KEYS));
+    return query(EXT_FOREIGN_KEYS);
   }
 
   /**
@@ -139,8 +154,7 @@ public final class InformationSchemaViews
    */
   public Query getExtHiddenTableColumnsSql()
   {
-    return new Query(EXT_HIDDEN_TABLE_COLUMNS.name(),
-                     informationSchemaQueries.get(EXT_HIDDEN_TABLE_COLUMNS));
+    return query(EXT_HIDDEN_TABLE_COLUMNS);
   }
 
   /**
@@ -151,8 +165,7 @@ public final class InformationSchemaViews
    */
   public Query getExtIndexColumnsSql()
   {
-    return new Query(EXT_INDEX_COLUMNS.name(),
-                     informationSchemaQueries.get(EXT_INDEX_COLUMNS));
+    return query(EXT_INDEX_COLUMNS);
   }
 
   /**
@@ -162,8 +175,7 @@ public final class InformationSchemaViews
    */
   public Query getExtIndexesSql()
   {
-    return new Query(EXT_INDEXES.name(),
-                     informationSchemaQueries.get(EXT_INDEXES));
+    return query(EXT_INDEXES);
   }
 
   /**
@@ -174,8 +186,7 @@ public final class InformationSchemaViews
    */
   public Query getExtPrimaryKeysSql()
   {
-    return new Query(EXT_PRIMARY_KEYS.name(),
-                     informationSchemaQueries.get(EXT_PRIMARY_KEYS));
+    return query(EXT_PRIMARY_KEYS);
   }
 
   /**
@@ -186,8 +197,7 @@ public final class InformationSchemaViews
    */
   public Query getExtTableConstraintsSql()
   {
-    return new Query(EXT_TABLE_CONSTRAINTS.name(),
-                     informationSchemaQueries.get(EXT_TABLE_CONSTRAINTS));
+    return query(EXT_TABLE_CONSTRAINTS);
   }
 
   /**
@@ -197,8 +207,7 @@ public final class InformationSchemaViews
    */
   public Query getExtTablesSql()
   {
-    return new Query(EXT_TABLES.name(),
-                     informationSchemaQueries.get(EXT_TABLES));
+    return query(EXT_TABLES);
   }
 
   /**
@@ -208,9 +217,27 @@ public final class InformationSchemaViews
    */
   public Query getForeignKeysSql()
   {
-    return new Query(FOREIGN_KEYS.name(),
-                     informationSchemaQueries.get(FOREIGN_KEYS),
-                     true);
+    return query(FOREIGN_KEYS, true);
+  }
+
+  /**
+   * Gets the function columns SQL from the additional configuration.
+   *
+   * @return Function columns SQL.
+   */
+  public Query getFunctionColumnsSql()
+  {
+    return query(FUNCTION_COLUMNS, true);
+  }
+
+  /**
+   * Gets the functions SQL from the additional configuration.
+   *
+   * @return Functions SQL.
+   */
+  public Query getFunctionsSql()
+  {
+    return query(FUNCTIONS, true);
   }
 
   /**
@@ -220,9 +247,7 @@ public final class InformationSchemaViews
    */
   public Query getIndexesSql()
   {
-    return new Query(INDEXES.name(),
-                     informationSchemaQueries.get(INDEXES),
-                     true);
+    return query(INDEXES, true);
   }
 
   /**
@@ -233,8 +258,7 @@ public final class InformationSchemaViews
    */
   public Query getOverrideTypeInfoSql()
   {
-    return new Query(OVERRIDE_TYPE_INFO.name(),
-                     informationSchemaQueries.get(OVERRIDE_TYPE_INFO));
+    return query(OVERRIDE_TYPE_INFO);
   }
 
   /**
@@ -244,9 +268,27 @@ public final class InformationSchemaViews
    */
   public Query getPrimaryKeysSql()
   {
-    return new Query(PRIMARY_KEYS.name(),
-                     informationSchemaQueries.get(PRIMARY_KEYS),
-                     true);
+    return query(PRIMARY_KEYS, true);
+  }
+
+  /**
+   * Gets the procedure columns SQL from the additional configuration.
+   *
+   * @return Procedure columns SQL.
+   */
+  public Query getProcedureColumnsSql()
+  {
+    return query(PROCEDURE_COLUMNS, true);
+  }
+
+  /**
+   * Gets the procedures SQL from the additional configuration.
+   *
+   * @return Procedures SQL.
+   */
+  public Query getProceduresSql()
+  {
+    return query(PROCEDURES, true);
   }
 
   /**
@@ -256,7 +298,7 @@ public final class InformationSchemaViews
    */
   public Query getRoutinesSql()
   {
-    return new Query(ROUTINES.name(), informationSchemaQueries.get(ROUTINES));
+    return query(ROUTINES);
   }
 
   /**
@@ -266,7 +308,7 @@ public final class InformationSchemaViews
    */
   public Query getSchemataSql()
   {
-    return new Query(SCHEMATA.name(), informationSchemaQueries.get(SCHEMATA));
+    return query(SCHEMATA);
   }
 
   /**
@@ -276,7 +318,7 @@ public final class InformationSchemaViews
    */
   public Query getSequencesSql()
   {
-    return new Query(SEQUENCES.name(), informationSchemaQueries.get(SEQUENCES));
+    return query(SEQUENCES);
   }
 
   /**
@@ -286,8 +328,20 @@ public final class InformationSchemaViews
    */
   public Query getSynonymsSql()
   {
-    return new Query(EXT_SYNONYMS.name(),
-                     informationSchemaQueries.get(EXT_SYNONYMS));
+    return query(EXT_SYNONYMS);
+  }
+
+  /**
+   * Gets the table change markers SQL from the additional
+   * configuration. The query returns a marker for each table, such as
+   * the time of the last DDL change, which changes whenever the table
+   * definition changes.
+   *
+   * @return Table change markers SQL.
+   */
+  public Query getTableChangeMarkersSql()
+  {
+    return query(TABLE_CHANGE_MARKERS, true);
   }
 
   /**
@@ -297,9 +351,17 @@ public final class InformationSchemaViews
    */
   public Query getTableColumnsSql()
   {
-    return new Query(TABLE_COLUMNS.name(),
-                     informationSchemaQueries.get(TABLE_COLUMNS),
-                     true);
+    return query(TABLE_COLUMNS, true);
+  }
+
+  /**
+   * Gets the table column privileges SQL from the additional configuration.
+   *
+   * @return Table column privileges SQL.
+   */
+  public Query getTableColumnPrivilegesSql()
+  {
+    return query(TABLE_COLUMN_PRIVILEGES, true);
   }
 
   /**
@@ -310,8 +372,7 @@ public final class InformationSchemaViews
    */
   public Query getTableConstraintsColumnsSql()
   {
-    return new Query(CONSTRAINT_COLUMN_USAGE.name(),
-                     informationSchemaQueries.get(CONSTRAINT_COLUMN_USAGE));
+    return query(CONSTRAINT_COLUMN_USAGE);
   }
 
   /**
@@ -321,8 +382,30 @@ public final class InformationSchemaViews
    */
   public Query getTableConstraintsSql()
   {
-    return new Query(TABLE_CONSTRAINTS.name(),
-                     informationSchemaQueries.get(TABLE_CONSTRAINTS));
+    return query(TABLE_CONSTRAINTS);
+  }
+
+  /**
+   * Gets the table privileges SQL from the additional configuration.
+   *
+   * @return Table privileges SQL.
+   */
+  public Query getTablePrivilegesSql()
+  {
+    return query(TABLE_PRIVILEGES, true);
+  }
+
+  /**
+   * Gets the table row counts SQL from the additional configuration.
+   * The query returns an estimated number of rows for each table, from
+   * the statistics that the database keeps for the query planner,
+   * which is much faster than counting the rows.
+   *
+   * @return Table row counts SQL.
+   */
+  public Query getTableRowCountsSql()
+  {
+    return query(TABLE_ROW_COUNTS, true);
   }
 
   /**
@@ -332,7 +415,7 @@ public final class InformationSchemaViews
    */
   public Query getTablesSql()
   {
-    return new Query(TABLES.name(), informationSchemaQueries.get(TABLES), true);
+    return query(TABLES, true);
   }
 
   /**
@@ -342,7 +425,7 @@ public final class InformationSchemaViews
    */
   public Query getTriggersSql()
   {
-    return new Query(TRIGGERS.name(), informationSchemaQueries.get(TRIGGERS));
+    return query(TRIGGERS);
   }
 
   /**
@@ -352,7 +435,7 @@ public final class InformationSchemaViews
    */
   public Query getViewsSql()
   {
-    return new Query(VIEWS.name(), informationSchemaQueries.get(VIEWS));
+    return query(VIEWS);
   }
 
   public boolean hasAdditionalColumnAttributesSql()
@@ -405,6 +488,16 @@ public final class InformationSchemaViews
     return informationSchemaQueries.containsKey(FOREIGN_KEYS);
   }
 
+  public boolean hasFunctionColumnsSql()
+  {
+    return informationSchemaQueries.containsKey(FUNCTION_COLUMNS);
+  }
+
+  public boolean hasFunctionsSql()
+  {
+    return informationSchemaQueries.containsKey(FUNCTIONS);
+  }
+
   public boolean hasIndexesSql()
   {
     return informationSchemaQueries.containsKey(INDEXES);
@@ -420,6 +513,16 @@ public final class InformationSchemaViews
     return informationSchemaQueries.containsKey(PRIMARY_KEYS);
   }
 
+  public boolean hasProcedureColumnsSql()
+  {
+    return informationSchemaQueries.containsKey(PROCEDURE_COLUMNS);
+  }
+
+  public boolean hasProceduresSql()
+  {
+    return informationSchemaQueries.containsKey(PROCEDURES);
+  }
+
   public boolean hasRoutinesSql()
   {
     return informationSchemaQueries.containsKey(ROUTINES);
@@ -440,11 +543,21 @@ public final class InformationSchemaViews
     return informationSchemaQueries.containsKey(EXT_SYNONYMS);
   }
 
+  public boolean hasTableChangeMarkersSql()
+  {
+    return informationSchemaQueries.containsKey(TABLE_CHANGE_MARKERS);
+  }
+
   public boolean hasTableColumnsSql()
   {
     return informationSchemaQueries.containsKey(TABLE_COLUMNS);
   }
 
+  public boolean hasTableColumnPrivilegesSql()
+  {
+    return informationSchemaQueries.containsKey(TABLE_COLUMN_PRIVILEGES);
+  }
+
   public boolean hasTableConstraintsColumnsSql()
   {
     return informationSchemaQueries.containsKey(CONSTRAINT_COLUMN_USAGE);
@@ -455,6 +568,16 @@ public final class InformationSchemaViews
     return informationSchemaQueries.containsKey(TABLE_CONSTRAINTS);
   }
 
+  public boolean hasTablePrivilegesSql()
+  {
+    return informationSchemaQueries.containsKey(TABLE_PRIVILEGES);
+  }
+
+  public boolean hasTableRowCountsSql()
+  {
+    return informationSchemaQueries.containsKey(TABLE_ROW_COUNTS);
+  }
+
   public boolean hasTablesSql()
   {
     return informationSchemaQueries.containsKey(TABLES);
@@ -486,4 +609,19 @@ public final class InformationSchemaViews
     return ObjectToString.toString(informationSchemaQueries);
   }
 
+  private Query query(final InformationSchemaKey key)
+  {
+    return query(key, false);
+  }
+
+  private Query query(final InformationSchemaKey key,
+                      final boolean throwSQLException)
+  {
+    final Integer fetchSize = informationSchemaFetchSizes.get(key);
+    return new Query(key.name(),
+                     informationSchemaQueries.get(key),
+                     throwSQLException,
+                     fetchSize == null? 0: fetchSize);
+  }
+
 }
@@ -46,7 +46,9 @@ import static schemacrawler.schemacrawler.InformationSchemaKey.OVERRIDE_TYPE_INF
 import static schemacrawler.schemacrawler.InformationSchemaKey.ROUTINES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.SCHEMATA;
 import static schemacrawler.schemacrawler.InformationSchemaKey.SEQUENCES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_CHANGE_MARKERS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_CONSTRAINTS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_ROW_COUNTS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.TRIGGERS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.VIEWS;
 import static sf.util.IOUtility.readResourceFully;
@@ -68,11 +70,15 @@ public final class InformationSchemaViewsBuilder
   implements OptionsBuilder<InformationSchemaViews>
 {
 
+  private static final String FETCH_SIZE_SUFFIX = ".fetch_size";
+
   private final Map<InformationSchemaKey, String> informationSchemaQueries;
+  private final Map<InformationSchemaKey, Integer> informationSchemaFetchSizes;
 
   public InformationSchemaViewsBuilder()
   {
     informationSchemaQueries = new EnumMap<>(InformationSchemaKey.class);
+    informationSchemaFetchSizes = new EnumMap<>(InformationSchemaKey.class);
   }
 
   /**
@@ -103,6 +109,13 @@ public final class InformationSchemaViewsBuilder
           // Ignore
         }
       }
+      final String fetchSizeKey = key.getLookupKey() + FETCH_SIZE_SUFFIX;
+      if (informationSchemaViewsSql.containsKey(fetchSizeKey))
+      {
+        withFetchSize(key,
+                      informationSchemaViewsSql.getIntegerValue(fetchSizeKey,
+                                                                0));
+      }
     }
 
     return this;
@@ -151,7 +164,8 @@ public final class InformationSchemaViewsBuilder
   @Override
   public InformationSchemaViews toOptions()
   {
-    return new InformationSchemaViews(informationSchemaQueries);
+    return new InformationSchemaViews(informationSchemaQueries,
+                                      informationSchemaFetchSizes);
   }
 
   @Override
@@ -268,6 +282,33 @@ public final class InformationSchemaViewsBuilder
     return this;
   }
 
+  /**
+   * Sets the fetch size for an information schema view, overriding the
+   * default fetch size for that view.
+   *
+   * @param key
+   *        Information schema view
+   * @param fetchSize
+   *        Fetch size, or 0 to use the default fetch size
+   */
+  public InformationSchemaViewsBuilder withFetchSize(final InformationSchemaKey key,
+                                                     final int fetchSize)
+  {
+    if (key == null)
+    {
+      return this;
+    }
+    if (fetchSize > 0)
+    {
+      informationSchemaFetchSizes.put(key, fetchSize);
+    }
+    else
+    {
+      informationSchemaFetchSizes.remove(key);
+    }
+    return this;
+  }
+
   /**
    * Sets the foreign key SQL.
    *
@@ -353,6 +394,18 @@ public final class InformationSchemaViewsBuilder
     return this;
   }
 
+  /**
+   * Sets the table change markers SQL.
+   *
+   * @param sql
+   *        Table change markers SQL.
+   */
+  public InformationSchemaViewsBuilder withTableChangeMarkersSql(final String sql)
+  {
+    informationSchemaQueries.put(TABLE_CHANGE_MARKERS, sql);
+    return this;
+  }
+
   /**
    * Sets the table constraints columns SQL.
    *
@@ -377,6 +430,18 @@ public final class InformationSchemaViewsBuilder
     return this;
   }
 
+  /**
+   * Sets the table row counts SQL.
+   *
+   * @param sql
+   *        Table row counts SQL.
+   */
+  public InformationSchemaViewsBuilder withTableRowCountsSql(final String sql)
+  {
+    informationSchemaQueries.put(TABLE_ROW_COUNTS, sql);
+    return this;
+  }
+
   /**
    * Sets the trigger definitions SQL.
    *
@@ -0,0 +1,278 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.schemacrawler;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable trie of keywords, with failure links, which can check
+ * whether text is a keyword, starts with a keyword, or contains a
+ * keyword (using the Aho-Corasick algorithm) in a single pass over the
+ * text, without allocating any objects.
+ *
+ * @author Sualeh Fatehi
+ */
+final class KeywordTrie
+{
+
+  private static final int ROOT = 0;
+
+  /**
+   * Builds a trie of reversed keywords, so that the text is walked from
+   * the end, and {@link #matchesStart(CharSequence)} checks whether the
+   * text ends with a keyword.
+   *
+   * @param keywords
+   *        Keywords
+   * @return Trie of reversed keywords
+   */
+  static KeywordTrie reversed(final Collection<String> keywords)
+  {
+    return new KeywordTrie(keywords, true);
+  }
+
+  private final boolean reversed;
+  private final char[][] labels;
+  private final int[][] targets;
+  private final int[] failure;
+  private final boolean[] terminal;
+  private final boolean[] output;
+
+  KeywordTrie(final Collection<String> keywords)
+  {
+    this(keywords, false);
+  }
+
+  private KeywordTrie(final Collection<String> keywords,
+                      final boolean reversed)
+  {
+    requireNonNull(keywords, "No keywords provided");
+    this.reversed = reversed;
+
+    final List<Map<Character, Integer>> children = new ArrayList<>();
+    final List<Boolean> terminals = new ArrayList<>();
+    children.add(new TreeMap<>());
+    terminals.add(false);
+    for (final String keyword: keywords)
+    {
+      int node = ROOT;
+      for (int i = 0; i < keyword.length(); i++)
+      {
+        final char ch = keyword
+          .charAt(reversed? keyword.length() - 1 - i: i);
+        final Integer child = children.get(node).get(ch);
+        if (child == null)
+        {
+          children.add(new TreeMap<>());
+          terminals.add(false);
+          children.get(node).put(ch, children.size() - 1);
+          node = children.size() - 1;
+        }
+        else
+        {
+          node = child;
+        }
+      }
+      terminals.set(node, true);
+    }
+
+    final int size = children.size();
+    labels = new char[size][];
+    targets = new int[size][];
+    terminal = new boolean[size];
+    output = new boolean[size];
+    for (int node = 0; node < size; node++)
+    {
+      final Map<Character, Integer> nodeChildren = children.get(node);
+      labels[node] = new char[nodeChildren.size()];
+      targets[node] = new int[nodeChildren.size()];
+      int i = 0;
+      // Labels are sorted, since the children are in a tree map
+      for (final Map.Entry<Character, Integer> child: nodeChildren
+        .entrySet())
+      {
+        labels[node][i] = child.getKey();
+        targets[node][i] = child.getValue();
+        i++;
+      }
+      terminal[node] = terminals.get(node);
+      output[node] = terminal[node];
+    }
+
+    // Compute failure links breadth-first, so that the failure link of
+    // a parent is known before those of its children
+    failure = new int[size];
+    final int[] queue = new int[size];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = ROOT;
+    while (head < tail)
+    {
+      final int node = queue[head++];
+      for (int i = 0; i < labels[node].length; i++)
+      {
+        final char ch = labels[node][i];
+        final int child = targets[node][i];
+        if (node == ROOT)
+        {
+          failure[child] = ROOT;
+        }
+        else
+        {
+          int fallback = failure[node];
+          while (fallback != ROOT && next(fallback, ch) == -1)
+          {
+            fallback = failure[fallback];
+          }
+          final int fallbackChild = next(fallback, ch);
+          failure[child] = fallbackChild == -1? ROOT: fallbackChild;
+        }
+        output[child] = output[child] || output[failure[child]];
+        queue[tail++] = child;
+      }
+    }
+  }
+
+  /**
+   * Checks whether the text contains any of the keywords.
+   *
+   * @param text
+   *        Text to check
+   * @return Whether any keyword occurs in the text
+   */
+  boolean containsAny(final CharSequence text)
+  {
+    if (output[ROOT])
+    {
+      return true;
+    }
+    int node = ROOT;
+    final int length = text.length();
+    for (int i = 0; i < length; i++)
+    {
+      final char ch = charAt(text, i, length);
+      int child = next(node, ch);
+      while (child == -1 && node != ROOT)
+      {
+        node = failure[node];
+        child = next(node, ch);
+      }
+      node = child == -1? ROOT: child;
+      if (output[node])
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks whether the text is exactly one of the keywords.
+   *
+   * @param text
+   *        Text to check
+   * @return Whether the text is a keyword
+   */
+  boolean matches(final CharSequence text)
+  {
+    int node = ROOT;
+    final int length = text.length();
+    for (int i = 0; i < length; i++)
+    {
+      node = next(node, charAt(text, i, length));
+      if (node == -1)
+      {
+        return false;
+      }
+    }
+    return terminal[node];
+  }
+
+  /**
+   * Checks whether the text starts with one of the keywords, or for a
+   * trie of reversed keywords, whether the text ends with one of the
+   * keywords.
+   *
+   * @param text
+   *        Text to check
+   * @return Whether the text starts, or ends, with a keyword
+   */
+  boolean matchesStart(final CharSequence text)
+  {
+    int node = ROOT;
+    final int length = text.length();
+    for (int i = 0; i < length; i++)
+    {
+      if (terminal[node])
+      {
+        return true;
+      }
+      node = next(node, charAt(text, i, length));
+      if (node == -1)
+      {
+        return false;
+      }
+    }
+    return terminal[node];
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format("%s@%h {nodes=%d, reversed=%b}",
+                         getClass().getSimpleName(),
+                         System.identityHashCode(this),
+                         labels.length,
+                         reversed);
+  }
+
+  private char charAt(final CharSequence text, final int i, final int length)
+  {
+    return text.charAt(reversed? length - 1 - i: i);
+  }
+
+  private int next(final int node, final char ch)
+  {
+    final int index = Arrays.binarySearch(labels[node], ch);
+    if (index < 0)
+    {
+      return -1;
+    }
+    return targets[node][index];
+  }
+
+}
@@ -137,6 +137,16 @@ public final class RegularExpressionInclusionRule
     return inclusionRule.test(text);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean testFullName(final String parentFullName,
+                              final String quotedName)
+  {
+    return inclusionRule.testFullName(parentFullName, quotedName);
+  }
+
   /**
    * {@inheritDoc}
    */
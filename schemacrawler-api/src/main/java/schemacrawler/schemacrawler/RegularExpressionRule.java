@@ -54,6 +54,8 @@ public final class RegularExpressionRule
 
   private final Pattern patternInclude;
   private final Pattern patternExclude;
+  private transient volatile CompiledPattern compiledInclude;
+  private transient volatile CompiledPattern compiledExclude;
 
   /**
    * Set include and exclude patterns.
@@ -168,18 +170,39 @@ public final class RegularExpressionRule
   @Override
   public boolean test(final String text)
   {
+    return test((CharSequence) text);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean testFullName(final String parentFullName,
+                              final String quotedName)
+  {
+    return test(FullNameSequence.of(parentFullName, quotedName));
+  }
+
+  private boolean test(final CharSequence text)
+  {
+    // Compile patterns on first use, since they are not serialized
+    if (compiledInclude == null || compiledExclude == null)
+    {
+      compiledInclude = CompiledPattern.compile(patternInclude);
+      compiledExclude = CompiledPattern.compile(patternExclude);
+    }
 
     final StringFormat actionMessage;
     boolean include = false;
     if (!isBlank(text))
     {
-      if (!patternInclude.matcher(text).matches())
+      if (!compiledInclude.matches(text))
       {
         actionMessage = new StringFormat("Excluding <%s> since it does not match /%s/",
                                          text,
                                          patternInclude.pattern());
       }
-      else if (patternExclude.matcher(text).matches())
+      else if (compiledExclude.matches(text))
       {
         actionMessage = new StringFormat("Excluding <%s> since it matches /%s/",
                                          text,
@@ -198,10 +221,10 @@ public final class RegularExpressionRule
       actionMessage = new StringFormat("Excluding, since text is bank");
     }
 
-    // Log caller
+    // Log caller, one frame further up
     if (LOGGER.isLoggable(Level.FINE))
     {
-      LOGGER.log(Level.FINE, 5, actionMessage.get(), null);
+      LOGGER.log(Level.FINE, 6, actionMessage.get(), null);
     }
 
     return include;
@@ -31,6 +31,7 @@ package schemacrawler.schemacrawler;
 import static sf.util.Utility.isBlank;
 
 import schemacrawler.crawl.MetadataRetrievalStrategy;
+import schemacrawler.utility.FetchSize;
 import schemacrawler.utility.Identifiers;
 import schemacrawler.utility.TypeMap;
 
@@ -56,10 +57,17 @@ public final class SchemaRetrievalOptions
   private final MetadataRetrievalStrategy fkRetrievalStrategy;
   private final MetadataRetrievalStrategy procedureRetrievalStrategy;
   private final MetadataRetrievalStrategy functionRetrievalStrategy;
+  private final MetadataRetrievalStrategy procedureColumnRetrievalStrategy;
+  private final MetadataRetrievalStrategy functionColumnRetrievalStrategy;
+  private final MetadataRetrievalStrategy tablePrivilegeRetrievalStrategy;
+  private final MetadataRetrievalStrategy tableColumnPrivilegeRetrievalStrategy;
   private final String identifierQuoteString;
   private final InformationSchemaViews informationSchemaViews;
   private final TypeMap typeMap;
   private final Identifiers identifiers;
+  private final int metadataRetrievalPoolSize;
+  private final int maximumConnections;
+  private final FetchSize fetchSize;
 
   protected SchemaRetrievalOptions(final SchemaRetrievalOptionsBuilder builder)
   {
@@ -75,10 +83,19 @@ public final class SchemaRetrievalOptions
     fkRetrievalStrategy = bldr.getForeignKeyRetrievalStrategy();
     procedureRetrievalStrategy = bldr.getProcedureRetrievalStrategy();
     functionRetrievalStrategy = bldr.getFunctionRetrievalStrategy();
+    procedureColumnRetrievalStrategy = bldr
+      .getProcedureColumnRetrievalStrategy();
+    functionColumnRetrievalStrategy = bldr.getFunctionColumnRetrievalStrategy();
+    tablePrivilegeRetrievalStrategy = bldr.getTablePrivilegeRetrievalStrategy();
+    tableColumnPrivilegeRetrievalStrategy = bldr
+      .getTableColumnPrivilegeRetrievalStrategy();
     identifierQuoteString = bldr.getIdentifierQuoteString();
     informationSchemaViews = bldr.getInformationSchemaViews();
     identifiers = bldr.getIdentifiers();
     typeMap = bldr.getTypeMap();
+    metadataRetrievalPoolSize = bldr.getMetadataRetrievalPoolSize();
+    maximumConnections = bldr.getMaximumConnections();
+    fetchSize = bldr.getFetchSize();
   }
 
   public DatabaseServerType getDatabaseServerType()
@@ -86,11 +103,21 @@ public final class SchemaRetrievalOptions
     return dbServerType;
   }
 
+  public FetchSize getFetchSize()
+  {
+    return fetchSize;
+  }
+
   public MetadataRetrievalStrategy getForeignKeyRetrievalStrategy()
   {
     return fkRetrievalStrategy;
   }
 
+  public MetadataRetrievalStrategy getFunctionColumnRetrievalStrategy()
+  {
+    return functionColumnRetrievalStrategy;
+  }
+
   public MetadataRetrievalStrategy getFunctionRetrievalStrategy()
   {
     return functionRetrievalStrategy;
@@ -120,21 +147,46 @@ public final class SchemaRetrievalOptions
     return informationSchemaViews;
   }
 
+  public int getMaximumConnections()
+  {
+    return maximumConnections;
+  }
+
+  public int getMetadataRetrievalPoolSize()
+  {
+    return metadataRetrievalPoolSize;
+  }
+
   public MetadataRetrievalStrategy getPrimaryKeyRetrievalStrategy()
   {
     return pkRetrievalStrategy;
   }
 
+  public MetadataRetrievalStrategy getProcedureColumnRetrievalStrategy()
+  {
+    return procedureColumnRetrievalStrategy;
+  }
+
   public MetadataRetrievalStrategy getProcedureRetrievalStrategy()
   {
     return procedureRetrievalStrategy;
   }
 
+  public MetadataRetrievalStrategy getTableColumnPrivilegeRetrievalStrategy()
+  {
+    return tableColumnPrivilegeRetrievalStrategy;
+  }
+
   public MetadataRetrievalStrategy getTableColumnRetrievalStrategy()
   {
     return tableColumnRetrievalStrategy;
   }
 
+  public MetadataRetrievalStrategy getTablePrivilegeRetrievalStrategy()
+  {
+    return tablePrivilegeRetrievalStrategy;
+  }
+
   public MetadataRetrievalStrategy getTableRetrievalStrategy()
   {
     return tableRetrievalStrategy;
@@ -38,6 +38,7 @@ import java.util.Optional;
 import java.util.function.BiConsumer;
 
 import schemacrawler.crawl.MetadataRetrievalStrategy;
+import schemacrawler.utility.FetchSize;
 import schemacrawler.utility.Identifiers;
 import schemacrawler.utility.TypeMap;
 
@@ -56,6 +57,20 @@ public final class SchemaRetrievalOptionsBuilder
                                                           + ".foreignkeys";
   private static final String SC_RETRIEVAL_PROCEDURES = prefix + ".procedures";
   private static final String SC_RETRIEVAL_FUNCTIONS = prefix + ".functions";
+  private static final String SC_RETRIEVAL_PROCEDURE_COLUMNS = prefix
+                                                               + ".procedurecolumns";
+  private static final String SC_RETRIEVAL_FUNCTION_COLUMNS = prefix
+                                                              + ".functioncolumns";
+  private static final String SC_RETRIEVAL_TABLE_PRIVILEGES = prefix
+                                                              + ".tableprivileges";
+  private static final String SC_RETRIEVAL_TABLE_COLUMN_PRIVILEGES = prefix
+                                                                     + ".tablecolumnprivileges";
+  private static final String SC_RETRIEVAL_DATA_DICTIONARY = "schemacrawler.schema.retrieval.data_dictionary";
+  private static final String SC_RETRIEVAL_POOL_SIZE = "schemacrawler.schema.retrieval.pool.size";
+  private static final String SC_RETRIEVAL_CONNECTIONS_MAXIMUM = "schemacrawler.schema.retrieval.connections.maximum";
+  private static final String SC_RETRIEVAL_FETCH_SIZE = "schemacrawler.schema.retrieval.fetch.size";
+  private static final String SC_RETRIEVAL_FETCH_SIZE_MAXIMUM = "schemacrawler.schema.retrieval.fetch.size.maximum";
+  private static final String SC_RETRIEVAL_FETCH_SIZE_ADAPTIVE = "schemacrawler.schema.retrieval.fetch.size.adaptive";
 
   private DatabaseServerType dbServerType;
   private final InformationSchemaViewsBuilder informationSchemaViewsBuilder;
@@ -72,7 +87,16 @@ public final class SchemaRetrievalOptionsBuilder
   private MetadataRetrievalStrategy fkRetrievalStrategy;
   private MetadataRetrievalStrategy procedureRetrievalStrategy;
   private MetadataRetrievalStrategy functionRetrievalStrategy;
+  private MetadataRetrievalStrategy procedureColumnRetrievalStrategy;
+  private MetadataRetrievalStrategy functionColumnRetrievalStrategy;
+  private MetadataRetrievalStrategy tablePrivilegeRetrievalStrategy;
+  private MetadataRetrievalStrategy tableColumnPrivilegeRetrievalStrategy;
   private Optional<TypeMap> overridesTypeMap;
+  private int metadataRetrievalPoolSize;
+  private int maximumConnections;
+  private int fetchSize;
+  private int maximumFetchSize;
+  private boolean adaptiveFetchSize;
 
   public SchemaRetrievalOptionsBuilder()
   {
@@ -91,7 +115,16 @@ public final class SchemaRetrievalOptionsBuilder
     fkRetrievalStrategy = MetadataRetrievalStrategy.metadata;
     procedureRetrievalStrategy = MetadataRetrievalStrategy.metadata;
     functionRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+    procedureColumnRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+    functionColumnRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+    tablePrivilegeRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+    tableColumnPrivilegeRetrievalStrategy = MetadataRetrievalStrategy.metadata;
     overridesTypeMap = Optional.empty();
+    metadataRetrievalPoolSize = 1;
+    maximumConnections = 4;
+    fetchSize = 20;
+    maximumFetchSize = 1000;
+    adaptiveFetchSize = true;
   }
 
   @Override
@@ -107,6 +140,10 @@ public final class SchemaRetrievalOptionsBuilder
       configProperties = new Config(config);
     }
 
+    // Data dictionary queries are loaded from a classpath folder only
+    // when asked for, and SQL in the configuration overrides them
+    informationSchemaViewsBuilder.fromResourceFolder(configProperties
+      .getStringValue(SC_RETRIEVAL_DATA_DICTIONARY, null));
     informationSchemaViewsBuilder.fromConfig(configProperties);
 
     tableRetrievalStrategy = configProperties
@@ -123,6 +160,28 @@ public final class SchemaRetrievalOptionsBuilder
       .getEnumValue(SC_RETRIEVAL_PROCEDURES, procedureRetrievalStrategy);
     functionRetrievalStrategy = configProperties
       .getEnumValue(SC_RETRIEVAL_FUNCTIONS, functionRetrievalStrategy);
+    procedureColumnRetrievalStrategy = configProperties
+      .getEnumValue(SC_RETRIEVAL_PROCEDURE_COLUMNS,
+                    procedureColumnRetrievalStrategy);
+    functionColumnRetrievalStrategy = configProperties
+      .getEnumValue(SC_RETRIEVAL_FUNCTION_COLUMNS,
+                    functionColumnRetrievalStrategy);
+    tablePrivilegeRetrievalStrategy = configProperties
+      .getEnumValue(SC_RETRIEVAL_TABLE_PRIVILEGES,
+                    tablePrivilegeRetrievalStrategy);
+    tableColumnPrivilegeRetrievalStrategy = configProperties
+      .getEnumValue(SC_RETRIEVAL_TABLE_COLUMN_PRIVILEGES,
+                    tableColumnPrivilegeRetrievalStrategy);
+    withMetadataRetrievalPoolSize(configProperties
+      .getIntegerValue(SC_RETRIEVAL_POOL_SIZE, metadataRetrievalPoolSize));
+    withMaximumConnections(configProperties
+      .getIntegerValue(SC_RETRIEVAL_CONNECTIONS_MAXIMUM, maximumConnections));
+    withFetchSize(configProperties.getIntegerValue(SC_RETRIEVAL_FETCH_SIZE,
+                                                   fetchSize));
+    withMaximumFetchSize(configProperties
+      .getIntegerValue(SC_RETRIEVAL_FETCH_SIZE_MAXIMUM, maximumFetchSize));
+    withAdaptiveFetchSize(configProperties
+      .getBooleanValue(SC_RETRIEVAL_FETCH_SIZE_ADAPTIVE, adaptiveFetchSize));
 
     return this;
   }
@@ -165,11 +224,21 @@ public final class SchemaRetrievalOptionsBuilder
     return dbServerType;
   }
 
+  public FetchSize getFetchSize()
+  {
+    return new FetchSize(fetchSize, maximumFetchSize, adaptiveFetchSize);
+  }
+
   public MetadataRetrievalStrategy getForeignKeyRetrievalStrategy()
   {
     return fkRetrievalStrategy;
   }
 
+  public MetadataRetrievalStrategy getFunctionColumnRetrievalStrategy()
+  {
+    return functionColumnRetrievalStrategy;
+  }
+
   public MetadataRetrievalStrategy getFunctionRetrievalStrategy()
   {
     return functionRetrievalStrategy;
@@ -195,21 +264,46 @@ public final class SchemaRetrievalOptionsBuilder
     return informationSchemaViewsBuilder.toOptions();
   }
 
+  public int getMaximumConnections()
+  {
+    return maximumConnections;
+  }
+
+  public int getMetadataRetrievalPoolSize()
+  {
+    return metadataRetrievalPoolSize;
+  }
+
   public MetadataRetrievalStrategy getPrimaryKeyRetrievalStrategy()
   {
     return pkRetrievalStrategy;
   }
 
+  public MetadataRetrievalStrategy getProcedureColumnRetrievalStrategy()
+  {
+    return procedureColumnRetrievalStrategy;
+  }
+
   public MetadataRetrievalStrategy getProcedureRetrievalStrategy()
   {
     return procedureRetrievalStrategy;
   }
 
+  public MetadataRetrievalStrategy getTableColumnPrivilegeRetrievalStrategy()
+  {
+    return tableColumnPrivilegeRetrievalStrategy;
+  }
+
   public MetadataRetrievalStrategy getTableColumnRetrievalStrategy()
   {
     return tableColumnRetrievalStrategy;
   }
 
+  public MetadataRetrievalStrategy getTablePrivilegeRetrievalStrategy()
+  {
+    return tablePrivilegeRetrievalStrategy;
+  }
+
   public MetadataRetrievalStrategy getTableRetrievalStrategy()
   {
     return tableRetrievalStrategy;
@@ -242,6 +336,20 @@ public final class SchemaRetrievalOptionsBuilder
     return new SchemaRetrievalOptions(this);
   }
 
+  /**
+   * Sets whether the JDBC fetch size grows as rows are read from
+   * metadata and data queries. The fetch size doubles every time a full
+   * batch of rows has been read, up to the maximum fetch size.
+   *
+   * @param adaptiveFetchSize
+   *        Whether the fetch size is adaptive, defaults to true
+   */
+  public SchemaRetrievalOptionsBuilder withAdaptiveFetchSize(final boolean adaptiveFetchSize)
+  {
+    this.adaptiveFetchSize = adaptiveFetchSize;
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withDatabaseServerType(final DatabaseServerType dbServerType)
   {
     if (dbServerType == null)
@@ -275,6 +383,27 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the initial JDBC fetch size for metadata and data queries.
+   * Individual information schema views can override this.
+   *
+   * @param fetchSize
+   *        Fetch size, or 0 to use the JDBC driver default, defaults to
+   *        20
+   */
+  public SchemaRetrievalOptionsBuilder withFetchSize(final int fetchSize)
+  {
+    if (fetchSize < 0)
+    {
+      this.fetchSize = 0;
+    }
+    else
+    {
+      this.fetchSize = fetchSize;
+    }
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withForeignKeyRetrievalStrategy(final MetadataRetrievalStrategy fkRetrievalStrategy)
   {
     if (fkRetrievalStrategy == null)
@@ -288,6 +417,19 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  public SchemaRetrievalOptionsBuilder withFunctionColumnRetrievalStrategy(final MetadataRetrievalStrategy functionColumnRetrievalStrategy)
+  {
+    if (functionColumnRetrievalStrategy == null)
+    {
+      this.functionColumnRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+    }
+    else
+    {
+      this.functionColumnRetrievalStrategy = functionColumnRetrievalStrategy;
+    }
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withFunctionRetrievalStrategy(final MetadataRetrievalStrategy functionRetrievalStrategy)
   {
     if (functionRetrievalStrategy == null)
@@ -358,6 +500,76 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the largest JDBC fetch size that an adaptive fetch size can
+   * grow to, which caps the memory used by the JDBC driver to buffer
+   * rows.
+   *
+   * @param maximumFetchSize
+   *        Maximum fetch size, defaults to 1000
+   */
+  public SchemaRetrievalOptionsBuilder withMaximumFetchSize(final int maximumFetchSize)
+  {
+    if (maximumFetchSize < 0)
+    {
+      this.maximumFetchSize = 0;
+    }
+    else
+    {
+      this.maximumFetchSize = maximumFetchSize;
+    }
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of connections that a crawl holds from its
+   * data source at any one time, including the connection for the main
+   * crawl thread. Concurrent crawl phases and per-table metadata
+   * retrieval share these connections, and run on the connection of
+   * their caller when none are free. The data source should allow at
+   * least this many connections. Only used when SchemaCrawler is
+   * created with a data source.
+   *
+   * @param maximumConnections
+   *        Maximum number of connections, defaults to 4
+   */
+  public SchemaRetrievalOptionsBuilder withMaximumConnections(final int maximumConnections)
+  {
+    if (maximumConnections < 1)
+    {
+      this.maximumConnections = 1;
+    }
+    else
+    {
+      this.maximumConnections = maximumConnections;
+    }
+    return this;
+  }
+
+  /**
+   * Sets the number of concurrent connections used to retrieve
+   * per-table metadata, such as columns, indexes and foreign keys, when
+   * the metadata retrieval strategy is
+   * {@link MetadataRetrievalStrategy#metadata}. Additional connections
+   * are only available when SchemaCrawler is created with a data
+   * source, otherwise metadata is retrieved one table at a time.
+   *
+   * @param metadataRetrievalPoolSize
+   *        Number of concurrent connections, defaults to 1
+   */
+  public SchemaRetrievalOptionsBuilder withMetadataRetrievalPoolSize(final int metadataRetrievalPoolSize)
+  {
+    if (metadataRetrievalPoolSize < 1)
+    {
+      this.metadataRetrievalPoolSize = 1;
+    }
+    else
+    {
+      this.metadataRetrievalPoolSize = metadataRetrievalPoolSize;
+    }
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withoutIdentifierQuoteString()
   {
     identifierQuoteString = "";
@@ -389,6 +601,19 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  public SchemaRetrievalOptionsBuilder withProcedureColumnRetrievalStrategy(final MetadataRetrievalStrategy procedureColumnRetrievalStrategy)
+  {
+    if (procedureColumnRetrievalStrategy == null)
+    {
+      this.procedureColumnRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+    }
+    else
+    {
+      this.procedureColumnRetrievalStrategy = procedureColumnRetrievalStrategy;
+    }
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withProcedureRetrievalStrategy(final MetadataRetrievalStrategy procedureRetrievalStrategy)
   {
     if (procedureRetrievalStrategy == null)
@@ -422,6 +647,19 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  public SchemaRetrievalOptionsBuilder withTableColumnPrivilegeRetrievalStrategy(final MetadataRetrievalStrategy tableColumnPrivilegeRetrievalStrategy)
+  {
+    if (tableColumnPrivilegeRetrievalStrategy == null)
+    {
+      this.tableColumnPrivilegeRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+    }
+    else
+    {
+      this.tableColumnPrivilegeRetrievalStrategy = tableColumnPrivilegeRetrievalStrategy;
+    }
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withTableColumnRetrievalStrategy(final MetadataRetrievalStrategy tableColumnRetrievalStrategy)
   {
     if (tableColumnRetrievalStrategy == null)
@@ -435,6 +673,19 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  public SchemaRetrievalOptionsBuilder withTablePrivilegeRetrievalStrategy(final MetadataRetrievalStrategy tablePrivilegeRetrievalStrategy)
+  {
+    if (tablePrivilegeRetrievalStrategy == null)
+    {
+      this.tablePrivilegeRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+    }
+    else
+    {
+      this.tablePrivilegeRetrievalStrategy = tablePrivilegeRetrievalStrategy;
+    }
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withTableRetrievalStrategy(final MetadataRetrievalStrategy tableRetrievalStrategy)
   {
     if (tableRetrievalStrategy == null)
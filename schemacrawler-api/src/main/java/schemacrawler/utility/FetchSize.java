@@ -0,0 +1,145 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.utility;
+
+
+import java.io.Serializable;
+
+/**
+ * JDBC fetch size hints for reading result sets. A fetch size can be
+ * fixed, or adaptive, in which case it doubles every time a full batch
+ * of rows has been read, up to a maximum fetch size that caps the
+ * memory used for buffered rows.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class FetchSize
+  implements Serializable
+{
+
+  private static final long serialVersionUID = -3459117326281651127L;
+
+  private final int fetchSize;
+  private final int maximumFetchSize;
+  private final boolean adaptive;
+
+  /**
+   * Creates fetch size hints.
+   *
+   * @param fetchSize
+   *        Initial fetch size, or 0 to use the JDBC driver default
+   * @param maximumFetchSize
+   *        Maximum fetch size for adaptive fetching
+   * @param adaptive
+   *        Whether to grow the fetch size as rows are read
+   */
+  public FetchSize(final int fetchSize,
+                   final int maximumFetchSize,
+                   final boolean adaptive)
+  {
+    this.fetchSize = Math.max(0, fetchSize);
+    this.maximumFetchSize = Math.max(this.fetchSize, maximumFetchSize);
+    this.adaptive = adaptive && this.fetchSize > 0;
+  }
+
+  /**
+   * Initial fetch size, or 0 to use the JDBC driver default.
+   *
+   * @return Initial fetch size
+   */
+  public int getFetchSize()
+  {
+    return fetchSize;
+  }
+
+  /**
+   * Maximum fetch size for adaptive fetching.
+   *
+   * @return Maximum fetch size
+   */
+  public int getMaximumFetchSize()
+  {
+    return maximumFetchSize;
+  }
+
+  /**
+   * Whether the fetch size grows as rows are read.
+   *
+   * @return Whether the fetch size is adaptive
+   */
+  public boolean isAdaptive()
+  {
+    return adaptive;
+  }
+
+  /**
+   * Computes the fetch size to use once a full batch of rows has been
+   * read with the current fetch size.
+   *
+   * @param currentFetchSize
+   *        Current fetch size
+   * @return Next fetch size, which is the same as the current fetch
+   *         size if it cannot grow any further
+   */
+  public int nextFetchSize(final int currentFetchSize)
+  {
+    if (!adaptive || currentFetchSize <= 0
+        || currentFetchSize >= maximumFetchSize)
+    {
+      return currentFetchSize;
+    }
+    return (int) Math.min((long) currentFetchSize * 2, maximumFetchSize);
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format("fetch size %d%s",
+                         fetchSize,
+                         adaptive? String.format(", adaptive up to %d",
+                                                 maximumFetchSize)
+                                 : "");
+  }
+
+  /**
+   * Creates fetch size hints with a different initial fetch size, but
+   * the same adaptive behavior.
+   *
+   * @param fetchSize
+   *        Initial fetch size
+   * @return New fetch size hints
+   */
+  public FetchSize withFetchSize(final int fetchSize)
+  {
+    return new FetchSize(fetchSize,
+                         Math.max(fetchSize, maximumFetchSize),
+                         adaptive);
+  }
+
+}
@@ -459,6 +459,16 @@ public final class Identifiers
    */
   public String quoteName(final String name)
   {
+    // Avoid copying names that do not need to be quoted
+    if (isBlank(name))
+    {
+      return "";
+    }
+    if (!isToBeQuoted(name))
+    {
+      return name;
+    }
+
     final StringBuilder buffer = new StringBuilder(512);
     quoteName(buffer, name);
     return buffer.toString();
@@ -49,6 +49,7 @@ public final class Query
   private final String name;
   private final String query;
   private final boolean throwSQLException;
+  private final int fetchSize;
 
   /**
    * Definition of a query, including a name, and parameterized or
@@ -78,6 +79,27 @@ public final class Query
   public Query(final String name,
                final String query,
                final boolean throwSQLException)
+  {
+    this(name, query, throwSQLException, 0);
+  }
+
+  /**
+   * Definition of a query, with a fetch size that overrides the default
+   * fetch size when the query is executed.
+   *
+   * @param name
+   *        Query name
+   * @param query
+   *        Query SQL
+   * @param throwSQLException
+   *        Whether to throw exceptions when the query fails
+   * @param fetchSize
+   *        Fetch size for the query, or 0 to use the default fetch size
+   */
+  public Query(final String name,
+               final String query,
+               final boolean throwSQLException,
+               final int fetchSize)
   {
     final boolean isNameProvided = !isBlank(name);
     final boolean isQueryProvided = !isBlank(query);
@@ -97,6 +119,7 @@ public final class Query
       throw new IllegalArgumentException("No SQL found for query");
     }
     this.throwSQLException = throwSQLException;
+    this.fetchSize = Math.max(0, fetchSize);
   }
 
   /**
@@ -104,6 +127,17 @@ public final class Query
    *
    * @return Query name
    */
+  /**
+   * Gets the fetch size that overrides the default fetch size for this
+   * query.
+   *
+   * @return Fetch size, or 0 if the default fetch size should be used
+   */
+  public int getFetchSize()
+  {
+    return fetchSize;
+  }
+
   public String getName()
   {
     return name;
@@ -124,6 +158,11 @@ public final class Query
    *
    * @return Whether a query name was provided
    */
+  public boolean hasFetchSize()
+  {
+    return fetchSize > 0;
+  }
+
   public boolean hasName()
   {
     return hasName;
@@ -29,10 +29,12 @@ package schemacrawler.utility;
 
 
 import static java.util.Objects.requireNonNull;
+import static sf.util.DatabaseUtility.createStatement;
 import static sf.util.DatabaseUtility.executeSql;
 import static sf.util.DatabaseUtility.executeSqlForLong;
 import static sf.util.DatabaseUtility.executeSqlForScalar;
 import static sf.util.TemplatingUtility.expandTemplate;
+import static sf.util.TemplatingUtility.extractTemplateVariables;
 import static sf.util.Utility.isBlank;
 
 import java.sql.Connection;
@@ -42,6 +44,7 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
@@ -64,6 +67,8 @@ public final class QueryUtility
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(QueryUtility.class.getName());
 
+  private static final String SCHEMA_FILTER_VARIABLE = "schemafilter:";
+
   public static ResultSet executeAgainstSchema(final Query query,
                                                final Statement statement,
                                                final InclusionRule schemaInclusionRule)
@@ -132,6 +137,92 @@ public final class QueryUtility
     return executeSqlForScalar(connection, sql);
   }
 
+  /**
+   * Runs a query that returns a scalar value against many tables, in a
+   * single round trip. The query for each table is wrapped in a derived
+   * table, and the queries are combined with UNION ALL. The query fails
+   * as a whole if the database cannot run the combined query, for
+   * example, if the results for different tables cannot be combined, so
+   * callers should fall back to running the query for one table at a
+   * time.
+   *
+   * @param query
+   *        Query that returns a single column, and at most one row
+   * @param connection
+   *        Database connection
+   * @param tables
+   *        Tables to run the query against
+   * @param identifiers
+   *        Identifiers for quoting table and column names
+   * @return Scalar value for each table, in table order, with null if no
+   *         rows were returned for a table
+   * @throws SchemaCrawlerException
+   *         On an exception running the combined query
+   */
+  public static Map<Table, Object> executeForScalars(final Query query,
+                                                     final Connection connection,
+                                                     final List<? extends Table> tables,
+                                                     final Identifiers identifiers)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(query, "No query provided");
+    requireNonNull(tables, "No tables provided");
+
+    final Map<Table, Object> scalars = new LinkedHashMap<>();
+    if (tables.isEmpty())
+    {
+      return scalars;
+    }
+
+    final List<String> tableQueries = new ArrayList<>();
+    for (int i = 0; i < tables.size(); i++)
+    {
+      final Table table = tables.get(i);
+      tableQueries.add(String
+        .format("SELECT %d AS TABLE_INDEX, TABLE_RESULT.* FROM (%s) TABLE_RESULT",
+                i,
+                getQuery(query, table, true, identifiers)));
+      scalars.put(table, null);
+    }
+    final String sql = String.join(String.format("%nUNION ALL%n"),
+                                   tableQueries);
+    LOGGER.log(Level.FINE,
+               new StringFormat("Executing %s for %d tables: %n%s",
+                                query.getName(),
+                                tables.size(),
+                                sql));
+
+    try (final Statement statement = createStatement(connection);
+        final ResultSet resultSet = statement.executeQuery(sql);)
+    {
+      // Error checking
+      if (resultSet.getMetaData().getColumnCount() != 2)
+      {
+        throw new SchemaCrawlerException("Too many columns of data returned");
+      }
+
+      final boolean[] isReturned = new boolean[tables.size()];
+      while (resultSet.next())
+      {
+        final int tableIndex = resultSet.getInt(1);
+        // Error checking
+        if (tableIndex < 0 || tableIndex >= tables.size()
+            || isReturned[tableIndex])
+        {
+          throw new SchemaCrawlerException("Too many rows of data returned");
+        }
+        isReturned[tableIndex] = true;
+        scalars.put(tables.get(tableIndex), resultSet.getObject(2));
+      }
+
+      return scalars;
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException(sql, e);
+    }
+  }
+
   private static String getColumnsListAsString(final List<Column> columns,
                                                final boolean omitLargeObjectColumns,
                                                final Identifiers identifiers)
@@ -158,7 +249,11 @@ public final class QueryUtility
   }
 
   /**
-   * Gets the query with parameters substituted.
+   * Gets the query with parameters substituted. ${schemas} is replaced
+   * with the regular expression for the schema inclusion rule, and
+   * ${schemafilter:expression} with a SQL predicate on the expression,
+   * translated from the schema inclusion rule, which can be evaluated
+   * more efficiently by the database than the regular expression.
    *
    * @param schemaInclusionRule
    *        Schema inclusion rule
@@ -182,6 +277,19 @@ public final class QueryUtility
     }
 
     String sql = query.getQuery();
+
+    final SqlNamePatterns schemaPatterns = SqlNamePatterns
+      .fromInclusionRule(schemaInclusionRule);
+    for (final String variable: extractTemplateVariables(sql))
+    {
+      if (variable.startsWith(SCHEMA_FILTER_VARIABLE))
+      {
+        final String expression = variable
+          .substring(SCHEMA_FILTER_VARIABLE.length());
+        properties.put(variable, schemaPatterns.toSqlPredicate(expression));
+      }
+    }
+
     sql = expandTemplate(sql, properties);
     sql = expandTemplate(sql);
 
@@ -0,0 +1,402 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.utility;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import schemacrawler.schemacrawler.InclusionRule;
+import schemacrawler.schemacrawler.InclusionRuleWithRegularExpression;
+
+/**
+ * SQL name patterns translated from a regular expression inclusion
+ * rule, so that database objects can be filtered by the database,
+ * rather than after they are retrieved. Inclusion patterns that are an
+ * alternation of names are translated into an IN list, and names with
+ * "." and ".*" wildcards into LIKE patterns. The SQL patterns match at
+ * least all the names that the inclusion rule matches, but could match
+ * more, so the inclusion rule still needs to be applied to the results.
+ * Inclusion rules that cannot be translated match all names.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class SqlNamePatterns
+{
+
+  private static final SqlNamePatterns MATCH_ALL = new SqlNamePatterns(Collections
+    .emptySet(), Collections.emptySet());
+
+  /**
+   * Translates the inclusion pattern of an inclusion rule into SQL name
+   * patterns.
+   *
+   * @param inclusionRule
+   *        Inclusion rule to translate
+   * @return SQL name patterns, which match all names if the inclusion
+   *         rule could not be translated
+   */
+  public static SqlNamePatterns fromInclusionRule(final InclusionRule inclusionRule)
+  {
+    if (!(inclusionRule instanceof InclusionRuleWithRegularExpression))
+    {
+      return MATCH_ALL;
+    }
+    final Pattern inclusionPattern = ((InclusionRuleWithRegularExpression) inclusionRule)
+      .getInclusionPattern();
+    if (inclusionPattern == null || inclusionPattern.flags() != 0)
+    {
+      return MATCH_ALL;
+    }
+    return fromRegularExpression(inclusionPattern.pattern());
+  }
+
+  /**
+   * Translates a regular expression into SQL name patterns.
+   *
+   * @param regularExpression
+   *        Regular expression to translate
+   * @return SQL name patterns, which match all names if the regular
+   *         expression could not be translated
+   */
+  public static SqlNamePatterns fromRegularExpression(final String regularExpression)
+  {
+    if (regularExpression == null)
+    {
+      return MATCH_ALL;
+    }
+
+    String regex = regularExpression;
+    if (regex.startsWith("^"))
+    {
+      regex = regex.substring(1);
+    }
+    if (regex.endsWith("$") && !regex.endsWith("\\$"))
+    {
+      regex = regex.substring(0, regex.length() - 1);
+    }
+
+    final List<String> alternatives = splitAlternatives(unwrapGroup(regex));
+    if (alternatives == null)
+    {
+      return MATCH_ALL;
+    }
+
+    final Set<String> names = new LinkedHashSet<>();
+    final Set<String> patterns = new LinkedHashSet<>();
+    for (final String alternative: alternatives)
+    {
+      final StringBuilder likePattern = new StringBuilder();
+      final Boolean isLiteral = toLikePattern(alternative, likePattern);
+      if (isLiteral == null)
+      {
+        return MATCH_ALL;
+      }
+      else if (isLiteral)
+      {
+        names.add(likePattern.toString());
+      }
+      else if (likePattern.toString().equals("%"))
+      {
+        return MATCH_ALL;
+      }
+      else
+      {
+        patterns.add(likePattern.toString());
+      }
+    }
+
+    return new SqlNamePatterns(names, patterns);
+  }
+
+  private static String quote(final String value)
+  {
+    return "'" + value.replace("'", "''") + "'";
+  }
+
+  /**
+   * Splits a regular expression on top-level alternations, and returns
+   * null if there are any nested groups.
+   */
+  private static List<String> splitAlternatives(final String regex)
+  {
+    final List<String> alternatives = new ArrayList<>();
+    int start = 0;
+    for (int i = 0; i < regex.length(); i++)
+    {
+      final char ch = regex.charAt(i);
+      if (ch == '\\')
+      {
+        if (regex.startsWith("\\Q", i))
+        {
+          final int quoteEnd = regex.indexOf("\\E", i);
+          i = quoteEnd == -1? regex.length(): quoteEnd + 1;
+        }
+        else
+        {
+          i = i + 1;
+        }
+      }
+      else if (ch == '(' || ch == ')')
+      {
+        return null;
+      }
+      else if (ch == '|')
+      {
+        alternatives.add(regex.substring(start, i));
+        start = i + 1;
+      }
+    }
+    alternatives.add(regex.substring(start));
+    return alternatives;
+  }
+
+  /**
+   * Translates a regular expression without alternations into a LIKE
+   * pattern.
+   *
+   * @return Whether the regular expression is a literal name, or null if
+   *         the regular expression cannot be translated
+   */
+  private static Boolean toLikePattern(final String regex,
+                                       final StringBuilder likePattern)
+  {
+    boolean isLiteral = true;
+    for (int i = 0; i < regex.length(); i++)
+    {
+      final char ch = regex.charAt(i);
+      final char next = i + 1 < regex.length()? regex.charAt(i + 1): 0;
+      if (ch == '\\')
+      {
+        if (next == 'Q')
+        {
+          final int quoteEnd = regex.indexOf("\\E", i);
+          final String quoted = regex
+            .substring(i + 2, quoteEnd == -1? regex.length(): quoteEnd);
+          if (quoted.indexOf('\\') != -1)
+          {
+            return null;
+          }
+          likePattern.append(quoted);
+          i = quoteEnd == -1? regex.length(): quoteEnd + 1;
+        }
+        else if (next == 0 || next == '\\' || Character.isLetterOrDigit(next))
+        {
+          // Character classes such as \d, and backslashes, which need
+          // database specific escaping
+          return null;
+        }
+        else
+        {
+          likePattern.append(next);
+          i = i + 1;
+        }
+      }
+      else if (ch == '.')
+      {
+        isLiteral = false;
+        if (next == '*')
+        {
+          likePattern.append('%');
+          i = i + 1;
+        }
+        else if (next == '+')
+        {
+          likePattern.append("_%");
+          i = i + 1;
+        }
+        else
+        {
+          likePattern.append('_');
+        }
+      }
+      else if ("[]{}()*+?|^$".indexOf(ch) != -1)
+      {
+        return null;
+      }
+      else
+      {
+        likePattern.append(ch);
+      }
+    }
+    return isLiteral;
+  }
+
+  /**
+   * Removes a group that encloses the whole regular expression.
+   */
+  private static String unwrapGroup(final String regex)
+  {
+    final int groupStart;
+    if (regex.startsWith("(?:"))
+    {
+      groupStart = 3;
+    }
+    else if (regex.startsWith("(") && !regex.startsWith("(?"))
+    {
+      groupStart = 1;
+    }
+    else
+    {
+      return regex;
+    }
+
+    int depth = 0;
+    for (int i = 0; i < regex.length(); i++)
+    {
+      final char ch = regex.charAt(i);
+      if (ch == '\\')
+      {
+        i = i + 1;
+      }
+      else if (ch == '(')
+      {
+        depth = depth + 1;
+      }
+      else if (ch == ')')
+      {
+        depth = depth - 1;
+        if (depth == 0)
+        {
+          if (i == regex.length() - 1)
+          {
+            return unwrapGroup(regex.substring(groupStart, i));
+          }
+          else
+          {
+            return regex;
+          }
+        }
+      }
+    }
+    return regex;
+  }
+
+  private final Set<String> names;
+  private final Set<String> patterns;
+
+  private SqlNamePatterns(final Set<String> names, final Set<String> patterns)
+  {
+    this.names = requireNonNull(names, "No names provided");
+    this.patterns = requireNonNull(patterns, "No patterns provided");
+  }
+
+  /**
+   * Names that are matched exactly.
+   *
+   * @return Literal names
+   */
+  public Set<String> getNames()
+  {
+    return Collections.unmodifiableSet(names);
+  }
+
+  /**
+   * LIKE patterns, with "_" and "%" wildcards.
+   *
+   * @return LIKE patterns
+   */
+  public Set<String> getPatterns()
+  {
+    return Collections.unmodifiableSet(patterns);
+  }
+
+  /**
+   * Whether the patterns match all names, which is also the case when
+   * the inclusion rule could not be translated.
+   *
+   * @return Whether all names are matched
+   */
+  public boolean isMatchAll()
+  {
+    return names.isEmpty() && patterns.isEmpty();
+  }
+
+  /**
+   * Builds a SQL predicate that matches the names produced by a SQL
+   * expression, such as a column name.
+   *
+   * @param expression
+   *        SQL expression for the name
+   * @return SQL predicate
+   */
+  public String toSqlPredicate(final String expression)
+  {
+    requireNonNull(expression, "No SQL expression provided");
+    if (isMatchAll())
+    {
+      return "1 = 1";
+    }
+
+    final List<String> predicates = new ArrayList<>();
+    if (names.size() == 1)
+    {
+      predicates.add(String.format("%s = %s",
+                                   expression,
+                                   quote(names.iterator().next())));
+    }
+    else if (!names.isEmpty())
+    {
+      final List<String> quotedNames = new ArrayList<>();
+      for (final String name: names)
+      {
+        quotedNames.add(quote(name));
+      }
+      predicates.add(String.format("%s IN (%s)",
+                                   expression,
+                                   String.join(", ", quotedNames)));
+    }
+    for (final String pattern: patterns)
+    {
+      predicates.add(String.format("%s LIKE %s", expression, quote(pattern)));
+    }
+
+    if (predicates.size() == 1)
+    {
+      return predicates.get(0);
+    }
+    else
+    {
+      return "(" + String.join(" OR ", predicates) + ")";
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return toSqlPredicate("NAME");
+  }
+
+}
@@ -0,0 +1,386 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.utility;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.PartialDatabaseObject;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableRelationshipType;
+
+/**
+ * An index of the parent-child relationships between tables, from
+ * their foreign keys. Tables are numbered, and the parents and children
+ * of each table are held in compact arrays, so that related tables can
+ * be found without going through the foreign keys again.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class TableRelationships
+{
+
+  /**
+   * Indexes the relationships from the foreign keys of the given
+   * tables. Tables at the other end of the foreign keys are indexed, but
+   * their own foreign keys are not.
+   *
+   * @param tables
+   *        Tables to index
+   * @return Index of table relationships
+   */
+  public static TableRelationships forTables(final Iterable<? extends Table> tables)
+  {
+    return new TableRelationships(tables, false);
+  }
+
+  /**
+   * Indexes the relationships from the foreign keys of the given
+   * tables, and of all tables that are related to them, directly or
+   * indirectly, other than partial tables. This allows relationships to
+   * be followed through tables that have been filtered out of the given
+   * tables.
+   *
+   * @param tables
+   *        Tables to index
+   * @return Index of table relationships
+   */
+  public static TableRelationships forRelatedTables(final Iterable<? extends Table> tables)
+  {
+    return new TableRelationships(tables, true);
+  }
+
+  private static boolean isTablePartial(final Table table)
+  {
+    return table instanceof PartialDatabaseObject;
+  }
+
+  private final List<Table> tables;
+  private final Map<Table, Integer> tableIndexes;
+  // Compressed sparse rows, so the parents of table i are
+  // parents[parentOffsets[i]] to parents[parentOffsets[i + 1] - 1]
+  private final int[] parentOffsets;
+  private final int[] parents;
+  private final int[] childOffsets;
+  private final int[] children;
+
+  private TableRelationships(final Iterable<? extends Table> tables,
+                             final boolean followRelatedTables)
+  {
+    requireNonNull(tables, "No tables provided");
+
+    this.tables = new ArrayList<>();
+    tableIndexes = new HashMap<>();
+    for (final Table table: tables)
+    {
+      addTable(table);
+    }
+
+    // Go through the foreign keys of each table, including tables that
+    // are found along the way, if they are to be followed
+    int[] edges = new int[64];
+    int edgeCount = 0;
+    final int tablesCount = this.tables.size();
+    for (int i = 0; i < this.tables.size(); i++)
+    {
+      final Table table = this.tables.get(i);
+      if (i >= tablesCount && (!followRelatedTables || isTablePartial(table)))
+      {
+        continue;
+      }
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        for (final ForeignKeyColumnReference columnReference: foreignKey)
+        {
+          final int parent = addTable(columnReference.getPrimaryKeyColumn()
+            .getParent());
+          final int child = addTable(columnReference.getForeignKeyColumn()
+            .getParent());
+          if (edgeCount * 2 + 2 > edges.length)
+          {
+            edges = Arrays.copyOf(edges, edges.length * 2);
+          }
+          edges[edgeCount * 2] = child;
+          edges[edgeCount * 2 + 1] = parent;
+          edgeCount++;
+        }
+      }
+    }
+
+    final int size = this.tables.size();
+    parentOffsets = new int[size + 1];
+    parents = new int[edgeCount];
+    childOffsets = new int[size + 1];
+    children = new int[edgeCount];
+    buildRows(edges, edgeCount, 0, parentOffsets, parents);
+    buildRows(edges, edgeCount, 1, childOffsets, children);
+  }
+
+  /**
+   * Finds the tables that are directly related to a table.
+   *
+   * @param table
+   *        Table to find related tables for
+   * @param tableRelationshipType
+   *        Whether to find parent or child tables
+   * @return Related tables, in no particular order
+   */
+  public Collection<Table> getRelatedTables(final Table table,
+                                            final TableRelationshipType tableRelationshipType)
+  {
+    final int index = indexOf(table);
+    if (index == -1 || tableRelationshipType == null
+        || tableRelationshipType == TableRelationshipType.none)
+    {
+      return new ArrayList<>();
+    }
+
+    final int[] offsets = getOffsets(tableRelationshipType);
+    final int[] related = getRelated(tableRelationshipType);
+    final int start = offsets[index];
+    final int end = offsets[index + 1];
+    return new AbstractList<Table>()
+    {
+
+      @Override
+      public Table get(final int i)
+      {
+        return tables.get(related[start + i]);
+      }
+
+      @Override
+      public int size()
+      {
+        return end - start;
+      }
+
+    };
+  }
+
+  /**
+   * Finds the tables that are related to any of the given tables, up to
+   * the given depth, with a breadth-first search that visits each table
+   * once. Partial tables are neither included, nor followed.
+   *
+   * @param greppedTables
+   *        Tables to start from
+   * @param tableRelationshipType
+   *        Whether to find parent or child tables
+   * @param depth
+   *        Number of relationships to follow
+   * @return The given tables, and all related tables
+   */
+  public Set<Table> includeRelatedTables(final Collection<? extends Table> greppedTables,
+                                         final TableRelationshipType tableRelationshipType,
+                                         final int depth)
+  {
+    requireNonNull(greppedTables, "No tables provided");
+
+    final Set<Table> includedTables = new HashSet<>(greppedTables);
+    if (depth <= 0 || tableRelationshipType == null
+        || tableRelationshipType == TableRelationshipType.none)
+    {
+      return includedTables;
+    }
+
+    final int[] offsets = getOffsets(tableRelationshipType);
+    final int[] related = getRelated(tableRelationshipType);
+
+    final boolean[] visited = new boolean[tables.size()];
+    final int[] queue = new int[tables.size()];
+    int tail = 0;
+    for (final Table table: greppedTables)
+    {
+      final int index = indexOf(table);
+      if (index != -1 && !visited[index])
+      {
+        visited[index] = true;
+        queue[tail++] = index;
+      }
+    }
+
+    int head = 0;
+    for (int level = 0; level < depth && head < tail; level++)
+    {
+      final int levelEnd = tail;
+      while (head < levelEnd)
+      {
+        final int index = queue[head++];
+        for (int i = offsets[index]; i < offsets[index + 1]; i++)
+        {
+          final int relatedIndex = related[i];
+          if (visited[relatedIndex])
+          {
+            continue;
+          }
+          final Table relatedTable = tables.get(relatedIndex);
+          if (isTablePartial(relatedTable))
+          {
+            continue;
+          }
+          visited[relatedIndex] = true;
+          queue[tail++] = relatedIndex;
+          includedTables.add(relatedTable);
+        }
+      }
+    }
+
+    return includedTables;
+  }
+
+  /**
+   * Finds the number of a table in the index.
+   *
+   * @param table
+   *        Table to find
+   * @return Number of the table, or -1 if the table is not in the index
+   */
+  public int indexOf(final Table table)
+  {
+    final Integer index = tableIndexes.get(table);
+    if (index == null)
+    {
+      return -1;
+    }
+    return index;
+  }
+
+  /**
+   * Number of tables in the index, including tables that were only
+   * found as the other end of a foreign key.
+   *
+   * @return Number of tables
+   */
+  public int size()
+  {
+    return tables.size();
+  }
+
+  /**
+   * Tables in the index, in order of their numbers.
+   *
+   * @return Tables
+   */
+  public List<Table> getTables()
+  {
+    return new ArrayList<>(tables);
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format("%s@%h {tables=%d, relationships=%d}",
+                         getClass().getSimpleName(),
+                         System.identityHashCode(this),
+                         tables.size(),
+                         parentOffsets[tables.size()]);
+  }
+
+  private int addTable(final Table table)
+  {
+    final Integer index = tableIndexes.get(table);
+    if (index != null)
+    {
+      return index;
+    }
+    tables.add(table);
+    tableIndexes.put(table, tables.size() - 1);
+    return tables.size() - 1;
+  }
+
+  /**
+   * Sorts edges into rows by the table at one end, with the distinct
+   * tables at the other end in each row.
+   */
+  private void buildRows(final int[] edges,
+                         final int edgeCount,
+                         final int rowEnd,
+                         final int[] offsets,
+                         final int[] row)
+  {
+    for (int i = 0; i < edgeCount; i++)
+    {
+      offsets[edges[i * 2 + rowEnd] + 1]++;
+    }
+    for (int i = 1; i < offsets.length; i++)
+    {
+      offsets[i] = offsets[i] + offsets[i - 1];
+    }
+    final int[] positions = Arrays.copyOf(offsets, offsets.length);
+    for (int i = 0; i < edgeCount; i++)
+    {
+      row[positions[edges[i * 2 + rowEnd]]++] = edges[i * 2 + 1 - rowEnd];
+    }
+
+    // Remove duplicates, since there is an edge for each column of a
+    // foreign key, and foreign keys are found from both tables
+    int compacted = 0;
+    int start = 0;
+    for (int i = 0; i < offsets.length - 1; i++)
+    {
+      final int end = offsets[i + 1];
+      Arrays.sort(row, start, end);
+      offsets[i] = compacted;
+      for (int j = start; j < end; j++)
+      {
+        if (j == start || row[j] != row[j - 1])
+        {
+          row[compacted++] = row[j];
+        }
+      }
+      start = end;
+    }
+    offsets[offsets.length - 1] = compacted;
+  }
+
+  private int[] getOffsets(final TableRelationshipType tableRelationshipType)
+  {
+    return tableRelationshipType == TableRelationshipType.parent? parentOffsets
+                                                                : childOffsets;
+  }
+
+  private int[] getRelated(final TableRelationshipType tableRelationshipType)
+  {
+    return tableRelationshipType == TableRelationshipType.parent? parents
+                                                                : children;
+  }
+
+}
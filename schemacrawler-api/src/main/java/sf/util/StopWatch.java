@@ -72,6 +72,19 @@ public final class StopWatch
 
   }
 
+  /**
+   * Listens for tasks as they are timed, for example, to record
+   * metrics. Notifications are made on the thread that runs the task.
+   */
+  public interface TaskListener
+  {
+
+    void taskStarted(String id, String taskName);
+
+    void taskStopped(String id, String taskName, Duration duration);
+
+  }
+
   private static final DateTimeFormatter df = new DateTimeFormatterBuilder()
     .appendValue(HOUR_OF_DAY, 2).appendLiteral(':')
     .appendValue(MINUTE_OF_HOUR, 2).appendLiteral(':')
@@ -79,6 +92,7 @@ public final class StopWatch
     .toFormatter();
 
   private final String id;
+  private final TaskListener taskListener;
   private final List<TaskInfo> tasks = new LinkedList<>();
 
   // State for current task
@@ -88,8 +102,14 @@ public final class StopWatch
   private String currentTaskName;
 
   public StopWatch(final String id)
+  {
+    this(id, null);
+  }
+
+  public StopWatch(final String id, final TaskListener taskListener)
   {
     this.id = id;
+    this.taskListener = taskListener;
     totalDuration = Duration.ofNanos(0);
   }
 
@@ -126,6 +146,10 @@ public final class StopWatch
 
     running = true;
     currentTaskName = taskName;
+    if (taskListener != null)
+    {
+      taskListener.taskStarted(id, taskName);
+    }
     start = Instant.now();
   }
 
@@ -144,6 +168,10 @@ public final class StopWatch
 
     final TaskInfo lastTaskInfo = new TaskInfo(currentTaskName, runTime);
     tasks.add(lastTaskInfo);
+    if (taskListener != null)
+    {
+      taskListener.taskStopped(id, currentTaskName, runTime);
+    }
 
     running = false;
     currentTaskName = null;
@@ -182,9 +210,14 @@ public final class StopWatch
     throws Exception
   {
     start(taskName);
-    final V returnValue = callable.call();
-    stop();
-    return returnValue;
+    try
+    {
+      return callable.call();
+    }
+    finally
+    {
+      stop();
+    }
   }
 
   private double calculatePercentage(final Duration duration,
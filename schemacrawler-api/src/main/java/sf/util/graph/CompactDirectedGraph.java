@@ -0,0 +1,158 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package sf.util.graph;
+
+
+import java.util.Arrays;
+
+/**
+ * Immutable snapshot of a directed graph, with vertices numbered from 0,
+ * and edges held in compressed sparse row arrays, for both outgoing and
+ * incoming edges. Duplicate edges are removed.
+ *
+ * @author Sualeh Fatehi
+ */
+final class CompactDirectedGraph
+{
+
+  /**
+   * Sorts edges into rows by the vertex at one end, with the distinct
+   * vertices at the other end in each row, in ascending order.
+   */
+  private static int[] buildRows(final int[] rowVertices,
+                                 final int[] columnVertices,
+                                 final int edgeCount,
+                                 final int[] offsets)
+  {
+    for (int i = 0; i < edgeCount; i++)
+    {
+      offsets[rowVertices[i] + 1]++;
+    }
+    for (int i = 1; i < offsets.length; i++)
+    {
+      offsets[i] = offsets[i] + offsets[i - 1];
+    }
+    final int[] positions = Arrays.copyOf(offsets, offsets.length);
+    final int[] row = new int[edgeCount];
+    for (int i = 0; i < edgeCount; i++)
+    {
+      row[positions[rowVertices[i]]++] = columnVertices[i];
+    }
+
+    int compacted = 0;
+    int start = 0;
+    for (int i = 0; i < offsets.length - 1; i++)
+    {
+      final int end = offsets[i + 1];
+      Arrays.sort(row, start, end);
+      offsets[i] = compacted;
+      for (int j = start; j < end; j++)
+      {
+        if (j == start || row[j] != row[j - 1])
+        {
+          row[compacted++] = row[j];
+        }
+      }
+      start = end;
+    }
+    offsets[offsets.length - 1] = compacted;
+    return Arrays.copyOf(row, compacted);
+  }
+
+  private final int size;
+  private final int[] outgoingOffsets;
+  private final int[] outgoing;
+  private final int[] incomingOffsets;
+  private final int[] incoming;
+
+  CompactDirectedGraph(final int size,
+                       final int[] edgesFrom,
+                       final int[] edgesTo,
+                       final int edgeCount)
+  {
+    this.size = size;
+    outgoingOffsets = new int[size + 1];
+    outgoing = buildRows(edgesFrom, edgesTo, edgeCount, outgoingOffsets);
+    incomingOffsets = new int[size + 1];
+    incoming = buildRows(edgesTo, edgesFrom, edgeCount, incomingOffsets);
+  }
+
+  /**
+   * Number of distinct edges.
+   */
+  int edgeCount()
+  {
+    return outgoing.length;
+  }
+
+  /**
+   * Vertex at the start of an incoming edge.
+   */
+  int incoming(final int edge)
+  {
+    return incoming[edge];
+  }
+
+  int incomingEnd(final int vertex)
+  {
+    return incomingOffsets[vertex + 1];
+  }
+
+  int incomingStart(final int vertex)
+  {
+    return incomingOffsets[vertex];
+  }
+
+  /**
+   * Vertex at the end of an outgoing edge.
+   */
+  int outgoing(final int edge)
+  {
+    return outgoing[edge];
+  }
+
+  int outgoingEnd(final int vertex)
+  {
+    return outgoingOffsets[vertex + 1];
+  }
+
+  int outgoingStart(final int vertex)
+  {
+    return outgoingOffsets[vertex];
+  }
+
+  /**
+   * Number of vertices.
+   */
+  int size()
+  {
+    return size;
+  }
+
+}
@@ -28,24 +28,42 @@ http://www.gnu.org/licenses/
 package sf.util.graph;
 
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+/**
+ * Directed graph. Vertices are numbered as they are added, and edges
+ * are held as pairs of vertex numbers. Graph algorithms work on a
+ * compact snapshot of the graph, with the edges in adjacency arrays,
+ * which is built when it is first needed after the graph changes.
+ *
+ * @param <T>
+ *        Any comparable class
+ */
 public class DirectedGraph<T extends Comparable<? super T>>
 {
 
   private final String name;
-  private final Map<T, Vertex<T>> verticesMap;
-  private final Set<DirectedEdge<T>> edges;
+  private final Map<T, Integer> vertexIndexes;
+  private final List<Vertex<T>> vertices;
+  private int[] edgesFrom;
+  private int[] edgesTo;
+  private int edgeCount;
+  private CompactDirectedGraph compactGraph;
 
   public DirectedGraph(final String name)
   {
     this.name = name;
-    verticesMap = new HashMap<>();
-    edges = new HashSet<>();
+    vertexIndexes = new HashMap<>();
+    vertices = new ArrayList<>();
+    edgesFrom = new int[16];
+    edgesTo = new int[16];
   }
 
   /**
@@ -62,7 +80,18 @@ public class DirectedGraph<T extends Comparable<? super T>>
   {
     if (!from.equals(to))
     {
-      edges.add(new DirectedEdge<>(addVertex(from), addVertex(to)));
+      final int fromIndex = addVertexIndex(from);
+      final int toIndex = addVertexIndex(to);
+      if (edgeCount == edgesFrom.length)
+      {
+        edgesFrom = Arrays.copyOf(edgesFrom, edgeCount * 2);
+        edgesTo = Arrays.copyOf(edgesTo, edgeCount * 2);
+      }
+      // Duplicate edges are removed in the compact graph
+      edgesFrom[edgeCount] = fromIndex;
+      edgesTo[edgeCount] = toIndex;
+      edgeCount++;
+      compactGraph = null;
     }
   }
 
@@ -75,22 +104,22 @@ public class DirectedGraph<T extends Comparable<? super T>>
    */
   public Vertex<T> addVertex(final T value)
   {
-    final Vertex<T> vertex;
-    if (verticesMap.containsKey(value))
-    {
-      vertex = verticesMap.get(value);
-    }
-    else
-    {
-      vertex = new Vertex<>(value);
-      verticesMap.put(value, vertex);
-    }
-    return vertex;
+    return vertices.get(addVertexIndex(value));
   }
 
   public Set<DirectedEdge<T>> edgeSet()
   {
-    return new HashSet<>(edges);
+    final CompactDirectedGraph graph = compact();
+    final Set<DirectedEdge<T>> edges = new HashSet<>();
+    for (int from = 0; from < graph.size(); from++)
+    {
+      for (int i = graph.outgoingStart(from); i < graph.outgoingEnd(from); i++)
+      {
+        edges.add(new DirectedEdge<>(vertices.get(from),
+                                     vertices.get(graph.outgoing(i))));
+      }
+    }
+    return edges;
   }
 
   public Set<DirectedEdge<T>> getIncomingEdges(final Vertex<T> vertexTo)
@@ -98,11 +127,14 @@ public class DirectedGraph<T extends Comparable<? super T>>
     Objects.requireNonNull(vertexTo, "No vertex provided");
 
     final Set<DirectedEdge<T>> incomingEdges = new HashSet<>();
-    for (final DirectedEdge<T> edge: edges)
+    final Integer to = vertexIndexes.get(vertexTo.getValue());
+    if (to != null)
     {
-      if (edge.getTo().equals(vertexTo))
+      final CompactDirectedGraph graph = compact();
+      for (int i = graph.incomingStart(to); i < graph.incomingEnd(to); i++)
       {
-        incomingEdges.add(edge);
+        incomingEdges.add(new DirectedEdge<>(vertices.get(graph.incoming(i)),
+                                             vertices.get(to)));
       }
     }
     return incomingEdges;
@@ -121,11 +153,14 @@ public class DirectedGraph<T extends Comparable<? super T>>
     Objects.requireNonNull(vertexFrom, "No vertex provided");
 
     final Set<DirectedEdge<T>> outgoingEdges = new HashSet<>();
-    for (final DirectedEdge<T> edge: edges)
+    final Integer from = vertexIndexes.get(vertexFrom.getValue());
+    if (from != null)
     {
-      if (edge.getFrom().equals(vertexFrom))
+      final CompactDirectedGraph graph = compact();
+      for (int i = graph.outgoingStart(from); i < graph.outgoingEnd(from); i++)
       {
-        outgoingEdges.add(edge);
+        outgoingEdges.add(new DirectedEdge<>(vertices.get(from),
+                                             vertices.get(graph.outgoing(i))));
       }
     }
     return outgoingEdges;
@@ -140,7 +175,7 @@ public class DirectedGraph<T extends Comparable<? super T>>
     {
       writer.append(String.format("  [label=\"%s\"]%n", name));
     }
-    for (final Vertex<T> vertex: verticesMap.values())
+    for (final Vertex<T> vertex: vertices)
     {
       writer.append("  ").append(vertex);
       if (vertex.hasAttribute("fillcolor"))
@@ -150,7 +185,7 @@ public class DirectedGraph<T extends Comparable<? super T>>
       }
       writer.append(";\n");
     }
-    for (final DirectedEdge<T> edge: edges)
+    for (final DirectedEdge<T> edge: edgeSet())
     {
       writer.append("  ").append(edge).append(";\n");
     }
@@ -160,7 +195,49 @@ public class DirectedGraph<T extends Comparable<? super T>>
 
   public Set<Vertex<T>> vertexSet()
   {
-    return new HashSet<>(verticesMap.values());
+    return new HashSet<>(vertices);
+  }
+
+  /**
+   * Compact snapshot of the graph, which is rebuilt only if edges were
+   * added since it was last built.
+   *
+   * @return Compact graph
+   */
+  CompactDirectedGraph compact()
+  {
+    if (compactGraph == null || compactGraph.size() != vertices.size())
+    {
+      compactGraph = new CompactDirectedGraph(vertices.size(),
+                                              edgesFrom,
+                                              edgesTo,
+                                              edgeCount);
+    }
+    return compactGraph;
+  }
+
+  /**
+   * Value of a vertex, by its number in the compact graph.
+   *
+   * @param index
+   *        Vertex number
+   * @return Vertex value
+   */
+  T getValue(final int index)
+  {
+    return vertices.get(index).getValue();
+  }
+
+  private int addVertexIndex(final T value)
+  {
+    final Integer index = vertexIndexes.get(value);
+    if (index != null)
+    {
+      return index;
+    }
+    vertices.add(new Vertex<>(value));
+    vertexIndexes.put(value, vertices.size() - 1);
+    return vertices.size() - 1;
   }
 
 }
@@ -25,38 +25,18 @@ http://www.gnu.org/licenses/
 
 ========================================================================
 */
+
 package sf.util.graph;
 
 
-import java.util.Collection;
 import java.util.Objects;
 
 public class SimpleCycleDetector<T extends Comparable<? super T>>
 {
 
-  enum TraversalState
-  {
-
-   notStarted("white"),
-   inProgress("lightgray"),
-   marked("red"),
-   complete("gray");
-
-    private final String color;
-
-    private TraversalState(final String color)
-    {
-      this.color = color;
-    }
-
-    public String getColor()
-    {
-      return color;
-    }
-
-  }
-
-  private static final String ATTRIBUTE_TRAVERSAL_STATE = "traversalstate";
+  private static final byte NOT_STARTED = 0;
+  private static final byte IN_PROGRESS = 1;
+  private static final byte COMPLETE = 2;
 
   private final DirectedGraph<T> graph;
 
@@ -66,66 +46,60 @@ public class SimpleCycleDetector<T extends Comparable<? super T>>
   }
 
   /**
-   * Checks if the graph contains a cycle.
+   * Checks if the graph contains a cycle, with a depth-first search that
+   * uses an explicit stack, so that long chains of vertices do not
+   * overflow the call stack.
    *
    * @return true if the graph contains a cycle, false otherwise
    */
   public boolean containsCycle()
   {
-    final Collection<Vertex<T>> vertices = clearTraversalStates();
-    for (final Vertex<T> vertex: vertices)
-    {
-      if (vertex
-        .getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.notStarted)
-      {
-        if (visitForCyles(vertex))
-        {
-          return true;
-        }
-      }
-    }
+    final CompactDirectedGraph compactGraph = graph.compact();
+    final int size = compactGraph.size();
 
-    return false;
-  }
+    final byte[] traversalStates = new byte[size];
+    // Stack of vertices, and the next outgoing edge to follow for each
+    final int[] stack = new int[size];
+    final int[] nextEdges = new int[size];
 
-  private Collection<Vertex<T>> clearTraversalStates()
-  {
-    final Collection<Vertex<T>> vertices = graph.vertexSet();
-    for (final Vertex<T> vertex: vertices)
+    for (int vertex = 0; vertex < size; vertex++)
     {
-      vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.notStarted);
-    }
-    return vertices;
-  }
-
-  private boolean visitForCyles(final Vertex<T> vertex)
-  {
-    vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.inProgress);
+      if (traversalStates[vertex] != NOT_STARTED)
+      {
+        continue;
+      }
 
-    for (final DirectedEdge<T> edge: graph.edgeSet())
-    {
-      if (edge.isFrom(vertex))
+      int top = 0;
+      stack[top] = vertex;
+      nextEdges[vertex] = compactGraph.outgoingStart(vertex);
+      traversalStates[vertex] = IN_PROGRESS;
+      while (top >= 0)
       {
-        final Vertex<T> to = edge.getTo();
-        if (to
-          .getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.inProgress)
+        final int from = stack[top];
+        if (nextEdges[from] < compactGraph.outgoingEnd(from))
         {
-          to.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.marked);
-          return true;
-        }
-        else if (to
-          .getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.notStarted)
-        {
-          if (visitForCyles(to))
+          final int to = compactGraph.outgoing(nextEdges[from]);
+          nextEdges[from]++;
+          if (traversalStates[to] == IN_PROGRESS)
           {
             return true;
           }
+          else if (traversalStates[to] == NOT_STARTED)
+          {
+            top++;
+            stack[top] = to;
+            nextEdges[to] = compactGraph.outgoingStart(to);
+            traversalStates[to] = IN_PROGRESS;
+          }
+        }
+        else
+        {
+          traversalStates[from] = COMPLETE;
+          top--;
         }
       }
     }
 
-    vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.complete);
-
     return false;
   }
 
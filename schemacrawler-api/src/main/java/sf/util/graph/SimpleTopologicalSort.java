@@ -25,13 +25,12 @@ http://www.gnu.org/licenses/
 
 ========================================================================
 */
+
 package sf.util.graph;
 
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
@@ -45,6 +44,15 @@ public class SimpleTopologicalSort<T extends Comparable<? super T>>
     this.graph = Objects.requireNonNull(graph, "No graph provided");
   }
 
+  /**
+   * Sorts vertices level by level. Each level has the vertices that have
+   * no incoming edges, once the vertices in earlier levels are removed,
+   * and the vertices in a level are in their natural order.
+   *
+   * @return Sorted vertex values
+   * @throws GraphException
+   *         If the graph contains a cycle
+   */
   public List<T> topologicalSort()
     throws GraphException
   {
@@ -53,51 +61,52 @@ public class SimpleTopologicalSort<T extends Comparable<? super T>>
       throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
     }
 
-    final Collection<Vertex<T>> vertices = graph.vertexSet();
-    final int collectionSize = vertices.size();
-
-    final Collection<DirectedEdge<T>> edges = new ArrayList<>(graph.edgeSet());
-    final List<T> sortedValues = new ArrayList<>(collectionSize);
+    final CompactDirectedGraph compactGraph = graph.compact();
+    final int size = compactGraph.size();
 
-    while (!vertices.isEmpty())
+    final int[] inDegrees = new int[size];
+    int[] level = new int[size];
+    int levelSize = 0;
+    for (int vertex = 0; vertex < size; vertex++)
     {
-
-      final List<T> nodesAtLevel = new ArrayList<>(collectionSize);
-
-      // Remove unattached nodes
-      for (final Iterator<Vertex<T>> iterator = vertices.iterator(); iterator
-        .hasNext();)
+      inDegrees[vertex] = compactGraph.incomingEnd(vertex)
+                          - compactGraph.incomingStart(vertex);
+      if (inDegrees[vertex] == 0)
       {
-        final Vertex<T> vertex = iterator.next();
-        if (isUnattachedNode(vertex, edges))
-        {
-          nodesAtLevel.add(vertex.getValue());
-          iterator.remove();
-        }
+        level[levelSize++] = vertex;
       }
+    }
 
-      // Find all nodes at the current level
-      final List<Vertex<T>> startNodes = new ArrayList<>(collectionSize);
-      for (final Vertex<T> vertex: vertices)
+    final List<T> sortedValues = new ArrayList<>(size);
+    int[] nextLevel = new int[size];
+    while (levelSize > 0)
+    {
+      final List<T> nodesAtLevel = new ArrayList<>(levelSize);
+      int nextLevelSize = 0;
+      for (int i = 0; i < levelSize; i++)
       {
-        if (isStartNode(vertex, edges))
+        final int vertex = level[i];
+        nodesAtLevel.add(graph.getValue(vertex));
+        // Remove all out edges
+        for (int j = compactGraph.outgoingStart(vertex); j < compactGraph
+          .outgoingEnd(vertex); j++)
         {
-          startNodes.add(vertex);
+          final int to = compactGraph.outgoing(j);
+          inDegrees[to]--;
+          if (inDegrees[to] == 0)
+          {
+            nextLevel[nextLevelSize++] = to;
+          }
         }
       }
 
-      for (final Vertex<T> vertex: startNodes)
-      {
-        // Save the vertex value
-        nodesAtLevel.add(vertex.getValue());
-        // Remove all out edges
-        dropOutEdges(vertex, edges);
-        // Remove the vertex itself
-        vertices.remove(vertex);
-      }
-
       Collections.sort(nodesAtLevel);
       sortedValues.addAll(nodesAtLevel);
+
+      final int[] swap = level;
+      level = nextLevel;
+      nextLevel = swap;
+      levelSize = nextLevelSize;
     }
 
     return sortedValues;
@@ -109,44 +118,4 @@ public class SimpleTopologicalSort<T extends Comparable<? super T>>
     return cycleDetector.containsCycle();
   }
 
-  private void dropOutEdges(final Vertex<T> vertex,
-                            final Collection<DirectedEdge<T>> edges)
-  {
-    for (final Iterator<DirectedEdge<T>> iterator = edges.iterator(); iterator
-      .hasNext();)
-    {
-      final DirectedEdge<T> edge = iterator.next();
-      if (edge.isFrom(vertex))
-      {
-        iterator.remove();
-      }
-    }
-  }
-
-  private boolean isStartNode(final Vertex<T> vertex,
-                              final Collection<DirectedEdge<T>> edges)
-  {
-    for (final DirectedEdge<T> edge: edges)
-    {
-      if (edge.isTo(vertex))
-      {
-        return false;
-      }
-    }
-    return true;
-  }
-
-  private boolean isUnattachedNode(final Vertex<T> vertex,
-                                   final Collection<DirectedEdge<T>> edges)
-  {
-    for (final DirectedEdge<T> edge: edges)
-    {
-      if (edge.isTo(vertex) || edge.isFrom(vertex))
-      {
-        return false;
-      }
-    }
-    return true;
-  }
-
 }
@@ -25,21 +25,22 @@ http://www.gnu.org/licenses/
 
 ========================================================================
 */
+
 package sf.util.graph;
 
 
-import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Deque;
-import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 /**
  * Implementation of <a href=
  * "https://en.wikipedia.org/wiki/Tarjan%27s_strongly_connected_components_algorithm">
- * Tarjan's algorithm</a>
+ * Tarjan's algorithm</a>, with an explicit stack in place of recursion,
+ * so that long chains of vertices do not overflow the call stack.
  *
  * @author Sualeh Fatehi
  * @param <T>
@@ -48,86 +49,117 @@ import java.util.Objects;
 public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super T>>
 {
 
-  private static final String ATTRIBUTE_LOWLINK = "lowlink";
-  private static final String ATTRIBUTE_INDEX = "index";
+  private static final int UNVISITED = -1;
 
   private final DirectedGraph<T> graph;
-  private final Collection<List<T>> stronglyConnectedComponents;
-  private final Deque<Vertex<T>> stack;
 
   public TarjanStronglyConnectedComponentFinder(final DirectedGraph<T> graph)
   {
     this.graph = Objects.requireNonNull(graph, "No graph provided");
-
-    stronglyConnectedComponents = new HashSet<>();
-    stack = new ArrayDeque<>();
   }
 
   /**
-   * Calculates the sets of strongly connected vertices.
+   * Calculates the sets of strongly connected vertices. Only components
+   * with more than one vertex, which are cycles, are returned. The
+   * vertices in each component are in their natural order, and the
+   * components are in the order of their first vertex.
    *
-   * @param graph
-   *        Graph to detect cycles within.
-   * @return Set of strongly connected components (sets of vertices)
+   * @return Strongly connected components (lists of vertices)
    */
   public Collection<List<T>> detectCycles()
   {
-    for (final Vertex<T> vertex: graph.vertexSet())
+    final CompactDirectedGraph compactGraph = graph.compact();
+    final int size = compactGraph.size();
+
+    final int[] indexes = new int[size];
+    final int[] lowLinks = new int[size];
+    final boolean[] onStack = new boolean[size];
+    Arrays.fill(indexes, UNVISITED);
+
+    // Stack of vertices in the current component candidates
+    final int[] stack = new int[size];
+    int stackTop = -1;
+    // Depth-first search call stack, with the next outgoing edge to
+    // follow for each vertex
+    final int[] callStack = new int[size];
+    final int[] nextEdges = new int[size];
+
+    final List<List<T>> stronglyConnectedComponents = new ArrayList<>();
+    int index = 0;
+    for (int root = 0; root < size; root++)
     {
-      if (!vertex.hasAttribute(ATTRIBUTE_INDEX))
+      if (indexes[root] != UNVISITED)
       {
-        strongConnect(vertex, 0);
+        continue;
       }
-    }
-    return stronglyConnectedComponents;
-  }
-
-  private void strongConnect(final Vertex<T> vertexFrom, final int index)
-  {
-    vertexFrom.putAttribute(ATTRIBUTE_INDEX, index);
-    vertexFrom.putAttribute(ATTRIBUTE_LOWLINK, index);
-    stack.push(vertexFrom);
 
-    for (final DirectedEdge<T> edge: graph.getOutgoingEdges(vertexFrom))
-    {
-      final Vertex<T> vertexTo = edge.getTo();
-      if (!vertexTo.hasAttribute(ATTRIBUTE_INDEX))
-      {
-        // Successor vertex has not yet been visited; recurse on it
-        strongConnect(vertexTo, index + 1);
-        vertexFrom
-          .putAttribute(ATTRIBUTE_LOWLINK,
-                        Math
-                          .min((int) vertexFrom.getAttribute(ATTRIBUTE_LOWLINK),
-                               (int) vertexTo.getAttribute(ATTRIBUTE_LOWLINK)));
-      }
-      else if (stack.contains(vertexTo))
-      {
-        // Successor vertex is on stack, hence in the current SCC
-        vertexFrom
-          .putAttribute(ATTRIBUTE_LOWLINK,
-                        Math
-                          .min((int) vertexFrom.getAttribute(ATTRIBUTE_LOWLINK),
-                               (int) vertexTo.getAttribute(ATTRIBUTE_INDEX)));
-      }
-    }
+      int callTop = 0;
+      callStack[callTop] = root;
+      nextEdges[root] = compactGraph.outgoingStart(root);
+      indexes[root] = index;
+      lowLinks[root] = index;
+      index++;
+      stack[++stackTop] = root;
+      onStack[root] = true;
 
-    if (vertexFrom.getAttribute(ATTRIBUTE_LOWLINK) == vertexFrom
-      .getAttribute(ATTRIBUTE_INDEX))
-    {
-      final LinkedList<T> scc = new LinkedList<>();
-      Vertex<T> sccVertex;
-      do
+      while (callTop >= 0)
       {
-        sccVertex = stack.pop();
-        scc.addFirst(sccVertex.getValue());
-      } while (!vertexFrom.equals(sccVertex));
-      if (scc.size() > 1)
-      {
-        stronglyConnectedComponents.add(scc);
+        final int vertexFrom = callStack[callTop];
+        if (nextEdges[vertexFrom] < compactGraph.outgoingEnd(vertexFrom))
+        {
+          final int vertexTo = compactGraph.outgoing(nextEdges[vertexFrom]);
+          nextEdges[vertexFrom]++;
+          if (indexes[vertexTo] == UNVISITED)
+          {
+            // Successor vertex has not yet been visited; descend into it
+            callStack[++callTop] = vertexTo;
+            nextEdges[vertexTo] = compactGraph.outgoingStart(vertexTo);
+            indexes[vertexTo] = index;
+            lowLinks[vertexTo] = index;
+            index++;
+            stack[++stackTop] = vertexTo;
+            onStack[vertexTo] = true;
+          }
+          else if (onStack[vertexTo])
+          {
+            // Successor vertex is on stack, hence in the current SCC
+            lowLinks[vertexFrom] = Math.min(lowLinks[vertexFrom],
+                                            indexes[vertexTo]);
+          }
+          continue;
+        }
+
+        // All successors are visited, so check for a component root
+        if (lowLinks[vertexFrom] == indexes[vertexFrom])
+        {
+          final List<T> scc = new ArrayList<>();
+          int sccVertex;
+          do
+          {
+            sccVertex = stack[stackTop--];
+            onStack[sccVertex] = false;
+            scc.add(graph.getValue(sccVertex));
+          } while (sccVertex != vertexFrom);
+          if (scc.size() > 1)
+          {
+            Collections.sort(scc);
+            stronglyConnectedComponents.add(scc);
+          }
+        }
+
+        // Return to the caller, and update its low link
+        callTop--;
+        if (callTop >= 0)
+        {
+          final int caller = callStack[callTop];
+          lowLinks[caller] = Math.min(lowLinks[caller], lowLinks[vertexFrom]);
+        }
       }
     }
 
+    Collections.sort(stronglyConnectedComponents,
+                     (scc1, scc2) -> scc1.get(0).compareTo(scc2.get(0)));
+    return stronglyConnectedComponents;
   }
 
 }
@@ -29,9 +29,15 @@ package schemacrawler.crawl;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
 
 import org.junit.Test;
 
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.TableType;
@@ -41,6 +47,39 @@ public class NamedObjectTest
 
   public static final TableType TABLE = new TableType("TABLE");
 
+  @Test
+  public void lookupKeys()
+  {
+    final MutableCatalog catalog = new MutableCatalog("DATABASE");
+    final Schema schema = catalog.addSchema("CATALOG", "PUBLIC");
+    final MutableTable table = new MutableTable(schema, "CUSTOMER");
+    final MutableColumn column = new MutableColumn(table, "ID");
+    table.addColumn(column);
+    catalog.addTable(table);
+
+    final NamedObjectKey key = column.key();
+    assertSame(key, column.key());
+    assertEquals(new NamedObjectKey("CATALOG", "PUBLIC", "CUSTOMER", "ID"),
+                 key);
+    assertEquals(Arrays.asList("CATALOG", "PUBLIC", "CUSTOMER", "ID")
+      .hashCode(), key.hashCode());
+    assertEquals(table.key().with("ID"), key);
+
+    assertSame(table,
+               catalog.lookupTable("CATALOG", "PUBLIC", "CUSTOMER").get());
+    assertSame(table,
+               catalog
+                 .lookupTable(Arrays.asList("CATALOG", "PUBLIC", "CUSTOMER"))
+                 .get());
+    assertSame(table, catalog.lookupTable(schema, "CUSTOMER").get());
+    assertFalse(catalog.lookupTable("CATALOG", "PUBLIC", "ID").isPresent());
+    assertFalse(catalog.lookupTable(null, "PUBLIC", "CUSTOMER").isPresent());
+
+    assertSame(column, table.lookupColumn("ID").get());
+    assertFalse(table.lookupColumn("CUSTOMER").isPresent());
+    assertTrue(table.getColumns().contains(column));
+  }
+
   @Test
   public void tableNames()
   {
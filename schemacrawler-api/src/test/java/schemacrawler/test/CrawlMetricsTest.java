@@ -0,0 +1,165 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import schemacrawler.crawl.CrawlMetricsListener;
+import schemacrawler.crawl.JsonCrawlMetricsExporter;
+import schemacrawler.crawl.PrometheusCrawlMetricsExporter;
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.CrawlPhaseMetrics;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class CrawlMetricsTest
+  extends BaseDatabaseTest
+{
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @Test
+  public void crawlMetrics()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptionsBuilder()
+      .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum().toOptions())
+      .toOptions();
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(getConnection(),
+                                                          new SchemaRetrievalOptionsBuilder()
+                                                            .fromConfig(loadHsqldbConfig())
+                                                            .toOptions(),
+                                                          schemaCrawlerOptions);
+
+    final List<CrawlPhaseMetrics> completedPhases = new ArrayList<>();
+    final List<CrawlInfo> completedCrawls = new ArrayList<>();
+    schemaCrawler.addCrawlMetricsListener(new CrawlMetricsListener()
+    {
+
+      @Override
+      public void crawlCompleted(final CrawlInfo crawlInfo)
+      {
+        completedCrawls.add(crawlInfo);
+      }
+
+      @Override
+      public void phaseCompleted(final CrawlPhaseMetrics phaseMetrics)
+      {
+        completedPhases.add(phaseMetrics);
+      }
+    });
+
+    final Path jsonFile = tempFolder.getRoot().toPath()
+      .resolve("metrics.json");
+    final Path prometheusFile = tempFolder.getRoot().toPath()
+      .resolve("metrics.prom");
+    schemaCrawler.addCrawlMetricsListener(new JsonCrawlMetricsExporter(jsonFile));
+    schemaCrawler
+      .addCrawlMetricsListener(new PrometheusCrawlMetricsExporter(prometheusFile));
+
+    final Catalog catalog = schemaCrawler.crawl();
+
+    final List<CrawlPhaseMetrics> phases = catalog.getCrawlInfo()
+      .getCrawlPhaseMetrics();
+    assertFalse("No crawl phase metrics", phases.isEmpty());
+    assertEquals(phases, completedPhases);
+    assertEquals(1, completedCrawls.size());
+
+    boolean foundColumns = false;
+    for (final CrawlPhaseMetrics phase: phases)
+    {
+      if (phase.getCrawlName().equals("crawlTables")
+          && phase.getPhaseName().equals("retrieveColumns"))
+      {
+        foundColumns = true;
+        assertTrue(phase.getQueryCount() > 0);
+        assertTrue(phase.getRowCount() > 0);
+        assertTrue(phase.getBytesFetched() > 0);
+      }
+    }
+    assertTrue("No metrics for columns", foundColumns);
+
+    final String json = new String(Files.readAllBytes(jsonFile), UTF_8);
+    assertTrue(json.contains("\"phase\": \"retrieveColumns\""));
+    final String prometheus = new String(Files.readAllBytes(prometheusFile),
+                                         UTF_8);
+    assertTrue(prometheus
+      .contains("# TYPE schemacrawler_crawl_phase_rows gauge"));
+    assertTrue(prometheus.contains("crawl=\"crawlTables\",phase=\"retrieveColumns\""));
+  }
+
+  @Test
+  public void crawlMetricsForConcurrentPhases()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptionsBuilder()
+      .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum().toOptions())
+      .toOptions();
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(getDataSource(),
+                                                          new SchemaRetrievalOptionsBuilder()
+                                                            .fromConfig(loadHsqldbConfig())
+                                                            .toOptions(),
+                                                          schemaCrawlerOptions);
+
+    final Catalog catalog = schemaCrawler.crawl();
+
+    boolean foundIndexes = false;
+    for (final CrawlPhaseMetrics phase: catalog.getCrawlInfo()
+      .getCrawlPhaseMetrics())
+    {
+      if (phase.getCrawlName().equals("crawlTables")
+          && phase.getPhaseName().equals("retrieveIndexes"))
+      {
+        foundIndexes = true;
+        assertTrue(phase.getQueryCount() > 0);
+        assertTrue(phase.getRowCount() > 0);
+      }
+    }
+    assertTrue("No metrics for indexes", foundIndexes);
+  }
+
+}
@@ -0,0 +1,102 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.utility.FetchSize;
+import schemacrawler.utility.Query;
+
+public class FetchSizeTest
+{
+
+  @Test
+  public void adaptiveFetchSize()
+  {
+    final FetchSize fetchSize = new FetchSize(20, 100, true);
+    assertEquals(40, fetchSize.nextFetchSize(20));
+    assertEquals(80, fetchSize.nextFetchSize(40));
+    assertEquals(100, fetchSize.nextFetchSize(80));
+    assertEquals(100, fetchSize.nextFetchSize(100));
+  }
+
+  @Test
+  public void fetchSizeFromConfig()
+  {
+    final Config config = new Config();
+    config.put("schemacrawler.schema.retrieval.fetch.size", "500");
+    config.put("schemacrawler.schema.retrieval.fetch.size.maximum", "5000");
+    config.put("schemacrawler.schema.retrieval.fetch.size.adaptive",
+               "false");
+    config.put(InformationSchemaKey.TABLES.getLookupKey(), "SELECT 1");
+    config.put(InformationSchemaKey.TABLES.getLookupKey() + ".fetch_size",
+               "2000");
+    config.put(InformationSchemaKey.TABLE_COLUMNS.getLookupKey(),
+               "SELECT 1");
+
+    final SchemaRetrievalOptions schemaRetrievalOptions = new SchemaRetrievalOptionsBuilder()
+      .fromConfig(config).toOptions();
+
+    final FetchSize fetchSize = schemaRetrievalOptions.getFetchSize();
+    assertEquals(500, fetchSize.getFetchSize());
+    assertEquals(5000, fetchSize.getMaximumFetchSize());
+    assertFalse(fetchSize.isAdaptive());
+    assertEquals(500, fetchSize.nextFetchSize(500));
+
+    final InformationSchemaViews informationSchemaViews = schemaRetrievalOptions
+      .getInformationSchemaViews();
+    final Query tablesSql = informationSchemaViews.getTablesSql();
+    assertTrue(tablesSql.hasFetchSize());
+    assertEquals(2000, tablesSql.getFetchSize());
+    assertFalse(informationSchemaViews.getTableColumnsSql().hasFetchSize());
+  }
+
+  @Test
+  public void fixedFetchSize()
+  {
+    final FetchSize fetchSize = new FetchSize(20, 100, false);
+    assertFalse(fetchSize.isAdaptive());
+    assertEquals(20, fetchSize.nextFetchSize(20));
+
+    final FetchSize driverDefault = new FetchSize(0, 100, true);
+    assertFalse(driverDefault.isAdaptive());
+    assertEquals(0, driverDefault.nextFetchSize(0));
+  }
+
+}
@@ -0,0 +1,192 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import schemacrawler.crawl.IncrementalSchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class IncrementalCrawlTest
+  extends BaseDatabaseTest
+{
+
+  private static final String TABLE_CHANGE_MARKERS = "SELECT TABLE_CAT, TABLE_SCHEM, TABLE_NAME, %s AS CHANGE_MARKER "
+                                                     + "FROM INFORMATION_SCHEMA.SYSTEM_TABLES %s";
+
+  @Test
+  public void droppedTablesAreRemoved()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptions();
+    final Catalog previousCatalog = crawl(schemaRetrievalOptions("'1'", ""),
+                                          schemaCrawlerOptions,
+                                          null);
+
+    final Catalog catalog = crawl(schemaRetrievalOptions("'1'",
+                                                         "WHERE TABLE_NAME <> 'AUTHORS'"),
+                                  schemaCrawlerOptions,
+                                  previousCatalog);
+
+    assertEquals(previousCatalog.getTables().size() - 1,
+                 catalog.getTables().size());
+    for (final Table table: catalog.getTables())
+    {
+      assertFalse(table.getName().equals("AUTHORS"));
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        for (final ForeignKeyColumnReference columnReference: foreignKey)
+        {
+          assertFalse(foreignKey.getFullName(),
+                      columnReference.getPrimaryKeyColumn().getParent()
+                        .getName().equals("AUTHORS"));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void incrementalCrawlMatchesFullCrawl()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptions();
+    final Catalog previousCatalog = crawl(schemaRetrievalOptions("'1'", ""),
+                                          schemaCrawlerOptions,
+                                          null);
+
+    final SchemaRetrievalOptions schemaRetrievalOptions = schemaRetrievalOptions("CASE WHEN TABLE_NAME IN ('AUTHORS', 'BOOKS') THEN '2' ELSE '1' END",
+                                                                                 "");
+    final Catalog catalog = crawl(schemaRetrievalOptions,
+                                  schemaCrawlerOptions,
+                                  previousCatalog);
+    final Catalog fullCatalog = getCatalog(schemaRetrievalOptions,
+                                           schemaCrawlerOptions);
+
+    assertTrue("No tables found", fullCatalog.getTables().size() > 0);
+    assertEquals(describe(fullCatalog), describe(catalog));
+  }
+
+  @Test
+  public void noChangeMarkers()
+    throws Exception
+  {
+    final SchemaRetrievalOptions schemaRetrievalOptions = new SchemaRetrievalOptionsBuilder()
+      .fromConfig(loadHsqldbConfig()).toOptions();
+    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptions();
+    final Catalog previousCatalog = crawl(schemaRetrievalOptions,
+                                          schemaCrawlerOptions,
+                                          null);
+
+    final Catalog catalog = crawl(schemaRetrievalOptions,
+                                  schemaCrawlerOptions,
+                                  previousCatalog);
+
+    assertEquals(describe(previousCatalog), describe(catalog));
+  }
+
+  private Catalog crawl(final SchemaRetrievalOptions schemaRetrievalOptions,
+                        final SchemaCrawlerOptions schemaCrawlerOptions,
+                        final Catalog previousCatalog)
+    throws Exception
+  {
+    final IncrementalSchemaCrawler schemaCrawler = new IncrementalSchemaCrawler(getConnection(),
+                                                                                schemaRetrievalOptions,
+                                                                                schemaCrawlerOptions);
+    return schemaCrawler.crawl(previousCatalog);
+  }
+
+  private List<String> describe(final Catalog catalog)
+  {
+    final List<String> objects = new ArrayList<>();
+    for (final Table table: catalog.getTables())
+    {
+      objects.add(table.getFullName() + " " + table.getTableType());
+      for (final Column column: table.getColumns())
+      {
+        objects.add(String.format("%s %s pk=%b fk=%b index=%b -> %s",
+                                  column.getFullName(),
+                                  column.getColumnDataType().getFullName(),
+                                  column.isPartOfPrimaryKey(),
+                                  column.isPartOfForeignKey(),
+                                  column.isPartOfIndex(),
+                                  column.getReferencedColumn()));
+      }
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        objects.add(foreignKey.getFullName() + " "
+                    + foreignKey.getColumnReferences());
+      }
+      for (final Index index: table.getIndexes())
+      {
+        objects.add(index.getFullName() + " " + index.getColumns());
+      }
+    }
+    return objects;
+  }
+
+  private SchemaCrawlerOptions schemaCrawlerOptions()
+  {
+    return new SchemaCrawlerOptionsBuilder()
+      .withSchemaInfoLevel(SchemaInfoLevelBuilder.standard().toOptions())
+      .toOptions();
+  }
+
+  private SchemaRetrievalOptions schemaRetrievalOptions(final String changeMarker,
+                                                        final String where)
+    throws IOException
+  {
+    final SchemaRetrievalOptionsBuilder schemaRetrievalOptionsBuilder = new SchemaRetrievalOptionsBuilder()
+      .fromConfig(loadHsqldbConfig());
+    schemaRetrievalOptionsBuilder.withInformationSchemaViewsBuilder()
+      .withTableChangeMarkersSql(String
+        .format(TABLE_CHANGE_MARKERS, changeMarker, where));
+    return schemaRetrievalOptionsBuilder.toOptions();
+  }
+
+}
@@ -0,0 +1,195 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.sql.Connection;
+
+import org.junit.Test;
+
+import schemacrawler.crawl.NotLoadedException;
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class LazyCrawlTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void lazyCrawl()
+    throws Exception
+  {
+    final Catalog catalog = getCatalog(schemaRetrievalOptions(),
+                                       schemaCrawlerOptions());
+
+    try (final Connection connection = getConnection();)
+    {
+      final Catalog lazyCatalog = new SchemaCrawler(connection,
+                                                    schemaRetrievalOptions(),
+                                                    schemaCrawlerOptions())
+                                                      .crawlLazily();
+
+      assertEquals(catalog.getTables().size(),
+                   lazyCatalog.getTables().size());
+      for (final Schema schema: catalog.getSchemas())
+      {
+        for (final Table table: catalog.getTables(schema))
+        {
+          final Table lazyTable = lazyCatalog
+            .lookupTable(schema, table.getName()).get();
+          assertEquals(table.getFullName(),
+                       table.getColumns(),
+                       lazyTable.getColumns());
+          assertEquals(table.getFullName(),
+                       table.getIndexes().size(),
+                       lazyTable.getIndexes().size());
+          assertEquals(table.getFullName(),
+                       table.hasPrimaryKey(),
+                       lazyTable.hasPrimaryKey());
+          assertEquals(table.getFullName(),
+                       table.getForeignKeys().size(),
+                       lazyTable.getForeignKeys().size());
+          assertEquals(table.getFullName(),
+                       table.getTriggers().size(),
+                       lazyTable.getTriggers().size());
+          assertEquals(table.getFullName(),
+                       table.getPrivileges().size(),
+                       lazyTable.getPrivileges().size());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void lazyCrawlIndexesFirst()
+    throws Exception
+  {
+    final Catalog catalog = getCatalog(schemaRetrievalOptions(),
+                                       schemaCrawlerOptions());
+
+    try (final Connection connection = getConnection();)
+    {
+      final Catalog lazyCatalog = new SchemaCrawler(connection,
+                                                    schemaRetrievalOptions(),
+                                                    schemaCrawlerOptions())
+                                                      .crawlLazily();
+
+      // Load indexes before columns, for every table, so that details
+      // are loaded more than once for each group of tables
+      for (final Table lazyTable: lazyCatalog.getTables())
+      {
+        lazyTable.getIndexes();
+      }
+      for (final Schema schema: catalog.getSchemas())
+      {
+        for (final Table table: catalog.getTables(schema))
+        {
+          final Table lazyTable = lazyCatalog
+            .lookupTable(schema, table.getName()).get();
+          assertEquals(table.getFullName(),
+                       table.getColumns(),
+                       lazyTable.getColumns());
+          for (final Column column: table.getColumns())
+          {
+            assertEquals(column.getFullName(),
+                         column.getAttributes(),
+                         lazyTable.lookupColumn(column.getName()).get()
+                           .getAttributes());
+          }
+          for (final Index index: table.getIndexes())
+          {
+            final Index lazyIndex = lazyTable.lookupIndex(index.getName())
+              .get();
+            assertEquals(index.getFullName(),
+                         index.getDefinition(),
+                         lazyIndex.getDefinition());
+            assertEquals(index.getFullName(),
+                         index.getRemarks(),
+                         lazyIndex.getRemarks());
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void notLoadedAfterConnectionIsClosed()
+    throws Exception
+  {
+    final Catalog lazyCatalog;
+    try (final Connection connection = getConnection();)
+    {
+      lazyCatalog = new SchemaCrawler(connection,
+                                      schemaRetrievalOptions(),
+                                      schemaCrawlerOptions())
+                                        .crawlLazily();
+    }
+
+    final Table table = lazyCatalog.getTables().iterator().next();
+    try
+    {
+      table.getColumns();
+      fail("An exception should be thrown indicating that columns could not be loaded");
+    }
+    catch (final NotLoadedException e)
+    {
+      assertFalse(e.getMessage().isEmpty());
+    }
+  }
+
+  private SchemaCrawlerOptions schemaCrawlerOptions()
+  {
+    return new SchemaCrawlerOptionsBuilder()
+      .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum().toOptions())
+      .toOptions();
+  }
+
+  private SchemaRetrievalOptions schemaRetrievalOptions()
+    throws IOException
+  {
+    return new SchemaRetrievalOptionsBuilder().fromConfig(loadHsqldbConfig())
+      .toOptions();
+  }
+
+}
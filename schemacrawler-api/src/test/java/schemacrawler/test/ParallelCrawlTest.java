@@ -0,0 +1,251 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.Test;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Privilege;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class ParallelCrawlTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void parallelCrawlMatchesSerialCrawl()
+    throws Exception
+  {
+    final SchemaRetrievalOptions schemaRetrievalOptions = new SchemaRetrievalOptionsBuilder()
+      .fromConfig(loadHsqldbConfig()).toOptions();
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptionsBuilder()
+      .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum().toOptions())
+      .includeAllRoutines().includeAllSequences().includeAllSynonyms()
+      .toOptions();
+
+    final Catalog serialCatalog = getCatalog(schemaRetrievalOptions,
+                                             schemaCrawlerOptions);
+
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(getDataSource(),
+                                                          schemaRetrievalOptions,
+                                                          schemaCrawlerOptions);
+    final Catalog parallelCatalog = schemaCrawler.crawl();
+
+    final List<String> serialObjects = describe(serialCatalog);
+    assertTrue("No tables found", serialCatalog.getTables().size() > 0);
+    assertEquals(serialObjects, describe(parallelCatalog));
+  }
+
+  @Test
+  public void tableMetadataFanOutMatchesSerialCrawl()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptionsBuilder()
+      .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum().toOptions())
+      .toOptions();
+
+    final Catalog serialCatalog = getCatalog(new SchemaRetrievalOptionsBuilder()
+      .fromConfig(loadHsqldbConfig()).toOptions(), schemaCrawlerOptions);
+
+    final SchemaRetrievalOptions schemaRetrievalOptions = new SchemaRetrievalOptionsBuilder()
+      .fromConfig(loadHsqldbConfig()).withMetadataRetrievalPoolSize(4)
+      .toOptions();
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(getDataSource(),
+                                                          schemaRetrievalOptions,
+                                                          schemaCrawlerOptions);
+    final Catalog parallelCatalog = schemaCrawler.crawl();
+
+    assertEquals(describe(serialCatalog), describe(parallelCatalog));
+  }
+
+  @Test
+  public void parallelCrawlHoldsNoMoreThanMaximumConnections()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptionsBuilder()
+      .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum().toOptions())
+      .includeAllRoutines().includeAllSequences().includeAllSynonyms()
+      .toOptions();
+
+    final Catalog serialCatalog = getCatalog(new SchemaRetrievalOptionsBuilder()
+      .fromConfig(loadHsqldbConfig()).toOptions(), schemaCrawlerOptions);
+
+    final SchemaRetrievalOptions schemaRetrievalOptions = new SchemaRetrievalOptionsBuilder()
+      .fromConfig(loadHsqldbConfig()).withMetadataRetrievalPoolSize(4)
+      .withMaximumConnections(2).toOptions();
+    final AtomicInteger openConnections = new AtomicInteger();
+    final AtomicInteger maximumOpenConnections = new AtomicInteger();
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(countingDataSource(getDataSource(),
+                                                                             openConnections,
+                                                                             maximumOpenConnections),
+                                                          schemaRetrievalOptions,
+                                                          schemaCrawlerOptions);
+    final Catalog parallelCatalog = schemaCrawler.crawl();
+
+    assertEquals(describe(serialCatalog), describe(parallelCatalog));
+    assertEquals(0, openConnections.get());
+    assertTrue("Too many connections held at once: "
+               + maximumOpenConnections.get(),
+               maximumOpenConnections.get() <= 2);
+  }
+
+  private DataSource countingDataSource(final DataSource dataSource,
+                                        final AtomicInteger openConnections,
+                                        final AtomicInteger maximumOpenConnections)
+  {
+    return (DataSource) Proxy
+      .newProxyInstance(getClass().getClassLoader(),
+                        new Class<?>[] { DataSource.class },
+                        (proxy, method, args) -> {
+                          final Object result = invoke(dataSource,
+                                                       method,
+                                                       args);
+                          if (!method.getName().equals("getConnection"))
+                          {
+                            return result;
+                          }
+                          maximumOpenConnections
+                            .accumulateAndGet(openConnections
+                              .incrementAndGet(), Math::max);
+                          final Connection connection = (Connection) result;
+                          return Proxy
+                            .newProxyInstance(getClass().getClassLoader(),
+                                              new Class<?>[] {
+                                                               Connection.class },
+                                              (connectionProxy,
+                                               connectionMethod,
+                                               connectionArgs) -> {
+                                                if (connectionMethod
+                                                  .getName().equals("close")
+                                                    && !connection
+                                                      .isClosed())
+                                                {
+                                                  openConnections
+                                                    .decrementAndGet();
+                                                }
+                                                return invoke(connection,
+                                                              connectionMethod,
+                                                              connectionArgs);
+                                              });
+                        });
+  }
+
+  private List<String> describe(final Catalog catalog)
+  {
+    final List<String> objects = new ArrayList<>();
+    for (final Table table: catalog.getTables())
+    {
+      objects.add(table.getFullName());
+      for (final Column column: table.getColumns())
+      {
+        objects.add(String.format("%s %s %s pk=%b fk=%b index=%b",
+                                  column.getFullName(),
+                                  column.getColumnDataType().getFullName(),
+                                  new TreeMap<>(column.getAttributes()),
+                                  column.isPartOfPrimaryKey(),
+                                  column.isPartOfForeignKey(),
+                                  column.isPartOfIndex()));
+        for (final Privilege<Column> privilege: column.getPrivileges())
+        {
+          objects.add(privilege.getFullName());
+        }
+      }
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        objects.add(foreignKey.getFullName());
+      }
+      for (final Index index: table.getIndexes())
+      {
+        objects.add(index.getFullName() + " " + index.getColumns());
+      }
+      for (final Privilege<Table> privilege: table.getPrivileges())
+      {
+        objects.add(privilege.getFullName());
+      }
+    }
+    for (final Routine routine: catalog.getRoutines())
+    {
+      objects.add(routine.getFullName());
+    }
+    for (final Sequence sequence: catalog.getSequences())
+    {
+      objects.add(sequence.getFullName());
+    }
+    for (final Synonym synonym: catalog.getSynonyms())
+    {
+      objects.add(synonym.getFullName() + " -> "
+                  + synonym.getReferencedObject().getFullName());
+    }
+    return objects;
+  }
+
+  private Object invoke(final Object target,
+                        final Method method,
+                        final Object[] args)
+    throws Throwable
+  {
+    try
+    {
+      return method.invoke(target, args);
+    }
+    catch (final InvocationTargetException e)
+    {
+      throw e.getCause();
+    }
+  }
+
+}
@@ -0,0 +1,135 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import schemacrawler.schemacrawler.InclusionRule;
+import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.RegularExpressionRule;
+
+public class RegularExpressionRuleTest
+{
+
+  private static final String[] regularExpressions = {
+                                                       "",
+                                                       ".*",
+                                                       "^.*$",
+                                                       "PUBLIC",
+                                                       "PUBLIC|SALES",
+                                                       "(?:PUBLIC|SALES)",
+                                                       "PUBLIC\\.BOOKS\\..*",
+                                                       "PUBLIC\\..*|.*\\.ID",
+                                                       ".*\\.(ID|FIRSTNAME|\"UPDATE\")",
+                                                       ".*(BOOK|AUTHOR|ABOUT).*",
+                                                       ".*\\Q.\"\\E.*",
+                                                       ".*BOOKS.*|PUBLIC",
+                                                       "PUBLIC.BOOKS",
+                                                       "PUBLIC\\.BOOKS\\.[A-Z]+",
+                                                       "(?i).*author.*",
+                                                       "PUB(LIC)?.*",
+                                                       "(PUBLIC|SALES)\\.(BOOKS|AUTHORS)" };
+
+  private static final String[] texts = {
+                                          "PUBLIC",
+                                          "SALES",
+                                          "PUBLIC.BOOKS",
+                                          "PUBLIC.BOOKS.AUTHORS",
+                                          "PUBLIC.BOOKS.ID",
+                                          "PUBLIC.BOOKS.\"UPDATE\"",
+                                          "PUBLIC.BOOKS.FIRSTNAME",
+                                          "SALES.AUTHORS",
+                                          "PUBLICATIONS",
+                                          "PUBLIC\nBOOKS",
+                                          "PUBLIC.BOOKS.ID\n",
+                                          "Author's books",
+                                          " ",
+                                          "",
+                                          null };
+
+  @Test
+  public void fullNames()
+  {
+    for (final String regularExpression: regularExpressions)
+    {
+      final InclusionRule rule = new RegularExpressionInclusionRule(regularExpression);
+      assertEquals(regularExpression,
+                   rule.test("PUBLIC.BOOKS.ID"),
+                   rule.testFullName("PUBLIC.BOOKS", "ID"));
+      assertEquals(regularExpression,
+                   rule.test("PUBLIC"),
+                   rule.testFullName("", "PUBLIC"));
+      assertEquals(regularExpression,
+                   rule.test("PUBLIC.BOOKS"),
+                   rule.testFullName("PUBLIC.BOOKS", " "));
+    }
+  }
+
+  @Test
+  public void sameResultsAsRegularExpressions()
+  {
+    for (final String regularExpression: regularExpressions)
+    {
+      for (final int flags: new int[] { 0, Pattern.DOTALL })
+      {
+        final Pattern pattern = Pattern.compile(regularExpression, flags);
+        final InclusionRule inclusionRule = new RegularExpressionInclusionRule(pattern);
+        final InclusionRule exclusionRule = new RegularExpressionExclusionRule(pattern);
+        final InclusionRule rule = new RegularExpressionRule(pattern,
+                                                             Pattern
+                                                               .compile("SALES.*"));
+        for (final String text: texts)
+        {
+          final boolean isBlank = text == null || text.trim().isEmpty();
+          final boolean matches = !isBlank && pattern.matcher(text).matches();
+          final String message = String.format("/%s/ %d <%s>",
+                                               regularExpression,
+                                               flags,
+                                               text);
+          assertEquals(message, matches, inclusionRule.test(text));
+          // Exclusion rules include ".*", which does not match line
+          // terminators
+          assertEquals(message,
+                       !isBlank && !matches && !text.contains("\n"),
+                       exclusionRule.test(text));
+          assertEquals(message,
+                       matches && !text.startsWith("SALES"),
+                       rule.test(text));
+        }
+      }
+    }
+  }
+
+}
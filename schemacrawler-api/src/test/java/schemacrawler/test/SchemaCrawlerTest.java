@@ -47,6 +47,7 @@ import java.util.TreeMap;
 import org.junit.Rule;
 import org.junit.Test;
 
+import schemacrawler.crawl.MetadataRetrievalStrategy;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnDataType;
@@ -626,6 +627,36 @@ public class SchemaCrawlerTest
     }
   }
 
+  @Test
+  public void tablesWithSchemaNamePattern()
+    throws Exception
+  {
+    // Tables and columns are retrieved for each included schema, with
+    // the "_" in the schema name escaped in the schema name pattern
+    final SchemaRetrievalOptionsBuilder schemaRetrievalOptionsBuilder = new SchemaRetrievalOptionsBuilder()
+      .withTableRetrievalStrategy(MetadataRetrievalStrategy.metadata_all)
+      .withTableColumnRetrievalStrategy(MetadataRetrievalStrategy.metadata_all);
+
+    final SchemaCrawlerOptionsBuilder schemaCrawlerOptionsBuilder = new SchemaCrawlerOptionsBuilder()
+      .includeSchemas(new RegularExpressionInclusionRule("PUBLIC\\.FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptionsBuilder
+      .toOptions();
+
+    final Catalog catalog = getCatalog(schemaRetrievalOptionsBuilder
+      .toOptions(), schemaCrawlerOptions);
+    final Schema schema = catalog.lookupSchema("PUBLIC.FOR_LINT")
+      .orElse(null);
+    assertNotNull("FOR_LINT schema not found", schema);
+    final Collection<Table> tables = catalog.getTables(schema);
+    assertEquals("FOR_LINT tables not found",
+                 getCatalog(schemaCrawlerOptions).getTables().size(),
+                 tables.size());
+    for (final Table table: tables)
+    {
+      assertFalse("No columns for " + table, table.getColumns().isEmpty());
+    }
+  }
+
   @Test
   public void triggers()
     throws Exception
@@ -0,0 +1,102 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import schemacrawler.schemacrawler.ExcludeAll;
+import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.utility.SqlNamePatterns;
+
+public class SqlNamePatternsTest
+{
+
+  @Test
+  public void literalNames()
+  {
+    assertEquals("OWNER = 'HR'",
+                 SqlNamePatterns.fromRegularExpression("HR")
+                   .toSqlPredicate("OWNER"));
+    assertEquals("OWNER IN ('HR', 'SALES', 'O''NEIL')",
+                 SqlNamePatterns
+                   .fromRegularExpression("^(?:HR|SALES|O'NEIL)$")
+                   .toSqlPredicate("OWNER"));
+    assertEquals("OWNER IN ('A.B', 'C$')",
+                 SqlNamePatterns.fromRegularExpression("\\QA.B\\E|C\\$")
+                   .toSqlPredicate("OWNER"));
+  }
+
+  @Test
+  public void matchAll()
+  {
+    for (final String regex: new String[] {
+                                            ".*",
+                                            "HR|.*",
+                                            "HR[0-9]",
+                                            "(HR|SALES)_(A|B)",
+                                            "\\w+",
+                                            "HR?" })
+    {
+      final SqlNamePatterns patterns = SqlNamePatterns
+        .fromRegularExpression(regex);
+      assertTrue(regex, patterns.isMatchAll());
+      assertEquals("1 = 1", patterns.toSqlPredicate("OWNER"));
+    }
+
+    assertTrue(SqlNamePatterns.fromInclusionRule(new ExcludeAll())
+      .isMatchAll());
+    assertTrue(SqlNamePatterns
+      .fromInclusionRule(new RegularExpressionExclusionRule(Pattern
+        .compile("HR")))
+      .isMatchAll());
+    assertTrue(SqlNamePatterns
+      .fromInclusionRule(new RegularExpressionInclusionRule(Pattern
+        .compile("hr", Pattern.CASE_INSENSITIVE)))
+      .isMatchAll());
+  }
+
+  @Test
+  public void wildcards()
+  {
+    assertEquals("(NAME = 'HR' OR NAME LIKE 'APP%' OR NAME LIKE 'PUBLIC_BOOKS')",
+                 SqlNamePatterns
+                   .fromInclusionRule(new RegularExpressionInclusionRule("HR|APP.*|PUBLIC.BOOKS"))
+                   .toString());
+    assertEquals("NAME LIKE 'X_%'",
+                 SqlNamePatterns.fromRegularExpression("(X.+)").toString());
+  }
+
+}
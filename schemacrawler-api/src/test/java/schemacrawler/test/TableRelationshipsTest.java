@@ -0,0 +1,115 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableRelationshipType;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.utility.TableRelationships;
+
+public class TableRelationshipsTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void relatedTables()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptionsBuilder()
+      .withSchemaInfoLevel(SchemaInfoLevelBuilder.standard().toOptions())
+      .toOptions();
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+    final Collection<Table> tables = catalog.getTables();
+
+    final TableRelationships tableRelationships = TableRelationships
+      .forRelatedTables(tables);
+    assertTrue(tableRelationships.size() >= tables.size());
+
+    for (final TableRelationshipType tableRelationshipType: new TableRelationshipType[] {
+                                                                                          TableRelationshipType.parent,
+                                                                                          TableRelationshipType.child })
+    {
+      for (final Table table: tables)
+      {
+        assertEquals(table.getFullName(),
+                     new HashSet<>(table
+                       .getRelatedTables(tableRelationshipType)),
+                     new HashSet<>(tableRelationships
+                       .getRelatedTables(table, tableRelationshipType)));
+
+        for (int depth = 0; depth <= 3; depth++)
+        {
+          final Set<Table> greppedTables = new HashSet<>();
+          greppedTables.add(table);
+          assertEquals(table.getFullName() + " " + depth,
+                       includeRelatedTables(greppedTables,
+                                            tableRelationshipType,
+                                            depth),
+                       tableRelationships
+                         .includeRelatedTables(greppedTables,
+                                               tableRelationshipType,
+                                               depth));
+        }
+      }
+    }
+  }
+
+  /**
+   * Follows related tables one level at a time, without an index.
+   */
+  private Set<Table> includeRelatedTables(final Set<Table> greppedTables,
+                                          final TableRelationshipType tableRelationshipType,
+                                          final int depth)
+  {
+    final Set<Table> includedTables = new HashSet<>(greppedTables);
+    for (int i = 0; i < depth; i++)
+    {
+      for (final Table table: new HashSet<>(includedTables))
+      {
+        includedTables.addAll(table.getRelatedTables(tableRelationshipType));
+      }
+    }
+    return includedTables;
+  }
+
+}
@@ -28,13 +28,19 @@ http://www.gnu.org/licenses/
 package schemacrawler.test.graph;
 
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collection;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
 
 import schemacrawler.test.utility.TestName;
 import sf.util.graph.DirectedGraph;
+import sf.util.graph.TarjanStronglyConnectedComponentFinder;
 
 /**
  * Tests from
@@ -48,6 +54,34 @@ public class DirectedGraphBoundaryTest
   @Rule
   public TestName testName = new TestName();
 
+  @Test
+  public void deepChain()
+    throws Exception
+  {
+    final int chainLength = 100_000;
+    final DirectedGraph<Integer> graph = new DirectedGraph<>(testName
+      .currentMethodFullName());
+    for (int i = 1; i < chainLength; i++)
+    {
+      graph.addEdge(i - 1, i);
+    }
+
+    assertFalse(containsCycleSimple(graph));
+    assertFalse(containsCycleTarjan(graph));
+    final List<Integer> sorted = topologicalSort(graph);
+    assertEquals(chainLength, sorted.size());
+    assertEquals(0, (int) sorted.get(0));
+    assertEquals(chainLength - 1, (int) sorted.get(chainLength - 1));
+
+    graph.addEdge(chainLength - 1, 0);
+
+    assertTrue(containsCycleSimple(graph));
+    final Collection<List<Integer>> sccs = new TarjanStronglyConnectedComponentFinder<>(graph)
+      .detectCycles();
+    assertEquals(1, sccs.size());
+    assertEquals(chainLength, sccs.iterator().next().size());
+  }
+
   @Test
   public void emptyGraph()
     throws Exception
@@ -45,6 +45,8 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.logging.Level;
 
+import javax.sql.DataSource;
+
 import org.custommonkey.xmlunit.XMLUnit;
 import org.junit.BeforeClass;
 
@@ -124,6 +126,55 @@ public abstract class BaseDatabaseTest
     }
   }
 
+  /**
+   * Gets a data source, which creates a new connection on each request.
+   *
+   * @return Data source
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  protected DataSource getDataSource()
+    throws SchemaCrawlerException
+  {
+    // Credentials are reused for every connection
+    final UserCredentials userCredentials = new UserCredentials()
+    {
+
+      @Override
+      public void clearPassword()
+      {
+        // No-op
+      }
+
+      @Override
+      public String getPassword()
+      {
+        return "";
+      }
+
+      @Override
+      public String getUser()
+      {
+        return "sa";
+      }
+
+      @Override
+      public boolean hasPassword()
+      {
+        return true;
+      }
+
+      @Override
+      public boolean hasUser()
+      {
+        return true;
+      }
+    };
+    final Map<String, String> map = new HashMap<>();
+    map.put("url", TestDatabase.CONNECTION_STRING);
+    return new DatabaseConnectionOptions(userCredentials, map);
+  }
+
   /**
    * Loads a properties file from a CLASSPATH resource.
    *
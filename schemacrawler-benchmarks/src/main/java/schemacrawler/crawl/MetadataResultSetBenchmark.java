@@ -0,0 +1,160 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import schemacrawler.utility.FetchSize;
+
+/**
+ * Measures reading rows through a metadata result set, the way the
+ * table column retriever does, against an in-memory HyperSQL table
+ * shaped like the result of DatabaseMetaData.getColumns().
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetadataResultSetBenchmark
+{
+
+  @Param({ "10000", "100000" })
+  private int rows;
+
+  private Connection connection;
+
+  @Benchmark
+  public void readColumns(final Blackhole blackhole)
+    throws SQLException
+  {
+    try (final Statement statement = connection.createStatement();
+        final ResultSet resultSet = statement
+          .executeQuery("SELECT * FROM COLUMNS");
+        final MetadataResultSet results = new MetadataResultSet(resultSet,
+                                                                new FetchSize(20,
+                                                                              1000,
+                                                                              true));)
+    {
+      while (results.next())
+      {
+        blackhole.consume(results.getString("TABLE_CAT"));
+        blackhole.consume(results.getString("TABLE_SCHEM"));
+        blackhole.consume(results.getString("TABLE_NAME"));
+        blackhole.consume(results.getString("COLUMN_NAME"));
+        blackhole.consume(results.getInt("DATA_TYPE", 0));
+        blackhole.consume(results.getString("TYPE_NAME"));
+        blackhole.consume(results.getInt("COLUMN_SIZE", 0));
+        blackhole.consume(results.getInt("DECIMAL_DIGITS", 0));
+        blackhole.consume(results.getInt("NULLABLE", 0));
+        blackhole.consume(results.getString("REMARKS"));
+        blackhole.consume(results.getString("COLUMN_DEF"));
+        blackhole.consume(results.getInt("ORDINAL_POSITION", 0));
+        blackhole.consume(results.getBoolean("IS_AUTOINCREMENT"));
+        blackhole.consume(results.getAttributes());
+      }
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+    throws SQLException
+  {
+    connection = DriverManager.getConnection("jdbc:hsqldb:mem:benchmark",
+                                             "SA",
+                                             "");
+    try (final Statement statement = connection.createStatement();)
+    {
+      statement.execute("DROP TABLE COLUMNS IF EXISTS");
+      statement.execute("CREATE TABLE COLUMNS (TABLE_CAT VARCHAR(128), "
+                        + "TABLE_SCHEM VARCHAR(128), TABLE_NAME VARCHAR(128), "
+                        + "COLUMN_NAME VARCHAR(128), DATA_TYPE INTEGER, "
+                        + "TYPE_NAME VARCHAR(128), COLUMN_SIZE INTEGER, "
+                        + "BUFFER_LENGTH INTEGER, DECIMAL_DIGITS INTEGER, "
+                        + "NUM_PREC_RADIX INTEGER, NULLABLE INTEGER, "
+                        + "REMARKS VARCHAR(254), COLUMN_DEF VARCHAR(254), "
+                        + "SQL_DATA_TYPE INTEGER, SQL_DATETIME_SUB INTEGER, "
+                        + "CHAR_OCTET_LENGTH INTEGER, ORDINAL_POSITION INTEGER, "
+                        + "IS_NULLABLE VARCHAR(3), IS_AUTOINCREMENT VARCHAR(3), "
+                        + "IS_GENERATEDCOLUMN VARCHAR(3))");
+    }
+    try (final PreparedStatement statement = connection
+      .prepareStatement("INSERT INTO COLUMNS VALUES "
+                        + "('PUBLIC', 'BOOKS', ?, ?, 12, 'VARCHAR', 255, "
+                        + "NULL, 0, 10, 1, 'Remarks', NULL, NULL, NULL, "
+                        + "255, ?, 'YES', 'NO', 'NO')");)
+    {
+      for (int i = 0; i < rows; i++)
+      {
+        statement.setString(1, "TABLE_" + i / 20);
+        statement.setString(2, "COLUMN_" + i % 20);
+        statement.setInt(3, i % 20 + 1);
+        statement.addBatch();
+      }
+      statement.executeBatch();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown()
+    throws SQLException
+  {
+    try (final Statement statement = connection.createStatement();)
+    {
+      statement.execute("SHUTDOWN");
+    }
+    connection.close();
+  }
+
+}
@@ -0,0 +1,189 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.serialization;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.utility.SchemaCrawlerUtility;
+
+/**
+ * Measures loading a catalog from an XML snapshot, and from a binary
+ * snapshot. The catalog is crawled once from a generated in-memory
+ * HyperSQL schema, shaped like a star schema, with tables that each
+ * have a primary key, indexes, and a foreign key to one of a few
+ * dimension tables. On Java 9 and later, XStream
+ * needs java.base packages to be open, so run with -jvmArgsAppend
+ * "--add-opens java.base/java.util=ALL-UNNAMED --add-opens
+ * java.base/java.lang=ALL-UNNAMED".
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SerializedCatalogBenchmark
+{
+
+  private static final int COLUMNS = 20;
+  private static final int DIMENSIONS = 10;
+
+  @Param({ "200", "1000" })
+  private int tables;
+
+  private byte[] xmlSnapshot;
+  private byte[] binarySnapshot;
+
+  @Benchmark
+  public Catalog loadBinary()
+    throws SchemaCrawlerException
+  {
+    return new BinarySerializedCatalog(new ByteArrayInputStream(binarySnapshot));
+  }
+
+  @Benchmark
+  public Catalog loadXml()
+    throws SchemaCrawlerException
+  {
+    final Reader reader = new InputStreamReader(new ByteArrayInputStream(xmlSnapshot),
+                                                UTF_8);
+    return new XmlSerializedCatalog(reader);
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+    throws Exception
+  {
+    final Catalog catalog;
+    try (final Connection connection = DriverManager
+      .getConnection("jdbc:hsqldb:mem:snapshots" + tables, "SA", "");)
+    {
+      createSchema(connection);
+      catalog = SchemaCrawlerUtility
+        .getCatalog(connection,
+                    SchemaCrawlerOptionsBuilder.withMaximumSchemaInfoLevel());
+      try (final Statement statement = connection.createStatement();)
+      {
+        statement.execute("SHUTDOWN");
+      }
+    }
+
+    final ByteArrayOutputStream xmlOut = new ByteArrayOutputStream();
+    try (final Writer writer = new OutputStreamWriter(xmlOut, UTF_8);)
+    {
+      new XmlSerializedCatalog(catalog).save(writer);
+    }
+    xmlSnapshot = xmlOut.toByteArray();
+
+    final ByteArrayOutputStream binaryOut = new ByteArrayOutputStream();
+    new BinarySerializedCatalog(catalog).save(binaryOut);
+    binarySnapshot = binaryOut.toByteArray();
+
+    System.out.printf("%nXML snapshot is %,d bytes, binary snapshot is %,d bytes%n",
+                      xmlSnapshot.length,
+                      binarySnapshot.length);
+  }
+
+  private void createSchema(final Connection connection)
+    throws SQLException
+  {
+    try (final Statement statement = connection.createStatement();)
+    {
+      statement.execute("CREATE SCHEMA FACTS AUTHORIZATION DBA");
+      for (int i = 0; i < tables; i++)
+      {
+        final StringBuilder sql = new StringBuilder();
+        sql.append(String.format("CREATE TABLE FACTS.TABLE_%04d (ID INTEGER",
+                                 i));
+        for (int j = 0; j < COLUMNS; j++)
+        {
+          sql.append(String
+            .format(", COLUMN_%02d %s",
+                    j,
+                    j % 3 == 0? "INTEGER": "VARCHAR(" + (20 + j) + ")"));
+        }
+        sql.append(", DIMENSION_ID INTEGER, CONSTRAINT PK_")
+          .append(String.format("%04d", i)).append(" PRIMARY KEY (ID)");
+        if (i >= DIMENSIONS)
+        {
+          sql.append(String
+            .format(", CONSTRAINT FK_%04d FOREIGN KEY (DIMENSION_ID) REFERENCES FACTS.TABLE_%04d (ID)",
+                    i,
+                    i % DIMENSIONS));
+        }
+        sql.append(")");
+        statement.execute(sql.toString());
+
+        statement.execute(String
+          .format("CREATE INDEX IDX_%04d_A ON FACTS.TABLE_%04d (COLUMN_00, COLUMN_01)",
+                  i,
+                  i));
+        statement.execute(String
+          .format("CREATE UNIQUE INDEX IDX_%04d_B ON FACTS.TABLE_%04d (COLUMN_02, ID)",
+                  i,
+                  i));
+        statement.execute(String
+          .format("COMMENT ON TABLE FACTS.TABLE_%04d IS 'Generated table %d'",
+                  i,
+                  i));
+      }
+    }
+  }
+
+}
@@ -0,0 +1,176 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.linter;
+
+
+import static schemacrawler.tools.lint.LintUtility.listStartsWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures redundant index detection on synthetic wide tables, such as
+ * partitions of a fact table, which have many indexes over a few dozen
+ * columns. Indexes share leading columns, and some are a prefix of, or
+ * the same as, another index. Detection with a trie of index column
+ * names is compared with comparing every pair of indexes.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedundantIndexesBenchmark
+{
+
+  private static final int TABLES = 1000;
+  private static final int COLUMNS = 40;
+  private static final int MAX_INDEX_COLUMNS = 6;
+
+  @Param({ "10", "60", "200" })
+  private int indexes;
+
+  private List<Map<String, List<String>>> tables;
+
+  @Benchmark
+  public void pairwise(final Blackhole blackhole)
+  {
+    for (final Map<String, List<String>> indexColumns: tables)
+    {
+      blackhole.consume(findRedundantIndexesPairwise(indexColumns));
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+  {
+    final Random random = new Random(indexes);
+    tables = new ArrayList<>();
+    for (int i = 0; i < TABLES; i++)
+    {
+      tables.add(makeTable(random, i));
+    }
+  }
+
+  @Benchmark
+  public void trie(final Blackhole blackhole)
+  {
+    for (final Map<String, List<String>> indexColumns: tables)
+    {
+      final IndexColumnsTrie<String> indexColumnsTrie = new IndexColumnsTrie<>();
+      for (final Entry<String, List<String>> indexColumnEntry: indexColumns
+        .entrySet())
+      {
+        indexColumnsTrie.add(indexColumnEntry.getKey(),
+                             indexColumnEntry.getValue());
+      }
+      blackhole.consume(indexColumnsTrie.getRedundantIndexes());
+    }
+  }
+
+  /**
+   * Redundant index detection before the trie was used.
+   */
+  private Set<String> findRedundantIndexesPairwise(final Map<String, List<String>> indexColumns)
+  {
+    final Set<String> redundantIndexes = new HashSet<>();
+    for (final Entry<String, List<String>> indexColumnEntry1: indexColumns
+      .entrySet())
+    {
+      for (final Entry<String, List<String>> indexColumnEntry2: indexColumns
+        .entrySet())
+      {
+        if (!indexColumnEntry1.equals(indexColumnEntry2))
+        {
+          if (listStartsWith(indexColumnEntry1.getValue(),
+                             indexColumnEntry2.getValue()))
+          {
+            redundantIndexes.add(indexColumnEntry2.getKey());
+          }
+        }
+      }
+    }
+    return redundantIndexes;
+  }
+
+  private Map<String, List<String>> makeTable(final Random random,
+                                              final int table)
+  {
+    final String tableName = String.format("FACTS.PARTITION_%04d", table);
+    final Map<String, List<String>> indexColumns = new LinkedHashMap<>();
+    for (int i = 0; i < indexes; i++)
+    {
+      final List<String> columnNames = new ArrayList<>();
+      if (i > 0 && random.nextInt(4) == 0)
+      {
+        // Start with the columns of an earlier index
+        final List<String> earlierColumns = new ArrayList<>(indexColumns
+          .get(String.format("IDX_%04d_%03d", table, random.nextInt(i))));
+        columnNames.addAll(earlierColumns
+          .subList(0, 1 + random.nextInt(earlierColumns.size())));
+      }
+      final int size = 1 + random.nextInt(MAX_INDEX_COLUMNS);
+      while (columnNames.size() < size)
+      {
+        // Leading columns are mostly the same few dimension keys
+        final int column = columnNames.isEmpty()? random.nextInt(4): random
+          .nextInt(COLUMNS);
+        columnNames.add(String.format("%s.COLUMN_%02d", tableName, column));
+      }
+      indexColumns.put(String.format("IDX_%04d_%03d", table, i),
+                       columnNames);
+    }
+    return indexColumns;
+  }
+
+}
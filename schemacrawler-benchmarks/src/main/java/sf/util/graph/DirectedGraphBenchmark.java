@@ -0,0 +1,145 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package sf.util.graph;
+
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures topological sorting and strongly connected component
+ * detection on synthetic graphs shaped like the foreign key graphs of
+ * large schemas. Each table references a few tables created before it,
+ * and long reference chains are included, so that traversal depth is
+ * in the tens of thousands. The cyclic graph also has some references
+ * back to later tables.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DirectedGraphBenchmark
+{
+
+  private static final int MAX_PARENTS = 3;
+
+  @Param({ "10000", "100000" })
+  private int tables;
+
+  private DirectedGraph<String> acyclicGraph;
+  private DirectedGraph<String> cyclicGraph;
+
+  @Benchmark
+  public void cycleDetection(final Blackhole blackhole)
+  {
+    blackhole
+      .consume(new SimpleCycleDetector<>(acyclicGraph).containsCycle());
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+  {
+    acyclicGraph = makeGraph(false);
+    cyclicGraph = makeGraph(true);
+    // Build the compact graphs up-front, since they are only built once
+    // for all algorithms run on a graph
+    acyclicGraph.compact();
+    cyclicGraph.compact();
+  }
+
+  @Benchmark
+  public void stronglyConnectedComponents(final Blackhole blackhole)
+  {
+    blackhole
+      .consume(new TarjanStronglyConnectedComponentFinder<>(cyclicGraph)
+        .detectCycles());
+  }
+
+  @Benchmark
+  public void topologicalSort(final Blackhole blackhole)
+    throws GraphException
+  {
+    blackhole
+      .consume(new SimpleTopologicalSort<>(acyclicGraph).topologicalSort());
+  }
+
+  private DirectedGraph<String> makeGraph(final boolean withCycles)
+  {
+    final Random random = new Random(tables);
+    final String[] tableNames = new String[tables];
+    for (int i = 0; i < tables; i++)
+    {
+      tableNames[i] = String.format("SCHEMA_%03d.TABLE_%06d", i % 100, i);
+    }
+
+    final DirectedGraph<String> graph = new DirectedGraph<>("benchmark");
+    for (int i = 0; i < tables; i++)
+    {
+      graph.addVertex(tableNames[i]);
+      if (i == 0)
+      {
+        continue;
+      }
+      // Every other table continues a long chain
+      if (i % 2 == 0)
+      {
+        graph.addEdge(tableNames[i - 2 < 0? 0: i - 2], tableNames[i]);
+      }
+      final int parents = random.nextInt(MAX_PARENTS);
+      for (int j = 0; j < parents; j++)
+      {
+        graph.addEdge(tableNames[random.nextInt(i)], tableNames[i]);
+      }
+      if (withCycles && random.nextInt(100) == 0)
+      {
+        graph.addEdge(tableNames[i], tableNames[random.nextInt(i)]);
+      }
+    }
+    return graph;
+  }
+
+}
@@ -0,0 +1,4 @@
+package schemacrawler.crawl.generated;
+public class MetadataResultSetBenchmark_jmhType extends MetadataResultSetBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package schemacrawler.tools.integration.serialization.generated;
+public class SerializedCatalogBenchmark_jmhType extends SerializedCatalogBenchmark_jmhType_B3 {
+}
+
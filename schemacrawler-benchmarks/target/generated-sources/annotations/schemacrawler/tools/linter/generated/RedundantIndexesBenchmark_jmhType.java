@@ -0,0 +1,4 @@
+package schemacrawler.tools.linter.generated;
+public class RedundantIndexesBenchmark_jmhType extends RedundantIndexesBenchmark_jmhType_B3 {
+}
+
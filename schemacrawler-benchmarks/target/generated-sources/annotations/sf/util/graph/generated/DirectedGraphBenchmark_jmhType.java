@@ -0,0 +1,4 @@
+package sf.util.graph.generated;
+public class DirectedGraphBenchmark_jmhType extends DirectedGraphBenchmark_jmhType_B3 {
+}
+
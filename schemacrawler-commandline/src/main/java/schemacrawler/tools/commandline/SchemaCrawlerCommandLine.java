@@ -132,6 +132,9 @@ public final class SchemaCrawlerCommandLine
 
       // Execute the command
       executable.setConnection(connection);
+      // Connection options open a new connection each time, so that
+      // per-table work can run concurrently when a pool size is set
+      executable.setDataSource(connectionOptions);
       executable.setSchemaRetrievalOptions(schemaRetrievalOptions);
       executable.execute();
     }
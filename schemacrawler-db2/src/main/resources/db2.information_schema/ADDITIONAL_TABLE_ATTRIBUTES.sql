@@ -9,4 +9,6 @@ FROM
   SYSCAT.TABLES
   INNER JOIN SYSCAT.TABLESPACES
     ON SYSCAT.TABLES.TBSPACEID = SYSCAT.TABLESPACES.TBSPACEID
+WHERE
+  ${schemafilter:LTRIM(RTRIM(SYSCAT.TABLES.TABSCHEMA))}
 WITH UR
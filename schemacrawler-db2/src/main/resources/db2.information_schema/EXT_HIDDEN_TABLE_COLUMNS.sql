@@ -7,6 +7,7 @@ FROM
   SYSCAT.COLUMNS AS COLUMNS
 WHERE
   COLUMNS.HIDDEN = 'I'
+  AND ${schemafilter:STRIP(COLUMNS.TABSCHEMA)}
 ORDER BY
   COLUMNS.TABSCHEMA,
   COLUMNS.TABNAME,
@@ -9,4 +9,5 @@ FROM
   SYSCAT.TABLES
 WHERE
   TYPE = 'A'
+  AND ${schemafilter:LTRIM(RTRIM(TABSCHEMA))}
 WITH UR
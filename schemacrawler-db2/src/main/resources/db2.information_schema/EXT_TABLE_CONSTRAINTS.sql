@@ -5,6 +5,8 @@ SELECT
   SYSCAT.CHECKS.TEXT AS CHECK_CLAUSE
 FROM
   SYSCAT.CHECKS
+WHERE
+  ${schemafilter:STRIP(SYSCAT.CHECKS.TABSCHEMA)}
 ORDER BY
   SYSCAT.CHECKS.TABSCHEMA,
   SYSCAT.CHECKS.CONSTNAME
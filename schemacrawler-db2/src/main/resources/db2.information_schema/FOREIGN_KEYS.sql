@@ -16,4 +16,7 @@ SELECT
   FK.UNIQUE_OR_PRIMARY
 FROM
   SYSIBM.SQLFOREIGNKEYS FK
+WHERE
+  ${schemafilter:FK.FKTABLE_SCHEM}
+  OR ${schemafilter:FK.PKTABLE_SCHEM}
 WITH UR
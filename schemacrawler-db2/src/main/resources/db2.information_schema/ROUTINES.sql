@@ -13,6 +13,8 @@ SELECT
     AS ROUTINE_DEFINITION
 FROM
   SYSCAT.ROUTINES
+WHERE
+  ${schemafilter:STRIP(SYSCAT.ROUTINES.ROUTINESCHEMA)}
 ORDER BY
   SYSCAT.ROUTINES.ROUTINESCHEMA,
   SYSCAT.ROUTINES.ROUTINENAME
@@ -22,6 +22,7 @@ FROM
   SYSCAT.SEQUENCES
 WHERE
   SYSCAT.SEQUENCES.ORIGIN = 'U'
+  AND ${schemafilter:STRIP(SYSCAT.SEQUENCES.SEQSCHEMA)}
 ORDER BY
   SYSCAT.SEQUENCES.SEQSCHEMA,
   SYSCAT.SEQUENCES.SEQNAME
@@ -10,6 +10,8 @@ SELECT
   STRIP(SYSIBM.TABLE_CONSTRAINTS.INITIALLY_DEFERRED) AS INITIALLY_DEFERRED
 FROM
   SYSIBM.TABLE_CONSTRAINTS
+WHERE
+  ${schemafilter:STRIP(SYSIBM.TABLE_CONSTRAINTS.TABLE_SCHEMA)}
 ORDER BY
   SYSIBM.TABLE_CONSTRAINTS.TABLE_SCHEMA,
   SYSIBM.TABLE_CONSTRAINTS.TABLE_NAME
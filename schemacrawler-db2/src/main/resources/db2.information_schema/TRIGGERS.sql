@@ -37,6 +37,7 @@ FROM
   SYSCAT.TRIGGERS
 WHERE
   STRIP(SYSCAT.TRIGGERS.VALID) = 'Y'
+  AND ${schemafilter:STRIP(SYSCAT.TRIGGERS.TRIGSCHEMA)}
 ORDER BY
   SYSCAT.TRIGGERS.TRIGSCHEMA,
   SYSCAT.TRIGGERS.TRIGNAME
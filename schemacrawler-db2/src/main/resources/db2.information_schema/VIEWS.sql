@@ -13,6 +13,8 @@ SELECT
     AS IS_UPDATABLE
 FROM
   SYSCAT.VIEWS
+WHERE
+  ${schemafilter:STRIP(SYSCAT.VIEWS.VIEWSCHEMA)}
 ORDER BY
   SYSCAT.VIEWS.VIEWSCHEMA,
   SYSCAT.VIEWS.VIEWNAME,
@@ -0,0 +1,15 @@
+SELECT
+  *
+FROM
+  INFORMATION_SCHEMA.SYSTEM_CROSSREFERENCE
+WHERE
+  (${schemafilter:FKTABLE_CAT || '.' || FKTABLE_SCHEM} AND REGEXP_MATCHES(FKTABLE_CAT || '.' || FKTABLE_SCHEM, '${schemas}'))
+  OR (${schemafilter:PKTABLE_CAT || '.' || PKTABLE_SCHEM} AND REGEXP_MATCHES(PKTABLE_CAT || '.' || PKTABLE_SCHEM, '${schemas}'))
+ORDER BY
+  FKTABLE_CAT,
+  FKTABLE_SCHEM,
+  FKTABLE_NAME,
+  PKTABLE_CAT,
+  PKTABLE_SCHEM,
+  PKTABLE_NAME,
+  KEY_SEQ
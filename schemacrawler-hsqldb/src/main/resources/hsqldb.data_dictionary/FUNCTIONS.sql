@@ -0,0 +1,13 @@
+SELECT
+  SP.PROCEDURE_CAT AS FUNCTION_CAT,
+  SP.PROCEDURE_SCHEM AS FUNCTION_SCHEM,
+  SP.PROCEDURE_NAME AS FUNCTION_NAME,
+  SP.REMARKS AS REMARKS,
+  1 AS FUNCTION_TYPE,
+  SP.SPECIFIC_NAME AS SPECIFIC_NAME
+FROM
+  INFORMATION_SCHEMA.SYSTEM_PROCEDURES SP
+WHERE
+  SP.PROCEDURE_TYPE = 2
+  AND ${schemafilter:SP.PROCEDURE_CAT || '.' || SP.PROCEDURE_SCHEM}
+  AND REGEXP_MATCHES(SP.PROCEDURE_CAT || '.' || SP.PROCEDURE_SCHEM, '${schemas}')
@@ -0,0 +1,49 @@
+SELECT
+  PC.PROCEDURE_CAT AS FUNCTION_CAT,
+  PC.PROCEDURE_SCHEM AS FUNCTION_SCHEM,
+  PC.PROCEDURE_NAME AS FUNCTION_NAME,
+  PC.COLUMN_NAME AS COLUMN_NAME,
+  CASE PC.COLUMN_TYPE
+    WHEN 3 THEN 5
+    WHEN 4 THEN 3
+    WHEN 5 THEN 4
+    ELSE PC.COLUMN_TYPE
+  END AS COLUMN_TYPE,
+  PC.DATA_TYPE,
+  PC.TYPE_NAME,
+  PC.PRECISION,
+  PC.LENGTH,
+  PC.SCALE,
+  PC.RADIX,
+  PC.NULLABLE,
+  PC.REMARKS,
+  PC.CHAR_OCTET_LENGTH,
+  PC.ORDINAL_POSITION,
+  PC.IS_NULLABLE,
+  PC.SPECIFIC_NAME,
+  CASE PC.COLUMN_TYPE
+    WHEN 3 THEN 1
+    ELSE 0
+  END AS COLUMN_GROUP
+FROM
+  INFORMATION_SCHEMA.SYSTEM_PROCEDURECOLUMNS PC
+  INNER JOIN
+  (
+    SELECT
+      PROCEDURE_SCHEM,
+      PROCEDURE_NAME,
+      SPECIFIC_NAME
+    FROM
+      INFORMATION_SCHEMA.SYSTEM_PROCEDURES
+    WHERE
+      PROCEDURE_TYPE = 2
+  ) P
+  ON PC.PROCEDURE_SCHEM = P.PROCEDURE_SCHEM
+    AND PC.PROCEDURE_NAME = P.PROCEDURE_NAME
+    AND PC.SPECIFIC_NAME = P.SPECIFIC_NAME
+    AND ((PC.COLUMN_TYPE = 3 AND PC.COLUMN_NAME = '@p0') OR (PC.COLUMN_TYPE <> 3))
+WHERE
+  ${schemafilter:PC.PROCEDURE_CAT || '.' || PC.PROCEDURE_SCHEM}
+  AND REGEXP_MATCHES(PC.PROCEDURE_CAT || '.' || PC.PROCEDURE_SCHEM, '${schemas}')
+ORDER BY
+  1, 2, 3, 17, 18, 15
@@ -0,0 +1,15 @@
+SELECT
+  *
+FROM
+  INFORMATION_SCHEMA.SYSTEM_INDEXINFO
+WHERE
+  ${schemafilter:TABLE_CAT || '.' || TABLE_SCHEM}
+  AND REGEXP_MATCHES(TABLE_CAT || '.' || TABLE_SCHEM, '${schemas}')
+ORDER BY
+  TABLE_CAT,
+  TABLE_SCHEM,
+  TABLE_NAME,
+  NON_UNIQUE,
+  TYPE,
+  INDEX_NAME,
+  ORDINAL_POSITION
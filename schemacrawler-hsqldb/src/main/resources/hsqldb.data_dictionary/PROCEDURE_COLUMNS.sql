@@ -0,0 +1,7 @@
+SELECT
+  *
+FROM
+  INFORMATION_SCHEMA.SYSTEM_PROCEDURECOLUMNS
+WHERE
+  ${schemafilter:PROCEDURE_CAT || '.' || PROCEDURE_SCHEM}
+  AND REGEXP_MATCHES(PROCEDURE_CAT || '.' || PROCEDURE_SCHEM, '${schemas}')
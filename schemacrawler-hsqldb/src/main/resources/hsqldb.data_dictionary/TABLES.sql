@@ -0,0 +1,12 @@
+SELECT
+  *
+FROM
+  INFORMATION_SCHEMA.SYSTEM_TABLES
+WHERE
+  ${schemafilter:TABLE_CAT || '.' || TABLE_SCHEM}
+  AND REGEXP_MATCHES(TABLE_CAT || '.' || TABLE_SCHEM, '${schemas}')
+ORDER BY
+  TABLE_TYPE,
+  TABLE_CAT,
+  TABLE_SCHEM,
+  TABLE_NAME
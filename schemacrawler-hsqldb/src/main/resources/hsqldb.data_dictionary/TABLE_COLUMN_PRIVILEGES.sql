@@ -0,0 +1,14 @@
+SELECT
+  TABLE_CATALOG AS TABLE_CAT,
+  TABLE_SCHEMA AS TABLE_SCHEM,
+  TABLE_NAME,
+  COLUMN_NAME,
+  GRANTOR,
+  GRANTEE,
+  PRIVILEGE_TYPE AS PRIVILEGE,
+  IS_GRANTABLE
+FROM
+  INFORMATION_SCHEMA.COLUMN_PRIVILEGES
+WHERE
+  ${schemafilter:TABLE_CATALOG || '.' || TABLE_SCHEMA}
+  AND REGEXP_MATCHES(TABLE_CATALOG || '.' || TABLE_SCHEMA, '${schemas}')
@@ -0,0 +1,163 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.integration.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static sf.util.DatabaseUtility.checkConnection;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import schemacrawler.crawl.MetadataRetrievalStrategy;
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Privilege;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineColumn;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.server.hsqldb.HyperSQLDatabaseConnector;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class TestHsqldbDataDictionary
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void dataDictionaryMatchesMetadata()
+    throws Exception
+  {
+    final Connection connection = checkConnection(getConnection());
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptionsBuilder()
+      .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum().toOptions())
+      .includeAllRoutines().toOptions();
+
+    final SchemaRetrievalOptions metadataRetrievalOptions = new HyperSQLDatabaseConnector()
+      .getSchemaRetrievalOptionsBuilder(connection).toOptions();
+    assertEquals(MetadataRetrievalStrategy.metadata,
+                 metadataRetrievalOptions.getTableRetrievalStrategy());
+    final Catalog metadataCatalog = new SchemaCrawler(connection,
+                                                      metadataRetrievalOptions,
+                                                      schemaCrawlerOptions)
+                                                        .crawl();
+
+    final Config config = new Config();
+    config.put("schemacrawler.schema.retrieval.data_dictionary",
+               "/hsqldb.data_dictionary");
+    for (final String strategy: Arrays
+      .asList("tables",
+              "tablecolumns",
+              "primarykeys",
+              "indexes",
+              "foreignkeys",
+              "procedures",
+              "functions",
+              "procedurecolumns",
+              "functioncolumns",
+              "tableprivileges",
+              "tablecolumnprivileges"))
+    {
+      config.put("schemacrawler.schema.retrieval.strategy." + strategy,
+                 MetadataRetrievalStrategy.data_dictionary_all.name());
+    }
+    final SchemaRetrievalOptions dataDictionaryRetrievalOptions = new HyperSQLDatabaseConnector()
+      .getSchemaRetrievalOptionsBuilder(connection).fromConfig(config)
+      .toOptions();
+    assertEquals(MetadataRetrievalStrategy.data_dictionary_all,
+                 dataDictionaryRetrievalOptions
+                   .getProcedureColumnRetrievalStrategy());
+    final Catalog dataDictionaryCatalog = new SchemaCrawler(connection,
+                                                            dataDictionaryRetrievalOptions,
+                                                            schemaCrawlerOptions)
+                                                              .crawl();
+
+    final List<String> metadataObjects = describe(metadataCatalog);
+    assertTrue("No routines found", metadataCatalog.getRoutines().size() > 0);
+    assertEquals(metadataObjects, describe(dataDictionaryCatalog));
+  }
+
+  private List<String> describe(final Catalog catalog)
+  {
+    final List<String> objects = new ArrayList<>();
+    for (final Table table: catalog.getTables())
+    {
+      objects.add(table.getFullName() + " " + table.getTableType());
+      for (final Column column: table.getColumns())
+      {
+        objects.add(String.format("%s %s %d pk=%b fk=%b index=%b",
+                                  column.getFullName(),
+                                  column.getColumnDataType().getFullName(),
+                                  column.getOrdinalPosition(),
+                                  column.isPartOfPrimaryKey(),
+                                  column.isPartOfForeignKey(),
+                                  column.isPartOfIndex()));
+      }
+      objects.add(String.valueOf(table.getPrimaryKey()));
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        objects.add(foreignKey.getFullName() + " "
+                    + foreignKey.getColumnReferences());
+      }
+      for (final Index index: table.getIndexes())
+      {
+        objects.add(index.getFullName() + " " + index.getColumns());
+      }
+      for (final Privilege<Table> privilege: table.getPrivileges())
+      {
+        objects.add(privilege.getFullName() + " " + privilege.getGrants());
+      }
+    }
+    for (final Routine routine: catalog.getRoutines())
+    {
+      objects.add(routine.getFullName() + " " + routine.getRoutineType());
+      for (final RoutineColumn<?> column: routine.getColumns())
+      {
+        objects.add(String.format("%s %s %d",
+                                  column.getFullName(),
+                                  column.getColumnDataType().getFullName(),
+                                  column.getOrdinalPosition()));
+      }
+    }
+    return objects;
+  }
+
+}
@@ -45,6 +45,8 @@ import schemacrawler.schemacrawler.SchemaCrawlerCommandLineException;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.analysis.associations.CatalogWithAssociations;
 import schemacrawler.tools.analysis.counts.CatalogWithCounts;
+import schemacrawler.tools.analysis.counts.CountOptions;
+import schemacrawler.tools.analysis.counts.CountOptionsBuilder;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.options.OutputOptionsBuilder;
@@ -90,9 +92,14 @@ public final class GraphRenderer
     if (graphOptions.isShowRowCounts()
         || schemaCrawlerOptions.isHideEmptyTables())
     {
+      final CountOptions countOptions = new CountOptionsBuilder()
+        .fromConfig(additionalConfiguration).toOptions();
       aCatalog = new CatalogWithCounts(aCatalog,
                                        connection,
-                                       schemaCrawlerOptions);
+                                       dataSource,
+                                       informationSchemaViews,
+                                       schemaCrawlerOptions,
+                                       countOptions);
     }
 
     final GraphOutputFormat graphOutputFormat = GraphOutputFormat
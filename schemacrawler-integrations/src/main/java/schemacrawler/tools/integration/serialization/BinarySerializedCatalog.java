@@ -0,0 +1,154 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.integration.serialization;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import schemacrawler.crawl.CatalogSnapshotReader;
+import schemacrawler.crawl.CatalogSnapshotWriter;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.BaseCatalogDecorator;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+
+/**
+ * Decorates a database to allow for serialization to and from a compact
+ * binary snapshot. A binary snapshot holds a string table for names,
+ * integer references between objects, and the fields of objects of the
+ * same class, such as columns, indexes and foreign keys, written column
+ * by column. Each kind of object is written and read explicitly, and
+ * the catalog is rebuilt with the same methods that are used when
+ * crawling a database. It is much faster to load than an XML snapshot.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class BinarySerializedCatalog
+  extends BaseCatalogDecorator
+{
+
+  private static final long serialVersionUID = -2614530853722393817L;
+
+  /**
+   * Checks whether a file is a binary catalog snapshot, from the magic
+   * number at the start of the file.
+   *
+   * @param file
+   *        File to check
+   * @return Whether the file is a binary catalog snapshot
+   * @throws IOException
+   *         On an exception
+   */
+  public static boolean isBinarySerializedCatalog(final Path file)
+    throws IOException
+  {
+    requireNonNull(file, "No file provided");
+    if (!Files.isRegularFile(file))
+    {
+      return false;
+    }
+
+    try (final InputStream in = Files.newInputStream(file);)
+    {
+      return CatalogSnapshotReader.isCatalogSnapshot(in);
+    }
+  }
+
+  private static Catalog readCatalog(final InputStream in)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(in, "Input stream not provided");
+    try
+    {
+      return new CatalogSnapshotReader().read(in);
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException("Could not read binary snapshot", e);
+    }
+  }
+
+  public BinarySerializedCatalog(final Catalog catalog)
+  {
+    super(catalog);
+  }
+
+  public BinarySerializedCatalog(final InputStream in)
+    throws SchemaCrawlerException
+  {
+    this(readCatalog(in));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public final <T> T getAttribute(final String name)
+  {
+    return getAttribute(name, (T) null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public final <T> Optional<T> lookupAttribute(final String name)
+  {
+    return Optional.ofNullable(getAttribute(name));
+  }
+
+  /**
+   * Serializes the database to the output stream, as a binary snapshot.
+   *
+   * @param out
+   *        Output stream to save to
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public void save(final OutputStream out)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(out, "Output stream not provided");
+    try
+    {
+      new CatalogSnapshotWriter(catalog).write(out);
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException("Could not write binary snapshot", e);
+    }
+  }
+
+}
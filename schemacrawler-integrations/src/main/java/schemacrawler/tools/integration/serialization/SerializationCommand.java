@@ -30,14 +30,17 @@ package schemacrawler.tools.integration.serialization;
 
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.file.Files;
 
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.options.OutputOptionsBuilder;
 
 /**
- * Main executor for the graphing integration.
+ * Main executor for the serialization integration, which saves the
+ * catalog as an offline snapshot, in XML or binary format.
  *
  * @author Sualeh Fatehi
  */
@@ -46,6 +49,11 @@ public final class SerializationCommand
 {
 
   static final String COMMAND = "serialize";
+  /**
+   * Output format for binary snapshots, which are faster to load.
+   * Compressed XML snapshots are written for any other output format.
+   */
+  static final String BINARY_FORMAT = "binary";
 
   public SerializationCommand()
   {
@@ -66,12 +74,24 @@ public final class SerializationCommand
   {
     // Null checks are done before execution
 
-    final SerializableCatalog serializableCatalog = new XmlSerializedCatalog(catalog);
-    // Force output to a compressed file
-    outputOptions = forceCompressedFileOutput();
-    try (final Writer writer = outputOptions.openNewOutputWriter();)
+    if (BINARY_FORMAT.equalsIgnoreCase(outputOptions.getOutputFormatValue()))
+    {
+      final BinarySerializedCatalog binaryCatalog = new BinarySerializedCatalog(catalog);
+      try (final OutputStream out = Files
+        .newOutputStream(outputOptions.getOutputFile());)
+      {
+        binaryCatalog.save(out);
+      }
+    }
+    else
     {
-      serializableCatalog.save(writer);
+      final SerializableCatalog serializableCatalog = new XmlSerializedCatalog(catalog);
+      // Force output to a compressed file
+      outputOptions = forceCompressedFileOutput();
+      try (final Writer writer = outputOptions.openNewOutputWriter();)
+      {
+        serializableCatalog.save(writer);
+      }
     }
   }
 
@@ -33,6 +33,7 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -105,8 +106,7 @@ public final class XmlSerializedCatalog
         @Override
         public boolean canConvert(final Class type)
         {
-          return type != null
-                 && LocalDateTime.class.getPackage().equals(type.getPackage());
+          return LocalDateTime.class.equals(type);
         }
 
         @Override
@@ -128,6 +128,35 @@ public final class XmlSerializedCatalog
           return source.toString();
         }
 
+      }, 5000);
+      xStream.registerConverter(new AbstractSingleValueConverter()
+      {
+
+        @Override
+        public boolean canConvert(final Class type)
+        {
+          return Duration.class.equals(type);
+        }
+
+        @Override
+        public Object fromString(final String str)
+        {
+          try
+          {
+            return Duration.parse(str);
+          }
+          catch (final Exception e)
+          {
+            return Duration.ZERO;
+          }
+        }
+
+        @Override
+        public String toString(final Object source)
+        {
+          return source.toString();
+        }
+
       }, 5000);
       xStream.registerConverter(new CollectionConverter(xStream.getMapper())
       {
@@ -29,15 +29,21 @@ http://www.gnu.org/licenses/
 package schemacrawler.integration.test;
 
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.nio.file.Files;
@@ -47,9 +53,12 @@ import org.junit.Test;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.integration.serialization.BinarySerializedCatalog;
 import schemacrawler.tools.integration.serialization.XmlSerializedCatalog;
 import sf.util.IOUtility;
 
@@ -57,6 +66,109 @@ public class SchemaSerializationTest
   extends BaseDatabaseTest
 {
 
+  @Test
+  public void schemaSerializationWithBinary()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .withMaximumSchemaInfoLevel();
+
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+    assertNotNull("Could not obtain catalog", catalog);
+    assertTrue("Could not find any schemas", catalog.getSchemas().size() > 0);
+
+    final Path testOutputFile = IOUtility
+      .createTempFilePath("sc_binary_serialization", "ser");
+    try (final OutputStream out = Files.newOutputStream(testOutputFile);)
+    {
+      new BinarySerializedCatalog(catalog).save(out);
+    }
+    assertTrue("Catalog was not serialized",
+               BinarySerializedCatalog.isBinarySerializedCatalog(testOutputFile));
+
+    final Catalog deserializedCatalog;
+    try (final InputStream in = Files.newInputStream(testOutputFile);)
+    {
+      deserializedCatalog = new BinarySerializedCatalog(in);
+    }
+
+    assertEquals("Unexpected number of schemas",
+                 catalog.getSchemas().size(),
+                 deserializedCatalog.getSchemas().size());
+    assertEquals("Unexpected number of routines",
+                 catalog.getRoutines().size(),
+                 deserializedCatalog.getRoutines().size());
+    assertEquals("Unexpected number of tables",
+                 catalog.getTables().size(),
+                 deserializedCatalog.getTables().size());
+    for (final Table table: catalog.getTables())
+    {
+      final Table deserializedTable = deserializedCatalog
+        .lookupTable(table.getSchema(), table.getName()).orElse(null);
+      assertNotNull("Could not find table " + table, deserializedTable);
+      assertEquals("Unexpected columns for " + table,
+                   table.getColumns().toString(),
+                   deserializedTable.getColumns().toString());
+      assertEquals("Unexpected indexes for " + table,
+                   table.getIndexes().toString(),
+                   deserializedTable.getIndexes().toString());
+      assertEquals("Unexpected foreign keys for " + table,
+                   table.getForeignKeys().toString(),
+                   deserializedTable.getForeignKeys().toString());
+    }
+  }
+
+  @Test
+  public void binarySnapshotWithCorruptCount()
+    throws Exception
+  {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    bytes.write("SCSNAP".getBytes(UTF_8));
+    // Version, and a count of a billion strings
+    bytes.write(new byte[] {
+                             2,
+                             (byte) 0x80,
+                             (byte) 0x94,
+                             (byte) 0xEB,
+                             (byte) 0xDC,
+                             0x03 });
+
+    try
+    {
+      new BinarySerializedCatalog(new ByteArrayInputStream(bytes
+        .toByteArray()));
+      fail("Snapshot with a corrupt count was read");
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      assertTrue("Unexpected exception " + e.getCause(),
+                 e.getCause().getMessage()
+                   .contains("Cannot read 1000000000 strings"));
+    }
+  }
+
+  @Test
+  public void binarySnapshotWithUnsupportedVersion()
+    throws Exception
+  {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    bytes.write("SCSNAP".getBytes(UTF_8));
+    bytes.write(new byte[] { 1, 0 });
+
+    try
+    {
+      new BinarySerializedCatalog(new ByteArrayInputStream(bytes
+        .toByteArray()));
+      fail("Snapshot with an unsupported version was read");
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      assertTrue("Unexpected exception " + e.getCause(),
+                 e.getCause().getMessage()
+                   .contains("snapshot format version 1"));
+    }
+  }
+
   @Test
   public void schemaSerializationWithJava()
     throws Exception
@@ -33,15 +33,18 @@ import static java.util.Objects.requireNonNull;
 import java.io.Serializable;
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 
 import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.IncludeAll;
 import schemacrawler.schemacrawler.InclusionRule;
@@ -67,6 +70,9 @@ public abstract class BaseLinter
   private InclusionRule tableInclusionRule;
   private InclusionRule columnInclusionRule;
   private TableTypesFilter tableTypesFilter;
+  private TableLintView tableLintView;
+  private LintCache lintCache;
+  private boolean isReusedLints;
 
   protected BaseLinter()
   {
@@ -103,24 +109,39 @@ public abstract class BaseLinter
   {
   }
 
-  protected final List<Column> getColumns(final Table table)
+  /**
+   * Column names of the primary key and all indexes of a table. For the
+   * table being linted, the column names are shared with other linters.
+   *
+   * @param table
+   *        Table
+   * @return Unmodifiable collection of index column names
+   */
+  protected final Collection<List<String>> getAllIndexColumnNames(final Table table)
   {
     if (table == null)
     {
       return Collections.emptyList();
     }
+    return getTableLintView(table).getAllIndexColumnNames();
+  }
 
-    final List<Column> columns = new ArrayList<>(table.getColumns());
-    for (final Iterator<Column> iterator = columns.iterator(); iterator
-      .hasNext();)
+  /**
+   * Columns of a table that are included by the column inclusion rule
+   * for this linter.
+   *
+   * @param table
+   *        Table
+   * @return List of included columns, which the linter may modify
+   */
+  protected final List<Column> getColumns(final Table table)
+  {
+    if (table == null)
     {
-      final Column column = iterator.next();
-      if (!includeColumn(column))
-      {
-        iterator.remove();
-      }
+      return Collections.emptyList();
     }
-    return columns;
+    return new ArrayList<>(getTableLintView(table)
+      .getColumns(columnInclusionRule));
   }
 
   protected final CrawlInfo getCrawlInfo()
@@ -128,6 +149,40 @@ public abstract class BaseLinter
     return catalog.getCrawlInfo();
   }
 
+  /**
+   * Column names of the imported foreign keys of a table. For the table
+   * being linted, the column names are shared with other linters.
+   *
+   * @param table
+   *        Table
+   * @return Unmodifiable map of foreign key column names, by foreign key
+   */
+  protected final Map<ForeignKey, List<String>> getForeignKeyColumnNames(final Table table)
+  {
+    if (table == null)
+    {
+      return Collections.emptyMap();
+    }
+    return getTableLintView(table).getForeignKeyColumnNames();
+  }
+
+  /**
+   * Column names of the indexes of a table. For the table being linted,
+   * the column names are shared with other linters.
+   *
+   * @param table
+   *        Table
+   * @return Unmodifiable map of index column names, by index
+   */
+  protected final Map<Index, List<String>> getIndexColumnNames(final Table table)
+  {
+    if (table == null)
+    {
+      return Collections.emptyMap();
+    }
+    return getTableLintView(table).getIndexColumnNames();
+  }
+
   protected final TableTypesFilter getTableTypesFilter()
   {
     return tableTypesFilter;
@@ -174,30 +229,149 @@ public abstract class BaseLinter
     }
   }
 
+  /**
+   * Ends linting, after all the tables have been linted.
+   */
+  final void endLint(final Connection connection)
+    throws SchemaCrawlerException
+  {
+    if (isReusedLints)
+    {
+      isReusedLints = false;
+    }
+    else
+    {
+      end(connection);
+      if (lintCache != null
+          && getLintCacheScope() == LintCacheScope.foreign_keys)
+      {
+        lintCache.saveLints(this,
+                            lintCache.getForeignKeysFingerprint(catalog),
+                            stopRecordingLints());
+      }
+    }
+    catalog = null;
+  }
+
   @Override
   final void lint(final Catalog catalog, final Connection connection)
     throws SchemaCrawlerException
   {
-    this.catalog = requireNonNull(catalog, "No catalog provided");
-
-    start(connection);
+    startLint(catalog, connection);
     for (final Table table: catalog.getTables())
     {
-      if (tableInclusionRule.test(table.getFullName())
-          && tableTypesFilter.test(table))
+      lintTable(new TableLintView(table), connection);
+    }
+    endLint(connection);
+  }
+
+  /**
+   * Lints a single table, if it is included for this linter. This is
+   * the per-table callback for a single pass over the catalog, and
+   * adapts to {@link #lint(Table, Connection)}.
+   *
+   * @param tableLintView
+   *        Table to lint, with derived views that can be shared with
+   *        other linters
+   */
+  final void lintTable(final TableLintView tableLintView,
+                       final Connection connection)
+    throws SchemaCrawlerException
+  {
+    if (isReusedLints)
+    {
+      return;
+    }
+
+    final Table table = tableLintView.getTable();
+    if (tableInclusionRule.test(table.getFullName())
+        && tableTypesFilter.test(table))
+    {
+      final boolean useLintCache = lintCache != null
+                                   && getLintCacheScope() == LintCacheScope.table;
+      if (useLintCache && lintCache
+        .reuseLints(this, catalog, tableLintView.getFingerprint()))
+      {
+        return;
+      }
+
+      this.tableLintView = tableLintView;
+      try
       {
+        if (useLintCache)
+        {
+          startRecordingLints();
+        }
         lint(table, connection);
+        if (useLintCache)
+        {
+          lintCache.saveLints(this,
+                              tableLintView.getFingerprint(),
+                              stopRecordingLints());
+        }
       }
-      else
+      finally
       {
-        LOGGER.log(Level.FINE,
-                   new StringFormat("Excluding table %s for lint %s",
-                                    table,
-                                    getLinterId()));
+        if (useLintCache)
+        {
+          stopRecordingLints();
+        }
+        this.tableLintView = null;
       }
     }
-    end(connection);
-    this.catalog = null;
+    else
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Excluding table %s for lint %s",
+                                  table,
+                                  getLinterId()));
+    }
+  }
+
+  /**
+   * Sets a cache of lints from earlier runs, which is used if this
+   * linter has a lint cache scope.
+   *
+   * @param lintCache
+   *        Lint cache, or null to not use a cache
+   */
+  final void setLintCache(final LintCache lintCache)
+  {
+    this.lintCache = lintCache;
+  }
+
+  /**
+   * Starts linting, before any tables are linted.
+   */
+  final void startLint(final Catalog catalog, final Connection connection)
+    throws SchemaCrawlerException
+  {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    isReusedLints = false;
+    if (lintCache != null
+        && getLintCacheScope() == LintCacheScope.foreign_keys)
+    {
+      isReusedLints = lintCache
+        .reuseLints(this, catalog, lintCache.getForeignKeysFingerprint(catalog));
+      if (isReusedLints)
+      {
+        return;
+      }
+      startRecordingLints();
+    }
+    start(connection);
+  }
+
+  private TableLintView getTableLintView(final Table table)
+  {
+    if (tableLintView != null && tableLintView.getTable() == table)
+    {
+      return tableLintView;
+    }
+    else
+    {
+      return new TableLintView(table);
+    }
   }
 
   private final void setColumnInclusionRule(final InclusionRule columnInclusionRule)
@@ -0,0 +1,748 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.lint;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Table;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Persistent cache of lints, so that lints for tables that have not
+ * changed since the last run can be reused, rather than found again.
+ * Lints are keyed by the linter configuration, and a fingerprint of
+ * what the lints depend on, which is the structure of a table, or the
+ * foreign key relationships between all the tables, depending on the
+ * lint cache scope of the linter. Lint values that refer to catalog
+ * objects, such as columns and indexes, are saved as references by
+ * name, and looked up again in the current catalog. Only the lints used
+ * in the current run are saved, so that the cache does not grow without
+ * bounds.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class LintCache
+{
+
+  /**
+   * Lint saved in the cache.
+   */
+  private static final class CachedLint
+    implements Serializable
+  {
+
+    private static final long serialVersionUID = -2465383426718211423L;
+
+    private final String objectName;
+    private final String message;
+    private final Serializable value;
+
+    CachedLint(final String objectName,
+               final String message,
+               final Serializable value)
+    {
+      this.objectName = objectName;
+      this.message = message;
+      this.value = value;
+    }
+
+  }
+
+  /**
+   * Reference to a catalog object that is a lint value, by name.
+   */
+  private static final class ObjectReference
+    implements Serializable
+  {
+
+    private static final long serialVersionUID = 4308826187290526521L;
+
+    private final char type;
+    private final String tableName;
+    private final String name;
+
+    ObjectReference(final char type, final String tableName, final String name)
+    {
+      this.type = type;
+      this.tableName = tableName;
+      this.name = name;
+    }
+
+  }
+
+  /**
+   * Reads a cache file, resolving only the classes that the cache
+   * saves, so that a cache file cannot create any other objects.
+   */
+  private static final class CacheInputStream
+    extends ObjectInputStream
+  {
+
+    CacheInputStream(final InputStream in)
+      throws IOException
+    {
+      super(in);
+    }
+
+    @Override
+    protected Class<?> resolveClass(final ObjectStreamClass classDescriptor)
+      throws IOException, ClassNotFoundException
+    {
+      final String className = classDescriptor.getName();
+      if (CACHE_CLASS_NAMES.contains(className))
+      {
+        return super.resolveClass(classDescriptor);
+      }
+      // Enum values are saved by name, so the class is loaded but not
+      // initialized before it is checked
+      final Class<?> type = super.resolveClass(classDescriptor);
+      if (type.isEnum())
+      {
+        return type;
+      }
+      throw new InvalidClassException(className,
+                                      "Not allowed in a lint cache");
+    }
+
+    @Override
+    protected Class<?> resolveProxyClass(final String[] interfaces)
+      throws IOException
+    {
+      throw new InvalidClassException(Arrays.toString(interfaces),
+                                      "Not allowed in a lint cache");
+    }
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(LintCache.class.getName());
+
+  private static final int VERSION = 1;
+  private static final Object NOT_FOUND = new Object();
+
+  private static final Set<Class<?>> NUMBER_CLASSES = new HashSet<>(Arrays
+    .asList(Byte.class,
+            Short.class,
+            Integer.class,
+            Long.class,
+            Float.class,
+            Double.class,
+            BigInteger.class,
+            BigDecimal.class));
+  private static final Set<String> CACHE_CLASS_NAMES = cacheClassNames();
+
+  /**
+   * Fingerprint of the structure of a table, including columns, data
+   * types, primary key, indexes, foreign keys and remarks.
+   *
+   * @param table
+   *        Table
+   * @return Fingerprint of the table
+   */
+  static String tableFingerprint(final Table table)
+  {
+    requireNonNull(table, "No table provided");
+
+    final StringBuilder buffer = new StringBuilder(1024);
+    buffer.append("table ").append(table.getFullName()).append(';')
+      .append(table.getClass().getSimpleName()).append(';')
+      .append(table.getTableType()).append(';').append(table.getRemarks())
+      .append('\n');
+    for (final Column column: table.getColumns())
+    {
+      appendColumn(buffer.append("column "), column);
+    }
+    final PrimaryKey primaryKey = table.getPrimaryKey();
+    if (primaryKey != null)
+    {
+      appendIndex(buffer.append("primary key "), primaryKey);
+    }
+    for (final Index index: table.getIndexes())
+    {
+      appendIndex(buffer.append("index "), index);
+    }
+    for (final ForeignKey foreignKey: table.getForeignKeys())
+    {
+      buffer.append("foreign key ").append(foreignKey.getName()).append('\n');
+      for (final ForeignKeyColumnReference columnReference: foreignKey)
+      {
+        appendColumn(buffer.append("  primary key column "),
+                     columnReference.getPrimaryKeyColumn());
+        appendColumn(buffer.append("  foreign key column "),
+                     columnReference.getForeignKeyColumn());
+      }
+    }
+    return digest(buffer);
+  }
+
+  private static void appendColumn(final StringBuilder buffer,
+                                   final Column column)
+  {
+    buffer.append(column.getFullName()).append(';')
+      .append(column.getOrdinalPosition()).append(';');
+    if (column.getColumnDataType() != null)
+    {
+      buffer.append(column.getColumnDataType().getDatabaseSpecificTypeName())
+        .append(';').append(column.getColumnDataType().getJavaSqlType())
+        .append(';');
+    }
+    buffer.append(column.getSize()).append(';')
+      .append(column.getDecimalDigits()).append(';')
+      .append(column.isNullable()).append(';')
+      .append(column.getDefaultValue()).append(';')
+      .append(column.isAutoIncremented()).append(';')
+      .append(column.isGenerated()).append(';')
+      .append(column.isHidden()).append(';').append(column.getRemarks())
+      .append('\n');
+  }
+
+  private static void appendIndex(final StringBuilder buffer,
+                                  final Index index)
+  {
+    buffer.append(index.getName()).append(';').append(index.isUnique())
+      .append(';').append(index.getIndexType()).append('\n');
+    for (final IndexColumn indexColumn: index.getColumns())
+    {
+      buffer.append("  ").append(indexColumn.getFullName()).append(';')
+        .append(indexColumn.getSortSequence()).append('\n');
+    }
+  }
+
+  private static Set<String> cacheClassNames()
+  {
+    final Set<String> cacheClassNames = new HashSet<>();
+    for (final Class<?> type: Arrays.asList(CachedLint.class,
+                                            ObjectReference.class,
+                                            HashMap.class,
+                                            ArrayList.class,
+                                            Boolean.class,
+                                            Character.class,
+                                            Number.class,
+                                            Enum.class,
+                                            byte[].class))
+    {
+      cacheClassNames.add(type.getName());
+    }
+    for (final Class<?> type: NUMBER_CLASSES)
+    {
+      cacheClassNames.add(type.getName());
+    }
+    return cacheClassNames;
+  }
+
+  private static String digest(final CharSequence text)
+  {
+    try
+    {
+      final MessageDigest messageDigest = MessageDigest
+        .getInstance("SHA-256");
+      final byte[] digest = messageDigest.digest(text.toString()
+        .getBytes(UTF_8));
+      final StringBuilder hex = new StringBuilder(digest.length * 2);
+      for (final byte b: digest)
+      {
+        hex.append(String.format("%02x", b));
+      }
+      return hex.toString();
+    }
+    catch (final NoSuchAlgorithmException e)
+    {
+      // Every Java platform supports SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Saves a lint value, with references to catalog objects by name.
+   *
+   * @return Value to save, or null if the value cannot be saved
+   */
+  private static Serializable encodeValue(final String objectName,
+                                          final Object value)
+  {
+    if (value == null || value instanceof String
+        || NUMBER_CLASSES.contains(value.getClass())
+        || value instanceof Boolean || value instanceof Character
+        || value instanceof Enum)
+    {
+      return (Serializable) value;
+    }
+    else if (value instanceof Table)
+    {
+      return new ObjectReference('T', ((Table) value).getFullName(), null);
+    }
+    else if (value instanceof Column
+             && ((Column) value).getParent() instanceof Table)
+    {
+      final Column column = (Column) value;
+      return new ObjectReference('C',
+                                 column.getParent().getFullName(),
+                                 column.getName());
+    }
+    else if (value instanceof Index)
+    {
+      final Index index = (Index) value;
+      return new ObjectReference('I',
+                                 index.getParent().getFullName(),
+                                 index.getName());
+    }
+    else if (value instanceof ForeignKey)
+    {
+      // Foreign keys are looked up from the table that was linted
+      return new ObjectReference('F',
+                                 objectName,
+                                 ((ForeignKey) value).getName());
+    }
+    else if (value instanceof List)
+    {
+      final ArrayList<Serializable> values = new ArrayList<>();
+      for (final Object listValue: (List<?>) value)
+      {
+        final Serializable encodedValue = encodeValue(objectName, listValue);
+        if (encodedValue == null && listValue != null)
+        {
+          return null;
+        }
+        values.add(encodedValue);
+      }
+      return values;
+    }
+    else
+    {
+      return null;
+    }
+  }
+
+  private final Path cacheFile;
+  private final Map<String, List<CachedLint>> cachedLints;
+  private final Map<String, List<CachedLint>> usedLints;
+  private Catalog catalog;
+  private Map<String, Table> tables;
+  private String foreignKeysFingerprint;
+  private int hits;
+  private int misses;
+
+  /**
+   * Opens a lint cache, and reads lints from the cache file, if there
+   * is one. A cache file that cannot be read is ignored.
+   *
+   * @param cacheFile
+   *        Cache file
+   */
+  public LintCache(final Path cacheFile)
+  {
+    this.cacheFile = requireNonNull(cacheFile, "No cache file provided");
+    cachedLints = read(cacheFile);
+    usedLints = new TreeMap<>();
+  }
+
+  /**
+   * Saves the lints that were used or found in this run to the cache
+   * file.
+   *
+   * @throws IOException
+   *         On an exception writing the cache file
+   */
+  public synchronized void save()
+    throws IOException
+  {
+    LOGGER.log(Level.INFO,
+               new StringFormat("Reused lints %d times, and found lints %d times; saving %d cache entries to <%s>",
+                                hits,
+                                misses,
+                                usedLints.size(),
+                                cacheFile));
+    // Write to a temporary file next to the cache file, and then move
+    // it into place, so that a failed or concurrent run never leaves a
+    // truncated cache file behind
+    final Path cacheDirectory = cacheFile.toAbsolutePath().getParent();
+    final Path tempFile = Files.createTempFile(cacheDirectory,
+                                               cacheFile.getFileName()
+                                                 .toString(),
+                                               ".tmp");
+    try
+    {
+      try (
+          final ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(new BufferedOutputStream(Files
+            .newOutputStream(tempFile))));)
+      {
+        out.writeInt(VERSION);
+        out.writeObject(new HashMap<>(usedLints));
+      }
+      try
+      {
+        Files.move(tempFile, cacheFile, ATOMIC_MOVE, REPLACE_EXISTING);
+      }
+      catch (final AtomicMoveNotSupportedException e)
+      {
+        LOGGER.log(Level.CONFIG,
+                   new StringFormat("Cannot atomically replace <%s>",
+                                    cacheFile));
+        Files.move(tempFile, cacheFile, REPLACE_EXISTING);
+      }
+    }
+    finally
+    {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+
+  /**
+   * Number of cache entries that were used or found in this run.
+   *
+   * @return Number of cache entries
+   */
+  public synchronized int size()
+  {
+    return usedLints.size();
+  }
+
+  /**
+   * Fingerprint of the foreign key relationships between all the tables
+   * in the catalog.
+   *
+   * @param catalog
+   *        Catalog
+   * @return Fingerprint of the foreign key relationships
+   */
+  synchronized String getForeignKeysFingerprint(final Catalog catalog)
+  {
+    useCatalog(catalog);
+    if (foreignKeysFingerprint == null)
+    {
+      final StringBuilder buffer = new StringBuilder(1024);
+      for (final Table table: tables.values())
+      {
+        buffer.append("table ").append(table.getFullName()).append(';')
+          .append(table.getTableType()).append('\n');
+        for (final ForeignKey foreignKey: table.getForeignKeys())
+        {
+          buffer.append("foreign key ").append(foreignKey.getName())
+            .append('\n');
+          for (final ForeignKeyColumnReference columnReference: foreignKey)
+          {
+            buffer.append("  ")
+              .append(columnReference.getPrimaryKeyColumn().getFullName())
+              .append(" <- ")
+              .append(columnReference.getForeignKeyColumn().getFullName())
+              .append('\n');
+          }
+        }
+      }
+      foreignKeysFingerprint = digest(buffer);
+    }
+    return foreignKeysFingerprint;
+  }
+
+  /**
+   * Adds lints from the cache, if there are any for the linter and
+   * fingerprint, and all the objects that they refer to can be found in
+   * the catalog.
+   *
+   * @param linter
+   *        Linter to add lints to
+   * @param catalog
+   *        Catalog being linted
+   * @param fingerprint
+   *        Fingerprint of what the lints depend on
+   * @return Whether lints were reused from the cache
+   */
+  synchronized boolean reuseLints(final Linter linter,
+                                  final Catalog catalog,
+                                  final String fingerprint)
+  {
+    useCatalog(catalog);
+
+    final String key = key(linter, fingerprint);
+    final List<CachedLint> lints = cachedLints.get(key);
+    if (lints == null)
+    {
+      misses = misses + 1;
+      return false;
+    }
+
+    // Look up all the objects first, so that either all or none of the
+    // cached lints are added
+    final List<Object> objects = new ArrayList<>();
+    final List<Object> values = new ArrayList<>();
+    for (final CachedLint lint: lints)
+    {
+      final Object object;
+      if (catalog.getFullName().equals(lint.objectName))
+      {
+        object = catalog;
+      }
+      else
+      {
+        object = tables.get(lint.objectName);
+      }
+      final Object value = decodeValue(lint.value);
+      if (object == null || value == NOT_FOUND)
+      {
+        misses = misses + 1;
+        return false;
+      }
+      objects.add(object);
+      values.add(value);
+    }
+
+    for (int i = 0; i < lints.size(); i++)
+    {
+      final Object object = objects.get(i);
+      final String message = lints.get(i).message;
+      final Serializable value = (Serializable) values.get(i);
+      if (object instanceof Catalog)
+      {
+        linter.addLint((Catalog) object, message, value);
+      }
+      else
+      {
+        linter.addLint((Table) object, message, value);
+      }
+    }
+    usedLints.put(key, lints);
+    hits = hits + 1;
+    return true;
+  }
+
+  /**
+   * Saves lints found by a linter, if they can all be saved.
+   *
+   * @param linter
+   *        Linter that found the lints
+   * @param fingerprint
+   *        Fingerprint of what the lints depend on
+   * @param lints
+   *        Lints found
+   */
+  synchronized void saveLints(final Linter linter,
+                              final String fingerprint,
+                              final List<Lint<?>> lints)
+  {
+    final List<CachedLint> cachedLints = new ArrayList<>();
+    for (final Lint<?> lint: lints)
+    {
+      final Serializable value = encodeValue(lint.getObjectName(),
+                                             lint.getValue());
+      if (value == null && lint.getValue() != null)
+      {
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Cannot cache lint value for <%s>",
+                                    lint));
+        return;
+      }
+      cachedLints.add(new CachedLint(lint.getObjectName(),
+                                     lint.getMessage(),
+                                     value));
+    }
+    usedLints.put(key(linter, fingerprint), cachedLints);
+  }
+
+  /**
+   * Looks up catalog objects that are referred to by a saved lint value.
+   *
+   * @return Lint value, or NOT_FOUND if an object could not be found
+   */
+  private Object decodeValue(final Serializable value)
+  {
+    if (value instanceof ObjectReference)
+    {
+      final ObjectReference reference = (ObjectReference) value;
+      final Table table = tables.get(reference.tableName);
+      if (table == null)
+      {
+        return NOT_FOUND;
+      }
+      final Optional<?> object;
+      switch (reference.type)
+      {
+        case 'T':
+          object = Optional.of(table);
+          break;
+        case 'C':
+          object = table.lookupColumn(reference.name);
+          break;
+        case 'I':
+          final PrimaryKey primaryKey = table.getPrimaryKey();
+          if (primaryKey != null
+              && primaryKey.getName().equals(reference.name))
+          {
+            object = Optional.of(primaryKey);
+          }
+          else
+          {
+            object = table.lookupIndex(reference.name);
+          }
+          break;
+        case 'F':
+          object = lookupForeignKey(table, reference.name);
+          break;
+        default:
+          object = Optional.empty();
+          break;
+      }
+      if (object.isPresent())
+      {
+        return object.get();
+      }
+      else
+      {
+        return NOT_FOUND;
+      }
+    }
+    else if (value instanceof List)
+    {
+      final ArrayList<Object> values = new ArrayList<>();
+      for (final Object listValue: (List<?>) value)
+      {
+        final Object decodedValue = decodeValue((Serializable) listValue);
+        if (decodedValue == NOT_FOUND)
+        {
+          return NOT_FOUND;
+        }
+        values.add(decodedValue);
+      }
+      return values;
+    }
+    else
+    {
+      return value;
+    }
+  }
+
+  private Optional<ForeignKey> lookupForeignKey(final Table table,
+                                                final String name)
+  {
+    // Foreign keys are not keyed by table, so match them by name
+    for (final ForeignKey foreignKey: table.getForeignKeys())
+    {
+      if (foreignKey.getName().equals(name))
+      {
+        return Optional.of(foreignKey);
+      }
+    }
+    return Optional.empty();
+  }
+
+  private String key(final Linter linter, final String fingerprint)
+  {
+    return digest(linter.getConfigurationKey()) + ":" + fingerprint;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, List<CachedLint>> read(final Path cacheFile)
+  {
+    if (!Files.isReadable(cacheFile))
+    {
+      return new HashMap<>();
+    }
+    try (
+        final ObjectInputStream in = new CacheInputStream(new GZIPInputStream(new BufferedInputStream(Files
+          .newInputStream(cacheFile))));)
+    {
+      if (in.readInt() != VERSION)
+      {
+        LOGGER.log(Level.INFO,
+                   new StringFormat("Ignoring lint cache from an older version, <%s>",
+                                    cacheFile));
+        return new HashMap<>();
+      }
+      return (Map<String, List<CachedLint>>) in.readObject();
+    }
+    catch (final IOException | ClassNotFoundException | ClassCastException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not read lint cache, <%s>",
+                                  cacheFile),
+                 e);
+      return new HashMap<>();
+    }
+  }
+
+  /**
+   * Indexes the tables in the catalog by full name, once per catalog.
+   */
+  private void useCatalog(final Catalog catalog)
+  {
+    requireNonNull(catalog, "No catalog provided");
+    if (this.catalog == catalog)
+    {
+      return;
+    }
+    this.catalog = catalog;
+    tables = new TreeMap<>();
+    for (final Table table: catalog.getTables())
+    {
+      tables.put(table.getFullName(), table);
+    }
+    foreignKeysFingerprint = null;
+  }
+
+}
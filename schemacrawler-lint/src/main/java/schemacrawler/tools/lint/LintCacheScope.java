@@ -0,0 +1,53 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.lint;
+
+
+/**
+ * What the lints from a linter depend on, so that they can be reused
+ * from a lint cache when that has not changed.
+ *
+ * @author Sualeh Fatehi
+ */
+public enum LintCacheScope
+{
+ /**
+  * Lints are never reused, for example, because they depend on data.
+  */
+ none,
+ /**
+  * Lints for a table depend only on the structure of that table.
+  */
+ table,
+ /**
+  * Lints depend only on the foreign key relationships between all the
+  * tables.
+  */
+ foreign_keys,;
+}
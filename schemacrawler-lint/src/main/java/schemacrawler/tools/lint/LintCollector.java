@@ -38,10 +38,37 @@ import java.util.List;
 import schemacrawler.schema.AttributedObject;
 import schemacrawler.schema.NamedObject;
 
+/**
+ * Collects lints, and adds them to the lint attributes of the objects
+ * that they are for. Lints can be added from many threads. A deferred
+ * collector holds lints back, without changing any objects, so that
+ * linters can run concurrently, and the lints can be added to the main
+ * collector afterwards, in the same order as if the linters had run one
+ * after another.
+ *
+ * @author Sualeh Fatehi
+ */
 public final class LintCollector
   implements Iterable<Lint<? extends Serializable>>
 {
 
+  /**
+   * A lint that is held back, with the object it is for.
+   */
+  private static final class DeferredLint
+  {
+
+    private final AttributedObject attributedObject;
+    private final Lint<?> lint;
+
+    DeferredLint(final AttributedObject attributedObject, final Lint<?> lint)
+    {
+      this.attributedObject = attributedObject;
+      this.lint = lint;
+    }
+
+  }
+
   private static final String LINT_KEY = "schemacrawler.lint";
 
   public static Collection<Lint<?>> getLint(final AttributedObject namedObject)
@@ -58,37 +85,84 @@ public final class LintCollector
   }
 
   private final List<Lint<? extends Serializable>> lints;
+  private final List<DeferredLint> deferredLints;
 
   public LintCollector()
+  {
+    this(false);
+  }
+
+  LintCollector(final boolean isDeferred)
   {
     lints = new ArrayList<>();
+    if (isDeferred)
+    {
+      deferredLints = new ArrayList<>();
+    }
+    else
+    {
+      deferredLints = null;
+    }
   }
 
-  public <N extends NamedObject & AttributedObject> void addLint(final N namedObject,
-                                                                 final Lint<?> lint)
+  public synchronized <N extends NamedObject & AttributedObject> void addLint(final N namedObject,
+                                                                              final Lint<?> lint)
   {
     if (namedObject != null && lint != null
         && namedObject.getFullName().equals(lint.getObjectName()))
     {
-      lints.add(lint);
-
-      final Collection<Lint<?>> columnLints = namedObject
-        .getAttribute(LINT_KEY, new ArrayList<Lint<?>>());
-      columnLints.add(lint);
-      namedObject.setAttribute(LINT_KEY, columnLints);
+      if (deferredLints != null)
+      {
+        deferredLints.add(new DeferredLint(namedObject, lint));
+      }
+      else
+      {
+        collect(namedObject, lint);
+      }
     }
   }
 
   @Override
-  public Iterator<Lint<? extends Serializable>> iterator()
+  public synchronized Iterator<Lint<? extends Serializable>> iterator()
   {
     Collections.sort(lints);
-    return lints.iterator();
+    return new ArrayList<>(lints).iterator();
   }
 
-  public int size()
+  public synchronized int size()
   {
     return lints.size();
   }
 
+  /**
+   * Adds all the lints held back by a deferred collector, in the order
+   * in which they were found.
+   *
+   * @param deferredCollector
+   *        Deferred collector
+   */
+  synchronized void addDeferredLints(final LintCollector deferredCollector)
+  {
+    if (deferredCollector == null || deferredCollector.deferredLints == null)
+    {
+      return;
+    }
+    for (final DeferredLint deferredLint: deferredCollector.deferredLints)
+    {
+      collect(deferredLint.attributedObject, deferredLint.lint);
+    }
+    deferredCollector.deferredLints.clear();
+  }
+
+  private void collect(final AttributedObject attributedObject,
+                       final Lint<?> lint)
+  {
+    lints.add(lint);
+
+    final Collection<Lint<?>> columnLints = attributedObject
+      .getAttribute(LINT_KEY, new ArrayList<Lint<?>>());
+    columnLints.add(lint);
+    attributedObject.setAttribute(LINT_KEY, columnLints);
+  }
+
 }
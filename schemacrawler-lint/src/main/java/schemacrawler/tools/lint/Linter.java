@@ -32,6 +32,8 @@ import static sf.util.IOUtility.readResourceFully;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Level;
 
 import schemacrawler.schema.AttributedObject;
@@ -59,6 +61,8 @@ public abstract class Linter
   private LintSeverity severity;
   private int threshold;
   private int lintCount;
+  private String configurationKey;
+  private List<Lint<?>> recordedLints;
 
   protected Linter()
   {
@@ -170,6 +174,10 @@ public abstract class Linter
                                       value);
       collector.addLint(namedObject, lint);
       lintCount = lintCount + 1;
+      if (recordedLints != null)
+      {
+        recordedLints.add(lint);
+      }
     }
   }
 
@@ -185,6 +193,18 @@ public abstract class Linter
 
   }
 
+  /**
+   * What the lints from this linter depend on, so that they can be
+   * reused from a lint cache. By default, lints are never reused. Can
+   * be overridden.
+   *
+   * @return Scope for reusing lints
+   */
+  protected LintCacheScope getLintCacheScope()
+  {
+    return LintCacheScope.none;
+  }
+
   /**
    * Set the severity of the lints created by this linter.
    *
@@ -200,6 +220,20 @@ public abstract class Linter
     }
   }
 
+  /**
+   * Whether this linter uses the database connection, for example, to
+   * run SQL queries. Linters that use the connection are not run
+   * concurrently on the same connection. By default, a linter is assumed
+   * to use the connection. Linters that only look at the catalog can
+   * override this to return false, so that they can run concurrently.
+   *
+   * @return Whether this linter uses the database connection
+   */
+  protected boolean usesConnection()
+  {
+    return true;
+  }
+
   void configure(final LinterConfig linterConfig)
   {
     if (linterConfig != null)
@@ -207,9 +241,24 @@ public abstract class Linter
       setSeverity(linterConfig.getSeverity());
       setThreshold(linterConfig.getThreshold());
       configure(linterConfig.getConfig());
+      configurationKey = linterConfig.getConfigurationKey();
     }
   }
 
+  /**
+   * Identifies the linter, and all the configuration that affects the
+   * lints it finds.
+   *
+   * @return Configuration key
+   */
+  String getConfigurationKey()
+  {
+    return String.format("%s;%s;%s",
+                         getLinterId(),
+                         getSeverity(),
+                         configurationKey);
+  }
+
   abstract void lint(Catalog catalog, Connection connection)
     throws SchemaCrawlerException;
 
@@ -218,6 +267,31 @@ public abstract class Linter
     collector = lintCollector;
   }
 
+  /**
+   * Starts keeping a list of the lints found, so that they can be
+   * saved to a lint cache.
+   */
+  final void startRecordingLints()
+  {
+    recordedLints = new ArrayList<>();
+  }
+
+  /**
+   * Stops keeping a list of the lints found.
+   *
+   * @return Lints found since recording started
+   */
+  final List<Lint<?>> stopRecordingLints()
+  {
+    final List<Lint<?>> lints = recordedLints;
+    recordedLints = null;
+    if (lints == null)
+    {
+      return new ArrayList<>();
+    }
+    return lints;
+  }
+
   private void setThreshold(final int threshold)
   {
     this.threshold = threshold;
@@ -31,6 +31,7 @@ package schemacrawler.tools.lint;
 import static sf.util.Utility.isBlank;
 
 import java.io.Serializable;
+import java.util.TreeMap;
 
 import schemacrawler.schemacrawler.Config;
 import schemacrawler.schemacrawler.InclusionRule;
@@ -221,4 +222,20 @@ public class LinterConfig
     return ObjectToString.toString(this);
   }
 
+  /**
+   * Describes all the configuration that affects the lints that a
+   * linter finds, in a way that is the same from run to run.
+   *
+   * @return Configuration key
+   */
+  String getConfigurationKey()
+  {
+    return String.format("%s;%s;%s;%s;%s",
+                         tableInclusionPattern,
+                         tableExclusionPattern,
+                         columnInclusionPattern,
+                         columnExclusionPattern,
+                         new TreeMap<>(config));
+  }
+
 }
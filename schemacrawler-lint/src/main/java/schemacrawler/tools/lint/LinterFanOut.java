@@ -0,0 +1,303 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.lint;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import javax.sql.DataSource;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Runs linters concurrently. Linters that only look at the catalog
+ * metadata run on a fork-join pool. Linters that use the database
+ * connection run on a separate bounded pool of workers, each with a
+ * connection of its own, or one after another on the calling thread if
+ * there is no source of additional connections. Each linter collects
+ * its lints in a deferred collector, and the lints are added to the
+ * main collector in linter order once all the linters are done, so
+ * that the lints are exactly what they would be if the linters had run
+ * one at a time.
+ *
+ * @author Sualeh Fatehi
+ */
+final class LinterFanOut
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(LinterFanOut.class.getName());
+
+  private final int poolSize;
+  private final DataSource dataSource;
+
+  /**
+   * Sets up concurrent linting.
+   *
+   * @param poolSize
+   *        Number of threads for each pool
+   * @param dataSource
+   *        Source of connections for linters that use the connection, or
+   *        null to run them on the calling thread
+   */
+  LinterFanOut(final int poolSize, final DataSource dataSource)
+  {
+    this.poolSize = Math.max(1, poolSize);
+    this.dataSource = dataSource;
+  }
+
+  /**
+   * Runs all the linters, and adds their lints to the collector, in
+   * linter order.
+   *
+   * @param linters
+   *        Linters, in the order in which lints are collected
+   * @param catalog
+   *        Catalog to lint
+   * @param connection
+   *        Connection for linters that are run on the calling thread
+   * @param collector
+   *        Main lint collector, which is restored on each linter
+   * @throws SchemaCrawlerException
+   *         On an exception from a linter
+   */
+  void lint(final List<Linter> linters,
+            final Catalog catalog,
+            final Connection connection,
+            final LintCollector collector)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(linters, "No linters provided");
+    requireNonNull(collector, "No lint collector provided");
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("Running %d linters, using %d threads",
+                                linters.size(),
+                                poolSize));
+
+    final List<LintCollector> deferredCollectors = new ArrayList<>();
+    final List<Future<Void>> futures = new ArrayList<>();
+    final List<Linter> serialLinters = new ArrayList<>();
+    final BlockingQueue<Connection> idleConnections = new LinkedBlockingQueue<>();
+
+    final AtomicInteger threadNumber = new AtomicInteger();
+    final ForkJoinPool metadataPool = new ForkJoinPool(poolSize, pool -> {
+      final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory
+        .newThread(pool);
+      thread.setName("schemacrawler-lint-" + threadNumber.incrementAndGet());
+      return thread;
+    }, null, false);
+    ExecutorService connectionPool = null;
+    try
+    {
+      for (final Linter linter: linters)
+      {
+        final LintCollector deferredCollector = new LintCollector(true);
+        deferredCollectors.add(deferredCollector);
+        linter.setLintCollector(deferredCollector);
+
+        if (!linter.usesConnection())
+        {
+          futures.add(metadataPool.submit(task(linter, catalog, connection)));
+        }
+        else if (dataSource != null)
+        {
+          if (connectionPool == null)
+          {
+            connectionPool = Executors
+              .newFixedThreadPool(poolSize, runnable -> {
+                final Thread thread = new Thread(runnable,
+                                                 "schemacrawler-lint-"
+                                                           + threadNumber
+                                                             .incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+              });
+          }
+          futures.add(connectionPool
+            .submit(() -> lintWithPooledConnection(idleConnections,
+                                                   linter,
+                                                   catalog)));
+        }
+        else
+        {
+          serialLinters.add(linter);
+        }
+      }
+
+      // Linters that share the connection run one after another, while
+      // the other linters run on the pools
+      for (final Linter linter: serialLinters)
+      {
+        task(linter, catalog, connection).call();
+      }
+      for (final Future<Void> future: futures)
+      {
+        waitFor(future);
+      }
+    }
+    catch (final SchemaCrawlerException | RuntimeException e)
+    {
+      throw e;
+    }
+    catch (final Exception e)
+    {
+      throw new SchemaCrawlerException("Could not lint catalog", e);
+    }
+    finally
+    {
+      shutdown(metadataPool);
+      if (connectionPool != null)
+      {
+        shutdown(connectionPool);
+      }
+      closeConnections(idleConnections);
+
+      for (final Linter linter: linters)
+      {
+        linter.setLintCollector(collector);
+      }
+    }
+
+    for (final LintCollector deferredCollector: deferredCollectors)
+    {
+      collector.addDeferredLints(deferredCollector);
+    }
+  }
+
+  private void closeConnections(final BlockingQueue<Connection> idleConnections)
+  {
+    for (final Connection connection: idleConnections)
+    {
+      try
+      {
+        connection.close();
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not close connection", e);
+      }
+    }
+  }
+
+  private Void lintWithPooledConnection(final BlockingQueue<Connection> idleConnections,
+                                        final Linter linter,
+                                        final Catalog catalog)
+    throws Exception
+  {
+    // There are never more tasks running than workers, so there are
+    // never more connections than workers
+    Connection connection = idleConnections.poll();
+    if (connection == null)
+    {
+      connection = dataSource.getConnection();
+    }
+    try
+    {
+      return task(linter, catalog, connection).call();
+    }
+    finally
+    {
+      idleConnections.add(connection);
+    }
+  }
+
+  private void shutdown(final ExecutorService executorService)
+  {
+    executorService.shutdownNow();
+    try
+    {
+      executorService.awaitTermination(1, TimeUnit.MINUTES);
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Callable<Void> task(final Linter linter,
+                              final Catalog catalog,
+                              final Connection connection)
+  {
+    return () -> {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Linting with <%s>",
+                                  linter.getLinterInstanceId()));
+      linter.lint(catalog, connection);
+      return null;
+    };
+  }
+
+  private void waitFor(final Future<Void> future)
+    throws Exception
+  {
+    try
+    {
+      future.get();
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof Exception)
+      {
+        throw (Exception) cause;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Could not lint catalog", cause);
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted linting catalog", e);
+    }
+  }
+
+}
@@ -0,0 +1,141 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.lint;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Lints a catalog with all the linters in a single pass over the
+ * tables. Derived views of each table, such as the included columns,
+ * and index and foreign key column names, are worked out once, and
+ * shared by all the linters. Each linter collects its lints in a
+ * deferred collector, and the lints are added to the main collector in
+ * linter order at the end, so that the lints are exactly what they
+ * would be if the linters had run one after another.
+ *
+ * @author Sualeh Fatehi
+ */
+final class LinterTraversal
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(LinterTraversal.class.getName());
+
+  /**
+   * Runs all the linters, and adds their lints to the collector, in
+   * linter order.
+   *
+   * @param linters
+   *        Linters, in the order in which lints are collected
+   * @param catalog
+   *        Catalog to lint
+   * @param connection
+   *        Connection for linters
+   * @param collector
+   *        Main lint collector, which is restored on each linter
+   * @throws SchemaCrawlerException
+   *         On an exception from a linter
+   */
+  void lint(final List<Linter> linters,
+            final Catalog catalog,
+            final Connection connection,
+            final LintCollector collector)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(linters, "No linters provided");
+    requireNonNull(catalog, "No catalog provided");
+    requireNonNull(collector, "No lint collector provided");
+
+    final List<LintCollector> deferredCollectors = new ArrayList<>();
+    final List<BaseLinter> baseLinters = new ArrayList<>();
+    try
+    {
+      for (final Linter linter: linters)
+      {
+        final LintCollector deferredCollector = new LintCollector(true);
+        deferredCollectors.add(deferredCollector);
+        linter.setLintCollector(deferredCollector);
+
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Linting with <%s>",
+                                    linter.getLinterInstanceId()));
+        if (linter instanceof BaseLinter)
+        {
+          final BaseLinter baseLinter = (BaseLinter) linter;
+          baseLinter.startLint(catalog, connection);
+          baseLinters.add(baseLinter);
+        }
+        else
+        {
+          // Linters that do not visit tables run on their own
+          linter.lint(catalog, connection);
+        }
+      }
+
+      for (final Table table: catalog.getTables())
+      {
+        final TableLintView tableLintView = new TableLintView(table);
+        for (final BaseLinter baseLinter: baseLinters)
+        {
+          baseLinter.lintTable(tableLintView, connection);
+        }
+      }
+
+      for (final BaseLinter baseLinter: baseLinters)
+      {
+        baseLinter.endLint(connection);
+      }
+    }
+    finally
+    {
+      for (final Linter linter: linters)
+      {
+        linter.setLintCollector(collector);
+      }
+    }
+
+    for (final LintCollector deferredCollector: deferredCollectors)
+    {
+      collector.addDeferredLints(deferredCollector);
+    }
+  }
+
+}
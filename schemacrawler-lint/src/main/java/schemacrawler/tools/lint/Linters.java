@@ -39,6 +39,8 @@ import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
 
+import javax.sql.DataSource;
+
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import sf.util.SchemaCrawlerLogger;
@@ -54,6 +56,8 @@ public final class Linters
   private final List<Linter> linters;
   private final LintCollector collector;
   private final LinterRegistry registry;
+  private int poolSize;
+  private DataSource dataSource;
 
   public Linters(final LinterConfigs linterConfigs)
     throws SchemaCrawlerException
@@ -63,6 +67,7 @@ public final class Linters
     linters = new ArrayList<>();
     collector = new LintCollector();
     registry = new LinterRegistry();
+    poolSize = 1;
 
     final Set<String> registeredLinters = registry.allRegisteredLinters();
 
@@ -194,16 +199,64 @@ public final class Linters
 
   public void lint(final Catalog catalog, final Connection connection)
     throws SchemaCrawlerException
+  {
+    if (poolSize > 1 && linters.size() > 1)
+    {
+      final LinterFanOut linterFanOut = new LinterFanOut(poolSize, dataSource);
+      linterFanOut.lint(linters, catalog, connection, collector);
+    }
+    else
+    {
+      // Lint in a single pass over the tables
+      final LinterTraversal linterTraversal = new LinterTraversal();
+      linterTraversal.lint(linters, catalog, connection, collector);
+    }
+  }
+
+  /**
+   * Sets a source of additional connections, so that linters that use
+   * the connection can run concurrently, each on a connection of its
+   * own. The data source should be backed by a connection pool.
+   *
+   * @param dataSource
+   *        Source of additional connections, or null to run linters
+   *        that use the connection one after another
+   */
+  public void setDataSource(final DataSource dataSource)
+  {
+    this.dataSource = dataSource;
+  }
+
+  /**
+   * Sets a cache of lints from earlier runs, so that lints for tables
+   * that have not changed are reused, rather than found again.
+   *
+   * @param lintCache
+   *        Lint cache, or null to find all lints again
+   */
+  public void setLintCache(final LintCache lintCache)
   {
     for (final Linter linter: linters)
     {
-      LOGGER.log(Level.FINE,
-                 new StringFormat("Linting with <%s>",
-                                  linter.getLinterInstanceId()));
-      linter.lint(catalog, connection);
+      if (linter instanceof BaseLinter)
+      {
+        ((BaseLinter) linter).setLintCache(lintCache);
+      }
     }
   }
 
+  /**
+   * Sets the number of threads used to run linters concurrently. A pool
+   * size of 1 runs the linters one at a time.
+   *
+   * @param poolSize
+   *        Number of threads for linting, at least 1
+   */
+  public void setPoolSize(final int poolSize)
+  {
+    this.poolSize = Math.max(1, poolSize);
+  }
+
   @Override
   public String toString()
   {
@@ -0,0 +1,175 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.lint;
+
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.utility.MetaDataUtility.allIndexCoumnNames;
+import static schemacrawler.utility.MetaDataUtility.columnNames;
+import static schemacrawler.utility.MetaDataUtility.foreignKeyColumnNames;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InclusionRule;
+
+/**
+ * Derived views of a table that are shared by all the linters that lint
+ * the table, so that they are worked out only once per table, rather
+ * than once per linter. Views are worked out when they are first asked
+ * for.
+ *
+ * @author Sualeh Fatehi
+ */
+final class TableLintView
+{
+
+  private final Table table;
+  private final Map<InclusionRule, List<Column>> columns;
+  private Map<Index, List<String>> indexColumnNames;
+  private Collection<List<String>> allIndexColumnNames;
+  private Map<ForeignKey, List<String>> foreignKeyColumnNames;
+  private String fingerprint;
+
+  TableLintView(final Table table)
+  {
+    this.table = requireNonNull(table, "No table provided");
+    columns = new HashMap<>();
+  }
+
+  /**
+   * Column names of the primary key and all indexes.
+   *
+   * @return Column names of the primary key and indexes
+   */
+  Collection<List<String>> getAllIndexColumnNames()
+  {
+    if (allIndexColumnNames == null)
+    {
+      allIndexColumnNames = Collections
+        .unmodifiableCollection(allIndexCoumnNames(table));
+    }
+    return allIndexColumnNames;
+  }
+
+  /**
+   * Columns of the table that are included by a column inclusion rule.
+   * Linters with equal inclusion rules share the same list.
+   *
+   * @param columnInclusionRule
+   *        Column inclusion rule
+   * @return Included columns, in table order
+   */
+  List<Column> getColumns(final InclusionRule columnInclusionRule)
+  {
+    List<Column> includedColumns = columns.get(columnInclusionRule);
+    if (includedColumns == null)
+    {
+      includedColumns = new ArrayList<>();
+      for (final Column column: table.getColumns())
+      {
+        if (column != null
+            && columnInclusionRule.test(column.getFullName()))
+        {
+          includedColumns.add(column);
+        }
+      }
+      includedColumns = Collections.unmodifiableList(includedColumns);
+      columns.put(columnInclusionRule, includedColumns);
+    }
+    return includedColumns;
+  }
+
+  /**
+   * Fingerprint of the structure of the table, for the lint cache.
+   *
+   * @return Fingerprint of the table
+   */
+  String getFingerprint()
+  {
+    if (fingerprint == null)
+    {
+      fingerprint = LintCache.tableFingerprint(table);
+    }
+    return fingerprint;
+  }
+
+  /**
+   * Column names of the imported foreign keys of the table.
+   *
+   * @return Foreign key column names, by foreign key
+   */
+  Map<ForeignKey, List<String>> getForeignKeyColumnNames()
+  {
+    if (foreignKeyColumnNames == null)
+    {
+      final Map<ForeignKey, List<String>> foreignKeyColumns = new LinkedHashMap<>();
+      for (final ForeignKey foreignKey: table.getImportedForeignKeys())
+      {
+        foreignKeyColumns.put(foreignKey, foreignKeyColumnNames(foreignKey));
+      }
+      foreignKeyColumnNames = Collections.unmodifiableMap(foreignKeyColumns);
+    }
+    return foreignKeyColumnNames;
+  }
+
+  /**
+   * Column names of the indexes of the table.
+   *
+   * @return Index column names, by index
+   */
+  Map<Index, List<String>> getIndexColumnNames()
+  {
+    if (indexColumnNames == null)
+    {
+      final Map<Index, List<String>> indexColumns = new LinkedHashMap<>();
+      for (final Index index: table.getIndexes())
+      {
+        indexColumns.put(index, columnNames(index));
+      }
+      indexColumnNames = Collections.unmodifiableMap(indexColumns);
+    }
+    return indexColumnNames;
+  }
+
+  Table getTable()
+  {
+    return table;
+  }
+
+}
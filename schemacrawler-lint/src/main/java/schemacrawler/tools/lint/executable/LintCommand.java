@@ -29,7 +29,9 @@ package schemacrawler.tools.lint.executable;
 
 
 import static schemacrawler.tools.lint.LintUtility.readLinterConfigs;
+import static sf.util.Utility.isBlank;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -37,6 +39,7 @@ import java.util.List;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
+import schemacrawler.tools.lint.LintCache;
 import schemacrawler.tools.lint.LintDispatch;
 import schemacrawler.tools.lint.LintedCatalog;
 import schemacrawler.tools.lint.LinterConfigs;
@@ -69,10 +72,27 @@ public class LintCommand
     final LinterConfigs linterConfigs = readLinterConfigs(lintOptions,
                                                           additionalConfiguration);
     final Linters linters = new Linters(linterConfigs);
+    linters.setPoolSize(lintOptions.getPoolSize());
+    linters.setDataSource(dataSource);
+
+    final LintCache lintCache;
+    if (isBlank(lintOptions.getLintCache()))
+    {
+      lintCache = null;
+    }
+    else
+    {
+      lintCache = new LintCache(Paths.get(lintOptions.getLintCache()));
+    }
+    linters.setLintCache(lintCache);
 
     final LintedCatalog lintedCatalog = new LintedCatalog(catalog,
                                                           connection,
                                                           linters);
+    if (lintCache != null)
+    {
+      lintCache.save();
+    }
 
     generateReport(lintedCatalog);
 
@@ -28,6 +28,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.lint.executable;
 
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.logging.Level;
 
@@ -66,10 +67,10 @@ final class LintJsonFormatter
       final JSONObject jsonDatabase = new JSONObject();
       try
       {
-        jsonRoot.accumulate("database_lints", jsonDatabase);
-
         final JSONArray jsonLints = handleLints(lints);
         jsonDatabase.put("lints", jsonLints);
+
+        jsonWriter.accumulate("database_lints", jsonDatabase);
       }
       catch (final JSONException e)
       {
@@ -90,14 +91,14 @@ final class LintJsonFormatter
       final JSONObject jsonTable = new JSONObject();
       try
       {
-        jsonRoot.accumulate("table_lints", jsonTable);
-
         jsonTable.put("name", table.getName());
         jsonTable.put("fullName", table.getFullName());
         jsonTable.put("type", table.getTableType());
 
         final JSONArray jsonLints = handleLints(lints);
         jsonTable.put("lints", jsonLints);
+
+        jsonWriter.accumulate("table_lints", jsonTable);
       }
       catch (final JSONException e)
       {
@@ -121,6 +122,12 @@ final class LintJsonFormatter
     // No output required
   }
 
+  @Override
+  protected Collection<String> getRootKeys()
+  {
+    return Arrays.asList("database_lints", "table_lints");
+  }
+
   private JSONArray handleLints(final Collection<Lint<?>> lints)
   {
     final JSONArray jsonLints = new JSONArray();
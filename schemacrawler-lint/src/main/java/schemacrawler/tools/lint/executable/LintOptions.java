@@ -34,7 +34,21 @@ public class LintOptions
   extends BaseTextOptions
 {
 
+  private String lintCache;
   private String linterConfigs;
+  private int poolSize = 1;
+
+  /**
+   * Gets the path to the lint cache file, which keeps lints from
+   * earlier runs, so that lints for tables that have not changed can be
+   * reused.
+   *
+   * @return Path to the lint cache file, or blank to not use a cache
+   */
+  public String getLintCache()
+  {
+    return lintCache;
+  }
 
   /**
    * Gets the path to the linter configs file.
@@ -46,6 +60,28 @@ public class LintOptions
     return linterConfigs;
   }
 
+  /**
+   * Number of threads used to run linters concurrently. A pool size of
+   * 1 runs the linters one at a time.
+   *
+   * @return Number of threads for linting
+   */
+  public int getPoolSize()
+  {
+    return poolSize;
+  }
+
+  /**
+   * Sets the path to the lint cache file.
+   *
+   * @param lintCache
+   *        Path to the lint cache file, or blank to not use a cache
+   */
+  public void setLintCache(final String lintCache)
+  {
+    this.lintCache = lintCache;
+  }
+
   /**
    * Sets the path to the linter configs file.
    *
@@ -57,4 +93,15 @@ public class LintOptions
     this.linterConfigs = linterConfigs;
   }
 
+  /**
+   * Number of threads used to run linters concurrently.
+   *
+   * @param poolSize
+   *        Number of threads for linting, at least 1
+   */
+  public void setPoolSize(final int poolSize)
+  {
+    this.poolSize = Math.max(1, poolSize);
+  }
+
 }
@@ -35,9 +35,14 @@ public class LintOptionsBuilder
   extends BaseTextOptionsBuilder<LintOptions>
 {
 
+  private static final String CLI_LINT_CACHE = "lintcache";
+  private static final String LINT_CACHE = SCHEMACRAWLER_FORMAT_PREFIX
+                                           + CLI_LINT_CACHE;
   private static final String CLI_LINTER_CONFIGS = "linterconfigs";
   private static final String LINTER_CONFIGS = SCHEMACRAWLER_FORMAT_PREFIX
                                                + CLI_LINTER_CONFIGS;
+  // Linters use as many connections as metadata queries
+  private static final String POOL_SIZE = "schemacrawler.schema.retrieval.pool.size";
 
   public LintOptionsBuilder()
   {
@@ -64,6 +69,16 @@ public class LintOptionsBuilder
       // Otherwise, take option from SchemaCrawler configuration file
       options.setLinterConfigs(config.getStringValue(LINTER_CONFIGS, ""));
     }
+    if (config.containsKey(CLI_LINT_CACHE))
+    {
+      options.setLintCache(config.getStringValue(CLI_LINT_CACHE, ""));
+    }
+    else
+    {
+      options.setLintCache(config.getStringValue(LINT_CACHE, ""));
+    }
+    options
+      .setPoolSize(config.getIntegerValue(POOL_SIZE, options.getPoolSize()));
 
     return this;
   }
@@ -73,9 +88,28 @@ public class LintOptionsBuilder
   {
     final Config config = super.toConfig();
     config.setStringValue(LINTER_CONFIGS, options.getLinterConfigs());
+    config.setStringValue(LINT_CACHE, options.getLintCache());
     return config;
   }
 
+  /**
+   * Number of threads used to run linters concurrently.
+   */
+  public LintOptionsBuilder poolSize(final int value)
+  {
+    options.setPoolSize(value);
+    return this;
+  }
+
+  /**
+   * Path to the lint cache file.
+   */
+  public LintOptionsBuilder withLintCache(final String lintCache)
+  {
+    options.setLintCache(lintCache);
+    return this;
+  }
+
   /**
    * Whether to show LOBs.
    */
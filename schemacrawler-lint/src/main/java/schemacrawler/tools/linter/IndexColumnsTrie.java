@@ -0,0 +1,165 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.linter;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Trie of the column name sequences of the indexes of a table. An index
+ * is redundant if the column names of another index start with all of
+ * its column names, so each index is checked by walking down its own
+ * column names once, rather than by comparing it with every other
+ * index.
+ *
+ * @author Sualeh Fatehi
+ */
+final class IndexColumnsTrie<I>
+{
+
+  private static final class Node
+  {
+
+    private final Map<String, Node> children = new HashMap<>();
+    // Two lowest positions of the indexes whose column names start with
+    // the column names on the path to this node
+    private int first = Integer.MAX_VALUE;
+    private int second = Integer.MAX_VALUE;
+
+    Node child(final String columnName)
+    {
+      Node child = children.get(columnName);
+      if (child == null)
+      {
+        child = new Node();
+        children.put(columnName, child);
+      }
+      return child;
+    }
+
+    void pass(final int position)
+    {
+      if (position < first)
+      {
+        second = first;
+        first = position;
+      }
+      else if (position < second)
+      {
+        second = position;
+      }
+    }
+
+  }
+
+  private final Node root;
+  private final List<I> indexes;
+  private final List<Node> ends;
+
+  IndexColumnsTrie()
+  {
+    root = new Node();
+    indexes = new ArrayList<>();
+    ends = new ArrayList<>();
+  }
+
+  /**
+   * Adds the column names of an index. Indexes with no list of column
+   * names are ignored.
+   *
+   * @param index
+   *        Index
+   * @param columnNames
+   *        Column names of the index, in index order
+   */
+  void add(final I index, final List<String> columnNames)
+  {
+    if (index == null || columnNames == null)
+    {
+      return;
+    }
+
+    final int position = indexes.size();
+    Node node = root;
+    node.pass(position);
+    for (final String columnName: columnNames)
+    {
+      node = node.child(columnName);
+      node.pass(position);
+    }
+    indexes.add(index);
+    ends.add(node);
+  }
+
+  /**
+   * Finds indexes whose column names are the start of the column names
+   * of another index, including indexes with the same column names as
+   * another index.
+   *
+   * @return Redundant indexes
+   */
+  Set<I> getRedundantIndexes()
+  {
+    // Order the redundant indexes by the first index that makes them
+    // redundant, and then by position, so that the set is built in the
+    // same order as when comparing every pair of indexes
+    final List<int[]> redundant = new ArrayList<>();
+    for (int position = 0; position < indexes.size(); position++)
+    {
+      final Node end = ends.get(position);
+      final int other = end.first == position? end.second: end.first;
+      if (other != Integer.MAX_VALUE)
+      {
+        redundant.add(new int[] { other, position });
+      }
+    }
+    Collections.sort(redundant, (redundant1, redundant2) -> {
+      final int comparison = Integer.compare(redundant1[0], redundant2[0]);
+      if (comparison != 0)
+      {
+        return comparison;
+      }
+      return Integer.compare(redundant1[1], redundant2[1]);
+    });
+
+    final Set<I> redundantIndexes = new HashSet<>();
+    for (final int[] redundantIndex: redundant)
+    {
+      redundantIndexes.add(indexes.get(redundantIndex[1]));
+    }
+    return redundantIndexes;
+  }
+
+}
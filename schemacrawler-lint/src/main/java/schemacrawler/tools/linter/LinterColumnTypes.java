@@ -98,4 +98,10 @@ public class LinterColumnTypes
     columnTypes = new Multimap<>();
   }
 
+  @Override
+  protected boolean usesConnection()
+  {
+    return false;
+  }
+
 }
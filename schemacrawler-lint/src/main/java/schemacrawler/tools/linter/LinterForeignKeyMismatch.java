@@ -40,6 +40,7 @@ import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.View;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintCacheScope;
 import schemacrawler.tools.lint.LintSeverity;
 
 public class LinterForeignKeyMismatch
@@ -57,6 +58,12 @@ public class LinterForeignKeyMismatch
     return "foreign key data type different from primary key";
   }
 
+  @Override
+  protected LintCacheScope getLintCacheScope()
+  {
+    return LintCacheScope.table;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connections)
   {
@@ -69,6 +76,12 @@ public class LinterForeignKeyMismatch
     }
   }
 
+  @Override
+  protected boolean usesConnection()
+  {
+    return false;
+  }
+
   private List<ForeignKey> findMismatchedForeignKeys(final Table table)
   {
     final List<ForeignKey> mismatchedForeignKeys = new ArrayList<>();
@@ -40,6 +40,7 @@ import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.View;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintCacheScope;
 import schemacrawler.tools.lint.LintSeverity;
 
 public class LinterForeignKeySelfReference
@@ -57,6 +58,12 @@ public class LinterForeignKeySelfReference
     return "foreign key self-references primary key";
   }
 
+  @Override
+  protected LintCacheScope getLintCacheScope()
+  {
+    return LintCacheScope.table;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connections)
   {
@@ -69,6 +76,12 @@ public class LinterForeignKeySelfReference
     }
   }
 
+  @Override
+  protected boolean usesConnection()
+  {
+    return false;
+  }
+
   private List<ForeignKey> findSelfReferencingForeignKeys(final Table table)
   {
     final List<ForeignKey> selfReferencingForeignKeys = new ArrayList<>();
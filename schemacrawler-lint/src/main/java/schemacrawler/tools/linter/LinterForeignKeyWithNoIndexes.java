@@ -30,18 +30,18 @@ package schemacrawler.tools.linter;
 
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.tools.lint.LintUtility.listStartsWith;
-import static schemacrawler.utility.MetaDataUtility.allIndexCoumnNames;
-import static schemacrawler.utility.MetaDataUtility.foreignKeyColumnNames;
 
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map.Entry;
 
 import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.View;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintCacheScope;
 import schemacrawler.tools.lint.LintSeverity;
 
 public class LinterForeignKeyWithNoIndexes
@@ -59,6 +59,12 @@ public class LinterForeignKeyWithNoIndexes
     return "foreign key with no index";
   }
 
+  @Override
+  protected LintCacheScope getLintCacheScope()
+  {
+    return LintCacheScope.table;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -71,15 +77,24 @@ public class LinterForeignKeyWithNoIndexes
     }
   }
 
+  @Override
+  protected boolean usesConnection()
+  {
+    return false;
+  }
+
   private List<ForeignKey> findForeignKeysWithoutIndexes(final Table table)
   {
     final List<ForeignKey> foreignKeysWithoutIndexes = new ArrayList<>();
     if (!(table instanceof View))
     {
-      final Collection<List<String>> allIndexCoumns = allIndexCoumnNames(table);
-      for (final ForeignKey foreignKey: table.getImportedForeignKeys())
+      final Collection<List<String>> allIndexCoumns = getAllIndexColumnNames(table);
+      for (final Entry<ForeignKey, List<String>> foreignKeyColumnsEntry: getForeignKeyColumnNames(table)
+        .entrySet())
       {
-        final List<String> foreignKeyColumns = foreignKeyColumnNames(foreignKey);
+        final ForeignKey foreignKey = foreignKeyColumnsEntry.getKey();
+        final List<String> foreignKeyColumns = foreignKeyColumnsEntry
+          .getValue();
         boolean hasIndex = false;
         for (final List<String> indexColumns: allIndexCoumns)
         {
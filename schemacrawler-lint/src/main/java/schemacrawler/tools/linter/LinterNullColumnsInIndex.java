@@ -40,6 +40,7 @@ import schemacrawler.schema.Index;
 import schemacrawler.schema.IndexColumn;
 import schemacrawler.schema.Table;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintCacheScope;
 
 public class LinterNullColumnsInIndex
   extends BaseLinter
@@ -51,6 +52,12 @@ public class LinterNullColumnsInIndex
     return "unique index with nullable columns";
   }
 
+  @Override
+  protected LintCacheScope getLintCacheScope()
+  {
+    return LintCacheScope.table;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -64,6 +71,12 @@ public class LinterNullColumnsInIndex
     }
   }
 
+  @Override
+  protected boolean usesConnection()
+  {
+    return false;
+  }
+
   private List<Index> findNullableColumnsInUniqueIndex(final Collection<Index> indexes)
   {
     final List<Index> nullableColumnsInUniqueIndex = new ArrayList<>();
@@ -39,6 +39,7 @@ import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintCacheScope;
 
 public class LinterNullIntendedColumns
   extends BaseLinter
@@ -55,6 +56,12 @@ public class LinterNullIntendedColumns
     return "column where NULL may be intended";
   }
 
+  @Override
+  protected LintCacheScope getLintCacheScope()
+  {
+    return LintCacheScope.table;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -67,6 +74,12 @@ public class LinterNullIntendedColumns
     }
   }
 
+  @Override
+  protected boolean usesConnection()
+  {
+    return false;
+  }
+
   private List<Column> findNullDefaultValueMayBeIntendedColumns(final List<Column> columns)
   {
     final List<Column> nullDefaultValueMayBeIntendedColumns = new ArrayList<>();
@@ -29,11 +29,8 @@ package schemacrawler.tools.linter;
 
 
 import static java.util.Objects.requireNonNull;
-import static schemacrawler.tools.lint.LintUtility.listStartsWith;
 
 import java.sql.Connection;
-import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -44,8 +41,8 @@ import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Index;
 import schemacrawler.schema.Table;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintCacheScope;
 import schemacrawler.tools.lint.LintSeverity;
-import schemacrawler.utility.MetaDataUtility;
 
 public class LinterRedundantIndexes
   extends BaseLinter
@@ -63,51 +60,45 @@ public class LinterRedundantIndexes
     return "redundant index";
   }
 
+  @Override
+  protected LintCacheScope getLintCacheScope()
+  {
+    return LintCacheScope.table;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
     requireNonNull(table, "No table provided");
 
-    final Set<Index> redundantIndexes = findRedundantIndexes(table
-      .getIndexes());
+    final Set<Index> redundantIndexes = findRedundantIndexes(getIndexColumnNames(table));
     for (final Index index: redundantIndexes)
     {
       addTableLint(table, getSummary(), index);
     }
   }
 
-  private Set<Index> findRedundantIndexes(final Collection<Index> indexes)
+  @Override
+  protected boolean usesConnection()
   {
-    final Set<Index> redundantIndexes = new HashSet<>();
-
-    if (indexes == null || indexes.isEmpty())
-    {
-      return redundantIndexes;
-    }
+    return false;
+  }
 
-    final Map<Index, List<String>> indexColumns = new HashMap<>(indexes.size());
-    for (final Index index: indexes)
+  private Set<Index> findRedundantIndexes(final Map<Index, List<String>> indexColumns)
+  {
+    if (indexColumns == null || indexColumns.isEmpty())
     {
-      indexColumns.put(index, MetaDataUtility.columnNames(index));
+      return new HashSet<>();
     }
 
-    for (final Entry<Index, List<String>> indexColumnEntry1: indexColumns
+    final IndexColumnsTrie<Index> indexColumnsTrie = new IndexColumnsTrie<>();
+    for (final Entry<Index, List<String>> indexColumnEntry: indexColumns
       .entrySet())
     {
-      for (final Entry<Index, List<String>> indexColumnEntry2: indexColumns
-        .entrySet())
-      {
-        if (!indexColumnEntry1.equals(indexColumnEntry2))
-        {
-          if (listStartsWith(indexColumnEntry1.getValue(),
-                             indexColumnEntry2.getValue()))
-          {
-            redundantIndexes.add(indexColumnEntry2.getKey());
-          }
-        }
-      }
+      indexColumnsTrie.add(indexColumnEntry.getKey(),
+                           indexColumnEntry.getValue());
     }
-    return redundantIndexes;
+    return indexColumnsTrie.getRedundantIndexes();
   }
 
 }
@@ -37,6 +37,7 @@ import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.View;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintCacheScope;
 
 public class LinterTableAllNullableColumns
   extends BaseLinter
@@ -48,6 +49,12 @@ public class LinterTableAllNullableColumns
     return "no non-nullable data columns";
   }
 
+  @Override
+  protected LintCacheScope getLintCacheScope()
+  {
+    return LintCacheScope.table;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -59,6 +66,12 @@ public class LinterTableAllNullableColumns
     }
   }
 
+  @Override
+  protected boolean usesConnection()
+  {
+    return false;
+  }
+
   private boolean hasAllNullableColumns(final Collection<Column> columns)
   {
     boolean hasAllNullableColumns = true;
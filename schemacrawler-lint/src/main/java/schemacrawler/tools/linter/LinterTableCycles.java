@@ -40,6 +40,7 @@ import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintCacheScope;
 import sf.util.graph.DirectedGraph;
 import sf.util.graph.TarjanStronglyConnectedComponentFinder;
 
@@ -76,6 +77,12 @@ public class LinterTableCycles
     super.end(connection);
   }
 
+  @Override
+  protected LintCacheScope getLintCacheScope()
+  {
+    return LintCacheScope.foreign_keys;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -103,4 +110,10 @@ public class LinterTableCycles
     tablesGraph = new DirectedGraph<>(getLinterId());
   }
 
+  @Override
+  protected boolean usesConnection()
+  {
+    return false;
+  }
+
 }
@@ -29,18 +29,18 @@ package schemacrawler.tools.linter;
 
 
 import static java.util.Objects.requireNonNull;
-import static schemacrawler.utility.QueryUtility.executeForLong;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.logging.Level;
 
 import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Table;
-import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.Config;
 import schemacrawler.tools.lint.BaseLinter;
 import schemacrawler.tools.lint.LintSeverity;
-import schemacrawler.utility.Identifiers;
 import schemacrawler.utility.Query;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
@@ -52,10 +52,14 @@ public class LinterTableEmpty
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(LinterTableEmpty.class.getName());
 
+  private int batchSize;
+  private TableQueryBatch tableQueryBatch;
+
   public LinterTableEmpty()
   {
     setSeverity(LintSeverity.low);
     setTableTypesFilter(new TableTypesFilter("TABLE"));
+    batchSize = 50;
   }
 
   @Override
@@ -64,28 +68,67 @@ public class LinterTableEmpty
     return "empty table";
   }
 
+  @Override
+  protected void configure(final Config config)
+  {
+    requireNonNull(config, "No configuration provided");
+
+    // Number of tables to count in a single query
+    batchSize = config.getIntegerValue("batch-size", batchSize);
+  }
+
+  @Override
+  protected void end(final Connection connection)
+  {
+    lintBatch(connection);
+    tableQueryBatch = null;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
     requireNonNull(table, "No table provided");
     requireNonNull(connection, "No connection provided");
 
-    final Query query = new Query("Count", "SELECT COUNT(*) FROM ${table}");
+    tableQueryBatch.add(table);
+    if (tableQueryBatch.isFull())
+    {
+      lintBatch(connection);
+    }
+  }
+
+  @Override
+  protected void start(final Connection connection)
+  {
+    final Query query = new Query("Count",
+                                  "SELECT COUNT(*) AS ROW_COUNT FROM ${table}");
+    tableQueryBatch = new TableQueryBatch(query, batchSize);
+  }
+
+  private void lintBatch(final Connection connection)
+  {
     try
     {
-      final Identifiers identifiers = Identifiers.identifiers()
-        .withConnection(connection).build();
-      final long count = executeForLong(query, connection, table, identifiers);
-      if (count == 0)
+      final Map<Table, Object> counts = tableQueryBatch.execute(connection);
+      for (final Entry<Table, Object> countEntry: counts.entrySet())
       {
-        addTableLint(table, getSummary());
+        final Table table = countEntry.getKey();
+        final Object count = countEntry.getValue();
+        if (!(count instanceof Number))
+        {
+          LOGGER.log(Level.WARNING,
+                     new StringFormat("Could not get count for table <%s>",
+                                      table));
+        }
+        else if (((Number) count).longValue() == 0)
+        {
+          addTableLint(table, getSummary());
+        }
       }
     }
-    catch (final SQLException | SchemaCrawlerException e)
+    catch (final SQLException e)
     {
-      LOGGER.log(Level.WARNING,
-                 new StringFormat("Could not get count for table, ", table),
-                 e);
+      LOGGER.log(Level.WARNING, "Could not get counts for tables", e);
     }
   }
 
@@ -29,21 +29,19 @@ package schemacrawler.tools.linter;
 
 
 import static java.util.Objects.requireNonNull;
-import static schemacrawler.utility.QueryUtility.executeForScalar;
 import static sf.util.Utility.isBlank;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.logging.Level;
 
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Config;
-import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.lint.BaseLinter;
-import schemacrawler.utility.Identifiers;
 import schemacrawler.utility.Query;
 import sf.util.SchemaCrawlerLogger;
-import sf.util.StringFormat;
 
 public class LinterTableSql
   extends BaseLinter
@@ -54,6 +52,8 @@ public class LinterTableSql
 
   private String message;
   private String sql;
+  private int batchSize;
+  private TableQueryBatch tableQueryBatch;
 
   @Override
   public String getSummary()
@@ -77,6 +77,22 @@ public class LinterTableSql
     {
       throw new IllegalArgumentException("No SQL provided");
     }
+
+    // Number of tables to run the SQL against in a single query. The
+    // default is to run the SQL for one table at a time, since the
+    // results for different tables may be converted to a common data
+    // type when they are combined.
+    batchSize = config.getIntegerValue("batch-size", 1);
+  }
+
+  @Override
+  protected void end(final Connection connection)
+  {
+    if (tableQueryBatch != null)
+    {
+      lintBatch(connection);
+      tableQueryBatch = null;
+    }
   }
 
   @Override
@@ -90,25 +106,45 @@ public class LinterTableSql
     requireNonNull(table, "No table provided");
     requireNonNull(connection, "No connection provided");
 
+    tableQueryBatch.add(table);
+    if (tableQueryBatch.isFull())
+    {
+      lintBatch(connection);
+    }
+  }
+
+  @Override
+  protected void start(final Connection connection)
+  {
+    if (isBlank(sql))
+    {
+      return;
+    }
+
     final Query query = new Query(message, sql);
+    tableQueryBatch = new TableQueryBatch(query, batchSize);
+  }
+
+  private void lintBatch(final Connection connection)
+  {
     try
     {
-      final Identifiers identifiers = Identifiers.identifiers()
-        .withConnection(connection).build();
-      final Object queryResult = executeForScalar(query,
-                                                  connection,
-                                                  table,
-                                                  identifiers);
-      if (queryResult != null)
+      final Map<Table, Object> queryResults = tableQueryBatch
+        .execute(connection);
+      for (final Entry<Table, Object> queryResultEntry: queryResults
+        .entrySet())
       {
-        addTableLint(table, getSummary() + " " + queryResult);
+        final Object queryResult = queryResultEntry.getValue();
+        if (queryResult != null)
+        {
+          addTableLint(queryResultEntry.getKey(),
+                       getSummary() + " " + queryResult);
+        }
       }
     }
-    catch (final SQLException | SchemaCrawlerException e)
+    catch (final SQLException e)
     {
-      LOGGER.log(Level.WARNING,
-                 new StringFormat("Could not get count for table, ", table),
-                 e);
+      LOGGER.log(Level.WARNING, "Could not run SQL for tables", e);
     }
   }
 
@@ -43,6 +43,7 @@ import schemacrawler.schemacrawler.InclusionRule;
 import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintCacheScope;
 
 public class LinterTableWithBadlyNamedColumns
   extends BaseLinter
@@ -73,6 +74,12 @@ public class LinterTableWithBadlyNamedColumns
     }
   }
 
+  @Override
+  protected LintCacheScope getLintCacheScope()
+  {
+    return LintCacheScope.table;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
     throws SchemaCrawlerException
@@ -86,6 +93,12 @@ public class LinterTableWithBadlyNamedColumns
     }
   }
 
+  @Override
+  protected boolean usesConnection()
+  {
+    return false;
+  }
+
   private List<Column> findBadlyNamedColumns(final List<Column> columns)
   {
     final List<Column> badlyNamedColumns = new ArrayList<>();
@@ -45,6 +45,7 @@ import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnDataType;
 import schemacrawler.schema.Table;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintCacheScope;
 import sf.util.Multimap;
 import sf.util.Utility;
 
@@ -91,6 +92,12 @@ public class LinterTableWithIncrementingColumns
     return "incrementing columns";
   }
 
+  @Override
+  protected LintCacheScope getLintCacheScope()
+  {
+    return LintCacheScope.table;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -104,6 +111,12 @@ public class LinterTableWithIncrementingColumns
     }
   }
 
+  @Override
+  protected boolean usesConnection()
+  {
+    return false;
+  }
+
   private void addIncrementingColumnsLints(final Table table,
                                            final List<IncrementingColumn> incrementingColumnsList)
   {
@@ -36,6 +36,7 @@ import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintCacheScope;
 import schemacrawler.tools.lint.LintSeverity;
 
 public class LinterTableWithNoPrimaryKey
@@ -54,6 +55,12 @@ public class LinterTableWithNoPrimaryKey
     return "no primary key";
   }
 
+  @Override
+  protected LintCacheScope getLintCacheScope()
+  {
+    return LintCacheScope.table;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -65,6 +72,12 @@ public class LinterTableWithNoPrimaryKey
     }
   }
 
+  @Override
+  protected boolean usesConnection()
+  {
+    return false;
+  }
+
   private boolean hasNoPrimaryKey(final Table table)
   {
     if (table.getPrimaryKey() == null)
@@ -37,6 +37,7 @@ import java.util.List;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintCacheScope;
 import schemacrawler.tools.lint.LintSeverity;
 
 /**
@@ -59,6 +60,12 @@ public class LinterTableWithNoRemarks
     return "should have remarks";
   }
 
+  @Override
+  protected LintCacheScope getLintCacheScope()
+  {
+    return LintCacheScope.table;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -76,6 +83,12 @@ public class LinterTableWithNoRemarks
     }
   }
 
+  @Override
+  protected boolean usesConnection()
+  {
+    return false;
+  }
+
   private ArrayList<String> findColumnsWithNoRemarks(final List<Column> columns)
   {
     final ArrayList<String> names = new ArrayList<>();
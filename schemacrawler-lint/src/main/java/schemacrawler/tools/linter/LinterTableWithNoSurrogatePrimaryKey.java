@@ -36,6 +36,7 @@ import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.PrimaryKey;
 import schemacrawler.schema.Table;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintCacheScope;
 import schemacrawler.tools.lint.LintSeverity;
 
 public class LinterTableWithNoSurrogatePrimaryKey
@@ -54,6 +55,12 @@ public class LinterTableWithNoSurrogatePrimaryKey
     return "primary key may not be a surrogate";
   }
 
+  @Override
+  protected LintCacheScope getLintCacheScope()
+  {
+    return LintCacheScope.table;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -65,6 +72,12 @@ public class LinterTableWithNoSurrogatePrimaryKey
     }
   }
 
+  @Override
+  protected boolean usesConnection()
+  {
+    return false;
+  }
+
   private boolean hasNoSurrogatePrimaryKey(final Table table)
   {
     final PrimaryKey primaryKey = table.getPrimaryKey();
@@ -39,6 +39,7 @@ import schemacrawler.schema.JavaSqlTypeGroup;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Config;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintCacheScope;
 import schemacrawler.tools.lint.LintSeverity;
 
 public class LinterTooManyLobs
@@ -68,6 +69,12 @@ public class LinterTooManyLobs
     maxLargeObjectsInTable = config.getIntegerValue("max-large-objects", 1);
   }
 
+  @Override
+  protected LintCacheScope getLintCacheScope()
+  {
+    return LintCacheScope.table;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -80,6 +87,12 @@ public class LinterTooManyLobs
     }
   }
 
+  @Override
+  protected boolean usesConnection()
+  {
+    return false;
+  }
+
   private ArrayList<Column> findLobColumns(final List<Column> columns)
   {
     final ArrayList<Column> lobColumns = new ArrayList<>();
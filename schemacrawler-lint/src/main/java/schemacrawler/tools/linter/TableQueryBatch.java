@@ -0,0 +1,153 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.linter;
+
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.utility.QueryUtility.executeForScalar;
+import static schemacrawler.utility.QueryUtility.executeForScalars;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.utility.Identifiers;
+import schemacrawler.utility.Query;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Runs a query that returns a scalar value against tables in batches,
+ * with a single round trip to the database for each batch. Tables are
+ * added as they are linted, and the query is run when the batch is
+ * full, or when linting ends. If the query cannot be run for a batch, it
+ * is run for one table at a time, so that no lints are lost.
+ *
+ * @author Sualeh Fatehi
+ */
+final class TableQueryBatch
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(TableQueryBatch.class.getName());
+
+  private final Query query;
+  private final int batchSize;
+  private final List<Table> tables;
+
+  TableQueryBatch(final Query query, final int batchSize)
+  {
+    this.query = requireNonNull(query, "No query provided");
+    this.batchSize = Math.max(1, batchSize);
+    tables = new ArrayList<>();
+  }
+
+  void add(final Table table)
+  {
+    requireNonNull(table, "No table provided");
+    tables.add(table);
+  }
+
+  /**
+   * Runs the query against the tables in the batch, and clears the
+   * batch.
+   *
+   * @param connection
+   *        Database connection
+   * @return Scalar value for each table, in table order, with null if no
+   *         rows were returned for a table. Tables that the query could
+   *         not be run against are left out.
+   * @throws SQLException
+   *         On an exception getting identifiers from the connection
+   */
+  Map<Table, Object> execute(final Connection connection)
+    throws SQLException
+  {
+    requireNonNull(connection, "No connection provided");
+    if (tables.isEmpty())
+    {
+      return Collections.emptyMap();
+    }
+
+    final List<Table> batch = new ArrayList<>(tables);
+    tables.clear();
+
+    final Identifiers identifiers = Identifiers.identifiers()
+      .withConnection(connection).build();
+
+    if (batch.size() > 1)
+    {
+      try
+      {
+        return executeForScalars(query, connection, batch, identifiers);
+      }
+      catch (final SchemaCrawlerException e)
+      {
+        LOGGER
+          .log(Level.FINE,
+               new StringFormat("Could not run <%s> for %d tables at a time, so running it for one table at a time",
+                                query.getName(),
+                                batch.size()),
+               e);
+      }
+    }
+
+    final Map<Table, Object> scalars = new LinkedHashMap<>();
+    for (final Table table: batch)
+    {
+      try
+      {
+        scalars.put(table,
+                    executeForScalar(query, connection, table, identifiers));
+      }
+      catch (final SchemaCrawlerException e)
+      {
+        LOGGER.log(Level.WARNING,
+                   new StringFormat("Could not run <%s> for table <%s>",
+                                    query.getName(),
+                                    table),
+                   e);
+      }
+    }
+    return scalars;
+  }
+
+  boolean isFull()
+  {
+    return tables.size() >= batchSize;
+  }
+
+}
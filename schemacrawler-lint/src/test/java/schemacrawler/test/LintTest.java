@@ -31,8 +31,16 @@ package schemacrawler.test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import org.junit.Test;
 
@@ -46,6 +54,7 @@ import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.test.utility.BaseDatabaseTest;
 import schemacrawler.test.utility.TestWriter;
 import schemacrawler.tools.lint.Lint;
+import schemacrawler.tools.lint.LintCache;
 import schemacrawler.tools.lint.LintCollector;
 import schemacrawler.tools.lint.LintedCatalog;
 import schemacrawler.tools.lint.LinterConfig;
@@ -108,6 +117,100 @@ public class LintTest
     }
   }
 
+  @Test
+  public void lintsConcurrently()
+    throws Exception
+  {
+    final SchemaCrawlerOptionsBuilder schemaCrawlerOptionsBuilder = new SchemaCrawlerOptionsBuilder()
+      .tableTypes(Arrays.asList("TABLE", "VIEW", "GLOBAL TEMPORARY"))
+      .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptionsBuilder
+      .toOptions();
+
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+    assertNotNull(catalog);
+
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+    final LinterConfig linterConfig = new LinterConfig("schemacrawler.tools.linter.LinterTableWithBadlyNamedColumns");
+    linterConfig.setThreshold(0);
+    linterConfig.put("bad-column-names", ".*\\.COUNTRY");
+    linterConfigs.add(linterConfig);
+
+    final Linters linters = new Linters(linterConfigs);
+    linters.setPoolSize(4);
+    linters.setDataSource(getDataSource());
+
+    final LintedCatalog lintedDatabase = new LintedCatalog(catalog,
+                                                           getConnection(),
+                                                           linters);
+    final LintCollector lintCollector = lintedDatabase.getCollector();
+    assertEquals(51, lintCollector.size());
+
+    try (final TestWriter out = new TestWriter("text");)
+    {
+      for (final Lint<?> lint: lintCollector)
+      {
+        out.println(lint);
+      }
+
+      out.assertEquals(LINTS_OUTPUT + "schemacrawler.lints.txt");
+    }
+  }
+
+  @Test
+  public void lintsWithBatchedSql()
+    throws Exception
+  {
+    final List<String> lints = lintWithSql(1);
+    final List<String> batchedLints = lintWithSql(3);
+
+    assertTrue(lints.contains("[PUBLIC.FOR_LINT.WRITERS] row count 0"));
+    assertEquals(lints, batchedLints);
+  }
+
+  @Test
+  public void lintsWithCache()
+    throws Exception
+  {
+    final Path cacheFile = Files.createTempFile("schemacrawler", ".lintcache");
+    Files.delete(cacheFile);
+
+    final LintCache lintCache = new LintCache(cacheFile);
+    final List<String> lints = lintWithCache(lintCache);
+    lintCache.save();
+    assertTrue(lintCache.size() > 0);
+
+    // Lint again, reusing lints from the cache file
+    final LintCache savedLintCache = new LintCache(cacheFile);
+    final List<String> cachedLints = lintWithCache(savedLintCache);
+    assertEquals(lintCache.size(), savedLintCache.size());
+    assertEquals(lints, cachedLints);
+
+    Files.delete(cacheFile);
+  }
+
+  @Test
+  public void lintsWithUnsafeCache()
+    throws Exception
+  {
+    final Path cacheFile = Files.createTempFile("schemacrawler", ".lintcache");
+    try (
+        final ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(Files
+          .newOutputStream(cacheFile)));)
+    {
+      out.writeInt(1);
+      out.writeObject(new Date());
+    }
+
+    // Classes that are not saved by the lint cache are not read, and
+    // the cache file is ignored
+    final List<String> cachedLints = lintWithCache(new LintCache(cacheFile));
+    Files.delete(cacheFile);
+    final List<String> lints = lintWithCache(new LintCache(cacheFile));
+    assertTrue(lints.size() > 0);
+    assertEquals(lints, cachedLints);
+  }
+
   @Test
   public void lintsWithExcludedColumns()
     throws Exception
@@ -149,4 +252,66 @@ public class LintTest
     }
   }
 
+  private List<String> lintWithCache(final LintCache lintCache)
+    throws Exception
+  {
+    final SchemaCrawlerOptionsBuilder schemaCrawlerOptionsBuilder = new SchemaCrawlerOptionsBuilder()
+      .tableTypes(Arrays.asList("TABLE", "VIEW", "GLOBAL TEMPORARY"))
+      .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"));
+    final Catalog catalog = getCatalog(schemaCrawlerOptionsBuilder
+      .toOptions());
+
+    final Linters linters = new Linters(new LinterConfigs(new Config()));
+    linters.setLintCache(lintCache);
+    final LintedCatalog lintedDatabase = new LintedCatalog(catalog,
+                                                           getConnection(),
+                                                           linters);
+
+    final List<String> lints = new ArrayList<>();
+    for (final Lint<?> lint: lintedDatabase.getCollector())
+    {
+      lints.add(lint.toString());
+    }
+    return lints;
+  }
+
+  private List<String> lintWithSql(final int batchSize)
+    throws Exception
+  {
+    final SchemaCrawlerOptionsBuilder schemaCrawlerOptionsBuilder = new SchemaCrawlerOptionsBuilder()
+      .tableTypes(Arrays.asList("TABLE", "VIEW", "GLOBAL TEMPORARY"))
+      .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"));
+    final Catalog catalog = getCatalog(schemaCrawlerOptionsBuilder
+      .toOptions());
+
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+    final LinterConfig countLinterConfig = new LinterConfig("schemacrawler.tools.linter.LinterTableSql");
+    countLinterConfig.put("message", "row count");
+    countLinterConfig.put("sql", "SELECT COUNT(*) FROM ${table}");
+    countLinterConfig.put("batch-size", String.valueOf(batchSize));
+    linterConfigs.add(countLinterConfig);
+    final LinterConfig nameLinterConfig = new LinterConfig("schemacrawler.tools.linter.LinterTableSql");
+    nameLinterConfig.put("message", "table name");
+    // Cannot be combined into a single query, so is run for one table
+    // at a time
+    nameLinterConfig.put("sql", "SELECT '${tablename}' FROM (VALUES(0));");
+    nameLinterConfig.put("batch-size", String.valueOf(batchSize));
+    linterConfigs.add(nameLinterConfig);
+    final LinterConfig emptyLinterConfig = new LinterConfig("schemacrawler.tools.linter.LinterTableEmpty");
+    emptyLinterConfig.put("batch-size", String.valueOf(batchSize));
+    linterConfigs.add(emptyLinterConfig);
+
+    final Linters linters = new Linters(linterConfigs);
+    final LintedCatalog lintedDatabase = new LintedCatalog(catalog,
+                                                           getConnection(),
+                                                           linters);
+
+    final List<String> lints = new ArrayList<>();
+    for (final Lint<?> lint: lintedDatabase.getCollector())
+    {
+      lints.add(lint.toString());
+    }
+    return lints;
+  }
+
 }
@@ -0,0 +1,164 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.linter;
+
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static schemacrawler.tools.lint.LintUtility.listStartsWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class IndexColumnsTrieTest
+{
+
+  @Test
+  public void emptyColumnLists()
+  {
+    final Map<String, List<String>> indexColumns = new LinkedHashMap<>();
+    indexColumns.put("IDX_EMPTY", emptyList());
+    assertRedundantIndexes(indexColumns);
+
+    indexColumns.put("IDX_A", asList("A"));
+    assertRedundantIndexes(indexColumns, "IDX_EMPTY");
+
+    indexColumns.put("IDX_EMPTY_2", emptyList());
+    assertRedundantIndexes(indexColumns, "IDX_EMPTY", "IDX_EMPTY_2");
+  }
+
+  @Test
+  public void equalColumnLists()
+  {
+    final Map<String, List<String>> indexColumns = new LinkedHashMap<>();
+    indexColumns.put("IDX_AB_1", asList("A", "B"));
+    indexColumns.put("IDX_AB_2", asList("A", "B"));
+    indexColumns.put("IDX_BA", asList("B", "A"));
+    assertRedundantIndexes(indexColumns, "IDX_AB_1", "IDX_AB_2");
+  }
+
+  @Test
+  public void noIndexes()
+  {
+    assertRedundantIndexes(new LinkedHashMap<>());
+  }
+
+  @Test
+  public void randomColumnLists()
+  {
+    final Random random = new Random(1L);
+    final List<String> columns = asList("A", "B", "C", "D");
+    for (int table = 0; table < 500; table++)
+    {
+      final Map<String, List<String>> indexColumns = new LinkedHashMap<>();
+      final int indexes = random.nextInt(8);
+      for (int i = 0; i < indexes; i++)
+      {
+        final List<String> columnNames = new ArrayList<>();
+        final int width = random.nextInt(4);
+        for (int j = 0; j < width; j++)
+        {
+          columnNames.add(columns.get(random.nextInt(columns.size())));
+        }
+        indexColumns.put("IDX_" + i, columnNames);
+      }
+      assertEquals(indexColumns.toString(),
+                   findRedundantIndexesPairwise(indexColumns),
+                   findRedundantIndexes(indexColumns));
+    }
+  }
+
+  @Test
+  public void sharedPrefixes()
+  {
+    final Map<String, List<String>> indexColumns = new LinkedHashMap<>();
+    indexColumns.put("IDX_A", asList("A"));
+    indexColumns.put("IDX_AB", asList("A", "B"));
+    indexColumns.put("IDX_ABC", asList("A", "B", "C"));
+    indexColumns.put("IDX_AC", asList("A", "C"));
+    indexColumns.put("IDX_B", asList("B"));
+    indexColumns.put("IDX_BC", asList("B", "C"));
+    assertRedundantIndexes(indexColumns, "IDX_A", "IDX_AB", "IDX_B");
+  }
+
+  private void assertRedundantIndexes(final Map<String, List<String>> indexColumns,
+                                      final String... expectedIndexes)
+  {
+    final Set<String> expected = new HashSet<>(asList(expectedIndexes));
+    assertEquals(expected, findRedundantIndexesPairwise(indexColumns));
+    assertEquals(expected, findRedundantIndexes(indexColumns));
+  }
+
+  private Set<String> findRedundantIndexes(final Map<String, List<String>> indexColumns)
+  {
+    final IndexColumnsTrie<String> indexColumnsTrie = new IndexColumnsTrie<>();
+    for (final Entry<String, List<String>> indexColumnEntry: indexColumns
+      .entrySet())
+    {
+      indexColumnsTrie.add(indexColumnEntry.getKey(),
+                           indexColumnEntry.getValue());
+    }
+    return indexColumnsTrie.getRedundantIndexes();
+  }
+
+  /**
+   * Redundant index detection before the trie was used.
+   */
+  private Set<String> findRedundantIndexesPairwise(final Map<String, List<String>> indexColumns)
+  {
+    final Set<String> redundantIndexes = new HashSet<>();
+    for (final Entry<String, List<String>> indexColumnEntry1: indexColumns
+      .entrySet())
+    {
+      for (final Entry<String, List<String>> indexColumnEntry2: indexColumns
+        .entrySet())
+      {
+        if (!indexColumnEntry1.equals(indexColumnEntry2))
+        {
+          if (listStartsWith(indexColumnEntry1.getValue(),
+                             indexColumnEntry2.getValue()))
+          {
+            redundantIndexes.add(indexColumnEntry2.getKey());
+          }
+        }
+      }
+    }
+    return redundantIndexes;
+  }
+
+}
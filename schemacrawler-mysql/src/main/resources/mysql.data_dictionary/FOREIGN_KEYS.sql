@@ -0,0 +1,42 @@
+SELECT
+  KEY_COLUMNS.REFERENCED_TABLE_SCHEMA AS PKTABLE_CAT,
+  NULL AS PKTABLE_SCHEM,
+  KEY_COLUMNS.REFERENCED_TABLE_NAME AS PKTABLE_NAME,
+  KEY_COLUMNS.REFERENCED_COLUMN_NAME AS PKCOLUMN_NAME,
+  KEY_COLUMNS.TABLE_SCHEMA AS FKTABLE_CAT,
+  NULL AS FKTABLE_SCHEM,
+  KEY_COLUMNS.TABLE_NAME AS FKTABLE_NAME,
+  KEY_COLUMNS.COLUMN_NAME AS FKCOLUMN_NAME,
+  KEY_COLUMNS.ORDINAL_POSITION AS KEY_SEQ,
+  CASE REFERENTIAL_CONSTRAINTS.UPDATE_RULE
+    WHEN 'CASCADE' THEN 0
+    WHEN 'RESTRICT' THEN 1
+    WHEN 'SET NULL' THEN 2
+    WHEN 'NO ACTION' THEN 3
+    WHEN 'SET DEFAULT' THEN 4
+  END AS UPDATE_RULE,
+  CASE REFERENTIAL_CONSTRAINTS.DELETE_RULE
+    WHEN 'CASCADE' THEN 0
+    WHEN 'RESTRICT' THEN 1
+    WHEN 'SET NULL' THEN 2
+    WHEN 'NO ACTION' THEN 3
+    WHEN 'SET DEFAULT' THEN 4
+  END AS DELETE_RULE,
+  KEY_COLUMNS.CONSTRAINT_NAME AS FK_NAME,
+  REFERENTIAL_CONSTRAINTS.UNIQUE_CONSTRAINT_NAME AS PK_NAME,
+  7 AS DEFERRABILITY
+FROM
+  INFORMATION_SCHEMA.KEY_COLUMN_USAGE KEY_COLUMNS
+  INNER JOIN INFORMATION_SCHEMA.REFERENTIAL_CONSTRAINTS REFERENTIAL_CONSTRAINTS
+    ON REFERENTIAL_CONSTRAINTS.CONSTRAINT_SCHEMA = KEY_COLUMNS.CONSTRAINT_SCHEMA
+      AND REFERENTIAL_CONSTRAINTS.CONSTRAINT_NAME = KEY_COLUMNS.CONSTRAINT_NAME
+      AND REFERENTIAL_CONSTRAINTS.TABLE_NAME = KEY_COLUMNS.TABLE_NAME
+WHERE
+  KEY_COLUMNS.REFERENCED_TABLE_NAME IS NOT NULL
+  AND ((${schemafilter:KEY_COLUMNS.TABLE_SCHEMA} AND KEY_COLUMNS.TABLE_SCHEMA REGEXP '${schemas}')
+    OR (${schemafilter:KEY_COLUMNS.REFERENCED_TABLE_SCHEMA} AND KEY_COLUMNS.REFERENCED_TABLE_SCHEMA REGEXP '${schemas}'))
+ORDER BY
+  FKTABLE_CAT,
+  FKTABLE_NAME,
+  FK_NAME,
+  KEY_SEQ
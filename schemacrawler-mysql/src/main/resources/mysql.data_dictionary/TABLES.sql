@@ -0,0 +1,18 @@
+SELECT
+  TABLE_SCHEMA AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLE_NAME,
+  CASE TABLE_TYPE
+    WHEN 'BASE TABLE' THEN 'TABLE'
+    ELSE TABLE_TYPE
+  END AS TABLE_TYPE,
+  TABLE_COMMENT AS REMARKS
+FROM
+  INFORMATION_SCHEMA.TABLES
+WHERE
+  ${schemafilter:TABLE_SCHEMA}
+  AND TABLE_SCHEMA REGEXP '${schemas}'
+ORDER BY
+  TABLE_TYPE,
+  TABLE_CAT,
+  TABLE_NAME
@@ -0,0 +1,70 @@
+SELECT
+  TABLE_SCHEMA AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLE_NAME,
+  COLUMN_NAME,
+  CASE DATA_TYPE
+    WHEN 'tinyint' THEN -6
+    WHEN 'smallint' THEN 5
+    WHEN 'mediumint' THEN 4
+    WHEN 'int' THEN 4
+    WHEN 'bigint' THEN -5
+    WHEN 'float' THEN 7
+    WHEN 'double' THEN 8
+    WHEN 'decimal' THEN 3
+    WHEN 'bit' THEN -7
+    WHEN 'char' THEN 1
+    WHEN 'enum' THEN 1
+    WHEN 'set' THEN 1
+    WHEN 'varchar' THEN 12
+    WHEN 'tinytext' THEN 12
+    WHEN 'text' THEN -1
+    WHEN 'mediumtext' THEN -1
+    WHEN 'longtext' THEN -1
+    WHEN 'json' THEN -1
+    WHEN 'binary' THEN -2
+    WHEN 'varbinary' THEN -3
+    WHEN 'tinyblob' THEN -3
+    WHEN 'blob' THEN -4
+    WHEN 'mediumblob' THEN -4
+    WHEN 'longblob' THEN -4
+    WHEN 'date' THEN 91
+    WHEN 'year' THEN 91
+    WHEN 'time' THEN 92
+    WHEN 'datetime' THEN 93
+    WHEN 'timestamp' THEN 93
+    ELSE 1111
+  END AS DATA_TYPE,
+  CASE
+    WHEN COLUMN_TYPE LIKE '%unsigned%'
+    THEN CONCAT(UPPER(DATA_TYPE), ' UNSIGNED')
+    ELSE UPPER(DATA_TYPE)
+  END AS TYPE_NAME,
+  COALESCE(CHARACTER_MAXIMUM_LENGTH,
+    NUMERIC_PRECISION,
+    DATETIME_PRECISION,
+    0) AS COLUMN_SIZE,
+  COALESCE(NUMERIC_SCALE, 0) AS DECIMAL_DIGITS,
+  10 AS NUM_PREC_RADIX,
+  CASE IS_NULLABLE WHEN 'YES' THEN 1 ELSE 0 END AS NULLABLE,
+  COLUMN_COMMENT AS REMARKS,
+  COLUMN_DEFAULT AS COLUMN_DEF,
+  ORDINAL_POSITION,
+  IS_NULLABLE,
+  CASE
+    WHEN EXTRA LIKE '%auto_increment%' THEN 'YES'
+    ELSE 'NO'
+  END AS IS_AUTOINCREMENT,
+  CASE
+    WHEN EXTRA LIKE '%GENERATED%' THEN 'YES'
+    ELSE 'NO'
+  END AS IS_GENERATEDCOLUMN
+FROM
+  INFORMATION_SCHEMA.COLUMNS
+WHERE
+  ${schemafilter:TABLE_SCHEMA}
+  AND TABLE_SCHEMA REGEXP '${schemas}'
+ORDER BY
+  TABLE_CAT,
+  TABLE_NAME,
+  ORDINAL_POSITION
@@ -0,0 +1,20 @@
+SELECT
+  TABLE_SCHEMA AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLE_NAME,
+  COLUMN_NAME,
+  NULL AS GRANTOR,
+  GRANTEE,
+  PRIVILEGE_TYPE AS PRIVILEGE,
+  IS_GRANTABLE
+FROM
+  INFORMATION_SCHEMA.COLUMN_PRIVILEGES
+WHERE
+  ${schemafilter:TABLE_SCHEMA}
+  AND TABLE_SCHEMA REGEXP '${schemas}'
+ORDER BY
+  TABLE_CAT,
+  TABLE_NAME,
+  COLUMN_NAME,
+  PRIVILEGE,
+  GRANTEE
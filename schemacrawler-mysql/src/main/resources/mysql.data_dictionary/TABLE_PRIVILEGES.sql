@@ -0,0 +1,18 @@
+SELECT
+  TABLE_SCHEMA AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLE_NAME,
+  NULL AS GRANTOR,
+  GRANTEE,
+  PRIVILEGE_TYPE AS PRIVILEGE,
+  IS_GRANTABLE
+FROM
+  INFORMATION_SCHEMA.TABLE_PRIVILEGES
+WHERE
+  ${schemafilter:TABLE_SCHEMA}
+  AND TABLE_SCHEMA REGEXP '${schemas}'
+ORDER BY
+  TABLE_CAT,
+  TABLE_NAME,
+  PRIVILEGE,
+  GRANTEE
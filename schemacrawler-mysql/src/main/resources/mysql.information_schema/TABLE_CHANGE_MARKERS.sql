@@ -0,0 +1,10 @@
+SELECT
+  TABLE_SCHEMA AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLE_NAME,
+  CONCAT_WS('/', TABLE_TYPE, CREATE_TIME, UPDATE_TIME) AS CHANGE_MARKER
+FROM
+  INFORMATION_SCHEMA.TABLES
+WHERE
+  ${schemafilter:TABLE_SCHEMA}
+  AND TABLE_SCHEMA REGEXP '${schemas}'
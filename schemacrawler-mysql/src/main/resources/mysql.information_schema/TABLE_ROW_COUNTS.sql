@@ -0,0 +1,12 @@
+SELECT
+  TABLE_SCHEMA AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLE_NAME,
+  TABLE_ROWS AS ROW_COUNT
+FROM
+  INFORMATION_SCHEMA.TABLES
+WHERE
+  TABLE_TYPE = 'BASE TABLE'
+  AND TABLE_ROWS IS NOT NULL
+  AND ${schemafilter:TABLE_SCHEMA}
+  AND TABLE_SCHEMA REGEXP '${schemas}'
@@ -2,7 +2,9 @@ package schemacrawler.tools.offline;
 
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.util.logging.Level;
@@ -15,6 +17,7 @@ import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
 import schemacrawler.tools.catalogloader.CatalogLoader;
+import schemacrawler.tools.integration.serialization.BinarySerializedCatalog;
 import schemacrawler.tools.integration.serialization.XmlSerializedCatalog;
 import schemacrawler.tools.offline.jdbc.OfflineConnection;
 import schemacrawler.tools.options.OutputOptions;
@@ -64,6 +67,32 @@ public final class OfflineCatalogLoader
 
     final Path offlineDatabasePath = ((OfflineConnection) connection)
       .getOfflineDatabasePath();
+
+    // Binary snapshots are detected from their magic number, and any
+    // other snapshot is read as compressed XML
+    final boolean isBinarySnapshot;
+    try
+    {
+      isBinarySnapshot = BinarySerializedCatalog
+        .isBinarySerializedCatalog(offlineDatabasePath);
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException("Cannot open offline snapshot", e);
+    }
+    if (isBinarySnapshot)
+    {
+      try (final InputStream snapshotStream = Files
+        .newInputStream(offlineDatabasePath);)
+      {
+        return new BinarySerializedCatalog(snapshotStream);
+      }
+      catch (final IOException e)
+      {
+        throw new SchemaCrawlerException("Cannot open input stream", e);
+      }
+    }
+
     final OutputOptions inputOptions = new OutputOptionsBuilder()
       .fromConfig(additionalConfiguration)
       .withCompressedInputFile(offlineDatabasePath).toOptions();
@@ -18,6 +18,7 @@ WHERE
     'WMSYS', 'XDB', 'XS$NULL', 'RDSADMIN')  
   AND NOT REGEXP_LIKE(FOREIGN_KEYS.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(FOREIGN_KEYS.OWNER, '^FLOWS_[0-9]{5,6}$')
+  AND ${schemafilter:FOREIGN_KEYS.OWNER}
   AND REGEXP_LIKE(FOREIGN_KEYS.OWNER, '${schemas}')
   AND FOREIGN_KEYS.TABLE_NAME NOT LIKE 'BIN$%'
   AND FOREIGN_KEYS.CONSTRAINT_TYPE = 'R'
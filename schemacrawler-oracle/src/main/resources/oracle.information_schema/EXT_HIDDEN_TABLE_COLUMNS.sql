@@ -16,6 +16,7 @@ WHERE
     'WMSYS', 'XDB', 'XS$NULL', 'RDSADMIN')  
   AND NOT REGEXP_LIKE(COLUMNS.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(COLUMNS.OWNER, '^FLOWS_[0-9]{5,6}$')
+  AND ${schemafilter:COLUMNS.OWNER}
   AND REGEXP_LIKE(COLUMNS.OWNER, '${schemas}')
   AND COLUMNS.TABLE_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(COLUMNS.TABLE_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
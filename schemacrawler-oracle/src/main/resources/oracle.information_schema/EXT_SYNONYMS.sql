@@ -18,6 +18,7 @@ WHERE
     'WMSYS', 'XDB', 'XS$NULL', 'RDSADMIN')  
   AND NOT REGEXP_LIKE(SYNONYMS.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(SYNONYMS.OWNER, '^FLOWS_[0-9]{5,6}$')
+  AND ${schemafilter:SYNONYMS.OWNER}
   AND REGEXP_LIKE(SYNONYMS.OWNER, '${schemas}')
   AND SYNONYMS.TABLE_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(SYNONYMS.TABLE_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
@@ -17,6 +17,7 @@ WHERE
     'WMSYS', 'XDB', 'XS$NULL', 'RDSADMIN')  
   AND NOT REGEXP_LIKE(TABLES.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(TABLES.OWNER, '^FLOWS_[0-9]{5}$')
+  AND ${schemafilter:TABLES.OWNER}
   AND REGEXP_LIKE(TABLES.OWNER, '${schemas}')
   AND TABLES.TABLE_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(TABLES.TABLE_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
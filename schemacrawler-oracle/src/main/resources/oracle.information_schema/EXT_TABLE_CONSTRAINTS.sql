@@ -18,6 +18,7 @@ WHERE
     'WMSYS', 'XDB', 'XS$NULL', 'RDSADMIN')  
   AND NOT REGEXP_LIKE(CONSTRAINTS.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(CONSTRAINTS.OWNER, '^FLOWS_[0-9]{5,6}$')
+  AND ${schemafilter:CONSTRAINTS.OWNER}
   AND REGEXP_LIKE(CONSTRAINTS.OWNER, '${schemas}')
   AND CONSTRAINTS.TABLE_NAME NOT LIKE 'BIN$%'
   AND CONSTRAINT_TYPE IN ('C', 'U')
\ No newline at end of file
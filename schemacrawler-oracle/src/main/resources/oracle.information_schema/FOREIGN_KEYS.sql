@@ -29,6 +29,7 @@ WHERE 1 = 1
     'WMSYS', 'XDB', 'XS$NULL', 'RDSADMIN')  
   AND NOT REGEXP_LIKE(F.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(F.OWNER, '^FLOWS_[0-9]{5,6}$')
+  AND ${schemafilter:F.OWNER}
   AND REGEXP_LIKE(F.OWNER, '${schemas}')
   AND P.OWNER NOT IN 
     ('ANONYMOUS', 'APEX_PUBLIC_USER', 'APPQOSSYS', 'BI', 'CTXSYS', 'DBSNMP', 'DIP', 
@@ -40,6 +41,7 @@ WHERE 1 = 1
     'WMSYS', 'XDB', 'XS$NULL', 'RDSADMIN')  
   AND NOT REGEXP_LIKE(P.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(P.OWNER, '^FLOWS_[0-9]{5,6}$')
+  AND ${schemafilter:P.OWNER}
   AND REGEXP_LIKE(P.OWNER, '${schemas}')
   AND F.CONSTRAINT_TYPE = 'R'
   AND P.OWNER = F.R_OWNER
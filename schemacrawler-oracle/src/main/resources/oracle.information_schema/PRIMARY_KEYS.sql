@@ -24,6 +24,7 @@ WHERE
     'WMSYS', 'XDB', 'XS$NULL', 'RDSADMIN')  
   AND NOT REGEXP_LIKE(PRIMARY_KEYS.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(PRIMARY_KEYS.OWNER, '^FLOWS_[0-9]{5,6}$')
+  AND ${schemafilter:PRIMARY_KEYS.OWNER}
   AND REGEXP_LIKE(PRIMARY_KEYS.OWNER, '${schemas}')
   AND PRIMARY_KEYS.TABLE_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(PRIMARY_KEYS.TABLE_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
@@ -19,6 +19,7 @@ WHERE
     'WMSYS', 'XDB', 'XS$NULL', 'RDSADMIN')  
   AND NOT REGEXP_LIKE(PROCEDURES.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(PROCEDURES.OWNER, '^FLOWS_[0-9]{5,6}$')
+  AND ${schemafilter:PROCEDURES.OWNER}
   AND REGEXP_LIKE(PROCEDURES.OWNER, '${schemas}')
 ORDER BY
   ROUTINE_SCHEMA,
@@ -22,6 +22,7 @@ WHERE
     'WMSYS', 'XDB', 'XS$NULL', 'RDSADMIN')  
   AND NOT REGEXP_LIKE(SEQUENCES.SEQUENCE_OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(SEQUENCES.SEQUENCE_OWNER, '^FLOWS_[0-9]{5,6}$')
+  AND ${schemafilter:SEQUENCES.SEQUENCE_OWNER}
   AND REGEXP_LIKE(SEQUENCES.SEQUENCE_OWNER, '${schemas}')
 ORDER BY
   SEQUENCE_OWNER,
@@ -0,0 +1,21 @@
+SELECT /*+ PARALLEL(AUTO) */
+  NULL AS TABLE_CAT,
+  OBJECTS.OWNER AS TABLE_SCHEM,
+  OBJECTS.OBJECT_NAME AS TABLE_NAME,
+  TO_CHAR(OBJECTS.LAST_DDL_TIME, 'YYYY-MM-DD"T"HH24:MI:SS')
+    || '/' || (SELECT TO_CHAR(MAX(INDEXES.LAST_DDL_TIME), 'YYYY-MM-DD"T"HH24:MI:SS')
+      FROM ALL_INDEXES INDEX_INFO
+      INNER JOIN ALL_OBJECTS INDEXES
+        ON INDEXES.OWNER = INDEX_INFO.OWNER
+          AND INDEXES.OBJECT_NAME = INDEX_INFO.INDEX_NAME
+          AND INDEXES.OBJECT_TYPE = 'INDEX'
+      WHERE INDEX_INFO.TABLE_OWNER = OBJECTS.OWNER
+        AND INDEX_INFO.TABLE_NAME = OBJECTS.OBJECT_NAME)
+    AS CHANGE_MARKER
+FROM
+  ALL_OBJECTS OBJECTS
+WHERE
+  OBJECTS.OBJECT_TYPE IN ('TABLE', 'VIEW', 'MATERIALIZED VIEW')
+  AND OBJECTS.OBJECT_NAME NOT LIKE 'BIN$%'
+  AND ${schemafilter:OBJECTS.OWNER}
+  AND REGEXP_LIKE(OBJECTS.OWNER, '${schemas}')
@@ -0,0 +1,12 @@
+SELECT
+  NULL AS TABLE_CAT,
+  TABLES.OWNER AS TABLE_SCHEM,
+  TABLES.TABLE_NAME,
+  TABLES.NUM_ROWS AS ROW_COUNT
+FROM
+  ALL_TABLES TABLES
+WHERE
+  TABLES.NUM_ROWS IS NOT NULL
+  AND TABLES.TABLE_NAME NOT LIKE 'BIN$%'
+  AND ${schemafilter:TABLES.OWNER}
+  AND REGEXP_LIKE(TABLES.OWNER, '${schemas}')
@@ -41,5 +41,6 @@ WHERE
     'WMSYS', 'XDB', 'XS$NULL', 'RDSADMIN')  
   AND NOT REGEXP_LIKE(TRIGGERS.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(TRIGGERS.OWNER, '^FLOWS_[0-9]{5,6}$')
+  AND ${schemafilter:TRIGGERS.OWNER}
   AND REGEXP_LIKE(TRIGGERS.OWNER, '${schemas}')
 
@@ -0,0 +1,60 @@
+SELECT
+  NULL AS PKTABLE_CAT,
+  PK_NAMESPACES.NSPNAME AS PKTABLE_SCHEM,
+  PK_TABLES.RELNAME AS PKTABLE_NAME,
+  PK_ATTRIBUTES.ATTNAME AS PKCOLUMN_NAME,
+  NULL AS FKTABLE_CAT,
+  FK_NAMESPACES.NSPNAME AS FKTABLE_SCHEM,
+  FK_TABLES.RELNAME AS FKTABLE_NAME,
+  FK_ATTRIBUTES.ATTNAME AS FKCOLUMN_NAME,
+  KEYS.POSITION AS KEY_SEQ,
+  CASE FOREIGN_KEYS.CONFUPDTYPE
+    WHEN 'c' THEN 0
+    WHEN 'r' THEN 1
+    WHEN 'n' THEN 2
+    WHEN 'a' THEN 3
+    WHEN 'd' THEN 4
+  END AS UPDATE_RULE,
+  CASE FOREIGN_KEYS.CONFDELTYPE
+    WHEN 'c' THEN 0
+    WHEN 'r' THEN 1
+    WHEN 'n' THEN 2
+    WHEN 'a' THEN 3
+    WHEN 'd' THEN 4
+  END AS DELETE_RULE,
+  FOREIGN_KEYS.CONNAME AS FK_NAME,
+  PK_INDEXES.RELNAME AS PK_NAME,
+  CASE
+    WHEN FOREIGN_KEYS.CONDEFERRABLE AND FOREIGN_KEYS.CONDEFERRED THEN 5
+    WHEN FOREIGN_KEYS.CONDEFERRABLE THEN 6
+    ELSE 7
+  END AS DEFERRABILITY
+FROM
+  PG_CATALOG.PG_CONSTRAINT FOREIGN_KEYS
+  CROSS JOIN LATERAL UNNEST(FOREIGN_KEYS.CONKEY, FOREIGN_KEYS.CONFKEY)
+    WITH ORDINALITY AS KEYS(FK_ATTNUM, PK_ATTNUM, POSITION)
+  INNER JOIN PG_CATALOG.PG_CLASS FK_TABLES
+    ON FK_TABLES.OID = FOREIGN_KEYS.CONRELID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE FK_NAMESPACES
+    ON FK_NAMESPACES.OID = FK_TABLES.RELNAMESPACE
+  INNER JOIN PG_CATALOG.PG_ATTRIBUTE FK_ATTRIBUTES
+    ON FK_ATTRIBUTES.ATTRELID = FOREIGN_KEYS.CONRELID
+      AND FK_ATTRIBUTES.ATTNUM = KEYS.FK_ATTNUM
+  INNER JOIN PG_CATALOG.PG_CLASS PK_TABLES
+    ON PK_TABLES.OID = FOREIGN_KEYS.CONFRELID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE PK_NAMESPACES
+    ON PK_NAMESPACES.OID = PK_TABLES.RELNAMESPACE
+  INNER JOIN PG_CATALOG.PG_ATTRIBUTE PK_ATTRIBUTES
+    ON PK_ATTRIBUTES.ATTRELID = FOREIGN_KEYS.CONFRELID
+      AND PK_ATTRIBUTES.ATTNUM = KEYS.PK_ATTNUM
+  LEFT OUTER JOIN PG_CATALOG.PG_CLASS PK_INDEXES
+    ON PK_INDEXES.OID = FOREIGN_KEYS.CONINDID
+WHERE
+  FOREIGN_KEYS.CONTYPE = 'f'
+  AND ((${schemafilter:FK_NAMESPACES.NSPNAME} AND FK_NAMESPACES.NSPNAME ~ '${schemas}')
+    OR (${schemafilter:PK_NAMESPACES.NSPNAME} AND PK_NAMESPACES.NSPNAME ~ '${schemas}'))
+ORDER BY
+  FKTABLE_SCHEM,
+  FKTABLE_NAME,
+  FK_NAME,
+  KEY_SEQ
@@ -0,0 +1,47 @@
+SELECT
+  NULL AS TABLE_CAT,
+  NAMESPACES.NSPNAME AS TABLE_SCHEM,
+  TABLES.RELNAME AS TABLE_NAME,
+  NOT INDEXES.INDISUNIQUE AS NON_UNIQUE,
+  NULL AS INDEX_QUALIFIER,
+  INDEX_CLASSES.RELNAME AS INDEX_NAME,
+  CASE
+    WHEN INDEXES.INDISCLUSTERED THEN 1
+    WHEN ACCESS_METHODS.AMNAME = 'hash' THEN 2
+    ELSE 3
+  END AS TYPE,
+  KEYS.POSITION AS ORDINAL_POSITION,
+  TRIM(BOTH '"' FROM
+    PG_CATALOG.PG_GET_INDEXDEF(INDEX_CLASSES.OID, KEYS.POSITION, FALSE))
+    AS COLUMN_NAME,
+  CASE
+    WHEN ACCESS_METHODS.AMNAME <> 'btree' THEN NULL
+    WHEN INDEXES.INDOPTION[KEYS.POSITION - 1] & 1 = 1 THEN 'D'
+    ELSE 'A'
+  END AS ASC_OR_DESC,
+  INDEX_CLASSES.RELTUPLES AS CARDINALITY,
+  INDEX_CLASSES.RELPAGES AS PAGES,
+  PG_CATALOG.PG_GET_EXPR(INDEXES.INDPRED, INDEXES.INDRELID)
+    AS FILTER_CONDITION
+FROM
+  PG_CATALOG.PG_INDEX INDEXES
+  CROSS JOIN LATERAL GENERATE_SERIES(1, INDEXES.INDNATTS::INTEGER)
+    AS KEYS(POSITION)
+  INNER JOIN PG_CATALOG.PG_CLASS TABLES
+    ON TABLES.OID = INDEXES.INDRELID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON NAMESPACES.OID = TABLES.RELNAMESPACE
+  INNER JOIN PG_CATALOG.PG_CLASS INDEX_CLASSES
+    ON INDEX_CLASSES.OID = INDEXES.INDEXRELID
+  INNER JOIN PG_CATALOG.PG_AM ACCESS_METHODS
+    ON ACCESS_METHODS.OID = INDEX_CLASSES.RELAM
+WHERE
+  ${schemafilter:NAMESPACES.NSPNAME}
+  AND NAMESPACES.NSPNAME ~ '${schemas}'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  NON_UNIQUE,
+  TYPE,
+  INDEX_NAME,
+  ORDINAL_POSITION
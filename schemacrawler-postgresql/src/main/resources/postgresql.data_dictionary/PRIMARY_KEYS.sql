@@ -0,0 +1,28 @@
+SELECT
+  NULL AS TABLE_CAT,
+  NAMESPACES.NSPNAME AS TABLE_SCHEM,
+  TABLES.RELNAME AS TABLE_NAME,
+  ATTRIBUTES.ATTNAME AS COLUMN_NAME,
+  KEYS.POSITION AS KEY_SEQ,
+  INDEXES.RELNAME AS PK_NAME
+FROM
+  PG_CATALOG.PG_INDEX PRIMARY_KEYS
+  CROSS JOIN LATERAL UNNEST(PRIMARY_KEYS.INDKEY::INT2[])
+    WITH ORDINALITY AS KEYS(ATTNUM, POSITION)
+  INNER JOIN PG_CATALOG.PG_CLASS TABLES
+    ON TABLES.OID = PRIMARY_KEYS.INDRELID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON NAMESPACES.OID = TABLES.RELNAMESPACE
+  INNER JOIN PG_CATALOG.PG_CLASS INDEXES
+    ON INDEXES.OID = PRIMARY_KEYS.INDEXRELID
+  INNER JOIN PG_CATALOG.PG_ATTRIBUTE ATTRIBUTES
+    ON ATTRIBUTES.ATTRELID = TABLES.OID
+      AND ATTRIBUTES.ATTNUM = KEYS.ATTNUM
+WHERE
+  PRIMARY_KEYS.INDISPRIMARY
+  AND ${schemafilter:NAMESPACES.NSPNAME}
+  AND NAMESPACES.NSPNAME ~ '${schemas}'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  KEY_SEQ
@@ -0,0 +1,40 @@
+SELECT
+  NULL AS TABLE_CAT,
+  NAMESPACES.NSPNAME AS TABLE_SCHEM,
+  CLASSES.RELNAME AS TABLE_NAME,
+  CASE
+    WHEN NAMESPACES.NSPNAME LIKE 'pg\_%'
+      OR NAMESPACES.NSPNAME = 'information_schema'
+    THEN
+      CASE CLASSES.RELKIND
+        WHEN 'r' THEN 'SYSTEM TABLE'
+        WHEN 'v' THEN 'SYSTEM VIEW'
+        ELSE NULL
+      END
+    ELSE
+      CASE CLASSES.RELKIND
+        WHEN 'r' THEN 'TABLE'
+        WHEN 'p' THEN 'PARTITIONED TABLE'
+        WHEN 'v' THEN 'VIEW'
+        WHEN 'm' THEN 'MATERIALIZED VIEW'
+        WHEN 'f' THEN 'FOREIGN TABLE'
+        ELSE NULL
+      END
+  END AS TABLE_TYPE,
+  DESCRIPTIONS.DESCRIPTION AS REMARKS
+FROM
+  PG_CATALOG.PG_CLASS CLASSES
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON NAMESPACES.OID = CLASSES.RELNAMESPACE
+  LEFT OUTER JOIN PG_CATALOG.PG_DESCRIPTION DESCRIPTIONS
+    ON DESCRIPTIONS.OBJOID = CLASSES.OID
+      AND DESCRIPTIONS.OBJSUBID = 0
+      AND DESCRIPTIONS.CLASSOID = 'pg_catalog.pg_class'::REGCLASS
+WHERE
+  CLASSES.RELKIND IN ('r', 'p', 'v', 'm', 'f')
+  AND ${schemafilter:NAMESPACES.NSPNAME}
+  AND NAMESPACES.NSPNAME ~ '${schemas}'
+ORDER BY
+  TABLE_TYPE,
+  TABLE_SCHEM,
+  TABLE_NAME
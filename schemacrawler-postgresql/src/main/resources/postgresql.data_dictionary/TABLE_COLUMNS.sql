@@ -0,0 +1,62 @@
+SELECT
+  NULL AS TABLE_CAT,
+  COLUMNS.TABLE_SCHEMA AS TABLE_SCHEM,
+  COLUMNS.TABLE_NAME,
+  COLUMNS.COLUMN_NAME,
+  CASE
+    WHEN COLUMNS.DATA_TYPE = 'ARRAY' THEN 2003
+    WHEN COLUMNS.UDT_NAME = 'int2' THEN 5
+    WHEN COLUMNS.UDT_NAME = 'int4' THEN 4
+    WHEN COLUMNS.UDT_NAME IN ('int8', 'oid') THEN -5
+    WHEN COLUMNS.UDT_NAME = 'float4' THEN 7
+    WHEN COLUMNS.UDT_NAME = 'float8' THEN 8
+    WHEN COLUMNS.UDT_NAME = 'numeric' THEN 2
+    WHEN COLUMNS.UDT_NAME IN ('bool', 'bit') THEN -7
+    WHEN COLUMNS.UDT_NAME = 'bpchar' THEN 1
+    WHEN COLUMNS.UDT_NAME IN ('varchar', 'text', 'name') THEN 12
+    WHEN COLUMNS.UDT_NAME = 'bytea' THEN -2
+    WHEN COLUMNS.UDT_NAME = 'date' THEN 91
+    WHEN COLUMNS.UDT_NAME IN ('time', 'timetz') THEN 92
+    WHEN COLUMNS.UDT_NAME IN ('timestamp', 'timestamptz') THEN 93
+    WHEN COLUMNS.UDT_NAME = 'xml' THEN 2009
+    ELSE 1111
+  END AS DATA_TYPE,
+  CASE
+    WHEN COLUMNS.COLUMN_DEFAULT LIKE 'nextval(%'
+      AND COLUMNS.UDT_NAME = 'int4'
+    THEN 'serial'
+    WHEN COLUMNS.COLUMN_DEFAULT LIKE 'nextval(%'
+      AND COLUMNS.UDT_NAME = 'int8'
+    THEN 'bigserial'
+    ELSE COLUMNS.UDT_NAME
+  END AS TYPE_NAME,
+  COALESCE(COLUMNS.CHARACTER_MAXIMUM_LENGTH,
+    COLUMNS.NUMERIC_PRECISION,
+    COLUMNS.DATETIME_PRECISION,
+    2147483647) AS COLUMN_SIZE,
+  COALESCE(COLUMNS.NUMERIC_SCALE, 0) AS DECIMAL_DIGITS,
+  COLUMNS.NUMERIC_PRECISION_RADIX AS NUM_PREC_RADIX,
+  CASE COLUMNS.IS_NULLABLE WHEN 'YES' THEN 1 ELSE 0 END AS NULLABLE,
+  PG_CATALOG.COL_DESCRIPTION(
+    (QUOTE_IDENT(COLUMNS.TABLE_SCHEMA) || '.' || QUOTE_IDENT(COLUMNS.TABLE_NAME))::REGCLASS,
+    COLUMNS.ORDINAL_POSITION) AS REMARKS,
+  COLUMNS.COLUMN_DEFAULT AS COLUMN_DEF,
+  COLUMNS.ORDINAL_POSITION,
+  COLUMNS.IS_NULLABLE,
+  CASE
+    WHEN COLUMNS.COLUMN_DEFAULT LIKE 'nextval(%'
+      OR COLUMNS.IS_IDENTITY = 'YES'
+    THEN 'YES'
+    ELSE 'NO'
+  END AS IS_AUTOINCREMENT,
+  CASE COLUMNS.IS_GENERATED WHEN 'ALWAYS' THEN 'YES' ELSE 'NO' END
+    AS IS_GENERATEDCOLUMN
+FROM
+  INFORMATION_SCHEMA.COLUMNS COLUMNS
+WHERE
+  ${schemafilter:COLUMNS.TABLE_SCHEMA}
+  AND COLUMNS.TABLE_SCHEMA ~ '${schemas}'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  ORDINAL_POSITION
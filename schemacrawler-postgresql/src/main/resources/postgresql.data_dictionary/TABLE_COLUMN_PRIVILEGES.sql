@@ -0,0 +1,20 @@
+SELECT
+  NULL AS TABLE_CAT,
+  TABLE_SCHEMA AS TABLE_SCHEM,
+  TABLE_NAME,
+  COLUMN_NAME,
+  GRANTOR,
+  GRANTEE,
+  PRIVILEGE_TYPE AS PRIVILEGE,
+  IS_GRANTABLE
+FROM
+  INFORMATION_SCHEMA.COLUMN_PRIVILEGES
+WHERE
+  ${schemafilter:TABLE_SCHEMA}
+  AND TABLE_SCHEMA ~ '${schemas}'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  COLUMN_NAME,
+  PRIVILEGE,
+  GRANTEE
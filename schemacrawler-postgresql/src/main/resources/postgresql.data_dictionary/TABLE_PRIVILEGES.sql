@@ -0,0 +1,18 @@
+SELECT
+  NULL AS TABLE_CAT,
+  TABLE_SCHEMA AS TABLE_SCHEM,
+  TABLE_NAME,
+  GRANTOR,
+  GRANTEE,
+  PRIVILEGE_TYPE AS PRIVILEGE,
+  IS_GRANTABLE
+FROM
+  INFORMATION_SCHEMA.TABLE_PRIVILEGES
+WHERE
+  ${schemafilter:TABLE_SCHEMA}
+  AND TABLE_SCHEMA ~ '${schemas}'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  PRIVILEGE,
+  GRANTEE
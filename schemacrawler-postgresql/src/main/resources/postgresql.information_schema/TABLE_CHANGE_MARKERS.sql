@@ -0,0 +1,23 @@
+SELECT
+  NULL AS TABLE_CAT,
+  NAMESPACES.NSPNAME AS TABLE_SCHEM,
+  TABLES.RELNAME AS TABLE_NAME,
+  TABLES.XMIN::TEXT
+    || '/' || COALESCE((SELECT STRING_AGG(COLUMNS.XMIN::TEXT, ',' ORDER BY COLUMNS.ATTNUM)
+      FROM PG_CATALOG.PG_ATTRIBUTE COLUMNS
+      WHERE COLUMNS.ATTRELID = TABLES.OID), '')
+    || '/' || COALESCE((SELECT STRING_AGG(INDEXES.XMIN::TEXT, ',' ORDER BY INDEXES.INDEXRELID)
+      FROM PG_CATALOG.PG_INDEX INDEXES
+      WHERE INDEXES.INDRELID = TABLES.OID), '')
+    || '/' || COALESCE((SELECT STRING_AGG(CONSTRAINTS.XMIN::TEXT, ',' ORDER BY CONSTRAINTS.OID)
+      FROM PG_CATALOG.PG_CONSTRAINT CONSTRAINTS
+      WHERE CONSTRAINTS.CONRELID = TABLES.OID), '')
+    AS CHANGE_MARKER
+FROM
+  PG_CATALOG.PG_CLASS TABLES
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON NAMESPACES.OID = TABLES.RELNAMESPACE
+WHERE
+  TABLES.RELKIND IN ('r', 'v', 'm', 'f', 'p')
+  AND ${schemafilter:NAMESPACES.NSPNAME}
+  AND NAMESPACES.NSPNAME ~ '${schemas}'
@@ -0,0 +1,14 @@
+SELECT
+  NULL AS TABLE_CAT,
+  NAMESPACES.NSPNAME AS TABLE_SCHEM,
+  TABLES.RELNAME AS TABLE_NAME,
+  CAST(TABLES.RELTUPLES AS BIGINT) AS ROW_COUNT
+FROM
+  PG_CATALOG.PG_CLASS TABLES
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON NAMESPACES.OID = TABLES.RELNAMESPACE
+WHERE
+  TABLES.RELKIND IN ('r', 'm', 'p')
+  AND TABLES.RELTUPLES >= 0
+  AND ${schemafilter:NAMESPACES.NSPNAME}
+  AND NAMESPACES.NSPNAME ~ '${schemas}'
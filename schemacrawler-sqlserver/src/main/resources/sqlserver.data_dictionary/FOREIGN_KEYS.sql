@@ -0,0 +1,45 @@
+SELECT
+  PK_COLUMNS.TABLE_CATALOG AS PKTABLE_CAT,
+  PK_COLUMNS.TABLE_SCHEMA AS PKTABLE_SCHEM,
+  PK_COLUMNS.TABLE_NAME AS PKTABLE_NAME,
+  PK_COLUMNS.COLUMN_NAME AS PKCOLUMN_NAME,
+  FK_COLUMNS.TABLE_CATALOG AS FKTABLE_CAT,
+  FK_COLUMNS.TABLE_SCHEMA AS FKTABLE_SCHEM,
+  FK_COLUMNS.TABLE_NAME AS FKTABLE_NAME,
+  FK_COLUMNS.COLUMN_NAME AS FKCOLUMN_NAME,
+  FK_COLUMNS.ORDINAL_POSITION AS KEY_SEQ,
+  CASE REFERENTIAL_CONSTRAINTS.UPDATE_RULE
+    WHEN 'CASCADE' THEN 0
+    WHEN 'SET NULL' THEN 2
+    WHEN 'NO ACTION' THEN 3
+    WHEN 'SET DEFAULT' THEN 4
+  END AS UPDATE_RULE,
+  CASE REFERENTIAL_CONSTRAINTS.DELETE_RULE
+    WHEN 'CASCADE' THEN 0
+    WHEN 'SET NULL' THEN 2
+    WHEN 'NO ACTION' THEN 3
+    WHEN 'SET DEFAULT' THEN 4
+  END AS DELETE_RULE,
+  REFERENTIAL_CONSTRAINTS.CONSTRAINT_NAME AS FK_NAME,
+  REFERENTIAL_CONSTRAINTS.UNIQUE_CONSTRAINT_NAME AS PK_NAME,
+  7 AS DEFERRABILITY
+FROM
+  INFORMATION_SCHEMA.REFERENTIAL_CONSTRAINTS REFERENTIAL_CONSTRAINTS
+  INNER JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE FK_COLUMNS
+    ON FK_COLUMNS.CONSTRAINT_CATALOG = REFERENTIAL_CONSTRAINTS.CONSTRAINT_CATALOG
+      AND FK_COLUMNS.CONSTRAINT_SCHEMA = REFERENTIAL_CONSTRAINTS.CONSTRAINT_SCHEMA
+      AND FK_COLUMNS.CONSTRAINT_NAME = REFERENTIAL_CONSTRAINTS.CONSTRAINT_NAME
+  INNER JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE PK_COLUMNS
+    ON PK_COLUMNS.CONSTRAINT_CATALOG = REFERENTIAL_CONSTRAINTS.UNIQUE_CONSTRAINT_CATALOG
+      AND PK_COLUMNS.CONSTRAINT_SCHEMA = REFERENTIAL_CONSTRAINTS.UNIQUE_CONSTRAINT_SCHEMA
+      AND PK_COLUMNS.CONSTRAINT_NAME = REFERENTIAL_CONSTRAINTS.UNIQUE_CONSTRAINT_NAME
+      AND PK_COLUMNS.ORDINAL_POSITION = FK_COLUMNS.ORDINAL_POSITION
+WHERE
+  ${schemafilter:FK_COLUMNS.TABLE_CATALOG + '.' + FK_COLUMNS.TABLE_SCHEMA}
+  OR ${schemafilter:PK_COLUMNS.TABLE_CATALOG + '.' + PK_COLUMNS.TABLE_SCHEMA}
+ORDER BY
+  FKTABLE_CAT,
+  FKTABLE_SCHEM,
+  FKTABLE_NAME,
+  FK_NAME,
+  KEY_SEQ
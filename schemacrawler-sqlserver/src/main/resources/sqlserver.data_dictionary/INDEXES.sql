@@ -0,0 +1,31 @@
+SELECT
+  DB_NAME() AS TABLE_CAT,
+  SCHEMA_NAME(TABLES.SCHEMA_ID) AS TABLE_SCHEM,
+  TABLES.NAME AS TABLE_NAME,
+  CASE INDEXES.IS_UNIQUE WHEN 1 THEN 0 ELSE 1 END AS NON_UNIQUE,
+  TABLES.NAME AS INDEX_QUALIFIER,
+  INDEXES.NAME AS INDEX_NAME,
+  CASE INDEXES.TYPE WHEN 1 THEN 1 ELSE 3 END AS TYPE,
+  INDEX_COLUMNS.KEY_ORDINAL AS ORDINAL_POSITION,
+  COL_NAME(INDEX_COLUMNS.OBJECT_ID, INDEX_COLUMNS.COLUMN_ID) AS COLUMN_NAME,
+  CASE INDEX_COLUMNS.IS_DESCENDING_KEY WHEN 1 THEN 'D' ELSE 'A' END
+    AS ASC_OR_DESC,
+  CAST(NULL AS INT) AS CARDINALITY,
+  CAST(NULL AS INT) AS PAGES,
+  INDEXES.FILTER_DEFINITION AS FILTER_CONDITION
+FROM
+  SYS.TABLES TABLES
+  INNER JOIN SYS.INDEXES INDEXES
+    ON INDEXES.OBJECT_ID = TABLES.OBJECT_ID
+  INNER JOIN SYS.INDEX_COLUMNS INDEX_COLUMNS
+    ON INDEX_COLUMNS.OBJECT_ID = INDEXES.OBJECT_ID
+      AND INDEX_COLUMNS.INDEX_ID = INDEXES.INDEX_ID
+WHERE
+  INDEXES.TYPE > 0
+  AND INDEX_COLUMNS.KEY_ORDINAL > 0
+  AND ${schemafilter:DB_NAME() + '.' + SCHEMA_NAME(TABLES.SCHEMA_ID)}
+ORDER BY
+  NON_UNIQUE,
+  TYPE,
+  INDEX_NAME,
+  ORDINAL_POSITION
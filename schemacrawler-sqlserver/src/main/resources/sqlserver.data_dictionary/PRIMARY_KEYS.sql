@@ -0,0 +1,21 @@
+SELECT
+  KEY_COLUMNS.TABLE_CATALOG AS TABLE_CAT,
+  KEY_COLUMNS.TABLE_SCHEMA AS TABLE_SCHEM,
+  KEY_COLUMNS.TABLE_NAME,
+  KEY_COLUMNS.COLUMN_NAME,
+  KEY_COLUMNS.ORDINAL_POSITION AS KEY_SEQ,
+  KEY_COLUMNS.CONSTRAINT_NAME AS PK_NAME
+FROM
+  INFORMATION_SCHEMA.TABLE_CONSTRAINTS TABLE_CONSTRAINTS
+  INNER JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE KEY_COLUMNS
+    ON KEY_COLUMNS.CONSTRAINT_CATALOG = TABLE_CONSTRAINTS.CONSTRAINT_CATALOG
+      AND KEY_COLUMNS.CONSTRAINT_SCHEMA = TABLE_CONSTRAINTS.CONSTRAINT_SCHEMA
+      AND KEY_COLUMNS.CONSTRAINT_NAME = TABLE_CONSTRAINTS.CONSTRAINT_NAME
+WHERE
+  TABLE_CONSTRAINTS.CONSTRAINT_TYPE = 'PRIMARY KEY'
+  AND ${schemafilter:KEY_COLUMNS.TABLE_CATALOG + '.' + KEY_COLUMNS.TABLE_SCHEMA}
+ORDER BY
+  TABLE_CAT,
+  TABLE_SCHEM,
+  TABLE_NAME,
+  KEY_SEQ
@@ -0,0 +1,24 @@
+SELECT
+  TABLES.TABLE_CATALOG AS TABLE_CAT,
+  TABLES.TABLE_SCHEMA AS TABLE_SCHEM,
+  TABLES.TABLE_NAME,
+  CASE TABLES.TABLE_TYPE
+    WHEN 'BASE TABLE' THEN 'TABLE'
+    ELSE TABLES.TABLE_TYPE
+  END AS TABLE_TYPE,
+  CAST(EXTENDED_PROPERTIES.VALUE AS NVARCHAR(4000)) AS REMARKS
+FROM
+  INFORMATION_SCHEMA.TABLES TABLES
+  LEFT OUTER JOIN SYS.EXTENDED_PROPERTIES EXTENDED_PROPERTIES
+    ON EXTENDED_PROPERTIES.MAJOR_ID = OBJECT_ID(QUOTENAME(TABLES.TABLE_SCHEMA)
+      + '.' + QUOTENAME(TABLES.TABLE_NAME))
+    AND EXTENDED_PROPERTIES.MINOR_ID = 0
+    AND EXTENDED_PROPERTIES.CLASS = 1
+    AND EXTENDED_PROPERTIES.NAME = 'MS_Description'
+WHERE
+  ${schemafilter:TABLES.TABLE_CATALOG + '.' + TABLES.TABLE_SCHEMA}
+ORDER BY
+  TABLE_TYPE,
+  TABLE_CAT,
+  TABLE_SCHEM,
+  TABLE_NAME
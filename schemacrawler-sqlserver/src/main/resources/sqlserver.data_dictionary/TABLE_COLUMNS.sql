@@ -0,0 +1,82 @@
+SELECT
+  COLUMNS.TABLE_CATALOG AS TABLE_CAT,
+  COLUMNS.TABLE_SCHEMA AS TABLE_SCHEM,
+  COLUMNS.TABLE_NAME,
+  COLUMNS.COLUMN_NAME,
+  CASE COLUMNS.DATA_TYPE
+    WHEN 'bit' THEN -7
+    WHEN 'tinyint' THEN -6
+    WHEN 'smallint' THEN 5
+    WHEN 'int' THEN 4
+    WHEN 'bigint' THEN -5
+    WHEN 'real' THEN 7
+    WHEN 'float' THEN 8
+    WHEN 'decimal' THEN 3
+    WHEN 'numeric' THEN 2
+    WHEN 'money' THEN 3
+    WHEN 'smallmoney' THEN 3
+    WHEN 'char' THEN 1
+    WHEN 'nchar' THEN -15
+    WHEN 'varchar' THEN 12
+    WHEN 'nvarchar' THEN -9
+    WHEN 'text' THEN -1
+    WHEN 'ntext' THEN -16
+    WHEN 'xml' THEN -16
+    WHEN 'binary' THEN -2
+    WHEN 'varbinary' THEN -3
+    WHEN 'image' THEN -4
+    WHEN 'timestamp' THEN -2
+    WHEN 'uniqueidentifier' THEN 1
+    WHEN 'date' THEN 91
+    WHEN 'time' THEN 92
+    WHEN 'smalldatetime' THEN 93
+    WHEN 'datetime' THEN 93
+    WHEN 'datetime2' THEN 93
+    WHEN 'datetimeoffset' THEN -155
+    ELSE 1111
+  END AS DATA_TYPE,
+  CASE
+    WHEN COLUMNPROPERTY(OBJECT_ID(QUOTENAME(COLUMNS.TABLE_SCHEMA) + '.'
+      + QUOTENAME(COLUMNS.TABLE_NAME)), COLUMNS.COLUMN_NAME, 'IsIdentity') = 1
+    THEN COLUMNS.DATA_TYPE + ' identity'
+    ELSE COLUMNS.DATA_TYPE
+  END AS TYPE_NAME,
+  COALESCE(COLUMNS.CHARACTER_MAXIMUM_LENGTH,
+    COLUMNS.NUMERIC_PRECISION,
+    COLUMNS.DATETIME_PRECISION,
+    0) AS COLUMN_SIZE,
+  COALESCE(COLUMNS.NUMERIC_SCALE, 0) AS DECIMAL_DIGITS,
+  COALESCE(COLUMNS.NUMERIC_PRECISION_RADIX, 10) AS NUM_PREC_RADIX,
+  CASE COLUMNS.IS_NULLABLE WHEN 'YES' THEN 1 ELSE 0 END AS NULLABLE,
+  CAST(EXTENDED_PROPERTIES.VALUE AS NVARCHAR(4000)) AS REMARKS,
+  COLUMNS.COLUMN_DEFAULT AS COLUMN_DEF,
+  COLUMNS.ORDINAL_POSITION,
+  COLUMNS.IS_NULLABLE,
+  CASE
+    WHEN COLUMNPROPERTY(OBJECT_ID(QUOTENAME(COLUMNS.TABLE_SCHEMA) + '.'
+      + QUOTENAME(COLUMNS.TABLE_NAME)), COLUMNS.COLUMN_NAME, 'IsIdentity') = 1
+    THEN 'YES'
+    ELSE 'NO'
+  END AS IS_AUTOINCREMENT,
+  CASE
+    WHEN COLUMNPROPERTY(OBJECT_ID(QUOTENAME(COLUMNS.TABLE_SCHEMA) + '.'
+      + QUOTENAME(COLUMNS.TABLE_NAME)), COLUMNS.COLUMN_NAME, 'IsComputed') = 1
+    THEN 'YES'
+    ELSE 'NO'
+  END AS IS_GENERATEDCOLUMN
+FROM
+  INFORMATION_SCHEMA.COLUMNS COLUMNS
+  LEFT OUTER JOIN SYS.EXTENDED_PROPERTIES EXTENDED_PROPERTIES
+    ON EXTENDED_PROPERTIES.MAJOR_ID = OBJECT_ID(QUOTENAME(COLUMNS.TABLE_SCHEMA)
+      + '.' + QUOTENAME(COLUMNS.TABLE_NAME))
+    AND EXTENDED_PROPERTIES.MINOR_ID = COLUMNPROPERTY(OBJECT_ID(QUOTENAME(COLUMNS.TABLE_SCHEMA)
+      + '.' + QUOTENAME(COLUMNS.TABLE_NAME)), COLUMNS.COLUMN_NAME, 'ColumnId')
+    AND EXTENDED_PROPERTIES.CLASS = 1
+    AND EXTENDED_PROPERTIES.NAME = 'MS_Description'
+WHERE
+  ${schemafilter:COLUMNS.TABLE_CATALOG + '.' + COLUMNS.TABLE_SCHEMA}
+ORDER BY
+  TABLE_CAT,
+  TABLE_SCHEM,
+  TABLE_NAME,
+  ORDINAL_POSITION
@@ -0,0 +1,20 @@
+SELECT
+  TABLE_CATALOG AS TABLE_CAT,
+  TABLE_SCHEMA AS TABLE_SCHEM,
+  TABLE_NAME,
+  COLUMN_NAME,
+  GRANTOR,
+  GRANTEE,
+  PRIVILEGE_TYPE AS PRIVILEGE,
+  IS_GRANTABLE
+FROM
+  INFORMATION_SCHEMA.COLUMN_PRIVILEGES
+WHERE
+  ${schemafilter:TABLE_CATALOG + '.' + TABLE_SCHEMA}
+ORDER BY
+  TABLE_CAT,
+  TABLE_SCHEM,
+  TABLE_NAME,
+  COLUMN_NAME,
+  PRIVILEGE,
+  GRANTEE
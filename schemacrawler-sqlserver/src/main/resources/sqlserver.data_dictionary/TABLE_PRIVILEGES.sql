@@ -0,0 +1,18 @@
+SELECT
+  TABLE_CATALOG AS TABLE_CAT,
+  TABLE_SCHEMA AS TABLE_SCHEM,
+  TABLE_NAME,
+  GRANTOR,
+  GRANTEE,
+  PRIVILEGE_TYPE AS PRIVILEGE,
+  IS_GRANTABLE
+FROM
+  INFORMATION_SCHEMA.TABLE_PRIVILEGES
+WHERE
+  ${schemafilter:TABLE_CATALOG + '.' + TABLE_SCHEMA}
+ORDER BY
+  TABLE_CAT,
+  TABLE_SCHEM,
+  TABLE_NAME,
+  PRIVILEGE,
+  GRANTEE
@@ -2,3 +2,5 @@ SELECT
   *
 FROM
   INFORMATION_SCHEMA.CHECK_CONSTRAINTS
+WHERE
+  ${schemafilter:CONSTRAINT_CATALOG + '.' + CONSTRAINT_SCHEMA}
@@ -10,3 +10,5 @@ SELECT
   *
 FROM
   INFORMATION_SCHEMA.ROUTINES
+WHERE
+  ${schemafilter:ROUTINE_CATALOG + '.' + ROUTINE_SCHEMA}
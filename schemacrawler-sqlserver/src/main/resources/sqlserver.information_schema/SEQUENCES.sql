@@ -16,6 +16,8 @@ SELECT
   DECLARED_NUMERIC_SCALE
 FROM
   INFORMATION_SCHEMA.SEQUENCES
+WHERE
+  ${schemafilter:SEQUENCE_CATALOG + '.' + SEQUENCE_SCHEMA}
 ORDER BY
   SEQUENCE_CATALOG,
   SEQUENCE_SCHEMA,
@@ -2,3 +2,5 @@ SELECT
   *
 FROM
   INFORMATION_SCHEMA.TABLE_CONSTRAINTS
+WHERE
+  ${schemafilter:TABLE_CATALOG + '.' + TABLE_SCHEMA}
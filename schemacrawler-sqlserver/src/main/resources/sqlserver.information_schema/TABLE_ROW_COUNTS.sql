@@ -0,0 +1,17 @@
+SELECT
+  DB_NAME() AS TABLE_CAT,
+  SCHEMAS.NAME AS TABLE_SCHEM,
+  TABLES.NAME AS TABLE_NAME,
+  SUM(PARTITIONS.ROWS) AS ROW_COUNT
+FROM
+  SYS.TABLES TABLES
+  INNER JOIN SYS.SCHEMAS SCHEMAS
+    ON SCHEMAS.SCHEMA_ID = TABLES.SCHEMA_ID
+  INNER JOIN SYS.PARTITIONS PARTITIONS
+    ON PARTITIONS.OBJECT_ID = TABLES.OBJECT_ID
+      AND PARTITIONS.INDEX_ID IN (0, 1)
+WHERE
+  ${schemafilter:DB_NAME() + '.' + SCHEMAS.NAME}
+GROUP BY
+  SCHEMAS.NAME,
+  TABLES.NAME
@@ -48,3 +48,4 @@ FROM
     ON tables.name = information_schema_tables.TABLE_NAME
 WHERE
   triggers.type = 'TR'
+  AND ${schemafilter:information_schema_tables.TABLE_CATALOG + '.' + information_schema_tables.TABLE_SCHEMA}
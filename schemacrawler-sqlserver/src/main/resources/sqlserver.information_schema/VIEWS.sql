@@ -8,3 +8,5 @@ SELECT
     AS VIEW_DEFINITION
 FROM
   INFORMATION_SCHEMA.VIEWS
+WHERE
+  ${schemafilter:TABLE_CATALOG + '.' + TABLE_SCHEMA}
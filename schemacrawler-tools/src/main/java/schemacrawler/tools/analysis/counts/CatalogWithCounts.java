@@ -29,29 +29,26 @@ package schemacrawler.tools.analysis.counts;
 
 
 import static schemacrawler.filter.ReducerFactory.getTableReducer;
-import static schemacrawler.tools.analysis.counts.CountsUtility.addRowCountToTable;
-import static schemacrawler.utility.QueryUtility.executeForLong;
 import static sf.util.DatabaseUtility.checkConnection;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 
+import javax.sql.DataSource;
+
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.BaseCatalogDecorator;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
-import schemacrawler.tools.text.operation.Operation;
 import schemacrawler.utility.Identifiers;
-import schemacrawler.utility.Query;
 import sf.util.SchemaCrawlerLogger;
-import sf.util.StringFormat;
 
 public final class CatalogWithCounts
   extends BaseCatalogDecorator
@@ -68,6 +65,57 @@ public final class CatalogWithCounts
                            final Connection connection,
                            final SchemaCrawlerOptions options)
     throws SchemaCrawlerException
+  {
+    this(catalog, connection, null, options, new CountOptions());
+  }
+
+  public CatalogWithCounts(final Catalog catalog,
+                           final Connection connection,
+                           final SchemaCrawlerOptions options,
+                           final CountOptions countOptions)
+    throws SchemaCrawlerException
+  {
+    this(catalog, connection, null, options, countOptions);
+  }
+
+  public CatalogWithCounts(final Catalog catalog,
+                           final Connection connection,
+                           final DataSource dataSource,
+                           final SchemaCrawlerOptions options,
+                           final CountOptions countOptions)
+    throws SchemaCrawlerException
+  {
+    this(catalog, connection, dataSource, null, options, countOptions);
+  }
+
+  /**
+   * Adds row counts to the tables in a catalog.
+   *
+   * @param catalog
+   *        Catalog to add row counts to
+   * @param connection
+   *        Connection for counting rows
+   * @param dataSource
+   *        Source of additional connections, so that rows can be counted
+   *        concurrently, or null
+   * @param informationSchemaViews
+   *        Information schema views that the catalog was crawled with,
+   *        for the estimated row counts query, or null to look them up
+   *        for the connection
+   * @param options
+   *        SchemaCrawler options
+   * @param countOptions
+   *        Options for obtaining row counts
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public CatalogWithCounts(final Catalog catalog,
+                           final Connection connection,
+                           final DataSource dataSource,
+                           final InformationSchemaViews informationSchemaViews,
+                           final SchemaCrawlerOptions options,
+                           final CountOptions countOptions)
+    throws SchemaCrawlerException
   {
     super(catalog);
 
@@ -92,27 +140,13 @@ public final class CatalogWithCounts
       return;
     }
 
-    final Query query = Operation.count.getQuery();
-    final List<Table> allTables = new ArrayList<>(catalog.getTables());
-    for (final Table table: allTables)
-    {
-      try
-      {
-        final long count = executeForLong(query,
-                                          connection,
-                                          table,
-                                          identifiers);
-        counts.put(table, count);
-        addRowCountToTable(table, count);
-      }
-      catch (final SchemaCrawlerException e)
-      {
-        LOGGER.log(Level.WARNING,
-                   new StringFormat("Could not get count for table <%s>",
-                                    table),
-                   e);
-      }
-    }
+    final TableRowCounter tableRowCounter = new TableRowCounter(connection,
+                                                                dataSource,
+                                                                informationSchemaViews,
+                                                                options,
+                                                                countOptions,
+                                                                identifiers);
+    counts.putAll(tableRowCounter.count(new ArrayList<>(catalog.getTables())));
 
     reduce(Table.class, getTableReducer(new TableCountFilter(options)));
   }
@@ -0,0 +1,139 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.analysis.counts;
+
+
+import schemacrawler.schemacrawler.Options;
+
+/**
+ * Options for obtaining table row counts.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class CountOptions
+  implements Options
+{
+
+  private int poolSize = 1;
+  private int queryTimeout;
+  private RowCountMode rowCountMode = RowCountMode.exact;
+  private String tableRowCountsSql;
+
+  /**
+   * Number of connections used to count rows concurrently, when
+   * additional connections are available.
+   *
+   * @return Number of connections for counting rows
+   */
+  public int getPoolSize()
+  {
+    return poolSize;
+  }
+
+  /**
+   * Number of seconds to wait for the rows in a table to be counted,
+   * or zero to wait without a limit.
+   *
+   * @return Query timeout in seconds
+   */
+  public int getQueryTimeout()
+  {
+    return queryTimeout;
+  }
+
+  /**
+   * How table row counts are obtained.
+   *
+   * @return Row count mode
+   */
+  public RowCountMode getRowCountMode()
+  {
+    return rowCountMode;
+  }
+
+  /**
+   * SQL for estimated table row counts, which overrides the SQL
+   * provided by the database plugin.
+   *
+   * @return Table row counts SQL, or null if it is not overridden
+   */
+  public String getTableRowCountsSql()
+  {
+    return tableRowCountsSql;
+  }
+
+  /**
+   * Number of connections used to count rows concurrently.
+   *
+   * @param poolSize
+   *        Number of connections for counting rows, at least 1
+   */
+  public void setPoolSize(final int poolSize)
+  {
+    this.poolSize = Math.max(1, poolSize);
+  }
+
+  /**
+   * Number of seconds to wait for the rows in a table to be counted.
+   *
+   * @param queryTimeout
+   *        Query timeout in seconds, or zero to wait without a limit
+   */
+  public void setQueryTimeout(final int queryTimeout)
+  {
+    this.queryTimeout = Math.max(0, queryTimeout);
+  }
+
+  /**
+   * How table row counts are obtained.
+   *
+   * @param rowCountMode
+   *        Row count mode
+   */
+  public void setRowCountMode(final RowCountMode rowCountMode)
+  {
+    if (rowCountMode != null)
+    {
+      this.rowCountMode = rowCountMode;
+    }
+  }
+
+  /**
+   * SQL for estimated table row counts, which overrides the SQL
+   * provided by the database plugin.
+   *
+   * @param tableRowCountsSql
+   *        Table row counts SQL
+   */
+  public void setTableRowCountsSql(final String tableRowCountsSql)
+  {
+    this.tableRowCountsSql = tableRowCountsSql;
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.analysis.counts;
+
+
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_ROW_COUNTS;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.OptionsBuilder;
+
+/**
+ * Builds options for obtaining table row counts, from configuration
+ * properties.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class CountOptionsBuilder
+  implements OptionsBuilder<CountOptions>
+{
+
+  private static final String ROW_COUNT_MODE = "schemacrawler.format.row_counts.mode";
+  private static final String QUERY_TIMEOUT = "schemacrawler.format.row_counts.timeout";
+  // Row counts use as many connections as metadata queries
+  private static final String POOL_SIZE = "schemacrawler.schema.retrieval.pool.size";
+
+  private final CountOptions options;
+
+  public CountOptionsBuilder()
+  {
+    options = new CountOptions();
+  }
+
+  @Override
+  public CountOptionsBuilder fromConfig(final Config map)
+  {
+    if (map == null)
+    {
+      return this;
+    }
+
+    final Config config = new Config(map);
+    options.setRowCountMode(config
+      .getEnumValue(ROW_COUNT_MODE, options.getRowCountMode()));
+    options.setQueryTimeout(config.getIntegerValue(QUERY_TIMEOUT,
+                                                   options.getQueryTimeout()));
+    options
+      .setPoolSize(config.getIntegerValue(POOL_SIZE, options.getPoolSize()));
+    options.setTableRowCountsSql(config
+      .getStringValue(TABLE_ROW_COUNTS.getLookupKey(),
+                      options.getTableRowCountsSql()));
+
+    return this;
+  }
+
+  /**
+   * Number of connections used to count rows concurrently.
+   */
+  public CountOptionsBuilder poolSize(final int value)
+  {
+    options.setPoolSize(value);
+    return this;
+  }
+
+  /**
+   * Number of seconds to wait for the rows in a table to be counted.
+   */
+  public CountOptionsBuilder queryTimeout(final int value)
+  {
+    options.setQueryTimeout(value);
+    return this;
+  }
+
+  /**
+   * How table row counts are obtained.
+   */
+  public CountOptionsBuilder rowCountMode(final RowCountMode value)
+  {
+    options.setRowCountMode(value);
+    return this;
+  }
+
+  /**
+   * SQL for estimated table row counts, which overrides the SQL
+   * provided by the database plugin.
+   */
+  public CountOptionsBuilder tableRowCountsSql(final String value)
+  {
+    options.setTableRowCountsSql(value);
+    return this;
+  }
+
+  @Override
+  public Config toConfig()
+  {
+    final Config config = new Config();
+    config.setEnumValue(ROW_COUNT_MODE, options.getRowCountMode());
+    config.setStringValue(QUERY_TIMEOUT,
+                          String.valueOf(options.getQueryTimeout()));
+    return config;
+  }
+
+  @Override
+  public CountOptions toOptions()
+  {
+    return options;
+  }
+
+}
@@ -39,6 +39,7 @@ public final class CountsUtility
 
   private static final int UNKNOWN_TABLE_ROW_COUNT = -1;
   private static final String TABLE_ROW_COUNT_KEY = "schemacrawler.table.count";
+  private static final String TABLE_ROW_COUNT_ESTIMATED_KEY = "schemacrawler.table.count.estimated";
 
   public static final long getRowCount(final Table table)
   {
@@ -75,7 +76,15 @@ public final class CountsUtility
 
   public static final String getRowCountMessage(final Table table)
   {
-    return getRowCountMessage(getRowCount(table));
+    final String rowCountMessage = getRowCountMessage(getRowCount(table));
+    if (isRowCountEstimated(table))
+    {
+      return "~" + rowCountMessage;
+    }
+    else
+    {
+      return rowCountMessage;
+    }
   }
 
   public static final boolean hasRowCount(final Table table)
@@ -83,17 +92,47 @@ public final class CountsUtility
     return table != null && table.hasAttribute(TABLE_ROW_COUNT_KEY);
   }
 
+  /**
+   * Whether the row count for the table is an estimate from the
+   * statistics that the database keeps, rather than an exact count.
+   *
+   * @param table
+   *        Table to check
+   * @return Whether the row count is estimated
+   */
+  public static final boolean isRowCountEstimated(final Table table)
+  {
+    return hasRowCount(table)
+           && table.getAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY, false);
+  }
+
   static void addRowCountToTable(final Table table, final long rowCount)
+  {
+    addRowCountToTable(table, rowCount, false);
+  }
+
+  static void addRowCountToTable(final Table table,
+                                 final long rowCount,
+                                 final boolean isEstimated)
   {
     if (table != null)
     {
       if (rowCount >= 0)
       {
         table.setAttribute(TABLE_ROW_COUNT_KEY, rowCount);
+        if (isEstimated)
+        {
+          table.setAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY, true);
+        }
+        else
+        {
+          table.removeAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY);
+        }
       }
       else
       {
         table.removeAttribute(TABLE_ROW_COUNT_KEY);
+        table.removeAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY);
       }
     }
   }
@@ -0,0 +1,53 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.analysis.counts;
+
+
+/**
+ * How table row counts are obtained.
+ *
+ * @author Sualeh Fatehi
+ */
+public enum RowCountMode
+{
+
+ /**
+  * Count the rows in each table, and use estimated row counts only for
+  * tables that could not be counted, for example because the count
+  * timed out.
+  */
+ exact,
+ /**
+  * Use estimated row counts from the statistics that the database
+  * keeps for the query planner, and count the rows only for tables
+  * that have no estimate.
+  */
+ estimated;
+
+}
@@ -0,0 +1,464 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.analysis.counts;
+
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.utility.QueryUtility.executeAgainstSchema;
+import static schemacrawler.utility.QueryUtility.executeAgainstTable;
+import static schemacrawler.utility.SchemaCrawlerUtility.matchSchemaRetrievalOptions;
+import static sf.util.DatabaseUtility.createStatement;
+import static sf.util.Utility.isBlank;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import javax.sql.DataSource;
+
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.tools.text.operation.Operation;
+import schemacrawler.utility.Identifiers;
+import schemacrawler.utility.Query;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Obtains row counts for tables. Rows are counted with a query timeout,
+ * and when additional connections are available, tables are counted
+ * concurrently on a bounded pool of workers, each with a connection of
+ * its own. Estimated row counts are read in a single query from the
+ * statistics that the database keeps for the query planner, and are
+ * used either instead of counting rows, or for tables that could not be
+ * counted.
+ *
+ * @author Sualeh Fatehi
+ */
+final class TableRowCounter
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(TableRowCounter.class.getName());
+
+  private static List<String> lookupKey(final String catalogName,
+                                        final String schemaName,
+                                        final String tableName)
+  {
+    return Arrays.asList(catalogName, schemaName, tableName);
+  }
+
+  private final Connection connection;
+  private final DataSource dataSource;
+  private final InformationSchemaViews informationSchemaViews;
+  private final SchemaCrawlerOptions options;
+  private final CountOptions countOptions;
+  private final Identifiers identifiers;
+  private Map<List<String>, Long> estimatedCounts;
+
+  /**
+   * Sets up row counting.
+   *
+   * @param connection
+   *        Connection for counting rows, and for estimated row counts
+   * @param dataSource
+   *        Source of additional connections for counting rows
+   *        concurrently, or null
+   * @param informationSchemaViews
+   *        Information schema views that the catalog was crawled with,
+   *        or null to look them up for the connection
+   * @param options
+   *        SchemaCrawler options, for the schemas to estimate row counts
+   *        for
+   * @param countOptions
+   *        Options for obtaining row counts
+   * @param identifiers
+   *        Identifiers for quoting table names
+   */
+  TableRowCounter(final Connection connection,
+                  final DataSource dataSource,
+                  final InformationSchemaViews informationSchemaViews,
+                  final SchemaCrawlerOptions options,
+                  final CountOptions countOptions,
+                  final Identifiers identifiers)
+  {
+    this.connection = requireNonNull(connection, "No connection provided");
+    this.dataSource = dataSource;
+    this.informationSchemaViews = informationSchemaViews;
+    this.options = requireNonNull(options, "No SchemaCrawler options provided");
+    this.countOptions = requireNonNull(countOptions,
+                                       "No count options provided");
+    this.identifiers = requireNonNull(identifiers,
+                                      "No identifiers provided");
+  }
+
+  /**
+   * Obtains row counts for tables, and adds them to the tables.
+   *
+   * @param tables
+   *        Tables to count rows for
+   * @return Row counts for tables that have a row count
+   */
+  Map<Table, Long> count(final List<Table> tables)
+  {
+    requireNonNull(tables, "No tables provided");
+
+    final List<Table> tablesToCount = new ArrayList<>();
+    final Map<Table, Long> counts = new HashMap<>();
+    for (final Table table: tables)
+    {
+      if (countOptions.getRowCountMode() == RowCountMode.estimated
+          && addEstimatedRowCount(table, counts))
+      {
+        continue;
+      }
+      tablesToCount.add(table);
+    }
+
+    final List<Long> exactCounts;
+    final int poolSize = countOptions.getPoolSize();
+    if (poolSize > 1 && dataSource != null && tablesToCount.size() > 1)
+    {
+      exactCounts = countInParallel(poolSize, tablesToCount);
+    }
+    else
+    {
+      exactCounts = new ArrayList<>();
+      for (final Table table: tablesToCount)
+      {
+        exactCounts.add(countRows(connection, table));
+      }
+    }
+
+    for (int i = 0; i < tablesToCount.size(); i++)
+    {
+      final Table table = tablesToCount.get(i);
+      final Long count = exactCounts.get(i);
+      if (count != null)
+      {
+        counts.put(table, count);
+        CountsUtility.addRowCountToTable(table, count, false);
+      }
+      else
+      {
+        addEstimatedRowCount(table, counts);
+      }
+    }
+
+    return counts;
+  }
+
+  private boolean addEstimatedRowCount(final Table table,
+                                       final Map<Table, Long> counts)
+  {
+    final Long estimatedCount = lookupEstimatedRowCount(table);
+    if (estimatedCount == null)
+    {
+      return false;
+    }
+    counts.put(table, estimatedCount);
+    CountsUtility.addRowCountToTable(table, estimatedCount, true);
+    return true;
+  }
+
+  private void closeConnections(final BlockingQueue<Connection> idleConnections)
+  {
+    for (final Connection idleConnection: idleConnections)
+    {
+      try
+      {
+        idleConnection.close();
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not close connection", e);
+      }
+    }
+  }
+
+  private List<Long> countInParallel(final int poolSize,
+                                     final List<Table> tables)
+  {
+    final int threads = Math.min(poolSize, tables.size());
+    LOGGER.log(Level.INFO,
+               new StringFormat("Counting rows for %d tables, using %d connections",
+                                tables.size(),
+                                threads));
+
+    final BlockingQueue<Connection> idleConnections = new LinkedBlockingQueue<>();
+    final AtomicInteger threadNumber = new AtomicInteger();
+    final ExecutorService executorService = Executors
+      .newFixedThreadPool(threads, runnable -> {
+        final Thread thread = new Thread(runnable,
+                                         "schemacrawler-counts-"
+                                                   + threadNumber
+                                                     .incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    try
+    {
+      final List<Future<Long>> futures = new ArrayList<>();
+      for (final Table table: tables)
+      {
+        futures.add(executorService
+          .submit(() -> countRows(idleConnections, table)));
+      }
+
+      final List<Long> counts = new ArrayList<>();
+      for (int i = 0; i < tables.size(); i++)
+      {
+        counts.add(waitFor(tables.get(i), futures.get(i)));
+      }
+      return counts;
+    }
+    finally
+    {
+      executorService.shutdownNow();
+      try
+      {
+        executorService.awaitTermination(1, TimeUnit.MINUTES);
+      }
+      catch (final InterruptedException e)
+      {
+        Thread.currentThread().interrupt();
+      }
+      closeConnections(idleConnections);
+    }
+  }
+
+  private Long countRows(final BlockingQueue<Connection> idleConnections,
+                         final Table table)
+  {
+    // There are never more tasks running than workers, so there are
+    // never more connections than workers
+    Connection workerConnection = idleConnections.poll();
+    try
+    {
+      if (workerConnection == null)
+      {
+        workerConnection = dataSource.getConnection();
+      }
+      return countRows(workerConnection, table);
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not get count for table <%s>",
+                                  table),
+                 e);
+      return null;
+    }
+    finally
+    {
+      if (workerConnection != null)
+      {
+        idleConnections.add(workerConnection);
+      }
+    }
+  }
+
+  /**
+   * Counts the rows in a table, or returns null if the rows could not be
+   * counted.
+   */
+  private Long countRows(final Connection countConnection,
+                         final Table table)
+  {
+    final Query query = Operation.count.getQuery();
+    try (final Statement statement = createStatement(countConnection);)
+    {
+      final int queryTimeout = countOptions.getQueryTimeout();
+      if (queryTimeout > 0)
+      {
+        statement.setQueryTimeout(queryTimeout);
+      }
+      try (final ResultSet results = executeAgainstTable(query,
+                                                         statement,
+                                                         table,
+                                                         true,
+                                                         identifiers);)
+      {
+        if (results != null && results.next())
+        {
+          return results.getLong(1);
+        }
+      }
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not get count for table <%s>",
+                                  table),
+                 e);
+    }
+    return null;
+  }
+
+  private Query getTableRowCountsSql()
+  {
+    final String tableRowCountsSql = countOptions.getTableRowCountsSql();
+    if (!isBlank(tableRowCountsSql))
+    {
+      return new Query("TABLE_ROW_COUNTS", tableRowCountsSql);
+    }
+
+    // Use the views that the catalog was crawled with, so that views
+    // provided by the user are respected
+    InformationSchemaViews views = informationSchemaViews;
+    if (views == null)
+    {
+      try
+      {
+        views = matchSchemaRetrievalOptions(connection)
+          .getInformationSchemaViews();
+      }
+      catch (final SchemaCrawlerException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not find database plugin", e);
+        return null;
+      }
+    }
+    if (views.hasTableRowCountsSql())
+    {
+      return views.getTableRowCountsSql();
+    }
+    return null;
+  }
+
+  private Map<List<String>, Long> loadEstimatedRowCounts()
+  {
+    final Map<List<String>, Long> estimatedCounts = new HashMap<>();
+
+    final Query tableRowCountsSql = getTableRowCountsSql();
+    if (tableRowCountsSql == null)
+    {
+      LOGGER.log(Level.INFO, "No estimated table row counts available");
+      return estimatedCounts;
+    }
+
+    LOGGER.log(Level.INFO, "Retrieving estimated table row counts");
+    try (final Statement statement = createStatement(connection);
+        final ResultSet results = executeAgainstSchema(tableRowCountsSql,
+                                                       statement,
+                                                       options
+                                                         .getSchemaInclusionRule());)
+    {
+      while (results != null && results.next())
+      {
+        final long rowCount = results.getLong("ROW_COUNT");
+        if (results.wasNull() || rowCount < 0)
+        {
+          continue;
+        }
+        estimatedCounts.put(lookupKey(results.getString("TABLE_CAT"),
+                                      results.getString("TABLE_SCHEM"),
+                                      results.getString("TABLE_NAME")),
+                            rowCount);
+      }
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not retrieve estimated table row counts from SQL:%n%s",
+                                  tableRowCountsSql),
+                 e);
+    }
+    return estimatedCounts;
+  }
+
+  private Long lookupEstimatedRowCount(final Table table)
+  {
+    if (estimatedCounts == null)
+    {
+      estimatedCounts = loadEstimatedRowCounts();
+    }
+    if (estimatedCounts.isEmpty())
+    {
+      return null;
+    }
+
+    final Schema schema = table.getSchema();
+    final Long estimatedCount = estimatedCounts
+      .get(lookupKey(schema.getCatalogName(),
+                     schema.getName(),
+                     table.getName()));
+    if (estimatedCount != null)
+    {
+      return estimatedCount;
+    }
+    // Some databases do not report the catalog with statistics
+    return estimatedCounts
+      .get(lookupKey(null, schema.getName(), table.getName()));
+  }
+
+  private Long waitFor(final Table table, final Future<Long> future)
+  {
+    try
+    {
+      return future.get();
+    }
+    catch (final ExecutionException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not get count for table <%s>",
+                                  table),
+                 e.getCause());
+      return null;
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Interrupted counting rows for table <%s>",
+                                  table),
+                 e);
+      return null;
+    }
+  }
+
+}
@@ -76,7 +76,9 @@ abstract class BaseCommandChain
       scCommand.setAdditionalConfiguration(additionalConfiguration);
       scCommand.setCatalog(catalog);
       scCommand.setConnection(connection);
+      scCommand.setDataSource(dataSource);
       scCommand.setIdentifiers(identifiers);
+      scCommand.setInformationSchemaViews(informationSchemaViews);
 
       scCommands.add(scCommand);
 
@@ -34,8 +34,11 @@ import static sf.util.Utility.isBlank;
 
 import java.sql.Connection;
 
+import javax.sql.DataSource;
+
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.tools.options.OutputOptions;
@@ -58,7 +61,9 @@ public abstract class BaseSchemaCrawlerCommand
   protected OutputOptions outputOptions;
   protected Config additionalConfiguration;
   protected Identifiers identifiers;
+  protected InformationSchemaViews informationSchemaViews;
   protected Connection connection;
+  protected DataSource dataSource;
   protected Catalog catalog;
 
   protected BaseSchemaCrawlerCommand(final String command)
@@ -115,12 +120,27 @@ public abstract class BaseSchemaCrawlerCommand
     return connection;
   }
 
+  @Override
+  public DataSource getDataSource()
+  {
+    return dataSource;
+  }
+
   @Override
   public Identifiers getIdentifiers()
   {
     return identifiers;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public InformationSchemaViews getInformationSchemaViews()
+  {
+    return informationSchemaViews;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -164,12 +184,24 @@ public abstract class BaseSchemaCrawlerCommand
     this.connection = connection;
   }
 
+  @Override
+  public void setDataSource(final DataSource dataSource)
+  {
+    this.dataSource = dataSource;
+  }
+
   @Override
   public void setIdentifiers(final Identifiers identifiers)
   {
     this.identifiers = identifiers;
   }
 
+  @Override
+  public void setInformationSchemaViews(final InformationSchemaViews informationSchemaViews)
+  {
+    this.informationSchemaViews = informationSchemaViews;
+  }
+
   /**
    * {@inheritDoc}
    */
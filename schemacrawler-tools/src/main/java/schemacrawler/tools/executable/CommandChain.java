@@ -70,7 +70,9 @@ public final class CommandChain
 
     setCatalog(scCommand.getCatalog());
     setConnection(scCommand.getConnection());
+    setDataSource(scCommand.getDataSource());
     setIdentifiers(scCommand.getIdentifiers());
+    setInformationSchemaViews(scCommand.getInformationSchemaViews());
   }
 
   public final SchemaCrawlerCommand addNext(final String command,
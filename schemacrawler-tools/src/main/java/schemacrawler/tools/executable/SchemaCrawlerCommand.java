@@ -31,8 +31,11 @@ package schemacrawler.tools.executable;
 
 import java.sql.Connection;
 
+import javax.sql.DataSource;
+
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.utility.Identifiers;
@@ -66,8 +69,18 @@ public interface SchemaCrawlerCommand
 
   Connection getConnection();
 
+  DataSource getDataSource();
+
   Identifiers getIdentifiers();
 
+  /**
+   * Information schema views that were used to crawl the catalog, so
+   * that commands respect any views that the user provided.
+   *
+   * @return Information schema views, or null if they are not known
+   */
+  InformationSchemaViews getInformationSchemaViews();
+
   OutputOptions getOutputOptions();
 
   SchemaCrawlerOptions getSchemaCrawlerOptions();
@@ -78,8 +91,21 @@ public interface SchemaCrawlerCommand
 
   void setConnection(Connection connection);
 
+  /**
+   * Sets an optional source of additional connections, so that
+   * per-table work can run concurrently. The data source should be
+   * backed by a connection pool.
+   *
+   * @param dataSource
+   *        Source of additional connections, or null to use the command
+   *        connection only
+   */
+  void setDataSource(DataSource dataSource);
+
   void setIdentifiers(Identifiers identifiers);
 
+  void setInformationSchemaViews(InformationSchemaViews informationSchemaViews);
+
   void setOutputOptions(OutputOptions outputOptions);
 
   void setSchemaCrawlerOptions(SchemaCrawlerOptions schemaCrawlerOptions);
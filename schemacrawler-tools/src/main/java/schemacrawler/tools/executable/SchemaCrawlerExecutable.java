@@ -36,9 +36,15 @@ import static schemacrawler.filter.ReducerFactory.getSynonymReducer;
 import static schemacrawler.filter.ReducerFactory.getTableReducer;
 import static sf.util.Utility.isBlank;
 
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.util.Locale;
 import java.util.logging.Level;
 
+import javax.sql.DataSource;
+
+import schemacrawler.crawl.JsonCrawlMetricsExporter;
+import schemacrawler.crawl.PrometheusCrawlMetricsExporter;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Reducible;
 import schemacrawler.schema.Routine;
@@ -77,12 +83,15 @@ public final class SchemaCrawlerExecutable
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(SchemaCrawlerExecutable.class.getName());
 
+  private static final String CRAWL_METRICS_FORMAT = "schemacrawler.crawl.metrics.format";
+
   protected final String command;
   protected SchemaCrawlerOptions schemaCrawlerOptions;
   protected OutputOptions outputOptions;
   protected Config additionalConfiguration;
   protected SchemaRetrievalOptions schemaRetrievalOptions;
   protected Connection connection;
+  protected DataSource dataSource;
 
   public SchemaCrawlerExecutable(final String command)
   {
@@ -140,6 +149,7 @@ public final class SchemaCrawlerExecutable
 
     final Catalog catalog = catalogLoader.loadCatalog();
     requireNonNull(catalog, "No catalog provided");
+    exportCrawlMetrics(catalog);
     executeOn(catalog);
   }
 
@@ -158,6 +168,11 @@ public final class SchemaCrawlerExecutable
     return connection;
   }
 
+  public DataSource getDataSource()
+  {
+    return dataSource;
+  }
+
   public final OutputOptions getOutputOptions()
   {
     return outputOptions;
@@ -190,6 +205,22 @@ public final class SchemaCrawlerExecutable
     this.connection = requireNonNull(connection, "No connection provided");
   }
 
+  /**
+   * Sets an optional source of additional connections, which is passed
+   * on to the command, so that per-table work, such as row counts, data
+   * output and linters, can run concurrently, on up to the configured
+   * pool size of connections. The data source should be backed by a
+   * connection pool.
+   *
+   * @param dataSource
+   *        Source of additional connections, or null to use the
+   *        connection of the executable only
+   */
+  public void setDataSource(final DataSource dataSource)
+  {
+    this.dataSource = dataSource;
+  }
+
   public final void setOutputOptions(final OutputOptions outputOptions)
   {
     if (outputOptions == null)
@@ -229,6 +260,48 @@ public final class SchemaCrawlerExecutable
     return ObjectToString.toString(this);
   }
 
+  /**
+   * Writes crawl metrics next to the output file, if a metrics format
+   * of "json" or "prometheus" is configured. Metrics are not written
+   * when output goes to the console or to a writer.
+   */
+  private void exportCrawlMetrics(final Catalog catalog)
+    throws SchemaCrawlerException
+  {
+    final String metricsFormat = additionalConfiguration
+      .getStringValue(CRAWL_METRICS_FORMAT, "");
+    if (isBlank(metricsFormat) || catalog.getCrawlInfo() == null)
+    {
+      return;
+    }
+    if (!outputOptions.hasOutputFile())
+    {
+      LOGGER.log(Level.INFO,
+                 "Not writing crawl metrics, since there is no output file");
+      return;
+    }
+
+    final Path outputFile = outputOptions.getOutputFile();
+    final String outputFileName = outputFile.getFileName().toString();
+    switch (metricsFormat.trim().toLowerCase(Locale.ENGLISH))
+    {
+      case "json":
+        new JsonCrawlMetricsExporter(outputFile
+          .resolveSibling(outputFileName + ".metrics.json"))
+            .crawlCompleted(catalog.getCrawlInfo());
+        break;
+      case "prometheus":
+        new PrometheusCrawlMetricsExporter(outputFile
+          .resolveSibling(outputFileName + ".prom"))
+            .crawlCompleted(catalog.getCrawlInfo());
+        break;
+      default:
+        LOGGER.log(Level.WARNING,
+                   new StringFormat("Unknown crawl metrics format <%s>",
+                                    metricsFormat));
+    }
+  }
+
   private void executeOn(final Catalog catalog)
     throws Exception
   {
@@ -300,7 +373,10 @@ public final class SchemaCrawlerExecutable
     scCommand.setAdditionalConfiguration(additionalConfiguration);
     scCommand.setCatalog(catalog);
     scCommand.setConnection(connection);
+    scCommand.setDataSource(dataSource);
     scCommand.setIdentifiers(schemaRetrievalOptions.getIdentifiers());
+    scCommand
+      .setInformationSchemaViews(schemaRetrievalOptions.getInformationSchemaViews());
 
     scCommand.beforeExecute();
     scCommand.execute();
@@ -144,6 +144,19 @@ public final class OutputOptions
     return outputFile;
   }
 
+  /**
+   * Whether output is written to a file, rather than to the console or
+   * to a writer, in which case {@link #getOutputFile()} generates a
+   * file name.
+   *
+   * @return Whether output is written to a file
+   */
+  public boolean hasOutputFile()
+  {
+    return outputResource instanceof FileOutputResource
+           || outputResource instanceof CompressedFileOutputResource;
+  }
+
   /**
    * Gets the output format value.
    *
@@ -29,7 +29,9 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.text.base;
 
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerInfo;
@@ -44,6 +46,7 @@ import schemacrawler.tools.text.utility.JsonFormattingHelper;
 import schemacrawler.tools.text.utility.org.json.JSONArray;
 import schemacrawler.tools.text.utility.org.json.JSONException;
 import schemacrawler.tools.text.utility.org.json.JSONObject;
+import schemacrawler.tools.text.utility.org.json.JSONWriter;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
 
@@ -59,7 +62,7 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
   protected static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(BaseJsonFormatter.class.getName());
 
-  protected final JSONObject jsonRoot;
+  protected final JSONWriter jsonWriter;
 
   protected BaseJsonFormatter(final O options,
                               final boolean printVerboseDatabaseInfo,
@@ -71,7 +74,7 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
           printVerboseDatabaseInfo,
           outputOptions,
           identifierQuoteString);
-    jsonRoot = new JSONObject();
+    jsonWriter = ((JsonFormattingHelper) formattingHelper).getJsonWriter();
   }
 
   @Override
@@ -82,13 +85,29 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
     {
       formattingHelper.append("[").println();
     }
+
+    try
+    {
+      jsonWriter.object(getAllRootKeys());
+    }
+    catch (final JSONException e)
+    {
+      throw new SchemaCrawlerException("Could not write JSON", e);
+    }
   }
 
   @Override
   public void end()
     throws SchemaCrawlerException
   {
-    ((JsonFormattingHelper) formattingHelper).write(jsonRoot);
+    try
+    {
+      jsonWriter.endObject();
+    }
+    catch (final JSONException e)
+    {
+      throw new SchemaCrawlerException("Could not write JSON", e);
+    }
 
     if (options.isNoFooter())
     {
@@ -114,11 +133,11 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
     try
     {
       final JSONObject jsonSchemaCrawlerHeaderInfo = new JSONObject();
-      jsonRoot.put("schemaCrawlerHeaderInfo", jsonSchemaCrawlerHeaderInfo);
-
       jsonSchemaCrawlerHeaderInfo
         .put("crawlTimestamp", formatTimestamp(crawlInfo.getCrawlTimestamp()));
       jsonSchemaCrawlerHeaderInfo.put("title", crawlInfo.getTitle());
+
+      jsonWriter.put("schemaCrawlerHeaderInfo", jsonSchemaCrawlerHeaderInfo);
     }
     catch (final JSONException e)
     {
@@ -142,8 +161,6 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
     try
     {
       final JSONObject jsonDbInfo = new JSONObject();
-      jsonRoot.put("databaseInfo", jsonDbInfo);
-
       jsonDbInfo.put("databaseProductName", dbInfo.getProductName());
       jsonDbInfo.put("databaseProductVersion", dbInfo.getProductVersion());
       jsonDbInfo.put("databaseUserName", dbInfo.getUserName());
@@ -162,6 +179,8 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
           jsonDbProperty.put("value", property.getValue());
         }
       }
+
+      jsonWriter.put("databaseInfo", jsonDbInfo);
     }
     catch (final JSONException e)
     {
@@ -185,8 +204,6 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
     try
     {
       final JSONObject jsonDriverInfo = new JSONObject();
-      jsonRoot.put("jdbcDriverInfo", jsonDriverInfo);
-
       jsonDriverInfo.put("driverName", driverInfo.getProductName());
       jsonDriverInfo.put("driverVersion", driverInfo.getProductVersion());
       jsonDriverInfo.put("driverClassName", driverInfo.getDriverClassName());
@@ -205,6 +222,8 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
           jsonJdbcDriverProperties.put(printJdbcDriverProperty(driverProperty));
         }
       }
+
+      jsonWriter.put("jdbcDriverInfo", jsonDriverInfo);
     }
     catch (final JSONException e)
     {
@@ -228,12 +247,12 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
     try
     {
       final JSONObject jsonSchemaCrawlerInfo = new JSONObject();
-      jsonRoot.put("schemaCrawlerInfo", jsonSchemaCrawlerInfo);
-
       jsonSchemaCrawlerInfo.put("productName",
                                 schemaCrawlerInfo.getProductName());
       jsonSchemaCrawlerInfo.put("productVersion",
                                 schemaCrawlerInfo.getProductVersion());
+
+      jsonWriter.put("schemaCrawlerInfo", jsonSchemaCrawlerInfo);
     }
     catch (final JSONException e)
     {
@@ -268,6 +287,42 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
   {
   }
 
+  /**
+   * Gets the keys that the formatter writes to the root object, in the
+   * order in which they are produced. Keys are written in the same
+   * order as previous versions wrote them, so values that are produced
+   * ahead of their turn are held back until it comes.
+   *
+   * @return Root object keys
+   */
+  protected abstract Collection<String> getRootKeys();
+
+  private List<String> getAllRootKeys()
+  {
+    final List<String> rootKeys = new ArrayList<>();
+    if (!options.isNoSchemaCrawlerInfo())
+    {
+      rootKeys.add("schemaCrawlerHeaderInfo");
+    }
+    rootKeys.addAll(getRootKeys());
+    if (printVerboseDatabaseInfo)
+    {
+      if (!options.isNoSchemaCrawlerInfo())
+      {
+        rootKeys.add("schemaCrawlerInfo");
+      }
+      if (options.isShowDatabaseInfo())
+      {
+        rootKeys.add("databaseInfo");
+      }
+      if (options.isShowJdbcDriverInfo())
+      {
+        rootKeys.add("jdbcDriverInfo");
+      }
+    }
+    return rootKeys;
+  }
+
   private JSONObject printJdbcDriverProperty(final JdbcDriverProperty driverProperty)
   {
     final JSONObject jsonDriverProperty = new JSONObject();
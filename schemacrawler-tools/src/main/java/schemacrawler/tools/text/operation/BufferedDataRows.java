@@ -0,0 +1,131 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.operation;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A detached, forward-only, in-memory copy of the rows of data from the
+ * results of a query, so that the query can run on one connection, and
+ * the data can be formatted later. Data is read the same way that it
+ * would be for output, so LOB data is read and bounded before it is
+ * buffered.
+ *
+ * @author Sualeh Fatehi
+ */
+final class BufferedDataRows
+  implements DataRows
+{
+
+  /**
+   * Copies all the remaining rows of data into memory. The results that
+   * the data is read from are not closed.
+   *
+   * @param dataRows
+   *        Data to copy
+   * @return Detached rows of data
+   * @throws SQLException
+   *         On an exception reading the results
+   */
+  static BufferedDataRows copyOf(final DataResultSet dataRows)
+    throws SQLException
+  {
+    requireNonNull(dataRows, "No data provided");
+
+    final List<Object[]> rows = new ArrayList<>();
+    while (dataRows.next())
+    {
+      final List<Object> row = dataRows.row();
+      rows.add(row.toArray(new Object[row.size()]));
+    }
+
+    return new BufferedDataRows(dataRows.getDescriptor(), rows);
+  }
+
+  private final DataResultSetDescriptor descriptor;
+  private final List<Object[]> rows;
+  private int currentRow;
+
+  private BufferedDataRows(final DataResultSetDescriptor descriptor,
+                           final List<Object[]> rows)
+  {
+    this.descriptor = descriptor;
+    this.rows = rows;
+    currentRow = -1;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String[] getColumnNames()
+  {
+    return descriptor.getColumnNames();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean next()
+  {
+    if (currentRow < rows.size())
+    {
+      currentRow = currentRow + 1;
+    }
+    return currentRow < rows.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<Object> row()
+    throws SQLException
+  {
+    if (currentRow < 0 || currentRow >= rows.size())
+    {
+      throw new SQLException("Not on a valid row");
+    }
+    return Arrays.asList(rows.get(currentRow));
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format("BufferedDataRows[%d rows]", rows.size());
+  }
+
+}
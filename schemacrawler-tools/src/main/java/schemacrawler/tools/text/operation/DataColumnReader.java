@@ -0,0 +1,89 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.operation;
+
+
+import java.sql.Types;
+
+/**
+ * How the data for a column is read from a result set, which depends
+ * only on the java.sql.Types type of the column, so it is chosen once
+ * for each query.
+ *
+ * @author Sualeh Fatehi
+ */
+enum DataColumnReader
+{
+
+ /**
+  * Read as a BLOB.
+  */
+ blob,
+ /**
+  * Read as a CLOB.
+  */
+ clob,
+ /**
+  * Read as a national character set CLOB.
+  */
+ nclob,
+ /**
+  * Read from a binary stream.
+  */
+ binary_stream,
+ /**
+  * Read from an ASCII stream.
+  */
+ ascii_stream,
+ /**
+  * Read as an object.
+  */
+ object;
+
+  static DataColumnReader forJavaSqlType(final int javaSqlType)
+  {
+    switch (javaSqlType)
+    {
+      case Types.CLOB:
+        return clob;
+      case Types.NCLOB:
+        return nclob;
+      case Types.BLOB:
+        return blob;
+      case Types.LONGVARBINARY:
+        return binary_stream;
+      case Types.LONGNVARCHAR:
+      case Types.LONGVARCHAR:
+        return ascii_stream;
+      default:
+        return object;
+    }
+  }
+
+}
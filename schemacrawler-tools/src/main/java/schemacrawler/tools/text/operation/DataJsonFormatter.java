@@ -32,7 +32,9 @@ package schemacrawler.tools.text.operation;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -42,8 +44,6 @@ import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.text.base.BaseJsonFormatter;
 import schemacrawler.tools.text.utility.org.json.JSONArray;
 import schemacrawler.tools.text.utility.org.json.JSONException;
-import schemacrawler.tools.text.utility.org.json.JSONObject;
-import schemacrawler.tools.traversal.DataTraversalHandler;
 import schemacrawler.utility.Query;
 
 /**
@@ -53,17 +53,20 @@ import schemacrawler.utility.Query;
  */
 final class DataJsonFormatter
   extends BaseJsonFormatter<OperationOptions>
-  implements DataTraversalHandler
+  implements DataRowsHandler
 {
 
   private final Operation operation;
-  private final JSONArray jsonDataArray;
+  private final Query query;
 
   /**
    * Text formatting of data.
    *
    * @param operation
    *        Options for text formatting of data
+   * @param query
+   *        Query that is run against each table, for caching column
+   *        metadata
    * @param options
    *        Options for text formatting of data
    * @param outputOptions
@@ -72,6 +75,7 @@ final class DataJsonFormatter
    *        Quote character for identifier
    */
   DataJsonFormatter(final Operation operation,
+                    final Query query,
                     final OperationOptions options,
                     final OutputOptions outputOptions,
                     final String identifierQuoteString)
@@ -82,15 +86,21 @@ final class DataJsonFormatter
           outputOptions,
           identifierQuoteString);
     this.operation = operation;
+    this.query = query;
+  }
 
-    jsonDataArray = new JSONArray();
+  @Override
+  public void begin()
+    throws SchemaCrawlerException
+  {
+    super.begin();
     try
     {
       if (operation != null)
       {
-        jsonRoot.put("description", operation.getDescription());
+        jsonWriter.put("description", operation.getDescription());
       }
-      jsonRoot.put("data", jsonDataArray);
+      jsonWriter.array("data");
     }
     catch (final JSONException e)
     {
@@ -98,6 +108,21 @@ final class DataJsonFormatter
     }
   }
 
+  @Override
+  public void end()
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      jsonWriter.endArray();
+    }
+    catch (final JSONException e)
+    {
+      throw new SchemaCrawlerException(e.getMessage(), e);
+    }
+    super.end();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -115,7 +140,17 @@ final class DataJsonFormatter
       title = "";
     }
 
-    handleData(title, rows);
+    handleData(title, DataResultSetDescriptor.descriptorKey(null, query), rows);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handleData(final Table table, final DataRows rows)
+    throws SchemaCrawlerException
+  {
+    handleData(getTitle(table), rows);
   }
 
   /**
@@ -124,6 +159,19 @@ final class DataJsonFormatter
   @Override
   public void handleData(final Table table, final ResultSet rows)
     throws SchemaCrawlerException
+  {
+    handleData(getTitle(table),
+               DataResultSetDescriptor.descriptorKey(table, query),
+               rows);
+  }
+
+  @Override
+  protected Collection<String> getRootKeys()
+  {
+    return Arrays.asList("description", "data");
+  }
+
+  private String getTitle(final Table table)
   {
     final String tableName;
     if (table != null)
@@ -141,27 +189,21 @@ final class DataJsonFormatter
     {
       tableName = "";
     }
-
-    handleData(tableName, rows);
+    return tableName;
   }
 
   /**
    * Handles an aggregate operation, such as a count, for a given table.
    *
-   * @param results
+   * @param dataRows
    *        Results
    */
-  private long handleAggregateOperationForTable(final ResultSet results)
+  private long handleAggregateOperationForTable(final DataRows dataRows)
     throws SchemaCrawlerException
   {
     try
     {
-      long aggregate = 0;
-      if (results.next())
-      {
-        aggregate = results.getLong(1);
-      }
-      return aggregate;
+      return dataRows.nextAggregate();
     }
     catch (final SQLException e)
     {
@@ -169,36 +211,37 @@ final class DataJsonFormatter
     }
   }
 
-  private void handleData(final String title, final ResultSet rows)
+  private void handleData(final String title, final DataRows dataRows)
     throws SchemaCrawlerException
   {
-    if (rows == null)
+    if (dataRows == null)
     {
       return;
     }
 
     try
     {
-      final JSONObject jsonData = new JSONObject();
-      jsonData.put("title", title);
-
       if (operation == Operation.count)
       {
-        final long aggregate = handleAggregateOperationForTable(rows);
-        jsonData.put("value", aggregate);
+        final long aggregate = handleAggregateOperationForTable(dataRows);
+        jsonWriter.object(Arrays.asList("title", "value"));
+        jsonWriter.put("title", title);
+        jsonWriter.put("value", aggregate);
       }
       else
       {
         try
         {
-          final DataResultSet dataRows = new DataResultSet(rows,
-                                                           options
-                                                             .isShowLobs());
-
-          jsonData.put("columnNames", new JSONArray(dataRows.getColumnNames()));
+          // Rows are written as they are read, so that large results do
+          // not need to be held in memory
+          jsonWriter.object(Arrays.asList("title", "columnNames", "rows"));
+          jsonWriter.put("title", title);
+          jsonWriter.put("columnNames",
+                         new JSONArray(dataRows.getColumnNames()));
 
-          final JSONArray jsonRows = iterateRows(dataRows);
-          jsonData.put("rows", jsonRows);
+          jsonWriter.array("rows");
+          iterateRows(dataRows);
+          jsonWriter.endArray();
         }
         catch (final SQLException e)
         {
@@ -206,7 +249,7 @@ final class DataJsonFormatter
         }
       }
 
-      jsonDataArray.put(jsonData);
+      jsonWriter.endObject();
     }
     catch (final JSONException e)
     {
@@ -215,10 +258,35 @@ final class DataJsonFormatter
 
   }
 
-  private JSONArray iterateRows(final DataResultSet dataRows)
-    throws SQLException
+  private void handleData(final String title,
+                          final List<String> descriptorKey,
+                          final ResultSet rows)
+    throws SchemaCrawlerException
+  {
+    if (rows == null)
+    {
+      return;
+    }
+
+    final DataResultSet dataRows;
+    try
+    {
+      dataRows = new DataResultSet(descriptorKey,
+                                   rows,
+                                   options.isShowLobs(),
+                                   options.getMaxLobSize(),
+                                   options.getFetchSize());
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException(e.getMessage(), e);
+    }
+    handleData(title, dataRows);
+  }
+
+  private void iterateRows(final DataRows dataRows)
+    throws SQLException, JSONException
   {
-    final JSONArray jsonRows = new JSONArray();
     while (dataRows.next())
     {
       final List<Object> currentRowRaw = dataRows.row();
@@ -253,8 +321,7 @@ final class DataJsonFormatter
           }
         }
       }
-      jsonRows.put(new JSONArray(currentRow));
+      jsonWriter.value(new JSONArray(currentRow));
     }
-    return jsonRows;
   }
 }
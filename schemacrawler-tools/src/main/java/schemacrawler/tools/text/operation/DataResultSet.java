@@ -29,10 +29,10 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.text.operation;
 
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
-import static sf.util.IOUtility.readFully;
 
-import java.io.BufferedInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
@@ -42,16 +42,14 @@ import java.sql.NClob;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
-import java.sql.Types;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
 
-import schemacrawler.crawl.ResultsCrawler;
-import schemacrawler.schema.ResultsColumn;
-import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.text.utility.BinaryData;
+import schemacrawler.utility.FetchSize;
 import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
 
 /**
  * Text formatting of data.
@@ -59,44 +57,108 @@ import sf.util.SchemaCrawlerLogger;
  * @author Sualeh Fatehi
  */
 final class DataResultSet
+  implements DataRows
 {
 
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(DataResultSet.class.getName());
 
+  private static final int LOB_CHUNK_SIZE = 4096;
+  private static final String LOB_TRUNCATION_MARKER = "<truncated>";
+
   private final ResultSet rows;
-  private final List<ResultsColumn> resultsColumns;
+  private final DataResultSetDescriptor descriptor;
   private final boolean showLobs;
+  private final int maxLobSize;
+  private final FetchSize fetchSize;
+  private int currentFetchSize;
+  private int batchRowCount;
 
-  public DataResultSet(final ResultSet rows, final boolean showLobs)
-    throws SchemaCrawlerException
+  /**
+   * Reads data from results, with column metadata from a descriptor
+   * that is cached by table and query.
+   *
+   * @param descriptorKey
+   *        Table and query that the results are for, or null to not
+   *        cache the descriptor
+   * @param rows
+   *        Results
+   * @param showLobs
+   *        Whether to read LOB data
+   * @param maxLobSize
+   *        Maximum number of characters of LOB data to read for each
+   *        cell, or zero to read all the LOB data
+   * @param fetchSize
+   *        Fetch size for reading rows
+   * @throws SQLException
+   *         On an exception reading the result set metadata
+   */
+  public DataResultSet(final List<String> descriptorKey,
+                       final ResultSet rows,
+                       final boolean showLobs,
+                       final int maxLobSize,
+                       final FetchSize fetchSize)
+    throws SQLException
   {
     this.rows = requireNonNull(rows, "Cannot use null results");
     this.showLobs = showLobs;
-    resultsColumns = new ResultsCrawler(rows).crawl().getColumns();
+    this.maxLobSize = maxLobSize;
+    this.fetchSize = requireNonNull(fetchSize, "No fetch size provided");
+    currentFetchSize = fetchSize.getFetchSize();
+    descriptor = DataResultSetDescriptor.forResultSet(descriptorKey, rows);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
   public String[] getColumnNames()
   {
-    final int columnCount = resultsColumns.size();
-    final String[] columnNames = new String[columnCount];
-    for (int i = 0; i < columnCount; i++)
-    {
-      columnNames[i] = resultsColumns.get(i).getName();
-    }
-    return columnNames;
+    return descriptor.getColumnNames();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
   public boolean next()
     throws SQLException
   {
-    return rows.next();
+    final boolean next = rows.next();
+    if (next && fetchSize.isAdaptive())
+    {
+      batchRowCount = batchRowCount + 1;
+      if (batchRowCount >= currentFetchSize)
+      {
+        // A full batch of rows has been read, so ask for a larger batch
+        // next time, up to the maximum fetch size
+        final int nextFetchSize = fetchSize.nextFetchSize(currentFetchSize);
+        if (nextFetchSize != currentFetchSize)
+        {
+          currentFetchSize = nextFetchSize;
+          try
+          {
+            rows.setFetchSize(currentFetchSize);
+          }
+          catch (final SQLException e)
+          {
+            LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+          }
+        }
+        batchRowCount = 0;
+      }
+    }
+    return next;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
   public List<Object> row()
     throws SQLException
   {
-    final int columnCount = resultsColumns.size();
+    final int columnCount = descriptor.width();
     final List<Object> currentRow = new ArrayList<>(columnCount);
     for (int i = 0; i < columnCount; i++)
     {
@@ -108,83 +170,47 @@ final class DataResultSet
 
   public int width()
   {
-    return resultsColumns.size();
+    return descriptor.width();
+  }
+
+  DataResultSetDescriptor getDescriptor()
+  {
+    return descriptor;
   }
 
   private Object getColumnData(final int i)
     throws SQLException
   {
-    final int javaSqlType = resultsColumns.get(i).getColumnDataType()
-      .getJavaSqlType().getVendorTypeNumber();
-    Object columnData;
-    if (javaSqlType == Types.CLOB)
+    final int columnIndex = i + 1;
+    final Object columnData;
+    switch (descriptor.getReader(i))
     {
-      final Clob clob = rows.getClob(i + 1);
-      if (rows.wasNull() || clob == null)
-      {
-        columnData = null;
-      }
-      else
-      {
-        columnData = readClob(clob);
-      }
-    }
-    else if (javaSqlType == Types.NCLOB)
-    {
-      final NClob nClob = rows.getNClob(i + 1);
-      if (rows.wasNull() || nClob == null)
-      {
-        columnData = null;
-      }
-      else
-      {
-        columnData = readClob(nClob);
-      }
-    }
-    else if (javaSqlType == Types.BLOB)
-    {
-      final Blob blob = rows.getBlob(i + 1);
-      if (rows.wasNull() || blob == null)
-      {
-        columnData = null;
-      }
-      else
-      {
-        columnData = readBlob(blob);
-      }
-    }
-    else if (javaSqlType == Types.LONGVARBINARY)
-    {
-      final InputStream stream = rows.getBinaryStream(i + 1);
-      if (rows.wasNull() || stream == null)
-      {
-        columnData = null;
-      }
-      else
-      {
-        columnData = readStream(stream);
-      }
-    }
-    else if (javaSqlType == Types.LONGNVARCHAR
-             || javaSqlType == Types.LONGVARCHAR)
-    {
-      final InputStream stream = rows.getAsciiStream(i + 1);
-      if (rows.wasNull() || stream == null)
-      {
-        columnData = null;
-      }
-      else
-      {
-        columnData = readStream(stream);
-      }
-    }
-    else
-    {
-      columnData = rows.getObject(i + 1);
-      if (rows.wasNull())
-      {
-        columnData = null;
-      }
+      case clob:
+        final Clob clob = rows.getClob(columnIndex);
+        columnData = rows.wasNull() || clob == null? null: readClob(clob);
+        break;
+      case nclob:
+        final NClob nClob = rows.getNClob(columnIndex);
+        columnData = rows.wasNull() || nClob == null? null: readClob(nClob);
+        break;
+      case blob:
+        final Blob blob = rows.getBlob(columnIndex);
+        columnData = rows.wasNull() || blob == null? null: readBlob(blob);
+        break;
+      case binary_stream:
+        final InputStream binaryStream = rows.getBinaryStream(columnIndex);
+        columnData = rows.wasNull() || binaryStream == null? null
+                                                           : readStream(binaryStream);
+        break;
+      case ascii_stream:
+        final InputStream asciiStream = rows.getAsciiStream(columnIndex);
+        columnData = rows.wasNull() || asciiStream == null? null
+                                                          : readStream(asciiStream);
+        break;
+      default:
+        final Object object = rows.getObject(columnIndex);
+        columnData = rows.wasNull()? null: object;
+        break;
     }
     return columnData;
   }
@@ -213,7 +239,7 @@ final class DataResultSet
 
         if (in != null)
         {
-          lobData = new BinaryData(readFully(in));
+          lobData = readLob(new InputStreamReader(in, UTF_8));
         }
         else
         {
@@ -273,14 +299,21 @@ final class DataResultSet
 
         if (rdr != null)
         {
-          String lobDataString = readFully(rdr);
-          if (lobDataString.isEmpty())
+          lobData = readLob(rdr);
+          if (!lobData.hasData() || lobData.toString().isEmpty())
           {
             // Attempt yet another read
             final long clobLength = clob.length();
-            lobDataString = clob.getSubString(1, (int) clobLength);
+            if (isTruncated(clobLength))
+            {
+              lobData = new BinaryData(clob.getSubString(1, maxLobSize)
+                                       + LOB_TRUNCATION_MARKER);
+            }
+            else
+            {
+              lobData = new BinaryData(clob.getSubString(1, (int) clobLength));
+            }
           }
-          lobData = new BinaryData(lobDataString);
         }
         else
         {
@@ -316,9 +349,7 @@ final class DataResultSet
     }
     else if (showLobs)
     {
-      final BufferedInputStream in = new BufferedInputStream(stream);
-      final BinaryData lobData = new BinaryData(readFully(in));
-      return lobData;
+      return readLob(new InputStreamReader(stream, UTF_8));
     }
     else
     {
@@ -326,4 +357,53 @@ final class DataResultSet
     }
   }
 
+  private boolean isTruncated(final long lobSize)
+  {
+    return maxLobSize > 0 && lobSize > maxLobSize;
+  }
+
+  /**
+   * Reads LOB data in fixed size chunks, up to the maximum LOB size, so
+   * that very large LOBs do not need to be held in memory. The reader
+   * is closed as soon as enough data has been read.
+   *
+   * @param reader
+   *        LOB data reader
+   * @return LOB data, with a truncation marker if there was more data
+   */
+  private BinaryData readLob(final Reader reader)
+  {
+    final char[] chunk = new char[LOB_CHUNK_SIZE];
+    final StringBuilder buffer = new StringBuilder();
+    boolean isTruncated = false;
+    try (final Reader lobReader = reader;)
+    {
+      int read;
+      while ((read = lobReader.read(chunk)) != -1)
+      {
+        if (isTruncated(buffer.length() + read))
+        {
+          buffer.append(chunk, 0, maxLobSize - buffer.length());
+          isTruncated = true;
+          break;
+        }
+        buffer.append(chunk, 0, read);
+      }
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not read LOB data", e);
+      return new BinaryData();
+    }
+
+    if (isTruncated)
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Truncated LOB data to %d characters",
+                                  maxLobSize));
+      buffer.append(LOB_TRUNCATION_MARKER);
+    }
+    return new BinaryData(buffer.toString());
+  }
+
 }
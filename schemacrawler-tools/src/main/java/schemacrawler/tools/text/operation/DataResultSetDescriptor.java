@@ -0,0 +1,190 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.operation;
+
+
+import static java.util.Objects.requireNonNull;
+import static sf.util.Utility.isBlank;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import schemacrawler.schema.Table;
+import schemacrawler.utility.Query;
+
+/**
+ * Describes the columns of the results of a query, with the names,
+ * java.sql.Types types, and readers for the columns, so that the data in
+ * each row can be read without looking up column metadata. Descriptors
+ * are cached by the full name of the table and the text of the query
+ * that they were built for, and are reused only if the result set
+ * metadata still matches.
+ *
+ * @author Sualeh Fatehi
+ */
+final class DataResultSetDescriptor
+{
+
+  private static final int MAX_CACHED_DESCRIPTORS = 1024;
+
+  private static final Map<List<String>, DataResultSetDescriptor> descriptors = new HashMap<>();
+
+  /**
+   * Cache key for the descriptor of the results of a query.
+   *
+   * @param table
+   *        Table that the query was run against, or null if the query is
+   *        not for a table
+   * @param query
+   *        Query that was run, or null if it is not known
+   * @return Cache key, or null if descriptors should not be cached
+   */
+  static List<String> descriptorKey(final Table table, final Query query)
+  {
+    if (query == null || isBlank(query.getQuery()))
+    {
+      return null;
+    }
+    final String tableName;
+    if (table == null)
+    {
+      tableName = "";
+    }
+    else
+    {
+      tableName = table.getFullName();
+    }
+    return Arrays.asList(tableName, query.getQuery());
+  }
+
+  /**
+   * Gets the descriptor for the results of a query, reusing a cached
+   * descriptor for the same table and query, if the columns have not
+   * changed.
+   *
+   * @param key
+   *        Table and query that the results are for, or null to not
+   *        use the cache
+   * @param rows
+   *        Results
+   * @return Descriptor for the results
+   * @throws SQLException
+   *         On an exception reading the result set metadata
+   */
+  static DataResultSetDescriptor forResultSet(final List<String> key,
+                                              final ResultSet rows)
+    throws SQLException
+  {
+    requireNonNull(rows, "Cannot use null results");
+
+    final ResultSetMetaData metaData = rows.getMetaData();
+    final int columnCount = metaData.getColumnCount();
+    final String[] columnNames = new String[columnCount];
+    final int[] javaSqlTypes = new int[columnCount];
+    for (int i = 0; i < columnCount; i++)
+    {
+      columnNames[i] = metaData.getColumnName(i + 1);
+      javaSqlTypes[i] = metaData.getColumnType(i + 1);
+    }
+
+    if (key == null)
+    {
+      return new DataResultSetDescriptor(columnNames, javaSqlTypes);
+    }
+
+    synchronized (descriptors)
+    {
+      final DataResultSetDescriptor cachedDescriptor = descriptors.get(key);
+      if (cachedDescriptor != null
+          && Arrays.equals(cachedDescriptor.javaSqlTypes, javaSqlTypes)
+          && Arrays.equals(cachedDescriptor.columnNames, columnNames))
+      {
+        return cachedDescriptor;
+      }
+
+      final DataResultSetDescriptor descriptor = new DataResultSetDescriptor(columnNames,
+                                                                             javaSqlTypes);
+      if (descriptors.size() >= MAX_CACHED_DESCRIPTORS)
+      {
+        descriptors.clear();
+      }
+      descriptors.put(key, descriptor);
+      return descriptor;
+    }
+  }
+
+  private final String[] columnNames;
+  private final int[] javaSqlTypes;
+  private final DataColumnReader[] readers;
+
+  private DataResultSetDescriptor(final String[] columnNames,
+                                  final int[] javaSqlTypes)
+  {
+    this.columnNames = columnNames;
+    this.javaSqlTypes = javaSqlTypes;
+    readers = new DataColumnReader[javaSqlTypes.length];
+    for (int i = 0; i < javaSqlTypes.length; i++)
+    {
+      readers[i] = DataColumnReader.forJavaSqlType(javaSqlTypes[i]);
+    }
+  }
+
+  /**
+   * Column names, in the order of the columns in the results.
+   *
+   * @return Column names
+   */
+  String[] getColumnNames()
+  {
+    return Arrays.copyOf(columnNames, columnNames.length);
+  }
+
+  /**
+   * Reader for a column.
+   *
+   * @param i
+   *        Column index, starting from 0
+   * @return Reader for the column
+   */
+  DataColumnReader getReader(final int i)
+  {
+    return readers[i];
+  }
+
+  int width()
+  {
+    return readers.length;
+  }
+
+}
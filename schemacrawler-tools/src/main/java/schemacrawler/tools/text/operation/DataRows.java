@@ -0,0 +1,107 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.operation;
+
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Rows of data that are formatted for output, either read from live
+ * results, or buffered ahead of time.
+ *
+ * @author Sualeh Fatehi
+ */
+interface DataRows
+{
+
+  /**
+   * Column names, in the order of the columns in each row.
+   *
+   * @return Column names
+   */
+  String[] getColumnNames();
+
+  /**
+   * Moves to the next row.
+   *
+   * @return Whether there is a row
+   * @throws SQLException
+   *         On an exception reading the row
+   */
+  boolean next()
+    throws SQLException;
+
+  /**
+   * Data in the current row, with LOB data already read.
+   *
+   * @return Data in the current row
+   * @throws SQLException
+   *         On an exception reading the row
+   */
+  List<Object> row()
+    throws SQLException;
+
+  /**
+   * Reads an aggregate value, such as a count, from the first column of
+   * the next row.
+   *
+   * @return Aggregate value, or zero if there are no more rows
+   * @throws SQLException
+   *         On an exception reading the row, or if the value is not a
+   *         number
+   */
+  default long nextAggregate()
+    throws SQLException
+  {
+    if (!next())
+    {
+      return 0L;
+    }
+    final List<Object> row = row();
+    final Object value = row.isEmpty()? null: row.get(0);
+    if (value == null)
+    {
+      return 0L;
+    }
+    else if (value instanceof Number)
+    {
+      return ((Number) value).longValue();
+    }
+    try
+    {
+      return Long.parseLong(String.valueOf(value).trim());
+    }
+    catch (final NumberFormatException e)
+    {
+      throw new SQLException("Not a number, " + value, e);
+    }
+  }
+
+}
@@ -41,7 +41,6 @@ import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.text.base.BaseTabularFormatter;
 import schemacrawler.tools.text.utility.TextFormattingHelper.DocumentHeaderType;
 import schemacrawler.tools.text.utility.html.Alignment;
-import schemacrawler.tools.traversal.DataTraversalHandler;
 import schemacrawler.utility.Query;
 import sf.util.Color;
 
@@ -52,17 +51,21 @@ import sf.util.Color;
  */
 final class DataTextFormatter
   extends BaseTabularFormatter<OperationOptions>
-  implements DataTraversalHandler
+  implements DataRowsHandler
 {
 
   private int dataBlockCount;
   private final Operation operation;
+  private final Query query;
 
   /**
    * Text formatting of data.
    *
    * @param operation
    *        Options for text formatting of data
+   * @param query
+   *        Query that is run against each table, for caching column
+   *        metadata
    * @param options
    *        Options for text formatting of data
    * @param outputOptions
@@ -71,6 +74,7 @@ final class DataTextFormatter
    *        Quote character for identifier
    */
   DataTextFormatter(final Operation operation,
+                    final Query query,
                     final OperationOptions options,
                     final OutputOptions outputOptions,
                     final String identifierQuoteString)
@@ -81,6 +85,7 @@ final class DataTextFormatter
           outputOptions,
           identifierQuoteString);
     this.operation = operation;
+    this.query = query;
   }
 
   /**
@@ -115,7 +120,17 @@ final class DataTextFormatter
       title = "";
     }
 
-    handleData(title, rows);
+    handleData(title, DataResultSetDescriptor.descriptorKey(null, query), rows);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handleData(final Table table, final DataRows rows)
+    throws SchemaCrawlerException
+  {
+    handleData(getTitle(table), rows);
   }
 
   /**
@@ -124,6 +139,13 @@ final class DataTextFormatter
   @Override
   public void handleData(final Table table, final ResultSet rows)
     throws SchemaCrawlerException
+  {
+    handleData(getTitle(table),
+               DataResultSetDescriptor.descriptorKey(table, query),
+               rows);
+  }
+
+  private String getTitle(final Table table)
   {
     final String tableName;
     if (table != null)
@@ -141,8 +163,7 @@ final class DataTextFormatter
     {
       tableName = "";
     }
-
-    handleData(tableName, rows);
+    return tableName;
   }
 
   private String getMessage(final double aggregate)
@@ -165,20 +186,17 @@ final class DataTextFormatter
    *
    * @param title
    *        Title
-   * @param results
+   * @param dataRows
    *        Results
    */
   private void handleAggregateOperationForTable(final String title,
-                                                final ResultSet results)
+                                                final DataRows dataRows)
     throws SchemaCrawlerException
   {
-    long aggregate = 0;
+    final long aggregate;
     try
     {
-      if (results.next())
-      {
-        aggregate = results.getLong(1);
-      }
+      aggregate = dataRows.nextAggregate();
     }
     catch (final SQLException e)
     {
@@ -189,10 +207,10 @@ final class DataTextFormatter
     formattingHelper.writeNameValueRow(title, message, Alignment.right);
   }
 
-  private void handleData(final String title, final ResultSet rows)
+  private void handleData(final String title, final DataRows dataRows)
     throws SchemaCrawlerException
   {
-    if (rows == null)
+    if (dataRows == null)
     {
       return;
     }
@@ -204,7 +222,7 @@ final class DataTextFormatter
 
     if (operation == Operation.count)
     {
-      handleAggregateOperationForTable(title, rows);
+      handleAggregateOperationForTable(title, dataRows);
     }
     else
     {
@@ -214,9 +232,6 @@ final class DataTextFormatter
       formattingHelper.writeObjectNameRow("", title, "", Color.white);
       try
       {
-        final DataResultSet dataRows = new DataResultSet(rows,
-                                                         options.isShowLobs());
-
         formattingHelper.writeRowHeader(dataRows.getColumnNames());
 
         iterateRows(dataRows);
@@ -231,7 +246,33 @@ final class DataTextFormatter
     dataBlockCount++;
   }
 
-  private void iterateRows(final DataResultSet dataRows)
+  private void handleData(final String title,
+                          final List<String> descriptorKey,
+                          final ResultSet rows)
+    throws SchemaCrawlerException
+  {
+    if (rows == null)
+    {
+      return;
+    }
+
+    final DataResultSet dataRows;
+    try
+    {
+      dataRows = new DataResultSet(descriptorKey,
+                                   rows,
+                                   options.isShowLobs(),
+                                   options.getMaxLobSize(),
+                                   options.getFetchSize());
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException(e.getMessage(), e);
+    }
+    handleData(title, dataRows);
+  }
+
+  private void iterateRows(final DataRows dataRows)
     throws SQLException
   {
     while (dataRows.next())
@@ -46,7 +46,6 @@ import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
 import schemacrawler.tools.options.TextOutputFormat;
-import schemacrawler.tools.traversal.DataTraversalHandler;
 import schemacrawler.utility.Identifiers;
 import schemacrawler.utility.NamedObjectSort;
 import schemacrawler.utility.Query;
@@ -89,11 +88,12 @@ public final class OperationCommand
       return;
     }
 
-    final DataTraversalHandler handler = getDataTraversalHandler();
+    final DataRowsHandler handler = getDataTraversalHandler();
     final Query query = getQuery();
 
     try (final Statement statement = createStatement(connection);)
     {
+      setFetchSize(statement);
 
       handler.begin();
 
@@ -115,18 +115,30 @@ public final class OperationCommand
         final Identifiers identifiers = Identifiers.identifiers()
           .withIdentifierQuoteString(identifierQuoteString).build();
 
-        for (final Table table: getSortedTables(catalog))
+        final List<? extends Table> tables = getSortedTables(catalog);
+        if (operationOptions.getPoolSize() > 1 && dataSource != null
+            && tables.size() > 1)
+        {
+          final TableDataFanOut tableDataFanOut = new TableDataFanOut(dataSource,
+                                                                      operationOptions,
+                                                                      identifiers);
+          tableDataFanOut.handleData(query, tables, handler);
+        }
+        else
         {
           final boolean isAlphabeticalSortForTableColumns = operationOptions
             .isAlphabeticalSortForTableColumns();
-          try (
-              final ResultSet results = executeAgainstTable(query,
-                                                            statement,
-                                                            table,
-                                                            isAlphabeticalSortForTableColumns,
-                                                            identifiers);)
+          for (final Table table: tables)
           {
-            handler.handleData(table, results);
+            try (
+                final ResultSet results = executeAgainstTable(query,
+                                                              statement,
+                                                              table,
+                                                              isAlphabeticalSortForTableColumns,
+                                                              identifiers);)
+            {
+              handler.handleData(table, results);
+            }
           }
         }
       }
@@ -169,19 +181,21 @@ public final class OperationCommand
     this.operationOptions = operationOptions;
   }
 
-  private DataTraversalHandler getDataTraversalHandler()
+  private DataRowsHandler getDataTraversalHandler()
     throws SchemaCrawlerException
   {
     final Operation operation = getOperation();
+    final Query query = getQuery();
 
     final OperationOptions operationOptions = getOperationOptions();
-    final DataTraversalHandler formatter;
+    final DataRowsHandler formatter;
     final TextOutputFormat outputFormat = TextOutputFormat
       .fromFormat(outputOptions.getOutputFormatValue());
     final String identifierQuoteString = identifiers.getIdentifierQuoteString();
     if (outputFormat == TextOutputFormat.json)
     {
       formatter = new DataJsonFormatter(operation,
+                                        query,
                                         operationOptions,
                                         outputOptions,
                                         identifierQuoteString);
@@ -189,6 +203,7 @@ public final class OperationCommand
     else
     {
       formatter = new DataTextFormatter(operation,
+                                        query,
                                         operationOptions,
                                         outputOptions,
                                         identifierQuoteString);
@@ -257,4 +272,21 @@ public final class OperationCommand
     }
   }
 
+  private void setFetchSize(final Statement statement)
+  {
+    final int fetchSize = operationOptions.getFetchSize().getFetchSize();
+    if (fetchSize <= 0)
+    {
+      return;
+    }
+    try
+    {
+      statement.setFetchSize(fetchSize);
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+    }
+  }
+
 }
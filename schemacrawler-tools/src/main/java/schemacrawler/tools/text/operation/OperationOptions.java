@@ -30,6 +30,7 @@ package schemacrawler.tools.text.operation;
 
 
 import schemacrawler.tools.text.base.BaseTextOptions;
+import schemacrawler.utility.FetchSize;
 
 /**
  * Operator options.
@@ -41,6 +42,43 @@ public final class OperationOptions
 {
 
   private boolean isShowLobs;
+  private int maxLobSize = 64 * 1024;
+  private FetchSize fetchSize = new FetchSize(20, 1000, true);
+  private int poolSize = 1;
+
+  /**
+   * Fetch size hints for data queries.
+   *
+   * @return Fetch size hints
+   */
+  public FetchSize getFetchSize()
+  {
+    return fetchSize;
+  }
+
+  /**
+   * Maximum number of characters of LOB data that is shown for each
+   * cell. Longer LOB data is truncated, and a value of zero or less
+   * shows all the LOB data. By default, up to 64K characters are shown.
+   *
+   * @return Maximum number of characters of LOB data for each cell
+   */
+  public int getMaxLobSize()
+  {
+    return maxLobSize;
+  }
+
+  /**
+   * Number of connections used to run per-table data queries
+   * concurrently, when additional connections are available. A pool
+   * size of 1 runs the queries one table at a time.
+   *
+   * @return Number of connections for data queries
+   */
+  public int getPoolSize()
+  {
+    return poolSize;
+  }
 
   /**
    * Whether to show LOBs.
@@ -52,6 +90,45 @@ public final class OperationOptions
     return isShowLobs;
   }
 
+  /**
+   * Fetch size hints for data queries.
+   *
+   * @param fetchSize
+   *        Fetch size hints
+   */
+  public void setFetchSize(final FetchSize fetchSize)
+  {
+    if (fetchSize != null)
+    {
+      this.fetchSize = fetchSize;
+    }
+  }
+
+  /**
+   * Maximum number of characters of LOB data that is shown for each
+   * cell.
+   *
+   * @param maxLobSize
+   *        Maximum number of characters of LOB data for each cell, or
+   *        zero to show all the LOB data
+   */
+  public void setMaxLobSize(final int maxLobSize)
+  {
+    this.maxLobSize = maxLobSize;
+  }
+
+  /**
+   * Number of connections used to run per-table data queries
+   * concurrently.
+   *
+   * @param poolSize
+   *        Number of connections for data queries, at least 1
+   */
+  public void setPoolSize(final int poolSize)
+  {
+    this.poolSize = Math.max(1, poolSize);
+  }
+
   /**
    * Whether to show LOBs.
    *
@@ -31,6 +31,7 @@ package schemacrawler.tools.text.operation;
 
 import schemacrawler.schemacrawler.Config;
 import schemacrawler.tools.text.base.BaseTextOptionsBuilder;
+import schemacrawler.utility.FetchSize;
 
 /**
  * Operator options.
@@ -43,6 +44,18 @@ public final class OperationOptionsBuilder
 
   private static final String SHOW_LOBS = SCHEMACRAWLER_FORMAT_PREFIX
                                           + "data.show_lobs";
+  private static final String MAX_LOB_SIZE = SCHEMACRAWLER_FORMAT_PREFIX
+                                             + "data.max_lob_size";
+  // Keys that were documented before the data output keys moved under
+  // the format prefix, and are still read
+  private static final String LEGACY_SHOW_LOBS = "schemacrawler.data.show_lobs";
+  private static final String LEGACY_MAX_LOB_SIZE = "schemacrawler.data.max_lob_size";
+  // Data queries use the same fetch size settings as metadata queries
+  private static final String FETCH_SIZE = "schemacrawler.schema.retrieval.fetch.size";
+  private static final String FETCH_SIZE_MAXIMUM = FETCH_SIZE + ".maximum";
+  private static final String FETCH_SIZE_ADAPTIVE = FETCH_SIZE + ".adaptive";
+  // Data queries use as many connections as metadata queries
+  private static final String POOL_SIZE = "schemacrawler.schema.retrieval.pool.size";
 
   /**
    * Operator options, defaults.
@@ -52,6 +65,15 @@ public final class OperationOptionsBuilder
     super(new OperationOptions());
   }
 
+  /**
+   * Fetch size hints for data queries.
+   */
+  public OperationOptionsBuilder fetchSize(final FetchSize fetchSize)
+  {
+    options.setFetchSize(fetchSize);
+    return this;
+  }
+
   @Override
   public OperationOptionsBuilder fromConfig(final Config map)
   {
@@ -62,8 +84,48 @@ public final class OperationOptionsBuilder
     super.fromConfig(map);
 
     final Config config = new Config(map);
-    options.setShowLobs(config.getBooleanValue(SHOW_LOBS, false));
+    options.setShowLobs(config
+      .getBooleanValue(SHOW_LOBS,
+                       config.getBooleanValue(LEGACY_SHOW_LOBS, false)));
+    options.setMaxLobSize(config
+      .getIntegerValue(MAX_LOB_SIZE,
+                       config.getIntegerValue(LEGACY_MAX_LOB_SIZE,
+                                              options.getMaxLobSize())));
+
+    final FetchSize defaultFetchSize = options.getFetchSize();
+    final int fetchSize = config
+      .getIntegerValue(FETCH_SIZE, defaultFetchSize.getFetchSize());
+    final int maximumFetchSize = config
+      .getIntegerValue(FETCH_SIZE_MAXIMUM,
+                       defaultFetchSize.getMaximumFetchSize());
+    final boolean adaptiveFetchSize = config
+      .getBooleanValue(FETCH_SIZE_ADAPTIVE, defaultFetchSize.isAdaptive());
+    options.setFetchSize(new FetchSize(fetchSize,
+                                       maximumFetchSize,
+                                       adaptiveFetchSize));
+    options
+      .setPoolSize(config.getIntegerValue(POOL_SIZE, options.getPoolSize()));
+
+    return this;
+  }
 
+  /**
+   * Maximum number of characters of LOB data for each cell, or zero to
+   * show all the LOB data.
+   */
+  public OperationOptionsBuilder maxLobSize(final int value)
+  {
+    options.setMaxLobSize(value);
+    return this;
+  }
+
+  /**
+   * Number of connections used to run per-table data queries
+   * concurrently.
+   */
+  public OperationOptionsBuilder poolSize(final int value)
+  {
+    options.setPoolSize(value);
     return this;
   }
 
@@ -81,6 +143,9 @@ public final class OperationOptionsBuilder
   {
     final Config config = super.toConfig();
     config.setBooleanValue(SHOW_LOBS, options.isShowLobs());
+    config.setStringValue(MAX_LOB_SIZE,
+                          String.valueOf(options.getMaxLobSize()));
+    config.setStringValue(POOL_SIZE, String.valueOf(options.getPoolSize()));
     return config;
   }
 
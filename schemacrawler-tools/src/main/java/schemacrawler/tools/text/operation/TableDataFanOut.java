@@ -0,0 +1,292 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.operation;
+
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.utility.QueryUtility.executeAgainstTable;
+import static sf.util.DatabaseUtility.createStatement;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import javax.sql.DataSource;
+
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerSQLException;
+import schemacrawler.utility.Identifiers;
+import schemacrawler.utility.Query;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Runs a query against each table on a bounded pool of workers, each
+ * with a connection of its own. Workers read and buffer the data for a
+ * table. The buffered data is handed to the data traversal handler in
+ * the original table order, on the calling thread, so that the output
+ * is exactly what it would be if the tables were queried one at a time.
+ * Only a few tables more than the number of workers are buffered at any
+ * time.
+ *
+ * @author Sualeh Fatehi
+ */
+final class TableDataFanOut
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(TableDataFanOut.class.getName());
+
+  private final DataSource dataSource;
+  private final OperationOptions operationOptions;
+  private final Identifiers identifiers;
+
+  /**
+   * Sets up per-table data queries.
+   *
+   * @param dataSource
+   *        Source of connections for workers
+   * @param operationOptions
+   *        Options for reading data, including the number of workers
+   * @param identifiers
+   *        Identifiers for quoting table and column names
+   */
+  TableDataFanOut(final DataSource dataSource,
+                  final OperationOptions operationOptions,
+                  final Identifiers identifiers)
+  {
+    this.dataSource = requireNonNull(dataSource, "No data source provided");
+    this.operationOptions = requireNonNull(operationOptions,
+                                           "No operation options provided");
+    this.identifiers = requireNonNull(identifiers,
+                                      "No identifiers provided");
+  }
+
+  /**
+   * Runs the query against each table, and hands the data to the
+   * handler, in table order.
+   *
+   * @param query
+   *        Query to run against each table
+   * @param tables
+   *        Tables, in the order in which data is handled
+   * @param handler
+   *        Data traversal handler
+   * @throws SQLException
+   *         On an exception running a query
+   * @throws SchemaCrawlerException
+   *         On an exception handling data
+   */
+  void handleData(final Query query,
+                  final List<? extends Table> tables,
+                  final DataRowsHandler handler)
+    throws SQLException, SchemaCrawlerException
+  {
+    requireNonNull(query, "No query provided");
+    requireNonNull(tables, "No tables provided");
+    requireNonNull(handler, "No data traversal handler provided");
+
+    final int threads = Math.min(operationOptions.getPoolSize(),
+                                 tables.size());
+    // Limit how far workers can get ahead of the handler, so that the
+    // data for only a few tables is buffered at a time
+    final int window = threads * 2;
+    LOGGER.log(Level.INFO,
+               new StringFormat("Running <%s> for %d tables, using %d connections",
+                                query.getName(),
+                                tables.size(),
+                                threads));
+
+    final BlockingQueue<Connection> idleConnections = new LinkedBlockingQueue<>();
+    final AtomicInteger threadNumber = new AtomicInteger();
+    final ExecutorService executorService = Executors
+      .newFixedThreadPool(threads, runnable -> {
+        final Thread thread = new Thread(runnable,
+                                         "schemacrawler-data-"
+                                                   + threadNumber
+                                                     .incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    try
+    {
+      // Reorder buffer of pending tables, in table order
+      final Deque<Future<BufferedDataRows>> pending = new ArrayDeque<>();
+      int submitted = 0;
+      for (final Table table: tables)
+      {
+        while (submitted < tables.size() && pending.size() < window)
+        {
+          final Table nextTable = tables.get(submitted);
+          pending.add(executorService
+            .submit(() -> fetch(idleConnections, query, nextTable)));
+          submitted = submitted + 1;
+        }
+
+        handler.handleData(table, waitFor(table, pending.remove()));
+      }
+    }
+    finally
+    {
+      executorService.shutdownNow();
+      try
+      {
+        executorService.awaitTermination(1, TimeUnit.MINUTES);
+      }
+      catch (final InterruptedException e)
+      {
+        Thread.currentThread().interrupt();
+      }
+      closeConnections(idleConnections);
+    }
+  }
+
+  private void closeConnections(final BlockingQueue<Connection> idleConnections)
+  {
+    for (final Connection connection: idleConnections)
+    {
+      try
+      {
+        connection.close();
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not close connection", e);
+      }
+    }
+  }
+
+  private BufferedDataRows fetch(final BlockingQueue<Connection> idleConnections,
+                          final Query query,
+                          final Table table)
+    throws SQLException
+  {
+    // There are never more tasks running than workers, so there are
+    // never more connections than workers
+    Connection connection = idleConnections.poll();
+    if (connection == null)
+    {
+      connection = dataSource.getConnection();
+    }
+    try (final Statement statement = createStatement(connection);)
+    {
+      setFetchSize(statement);
+      try (final ResultSet results = executeAgainstTable(query,
+                                                         statement,
+                                                         table,
+                                                         operationOptions
+                                                           .isAlphabeticalSortForTableColumns(),
+                                                         identifiers);)
+      {
+        final List<String> descriptorKey = DataResultSetDescriptor
+          .descriptorKey(table, query);
+        final DataResultSet dataRows = new DataResultSet(descriptorKey,
+                                                         results,
+                                                         operationOptions
+                                                           .isShowLobs(),
+                                                         operationOptions
+                                                           .getMaxLobSize(),
+                                                         operationOptions
+                                                           .getFetchSize());
+        return BufferedDataRows.copyOf(dataRows);
+      }
+    }
+    finally
+    {
+      idleConnections.add(connection);
+    }
+  }
+
+  private void setFetchSize(final Statement statement)
+  {
+    final int fetchSize = operationOptions.getFetchSize().getFetchSize();
+    if (fetchSize <= 0)
+    {
+      return;
+    }
+    try
+    {
+      statement.setFetchSize(fetchSize);
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+    }
+  }
+
+  private BufferedDataRows waitFor(final Table table,
+                                   final Future<BufferedDataRows> future)
+    throws SQLException
+  {
+    try
+    {
+      return future.get();
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SQLException)
+      {
+        throw (SQLException) cause;
+      }
+      else if (cause instanceof RuntimeException)
+      {
+        throw (RuntimeException) cause;
+      }
+      else
+      {
+        throw new SchemaCrawlerSQLException("Could not query data for "
+                                            + table,
+                                            e);
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerSQLException("Interrupted querying data for "
+                                          + table,
+                                          e);
+    }
+  }
+
+}
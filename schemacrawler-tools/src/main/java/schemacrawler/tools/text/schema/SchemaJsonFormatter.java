@@ -33,6 +33,7 @@ import static schemacrawler.tools.analysis.counts.CountsUtility.getRowCountMessa
 import static schemacrawler.tools.analysis.counts.CountsUtility.hasRowCount;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -126,7 +127,6 @@ final class SchemaJsonFormatter
       try
       {
         final JSONObject jsonColumnDataType = new JSONObject();
-        jsonRoot.accumulate("columnDataypes", jsonColumnDataType);
 
         final String databaseSpecificTypeName;
         if (options.isShowUnqualifiedNames())
@@ -151,6 +151,8 @@ final class SchemaJsonFormatter
                                columnDataType.isAutoIncrementable());
         jsonColumnDataType.put("searchable",
                                columnDataType.getSearchable().toString());
+
+        jsonWriter.accumulate("columnDataypes", jsonColumnDataType);
       }
       catch (final JSONException e)
       {
@@ -174,7 +176,6 @@ final class SchemaJsonFormatter
     try
     {
       final JSONObject jsonRoutine = new JSONObject();
-      jsonRoot.accumulate("routines", jsonRoutine);
 
       jsonRoutine.put("name", routine.getName());
       if (!options.isShowUnqualifiedNames())
@@ -209,6 +210,8 @@ final class SchemaJsonFormatter
           }
         }
       }
+
+      jsonWriter.accumulate("routines", jsonRoutine);
     }
     catch (final JSONException e)
     {
@@ -232,7 +235,6 @@ final class SchemaJsonFormatter
     try
     {
       final JSONObject jsonSequence = new JSONObject();
-      jsonRoot.accumulate("sequences", jsonSequence);
 
       jsonSequence.put("name", sequence.getName());
       if (!options.isShowUnqualifiedNames())
@@ -248,6 +250,8 @@ final class SchemaJsonFormatter
         jsonSequence.put("maximumValue", sequence.getMaximumValue());
         jsonSequence.put("cycle", sequence.isCycle());
       }
+
+      jsonWriter.accumulate("sequences", jsonSequence);
     }
     catch (final JSONException e)
     {
@@ -271,7 +275,6 @@ final class SchemaJsonFormatter
     try
     {
       final JSONObject jsonSynonym = new JSONObject();
-      jsonRoot.accumulate("synonyms", jsonSynonym);
 
       jsonSynonym.put("name", synonym.getName());
       if (!options.isShowUnqualifiedNames())
@@ -293,6 +296,8 @@ final class SchemaJsonFormatter
         }
         jsonSynonym.put("referencedObject", referencedObjectName);
       }
+
+      jsonWriter.accumulate("synonyms", jsonSynonym);
     }
     catch (final JSONException e)
     {
@@ -311,8 +316,6 @@ final class SchemaJsonFormatter
 
     try
     {
-      jsonRoot.accumulate("tables", jsonTable);
-
       jsonTable.put("name", table.getName());
       if (!options.isShowUnqualifiedNames())
       {
@@ -432,6 +435,8 @@ final class SchemaJsonFormatter
           jsonTable.put("additionalInformation", jsonAdditionalInformation);
         }
       }
+
+      jsonWriter.accumulate("tables", jsonTable);
     }
     catch (final JSONException e)
     {
@@ -509,6 +514,16 @@ final class SchemaJsonFormatter
     // No output required
   }
 
+  @Override
+  protected Collection<String> getRootKeys()
+  {
+    return Arrays.asList("tables",
+                         "routines",
+                         "sequences",
+                         "synonyms",
+                         "columnDataypes");
+  }
+
   private JSONArray handleColumnReferences(final BaseForeignKey<? extends ColumnReference> foreignKey)
   {
     final JSONArray jsonColumnReferences = new JSONArray();
@@ -33,6 +33,8 @@ import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.analysis.associations.CatalogWithAssociations;
 import schemacrawler.tools.analysis.counts.CatalogWithCounts;
+import schemacrawler.tools.analysis.counts.CountOptions;
+import schemacrawler.tools.analysis.counts.CountOptionsBuilder;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
 import schemacrawler.tools.options.TextOutputFormat;
 import schemacrawler.tools.traversal.SchemaTraversalHandler;
@@ -72,9 +74,14 @@ public final class SchemaTextRenderer
     if (schemaTextOptions.isShowRowCounts()
         || schemaCrawlerOptions.isHideEmptyTables())
     {
+      final CountOptions countOptions = new CountOptionsBuilder()
+        .fromConfig(additionalConfiguration).toOptions();
       aCatalog = new CatalogWithCounts(aCatalog,
                                        connection,
-                                       schemaCrawlerOptions);
+                                       dataSource,
+                                       informationSchemaViews,
+                                       schemaCrawlerOptions,
+                                       countOptions);
     }
 
     final SchemaTraversalHandler formatter = getSchemaTraversalHandler();
@@ -30,32 +30,30 @@ package schemacrawler.tools.text.utility;
 
 import java.io.PrintWriter;
 
-import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.options.TextOutputFormat;
-import schemacrawler.tools.text.utility.org.json.JSONException;
-import schemacrawler.tools.text.utility.org.json.JSONObject;
+import schemacrawler.tools.text.utility.org.json.JSONWriter;
 
 public class JsonFormattingHelper
   extends PlainTextFormattingHelper
 {
 
+  private final JSONWriter jsonWriter;
+
   public JsonFormattingHelper(final PrintWriter out,
                               final TextOutputFormat outputFormat)
   {
     super(out, outputFormat);
+    jsonWriter = new JSONWriter(out, 2);
   }
 
-  public void write(final JSONObject jsonObject)
-    throws SchemaCrawlerException
+  /**
+   * Writer for JSON text, which writes directly to the output.
+   *
+   * @return JSON writer
+   */
+  public JSONWriter getJsonWriter()
   {
-    try
-    {
-      jsonObject.write(out, 2);
-    }
-    catch (final JSONException e)
-    {
-      throw new SchemaCrawlerException("Could not write database", e);
-    }
+    return jsonWriter;
   }
 
 }
@@ -0,0 +1,798 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.utility.org.json;
+
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes pretty-printed JSON text as it is produced, so that large
+ * documents do not need to be built in memory first. The text is the
+ * same as {@link JSONObject#write(java.io.Writer, int)} writes for the
+ * same values.
+ * <p>
+ * A single key in an object, or a single value in an array, is laid
+ * out on the opening line, so the first entry of each open object or
+ * array is held back until it is known whether a second one follows.
+ * Objects that are opened with their keys write them in the order of a
+ * {@link JSONObject} that has those keys, and hold back values that
+ * cannot be written yet.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class JSONWriter
+{
+
+  private static final class Frame
+  {
+
+    private final boolean isObject;
+    private final boolean isWriteLayout;
+    private final int indent;
+    private final Frame parent;
+    private final String accumulateKey;
+    private int count;
+    private Object pending;
+    private PrintWriter outer;
+    private StringWriter firstEntry;
+    private boolean isPlainFirstValue;
+    private List<String> keyOrder;
+    private Set<String> streamableKeys;
+    private JSONObject heldValues;
+    private int lastKeyIndex = -1;
+
+    Frame(final boolean isObject, final boolean isWriteLayout, final int indent)
+    {
+      this(isObject, isWriteLayout, null, null, indent);
+    }
+
+    Frame(final boolean isObject,
+          final boolean isWriteLayout,
+          final Frame parent,
+          final String accumulateKey,
+          final int indent)
+    {
+      this.isObject = isObject;
+      this.isWriteLayout = isWriteLayout;
+      this.parent = parent;
+      this.accumulateKey = accumulateKey;
+      this.indent = indent;
+    }
+
+    boolean isAccumulation()
+    {
+      return accumulateKey != null;
+    }
+
+  }
+
+  private PrintWriter writer;
+  private final int indentFactor;
+  private final Deque<Frame> frames;
+
+  /**
+   * Writer for JSON text.
+   *
+   * @param writer
+   *        Writer to write JSON text to
+   * @param indentFactor
+   *        The number of spaces to add to each level of indentation
+   */
+  public JSONWriter(final PrintWriter writer, final int indentFactor)
+  {
+    this.writer = writer;
+    this.indentFactor = indentFactor;
+    frames = new ArrayDeque<>();
+  }
+
+  /**
+   * Accumulate values under a key of the current object, like
+   * {@link JSONObject#accumulate(String, Object)}. A single value is
+   * written as is, and multiple values are written as an array. Values
+   * for a key need to be accumulated one after another, without other
+   * keys in between.
+   *
+   * @param key
+   *        A key string.
+   * @param value
+   *        An object to be accumulated under the key.
+   * @return this.
+   * @throws JSONException
+   *         If the value is an invalid number, or there is no open
+   *         object.
+   */
+  public JSONWriter accumulate(final String key, final Object value)
+    throws JSONException
+  {
+    if (key == null)
+    {
+      throw new JSONException("Null key.");
+    }
+    if (value == null)
+    {
+      return this;
+    }
+    JSONObject.testValidity(value);
+    Frame frame = current();
+    if (frame.isAccumulation())
+    {
+      if (frame.accumulateKey.equals(key))
+      {
+        appendValue(frame, value);
+        return this;
+      }
+      endAccumulation();
+      frame = current();
+    }
+    if (!frame.isObject)
+    {
+      throw new JSONException("Values can only be accumulated in an object.");
+    }
+
+    if (!isWritable(frame, key))
+    {
+      frame.heldValues.accumulate(key, value);
+      return this;
+    }
+    writeHeldValuesBefore(frame, key);
+    final Frame accumulation = new Frame(false,
+                                         false,
+                                         frame,
+                                         key,
+                                         frame.indent + indentFactor);
+    frames.push(accumulation);
+    appendValue(accumulation, value);
+    return this;
+  }
+
+  /**
+   * Begin an array, as a value of the current array, or at the top
+   * level.
+   *
+   * @return this.
+   * @throws JSONException
+   *         If the current value is an object.
+   */
+  public JSONWriter array()
+    throws JSONException
+  {
+    return begin(null, false);
+  }
+
+  /**
+   * Begin an array under a key of the current object.
+   *
+   * @param key
+   *        A key string.
+   * @return this.
+   * @throws JSONException
+   *         If there is no open object, or the key cannot be written
+   *         yet.
+   */
+  public JSONWriter array(final String key)
+    throws JSONException
+  {
+    return begin(key, false);
+  }
+
+  /**
+   * End the current array.
+   *
+   * @return this.
+   * @throws JSONException
+   *         If there is no open array.
+   */
+  public JSONWriter endArray()
+    throws JSONException
+  {
+    final Frame frame = current();
+    if (frame.isObject || frame.isAccumulation())
+    {
+      throw new JSONException("No array to end.");
+    }
+    frames.pop();
+
+    if (frame.count == 1)
+    {
+      writeSingleValue(frame);
+    }
+    else if (frame.count > 1)
+    {
+      writer.println();
+      indent(frame.indent);
+    }
+    writer.print(']');
+    return this;
+  }
+
+  /**
+   * End the current object, and write any values that were held back.
+   *
+   * @return this.
+   * @throws JSONException
+   *         If there is no open object.
+   */
+  public JSONWriter endObject()
+    throws JSONException
+  {
+    if (!frames.isEmpty() && current().isAccumulation())
+    {
+      endAccumulation();
+    }
+    final Frame frame = current();
+    if (!frame.isObject)
+    {
+      throw new JSONException("No object to end.");
+    }
+    if (frame.heldValues != null)
+    {
+      for (final String key: frame.keyOrder)
+      {
+        writeHeldValue(frame, key);
+      }
+      final List<String> otherKeys = new ArrayList<>();
+      for (final Iterator<?> keys = frame.heldValues.keys(); keys.hasNext();)
+      {
+        otherKeys.add((String) keys.next());
+      }
+      for (final String key: otherKeys)
+      {
+        writeHeldValue(frame, key);
+      }
+    }
+    frames.pop();
+
+    if (frame.count == 0)
+    {
+      writer.print('}');
+      if (frame.isWriteLayout)
+      {
+        writer.println();
+      }
+    }
+    else if (frame.firstEntry != null)
+    {
+      final String firstEntry = releaseFirstEntry(frame);
+      if (frame.isWriteLayout)
+      {
+        writer.print(firstEntry);
+        if (frame.isPlainFirstValue)
+        {
+          writer.println();
+        }
+      }
+      else
+      {
+        writer.print(outdent(firstEntry));
+      }
+      writer.print('}');
+    }
+    else
+    {
+      writer.println();
+      indent(frame.indent);
+      writer.print('}');
+    }
+    return this;
+  }
+
+  /**
+   * Begin an object, as a value of the current array, or at the top
+   * level.
+   *
+   * @return this.
+   * @throws JSONException
+   *         If the current value is an object.
+   */
+  public JSONWriter object()
+    throws JSONException
+  {
+    return begin(null, true);
+  }
+
+  /**
+   * Begin an object, as a value of the current array, or at the top
+   * level, that writes its keys in the order of a {@link JSONObject}
+   * with the same keys. A key is written as soon as its value is
+   * produced, if every key that comes ahead of it has been produced by
+   * then. Otherwise, its value is held back, and written when the keys
+   * ahead of it are done, or when the object ends. Keys that are not
+   * given are written when the object ends.
+   *
+   * @param keys
+   *        Keys that can be produced for the object, in the order that
+   *        they are produced.
+   * @return this.
+   * @throws JSONException
+   *         If the current value is an object.
+   */
+  public JSONWriter object(final Collection<String> keys)
+    throws JSONException
+  {
+    begin(null, true);
+
+    final Frame frame = current();
+    final List<String> producedKeys = new ArrayList<>(keys);
+    final JSONObject orderedKeys = new JSONObject();
+    for (final String key: producedKeys)
+    {
+      orderedKeys.put(key, Boolean.TRUE);
+    }
+    frame.keyOrder = new ArrayList<>();
+    for (final Iterator<?> iterator = orderedKeys.keys(); iterator.hasNext();)
+    {
+      frame.keyOrder.add((String) iterator.next());
+    }
+    frame.streamableKeys = new HashSet<>();
+    for (int i = 0; i < frame.keyOrder.size(); i++)
+    {
+      final String key = frame.keyOrder.get(i);
+      boolean isStreamable = true;
+      for (int j = 0; j < i; j++)
+      {
+        if (producedKeys.indexOf(frame.keyOrder.get(j)) > producedKeys
+          .indexOf(key))
+        {
+          isStreamable = false;
+          break;
+        }
+      }
+      if (isStreamable)
+      {
+        frame.streamableKeys.add(key);
+      }
+    }
+    frame.heldValues = new JSONObject();
+
+    return this;
+  }
+
+  /**
+   * Begin an object under a key of the current object.
+   *
+   * @param key
+   *        A key string.
+   * @return this.
+   * @throws JSONException
+   *         If there is no open object, or the key cannot be written
+   *         yet.
+   */
+  public JSONWriter object(final String key)
+    throws JSONException
+  {
+    return begin(key, true);
+  }
+
+  /**
+   * Put a key/value pair in the current object, like
+   * {@link JSONObject#put(String, Object)}. Null values are not
+   * written.
+   *
+   * @param key
+   *        A key string.
+   * @param value
+   *        An object which is the value.
+   * @return this.
+   * @throws JSONException
+   *         If the value is an invalid number, or there is no open
+   *         object.
+   */
+  public JSONWriter put(final String key, final Object value)
+    throws JSONException
+  {
+    if (key == null)
+    {
+      throw new JSONException("Null key.");
+    }
+    if (value == null)
+    {
+      return this;
+    }
+    JSONObject.testValidity(value);
+    if (current().isAccumulation())
+    {
+      endAccumulation();
+    }
+    final Frame frame = current();
+    if (!frame.isObject)
+    {
+      throw new JSONException("Keys can only be put in an object.");
+    }
+
+    final Object jsonValue;
+    if (value instanceof Collection)
+    {
+      jsonValue = new JSONArray((Collection<?>) value);
+    }
+    else
+    {
+      jsonValue = value;
+    }
+    if (!isWritable(frame, key))
+    {
+      frame.heldValues.put(key, jsonValue);
+      return this;
+    }
+    writeHeldValuesBefore(frame, key);
+    writeKey(frame, key);
+    writeValue(frame, jsonValue);
+    return this;
+  }
+
+  /**
+   * Append a value to the current array.
+   *
+   * @param value
+   *        An object value.
+   * @return this.
+   * @throws JSONException
+   *         If the value is an invalid number, or there is no open
+   *         array.
+   */
+  public JSONWriter value(final Object value)
+    throws JSONException
+  {
+    JSONObject.testValidity(value);
+    final Frame frame = current();
+    if (frame.isObject || frame.isAccumulation())
+    {
+      throw new JSONException("Values can only be appended to an array.");
+    }
+    appendValue(frame, JSONObject.wrap(value));
+    return this;
+  }
+
+  private void appendValue(final Frame frame, final Object value)
+    throws JSONException
+  {
+    if (frame.count == 0)
+    {
+      frame.pending = value;
+    }
+    else
+    {
+      if (frame.count == 1)
+      {
+        if (frame.isAccumulation())
+        {
+          writeKey(frame.parent, frame.accumulateKey);
+          writer.print('[');
+        }
+        writeFirstValue(frame);
+      }
+      writer.println(",");
+      indent(frame.indent + indentFactor);
+      writer.print(JSONObject.valueToString(value,
+                                            indentFactor,
+                                            frame.indent + indentFactor));
+    }
+    frame.count++;
+  }
+
+  private JSONWriter begin(final String key, final boolean isObject)
+    throws JSONException
+  {
+    final Frame frame;
+    if (frames.isEmpty())
+    {
+      if (key != null)
+      {
+        throw new JSONException("No object for key.");
+      }
+      frame = new Frame(isObject, true, 0);
+    }
+    else
+    {
+      if (current().isAccumulation())
+      {
+        endAccumulation();
+      }
+      final Frame parent = current();
+      if (parent.isObject)
+      {
+        if (key == null)
+        {
+          throw new JSONException("No key for value in object.");
+        }
+        if (!isWritable(parent, key))
+        {
+          throw new JSONException("Key cannot be written before the keys ahead of it: "
+                                  + key);
+        }
+        writeHeldValuesBefore(parent, key);
+        writeKey(parent, key);
+        frame = new Frame(isObject,
+                          parent.isWriteLayout,
+                          parent.indent + indentFactor);
+      }
+      else
+      {
+        if (key != null)
+        {
+          throw new JSONException("No keys for values in array.");
+        }
+        if (parent.count == 0)
+        {
+          holdFirstEntry(parent);
+        }
+        else
+        {
+          if (parent.count == 1)
+          {
+            writeFirstValue(parent);
+          }
+          writer.println(",");
+          indent(parent.indent + indentFactor);
+        }
+        parent.count++;
+        frame = new Frame(isObject, false, parent.indent + indentFactor);
+      }
+    }
+
+    frames.push(frame);
+    writer.print(isObject? '{': '[');
+    return this;
+  }
+
+  private Frame current()
+    throws JSONException
+  {
+    if (frames.isEmpty())
+    {
+      throw new JSONException("No open object or array.");
+    }
+    return frames.peek();
+  }
+
+  private void endAccumulation()
+    throws JSONException
+  {
+    final Frame frame = frames.pop();
+    if (frame.count == 1)
+    {
+      writeKey(frame.parent, frame.accumulateKey);
+      if (frame.pending instanceof JSONArray)
+      {
+        writeValue(frame.parent, new JSONArray().put(frame.pending));
+      }
+      else
+      {
+        writeValue(frame.parent, frame.pending);
+      }
+    }
+    else if (frame.count > 1)
+    {
+      writer.println();
+      indent(frame.indent);
+      writer.print(']');
+    }
+  }
+
+  /**
+   * The first entry of an object or an array is held back as text,
+   * since a single entry is laid out on the opening line.
+   */
+  private void holdFirstEntry(final Frame frame)
+  {
+    frame.outer = writer;
+    frame.firstEntry = new StringWriter();
+    writer = new PrintWriter(frame.firstEntry);
+  }
+
+  private void indent(final int indent)
+  {
+    for (int i = 0; i < indent; i++)
+    {
+      writer.print(' ');
+    }
+  }
+
+  private boolean isWritable(final Frame frame, final String key)
+  {
+    if (frame.keyOrder == null)
+    {
+      return true;
+    }
+    return frame.keyOrder.indexOf(key) > frame.lastKeyIndex
+           && frame.streamableKeys.contains(key);
+  }
+
+  /**
+   * Removes one level of indentation from text that was written for a
+   * value one level deeper.
+   */
+  private String outdent(final String text)
+  {
+    final StringBuilder indentation = new StringBuilder();
+    for (int i = 0; i < indentFactor; i++)
+    {
+      indentation.append(' ');
+    }
+
+    final String[] lines = text.split("\n", -1);
+    final StringBuilder buffer = new StringBuilder(text.length());
+    for (int i = 0; i < lines.length; i++)
+    {
+      final String line = lines[i];
+      if (i > 0)
+      {
+        buffer.append('\n');
+        if (line.startsWith(indentation.toString()))
+        {
+          buffer.append(line.substring(indentFactor));
+          continue;
+        }
+      }
+      buffer.append(line);
+    }
+    return buffer.toString();
+  }
+
+  private String releaseFirstEntry(final Frame frame)
+  {
+    writer.flush();
+    writer = frame.outer;
+    final String firstEntry = frame.firstEntry.toString();
+    frame.outer = null;
+    frame.firstEntry = null;
+    return firstEntry;
+  }
+
+  /**
+   * Writes the first value of an array or object, once a second one
+   * follows.
+   */
+  private void writeFirstValue(final Frame frame)
+    throws JSONException
+  {
+    if (frame.firstEntry != null)
+    {
+      final String firstEntry = releaseFirstEntry(frame);
+      writer.println();
+      indent(frame.indent + indentFactor);
+      writer.print(firstEntry);
+    }
+    else
+    {
+      writer.println();
+      indent(frame.indent + indentFactor);
+      writer.print(JSONObject.valueToString(frame.pending,
+                                            indentFactor,
+                                            frame.indent + indentFactor));
+      frame.pending = null;
+    }
+  }
+
+  private void writeHeldValue(final Frame frame, final String key)
+    throws JSONException
+  {
+    final Object value = frame.heldValues.opt(key);
+    if (value != null)
+    {
+      frame.heldValues.remove(key);
+      writeKey(frame, key);
+      writeValue(frame, value);
+    }
+  }
+
+  private void writeHeldValuesBefore(final Frame frame, final String key)
+    throws JSONException
+  {
+    if (frame.keyOrder == null)
+    {
+      return;
+    }
+    final int keyIndex = frame.keyOrder.indexOf(key);
+    for (int i = frame.lastKeyIndex + 1; i < keyIndex; i++)
+    {
+      writeHeldValue(frame, frame.keyOrder.get(i));
+    }
+    frame.lastKeyIndex = keyIndex;
+  }
+
+  private void writeKey(final Frame frame, final String key)
+    throws JSONException
+  {
+    if (frame.count == 0)
+    {
+      // Values that are held back are written later, so the object
+      // has more than one key
+      if (frame.heldValues != null && frame.heldValues.length() > 0)
+      {
+        writer.println();
+        indent(frame.indent + indentFactor);
+      }
+      else
+      {
+        holdFirstEntry(frame);
+      }
+    }
+    else
+    {
+      if (frame.firstEntry != null)
+      {
+        writeFirstValue(frame);
+      }
+      writer.println(",");
+      indent(frame.indent + indentFactor);
+    }
+    writer.print(JSONObject.quote(key));
+    writer.print(": ");
+    frame.count++;
+  }
+
+  private void writeSingleValue(final Frame frame)
+    throws JSONException
+  {
+    if (frame.firstEntry != null)
+    {
+      final String firstEntry = releaseFirstEntry(frame);
+      writer.print(outdent(firstEntry));
+    }
+    else
+    {
+      writer.print(JSONObject
+        .valueToString(frame.pending, indentFactor, frame.indent));
+      frame.pending = null;
+    }
+  }
+
+  private void writeValue(final Frame frame, final Object value)
+    throws JSONException
+  {
+    final int indent = frame.indent + indentFactor;
+    if (!frame.isWriteLayout)
+    {
+      writer.print(JSONObject.valueToString(value, indentFactor, indent));
+    }
+    else if (value instanceof JSONObject)
+    {
+      ((JSONObject) value).write(writer, indentFactor, indent);
+    }
+    else if (value instanceof JSONArray)
+    {
+      ((JSONArray) value).write(writer, indentFactor, indent);
+    }
+    else
+    {
+      writer.print(JSONObject.valueToString(value));
+      frame.isPlainFirstValue = frame.count == 1;
+    }
+  }
+
+}
@@ -0,0 +1,154 @@
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import schemacrawler.tools.text.utility.org.json.JSONArray;
+import schemacrawler.tools.text.utility.org.json.JSONObject;
+import schemacrawler.tools.text.utility.org.json.JSONWriter;
+
+public class JsonWriterTest
+{
+
+  private StringWriter streamed;
+  private JSONWriter jsonWriter;
+
+  @Test
+  public void dataArrays()
+    throws Exception
+  {
+    for (int tables = 0; tables <= 3; tables++)
+    {
+      for (int rows = 0; rows <= 2; rows++)
+      {
+        final JSONObject jsonRoot = new JSONObject();
+        jsonRoot.put("description", "Dump");
+        final JSONArray jsonData = new JSONArray();
+        jsonRoot.put("data", jsonData);
+
+        newJsonWriter();
+        jsonWriter.object(Arrays.asList("description", "data"));
+        jsonWriter.put("description", "Dump");
+        jsonWriter.array("data");
+        for (int i = 0; i < tables; i++)
+        {
+          final JSONObject jsonTable = new JSONObject();
+          jsonTable.put("title", "table" + i);
+          jsonTable.put("columnNames", new JSONArray(Arrays.asList("ID")));
+          final JSONArray jsonRows = new JSONArray();
+          jsonTable.put("rows", jsonRows);
+          jsonData.put(jsonTable);
+
+          jsonWriter.object(Arrays.asList("title", "columnNames", "rows"));
+          jsonWriter.put("title", "table" + i);
+          jsonWriter.put("columnNames", new JSONArray(Arrays.asList("ID")));
+          jsonWriter.array("rows");
+          for (int j = 0; j < rows; j++)
+          {
+            final JSONArray row = new JSONArray(new Object[] { j, "value" });
+            jsonRows.put(row);
+            jsonWriter.value(row);
+          }
+          jsonWriter.endArray();
+          jsonWriter.endObject();
+        }
+        jsonWriter.endArray();
+        jsonWriter.endObject();
+
+        assertStreamed(jsonRoot);
+      }
+    }
+  }
+
+  @Test
+  public void emptyObject()
+    throws Exception
+  {
+    newJsonWriter();
+    jsonWriter.object();
+    jsonWriter.endObject();
+
+    assertStreamed(new JSONObject());
+  }
+
+  @Test
+  public void keyOrder()
+    throws Exception
+  {
+    final JSONObject jsonRoot = new JSONObject();
+    newJsonWriter();
+    jsonWriter.object(Arrays.asList("schemaCrawlerHeaderInfo",
+                                    "tables",
+                                    "routines",
+                                    "sequences",
+                                    "synonyms",
+                                    "columnDataypes",
+                                    "schemaCrawlerInfo"));
+
+    final JSONObject header = new JSONObject().put("title", "");
+    jsonRoot.put("schemaCrawlerHeaderInfo", header);
+    jsonWriter.put("schemaCrawlerHeaderInfo", header);
+    for (int i = 0; i < 3; i++)
+    {
+      final JSONObject table = new JSONObject().put("name", "table" + i)
+        .put("columns", new JSONArray());
+      jsonRoot.accumulate("tables", table);
+      jsonWriter.accumulate("tables", table);
+    }
+    final JSONObject routine = new JSONObject().put("name", "routine");
+    jsonRoot.accumulate("routines", routine);
+    jsonWriter.accumulate("routines", routine);
+    final JSONObject synonym = new JSONObject();
+    jsonRoot.accumulate("synonyms", synonym);
+    jsonWriter.accumulate("synonyms", synonym);
+    final JSONObject info = new JSONObject().put("productName", "product");
+    jsonRoot.put("schemaCrawlerInfo", info);
+    jsonWriter.put("schemaCrawlerInfo", info);
+    jsonWriter.endObject();
+
+    assertStreamed(jsonRoot);
+  }
+
+  @Test
+  public void singleKey()
+    throws Exception
+  {
+    final Object[] values = new Object[] {
+        "value",
+        new JSONObject(),
+        new JSONObject().put("name", "one"),
+        new JSONArray(),
+        new JSONArray(Arrays.asList("one", "two")) };
+    for (final Object value: values)
+    {
+      newJsonWriter();
+      jsonWriter.object();
+      jsonWriter.accumulate("key", value);
+      jsonWriter.endObject();
+
+      assertStreamed(new JSONObject().accumulate("key", value));
+    }
+  }
+
+  private void assertStreamed(final JSONObject jsonObject)
+    throws Exception
+  {
+    final StringWriter written = new StringWriter();
+    jsonObject.write(written, 2);
+
+    assertEquals(written.toString(), streamed.toString());
+  }
+
+  private void newJsonWriter()
+  {
+    streamed = new StringWriter();
+    jsonWriter = new JSONWriter(new PrintWriter(streamed), 2);
+  }
+
+}
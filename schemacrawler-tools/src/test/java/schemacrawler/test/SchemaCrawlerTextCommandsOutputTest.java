@@ -29,8 +29,15 @@ http://www.gnu.org/licenses/
 package schemacrawler.test;
 
 
+import static org.junit.Assert.assertTrue;
 import static schemacrawler.test.utility.TestUtility.clean;
 
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -47,7 +54,11 @@ import schemacrawler.tools.options.OutputOptionsBuilder;
 import schemacrawler.tools.options.TextOutputFormat;
 import schemacrawler.tools.text.base.CommonTextOptionsBuilder;
 import schemacrawler.tools.text.operation.Operation;
+import schemacrawler.tools.text.operation.OperationCommand;
+import schemacrawler.tools.text.operation.OperationOptions;
+import schemacrawler.tools.text.operation.OperationOptionsBuilder;
 import schemacrawler.tools.text.schema.SchemaTextDetailType;
+import schemacrawler.utility.Identifiers;
 
 public class SchemaCrawlerTextCommandsOutputTest
   extends BaseDatabaseTest
@@ -76,6 +87,43 @@ public class SchemaCrawlerTextCommandsOutputTest
     testOperationOutput(Operation.dump);
   }
 
+  @Test
+  public void parallelCountOutput()
+    throws Exception
+  {
+    parallelOperationOutputTest(Operation.count);
+  }
+
+  @Test
+  public void parallelDumpOutput()
+    throws Exception
+  {
+    parallelOperationOutputTest(Operation.dump);
+  }
+
+  @Test
+  public void parallelDumpOutputWithExecutable()
+    throws Exception
+  {
+    final Config config = new OperationOptionsBuilder().poolSize(4)
+      .toConfig();
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final DataSource dataSource = getDataSource();
+    final DataSource countingDataSource = (DataSource) Proxy
+      .newProxyInstance(DataSource.class.getClassLoader(),
+                        new Class<?>[] { DataSource.class },
+                        (proxy, method, args) -> {
+                          if (method.getName().equals("getConnection"))
+                          {
+                            connectionCount.incrementAndGet();
+                          }
+                          return method.invoke(dataSource, args);
+                        });
+
+    textOutputTest(Operation.dump.name(), config, countingDataSource);
+    assertTrue("Data source was not used", connectionCount.get() > 0);
+  }
+
   @Test
   public void queryOutput()
     throws Exception
@@ -137,6 +185,42 @@ public class SchemaCrawlerTextCommandsOutputTest
     textOutputTest(SchemaTextDetailType.brief.name(), new Config());
   }
 
+  private void parallelOperationOutputTest(final Operation operation)
+    throws Exception
+  {
+    try (final TestWriter writer = new TestWriter(TextOutputFormat.text
+      .getFormat());
+        final Connection connection = getConnection();)
+    {
+      final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptionsBuilder()
+        .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"))
+        .includeAllRoutines().toOptions();
+
+      final CommonTextOptionsBuilder commonTextOptions = new CommonTextOptionsBuilder();
+      commonTextOptions.noInfo();
+      commonTextOptions.noHeader(true);
+      commonTextOptions.noFooter(true);
+      commonTextOptions.sortTables(true);
+      final OperationOptions operationOptions = new OperationOptionsBuilder()
+        .fromConfig(commonTextOptions.toConfig()).poolSize(4).toOptions();
+
+      final OperationCommand command = new OperationCommand(operation.name());
+      command.setSchemaCrawlerOptions(schemaCrawlerOptions);
+      command.setOutputOptions(OutputOptionsBuilder
+        .newOutputOptions(TextOutputFormat.text, writer));
+      command.setOperationOptions(operationOptions);
+      command.setCatalog(getCatalog(schemaCrawlerOptions));
+      command.setConnection(connection);
+      command.setIdentifiers(Identifiers.identifiers()
+        .withIdentifierQuoteString("\"").build());
+      command.setDataSource(getDataSource());
+      command.execute();
+
+      // Output is the same as when tables are queried one at a time
+      writer.assertEquals(COMMAND_OUTPUT + operation.name() + ".txt");
+    }
+  }
+
   private void testOperationOutput(final Operation operation)
     throws Exception
   {
@@ -145,6 +229,14 @@ public class SchemaCrawlerTextCommandsOutputTest
 
   private void textOutputTest(final String command, final Config config)
     throws Exception
+  {
+    textOutputTest(command, config, null);
+  }
+
+  private void textOutputTest(final String command,
+                              final Config config,
+                              final DataSource dataSource)
+    throws Exception
   {
     try (final TestWriter writer = new TestWriter(TextOutputFormat.text
       .getFormat());)
@@ -171,6 +263,7 @@ public class SchemaCrawlerTextCommandsOutputTest
       executable.setAdditionalConfiguration(config);
       executable.setOutputOptions(outputOptions);
       executable.setConnection(getConnection());
+      executable.setDataSource(dataSource);
       executable.execute();
 
       writer.assertEquals(COMMAND_OUTPUT + command + ".txt");
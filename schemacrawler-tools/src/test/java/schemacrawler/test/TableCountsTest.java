@@ -30,8 +30,12 @@ package schemacrawler.test;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -39,6 +43,8 @@ import org.junit.Test;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
 import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
@@ -47,7 +53,10 @@ import schemacrawler.test.utility.BaseDatabaseTest;
 import schemacrawler.test.utility.TestName;
 import schemacrawler.test.utility.TestWriter;
 import schemacrawler.tools.analysis.counts.CatalogWithCounts;
+import schemacrawler.tools.analysis.counts.CountOptions;
+import schemacrawler.tools.analysis.counts.CountOptionsBuilder;
 import schemacrawler.tools.analysis.counts.CountsUtility;
+import schemacrawler.tools.analysis.counts.RowCountMode;
 import schemacrawler.utility.NamedObjectSort;
 
 public class TableCountsTest
@@ -57,6 +66,88 @@ public class TableCountsTest
   @Rule
   public TestName testName = new TestName();
 
+  @Test
+  public void estimatedTableCounts()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptionsBuilder()
+      .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"))
+      .toOptions();
+    final CountOptions countOptions = new CountOptionsBuilder()
+      .rowCountMode(RowCountMode.estimated)
+      .tableRowCountsSql("SELECT TABLE_CAT, TABLE_SCHEM, TABLE_NAME, 1000 AS ROW_COUNT "
+                         + "FROM INFORMATION_SCHEMA.SYSTEM_TABLES "
+                         + "WHERE TABLE_NAME = 'AUTHORS'")
+      .toOptions();
+
+    final CatalogWithCounts catalog = new CatalogWithCounts(getCatalog(schemaCrawlerOptions),
+                                                            getConnection(),
+                                                            schemaCrawlerOptions,
+                                                            countOptions);
+
+    final Schema schema = catalog.lookupSchema("PUBLIC.BOOKS").get();
+    final Table authors = catalog.lookupTable(schema, "AUTHORS").get();
+    assertEquals(1000L, CountsUtility.getRowCount(authors));
+    assertTrue(CountsUtility.isRowCountEstimated(authors));
+    assertEquals("~1,000 rows", CountsUtility.getRowCountMessage(authors));
+
+    // Tables without an estimate are counted
+    final Table books = catalog.lookupTable(schema, "BOOKS").get();
+    assertEquals(20L, CountsUtility.getRowCount(books));
+    assertFalse(CountsUtility.isRowCountEstimated(books));
+  }
+
+  @Test
+  public void estimatedTableCountsFromCrawlViews()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptionsBuilder()
+      .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"))
+      .toOptions();
+    final CountOptions countOptions = new CountOptionsBuilder()
+      .rowCountMode(RowCountMode.estimated).toOptions();
+    final InformationSchemaViews informationSchemaViews = new InformationSchemaViewsBuilder()
+      .withTableRowCountsSql("SELECT TABLE_CAT, TABLE_SCHEM, TABLE_NAME, 500 AS ROW_COUNT "
+                             + "FROM INFORMATION_SCHEMA.SYSTEM_TABLES "
+                             + "WHERE TABLE_NAME = 'AUTHORS'")
+      .toOptions();
+
+    final CatalogWithCounts catalog = new CatalogWithCounts(getCatalog(schemaCrawlerOptions),
+                                                            getConnection(),
+                                                            null,
+                                                            informationSchemaViews,
+                                                            schemaCrawlerOptions,
+                                                            countOptions);
+
+    final Schema schema = catalog.lookupSchema("PUBLIC.BOOKS").get();
+    final Table authors = catalog.lookupTable(schema, "AUTHORS").get();
+    assertEquals(500L, CountsUtility.getRowCount(authors));
+    assertTrue(CountsUtility.isRowCountEstimated(authors));
+  }
+
+  @Test
+  public void parallelTableCounts()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptionsBuilder()
+      .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"))
+      .toOptions();
+
+    final CatalogWithCounts serialCatalog = new CatalogWithCounts(getCatalog(schemaCrawlerOptions),
+                                                                  getConnection(),
+                                                                  schemaCrawlerOptions);
+
+    final CountOptions countOptions = new CountOptionsBuilder().poolSize(4)
+      .queryTimeout(60).toOptions();
+    final CatalogWithCounts parallelCatalog = new CatalogWithCounts(getCatalog(schemaCrawlerOptions),
+                                                                    getConnection(),
+                                                                    getDataSource(),
+                                                                    schemaCrawlerOptions,
+                                                                    countOptions);
+
+    assertEquals(toMap(serialCatalog), toMap(parallelCatalog));
+  }
+
   @Test
   public void tableCounts()
     throws Exception
@@ -93,4 +184,15 @@ public class TableCountsTest
     }
   }
 
+  private Map<String, Long> toMap(final CatalogWithCounts catalog)
+  {
+    final Map<String, Long> counts = new TreeMap<>();
+    for (final Table table: catalog.getTables())
+    {
+      assertFalse(CountsUtility.isRowCountEstimated(table));
+      counts.put(table.getFullName(), CountsUtility.getRowCount(table));
+    }
+    return counts;
+  }
+
 }